@@ -0,0 +1,116 @@
+package com.emanueldev.sample_shop.benchmarks;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.models.*;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    static final int TOTAL_ITEMS = 10_000;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Product product(int index) {
+        return Product
+                .builder()
+                .id(TimeOrderedUuidGenerator.nextUuid())
+                .name("Geladeira Eletrolux " + index)
+                .description("Geladeira Eletrolux 2 portas, frost free, 480 litros, inox.")
+                .price(new BigDecimal("950.00").add(BigDecimal.valueOf(index)))
+                .stockQuantity(100L + index)
+                .createdAt(NOW.plusSeconds(index))
+                .build();
+    }
+
+    static List<Product> products(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    static Payment payment(int index) {
+        return Payment
+                .builder()
+                .id(TimeOrderedUuidGenerator.nextUuid())
+                .amount(new BigDecimal("2850.00").add(BigDecimal.valueOf(index)))
+                .paymentDate(NOW.plusSeconds(index))
+                .paymentStatus(PaymentStatus.PAID)
+                .createdAt(NOW.plusSeconds(index))
+                .build();
+    }
+
+    static List<Payment> payments(int size) {
+        List<Payment> payments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            payments.add(payment(i));
+        }
+        return payments;
+    }
+
+    static OrderModel order(int index, List<Product> products, int itemsPerOrder) {
+        OrderModel order = OrderModel
+                .builder()
+                .id(TimeOrderedUuidGenerator.nextUuid())
+                .totalValue(new BigDecimal("2850.00"))
+                .orderStatus(OrderStatus.PENDING)
+                .orderDate(NOW.plusSeconds(index))
+                .payment(index % 2 == 0 ? payment(index) : null)
+                .orderItems(new ArrayList<>())
+                .build();
+
+        for (int i = 0; i < itemsPerOrder; i++) {
+            Product product = products.get((index + i) % products.size());
+            order.getOrderItems().add(OrderItem
+                    .builder()
+                    .id(TimeOrderedUuidGenerator.nextUuid())
+                    .order(order)
+                    .product(product)
+                    .quantity(1L + i)
+                    .unitPrice(product.getPrice())
+                    .build());
+        }
+
+        return order;
+    }
+
+    static List<OrderModel> orders(int size, int itemsPerOrder) {
+        List<Product> products = products(Math.max(itemsPerOrder, 10));
+        List<OrderModel> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(order(i, products, itemsPerOrder));
+        }
+        return orders;
+    }
+
+    static ProductRequestDTO productRequest() {
+        return new ProductRequestDTO(
+                "Garrafa térmica stanley",
+                "Garrafa boa para o verão, mantém a temperatura por 24 horas.",
+                new BigDecimal("100.00"),
+                20L);
+    }
+
+    static <T> Page<T> page(List<T> content) {
+        return new PageImpl<>(content, PageRequest.of(3, content.size()), TOTAL_ITEMS);
+    }
+
+    static <T> CursorPage<T> cursorPage(List<T> content) {
+        return new CursorPage<>(content, new KeysetCursor(NOW, UUID.randomUUID()).encode());
+    }
+}
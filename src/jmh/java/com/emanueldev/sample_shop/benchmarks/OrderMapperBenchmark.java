@@ -0,0 +1,60 @@
+package com.emanueldev.sample_shop.benchmarks;
+
+import com.emanueldev.sample_shop.domain.orders.dto.response.CursorOrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.response.OrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.response.PaginatedOrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.mappers.OrderMapper;
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.models.OrderModel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int pageSize;
+
+    @Param({"3"})
+    private int itemsPerOrder;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+
+    private OrderModel order;
+
+    private Page<OrderModel> orderPage;
+
+    private CursorPage<OrderModel> orderCursorPage;
+
+    @Setup
+    public void setup() {
+        List<OrderModel> orders = BenchmarkFixtures.orders(pageSize, itemsPerOrder);
+
+        order = orders.get(0);
+        orderPage = BenchmarkFixtures.page(orders);
+        orderCursorPage = BenchmarkFixtures.cursorPage(orders);
+    }
+
+    @Benchmark
+    public OrderResponseDTO orderToResponseDto() {
+        return orderMapper.mappingFromOrderToOrderResponseDTO(order);
+    }
+
+    @Benchmark
+    public PaginatedOrderResponseDTO pageToPaginatedDto() {
+        return orderMapper.mappingFromOrderPageToPaginatedOrderDTO(orderPage);
+    }
+
+    @Benchmark
+    public CursorOrderResponseDTO cursorPageToCursorDto() {
+        return orderMapper.mappingFromOrderCursorPageToCursorOrderDTO(orderCursorPage);
+    }
+}
@@ -0,0 +1,57 @@
+package com.emanueldev.sample_shop.benchmarks;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.CursorPaymentResponseDTO;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.PaginatedPaymentResponseDTO;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.PaymentResponseDTO;
+import com.emanueldev.sample_shop.domain.payments.mappers.PaymentMapper;
+import com.emanueldev.sample_shop.models.Payment;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentMapperBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int pageSize;
+
+    private final PaymentMapper paymentMapper = new PaymentMapper();
+
+    private Payment payment;
+
+    private Page<Payment> paymentPage;
+
+    private CursorPage<Payment> paymentCursorPage;
+
+    @Setup
+    public void setup() {
+        List<Payment> payments = BenchmarkFixtures.payments(pageSize);
+
+        payment = payments.get(0);
+        paymentPage = BenchmarkFixtures.page(payments);
+        paymentCursorPage = BenchmarkFixtures.cursorPage(payments);
+    }
+
+    @Benchmark
+    public PaymentResponseDTO entityToResponseDto() {
+        return paymentMapper.mappingFromPaymentEntityToPaymentResponseDTO(payment);
+    }
+
+    @Benchmark
+    public PaginatedPaymentResponseDTO pageToPaginatedDto() {
+        return paymentMapper.mappingFromPaymentPageToPaginatedPaymentDTO(paymentPage);
+    }
+
+    @Benchmark
+    public CursorPaymentResponseDTO cursorPageToCursorDto() {
+        return paymentMapper.mappingFromPaymentCursorPageToCursorPaymentDTO(paymentCursorPage);
+    }
+}
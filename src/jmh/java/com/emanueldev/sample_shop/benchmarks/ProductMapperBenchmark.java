@@ -0,0 +1,73 @@
+package com.emanueldev.sample_shop.benchmarks;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.CursorProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.PaginatedProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
+import com.emanueldev.sample_shop.models.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int pageSize;
+
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private Product product;
+
+    private ProductRequestDTO productRequest;
+
+    private Page<Product> productPage;
+
+    private CursorPage<Product> productCursorPage;
+
+    @Setup
+    public void setup() {
+        List<Product> products = BenchmarkFixtures.products(pageSize);
+
+        product = products.get(0);
+        productRequest = BenchmarkFixtures.productRequest();
+        productPage = BenchmarkFixtures.page(products);
+        productCursorPage = BenchmarkFixtures.cursorPage(products);
+    }
+
+    @Benchmark
+    public ProductResponseDTO entityToResponseDto() {
+        return productMapper.mappingFromEntityToProductResponseDto(product);
+    }
+
+    @Benchmark
+    public Product requestToEntity() {
+        return productMapper.mappingFromProductRequestToProductEntity(productRequest);
+    }
+
+    @Benchmark
+    public Product requestToExistentEntity() {
+        productMapper.mappingProductRequestDTOToExistentProductEntity(productRequest, product);
+
+        return product;
+    }
+
+    @Benchmark
+    public PaginatedProductResponseDTO pageToPaginatedDto() {
+        return productMapper.mappingFromProductPageToPaginatedProductDTO(productPage);
+    }
+
+    @Benchmark
+    public CursorProductResponseDTO cursorPageToCursorDto() {
+        return productMapper.mappingFromProductCursorPageToCursorProductDTO(productCursorPage);
+    }
+}
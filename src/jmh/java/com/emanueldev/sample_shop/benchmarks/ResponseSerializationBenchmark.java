@@ -0,0 +1,56 @@
+package com.emanueldev.sample_shop.benchmarks;
+
+import com.emanueldev.sample_shop.domain.orders.dto.response.PaginatedOrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.mappers.OrderMapper;
+import com.emanueldev.sample_shop.domain.products.dto.response.PaginatedProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int pageSize;
+
+    private ObjectWriter orderPageWriter;
+
+    private ObjectWriter productPageWriter;
+
+    private PaginatedOrderResponseDTO orderPage;
+
+    private PaginatedProductResponseDTO productPage;
+
+    // Same builder Spring MVC uses, so date and module settings match what the endpoints write.
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        orderPageWriter = objectMapper.writerFor(PaginatedOrderResponseDTO.class);
+        productPageWriter = objectMapper.writerFor(PaginatedProductResponseDTO.class);
+        orderPage = new OrderMapper().mappingFromOrderPageToPaginatedOrderDTO(
+                BenchmarkFixtures.page(BenchmarkFixtures.orders(pageSize, 3)));
+        productPage = new ProductMapper().mappingFromProductPageToPaginatedProductDTO(
+                BenchmarkFixtures.page(BenchmarkFixtures.products(pageSize)));
+    }
+
+    @Benchmark
+    public byte[] serializePaginatedOrders() throws JsonProcessingException {
+        return orderPageWriter.writeValueAsBytes(orderPage);
+    }
+
+    @Benchmark
+    public byte[] serializePaginatedProducts() throws JsonProcessingException {
+        return productPageWriter.writeValueAsBytes(productPage);
+    }
+}
@@ -0,0 +1,9 @@
+package com.emanueldev.sample_shop.cache;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface EntityChangeListener {
+
+    void onChange(Class<?> entityType, Collection<UUID> ids);
+}
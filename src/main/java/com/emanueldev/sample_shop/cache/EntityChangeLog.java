@@ -0,0 +1,71 @@
+package com.emanueldev.sample_shop.cache;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class EntityChangeLog {
+
+    // Declaring the table keeps Hibernate from treating the insert as touching every cached entity.
+    private static final String QUERY_SPACE = "tb_entity_changes";
+
+    private final EntityManager entityManager;
+    private final String origin = UUID.randomUUID().toString();
+
+    public EntityChangeLog(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    // Written in the caller's transaction, so other nodes only see the change once the data is committed.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Class<?> entityType, Collection<UUID> ids) {
+        this.record(entityType, ids, false);
+    }
+
+    // For changes that cannot add, remove or reorder rows of a cached query, such as stock updates, so
+    // other nodes only evict the entities and keep their cached listings.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordInPlace(Class<?> entityType, Collection<UUID> ids) {
+        this.record(entityType, ids, true);
+    }
+
+    private void record(Class<?> entityType, Collection<UUID> ids, boolean inPlace) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<UUID> changedIds = List.copyOf(ids);
+        StringBuilder sql = new StringBuilder("INSERT INTO tb_entity_changes (entity_name, entity_id, origin, in_place, changed_at) VALUES ");
+
+        for (int i = 0; i < changedIds.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:entityName, :id").append(i).append(", :origin, :inPlace, :changedAt)");
+        }
+
+        NativeQuery<?> query = entityManager
+                .createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(QUERY_SPACE);
+
+        for (int i = 0; i < changedIds.size(); i++) {
+            query.setParameter("id" + i, changedIds.get(i));
+        }
+
+        query.setParameter("entityName", entityType.getSimpleName())
+                .setParameter("origin", origin)
+                .setParameter("inPlace", inPlace)
+                .setParameter("changedAt", LocalDateTime.now())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,147 @@
+package com.emanueldev.sample_shop.cache;
+
+import com.emanueldev.sample_shop.config.EntityChangeLogProperties;
+import com.emanueldev.sample_shop.models.EntityChange;
+import com.emanueldev.sample_shop.repositories.EntityChangeRepository;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class EntityChangePoller implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityChangePoller.class);
+
+    private static final List<Long> NO_PENDING_IDS = List.of(-1L);
+
+    private final EntityChangeRepository entityChangeRepository;
+    private final TransactionOperations transactionOperations;
+    private final Cache cache;
+    private final List<EntityChangeListener> entityChangeListeners;
+    private final String origin;
+    private final EntityChangeLogProperties entityChangeLogProperties;
+    private final Map<String, Class<?>> entityTypes = new HashMap<>();
+    private final Map<Long, Long> pendingIds = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private long lastId = -1;
+    private long lastPruneNanos = System.nanoTime();
+
+    public EntityChangePoller(
+            EntityChangeRepository entityChangeRepository,
+            TransactionOperations transactionOperations,
+            Cache cache,
+            Collection<Class<?>> entityTypes,
+            List<EntityChangeListener> entityChangeListeners,
+            String origin,
+            EntityChangeLogProperties entityChangeLogProperties
+    ) {
+        this.entityChangeRepository = entityChangeRepository;
+        this.transactionOperations = transactionOperations;
+        this.cache = cache;
+        this.entityChangeListeners = entityChangeListeners;
+        this.origin = origin;
+        this.entityChangeLogProperties = entityChangeLogProperties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("entity-change-poller-"));
+
+        entityTypes.forEach(entityType -> this.entityTypes.put(entityType.getSimpleName(), entityType));
+    }
+
+    public void start() {
+        long interval = entityChangeLogProperties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void poll() {
+        if (lastId < 0) {
+            lastId = transactionOperations.execute(status -> entityChangeRepository.findLastId());
+        }
+
+        List<EntityChange> changes;
+
+        do {
+            Collection<Long> pending = pendingIds.isEmpty() ? NO_PENDING_IDS : List.copyOf(pendingIds.keySet());
+            changes = transactionOperations.execute(status -> entityChangeRepository
+                    .findChanges(lastId, pending, Limit.of(entityChangeLogProperties.getBatchSize())));
+
+            this.apply(changes);
+        } while (changes.size() == entityChangeLogProperties.getBatchSize());
+
+        long now = System.nanoTime();
+        long gapTimeout = entityChangeLogProperties.getGapTimeout().toNanos();
+        pendingIds.values().removeIf(missedAt -> now - missedAt > gapTimeout);
+
+        if (now - lastPruneNanos > entityChangeLogProperties.getPruneInterval().toNanos()) {
+            LocalDateTime changedBefore = LocalDateTime.now().minus(entityChangeLogProperties.getRetention());
+            transactionOperations.executeWithoutResult(status -> entityChangeRepository.deleteChangedBefore(changedBefore));
+            lastPruneNanos = now;
+        }
+    }
+
+    private void apply(List<EntityChange> changes) {
+        long now = System.nanoTime();
+        Map<Class<?>, List<UUID>> changedIds = new HashMap<>();
+        boolean queriesChanged = false;
+
+        for (EntityChange change : changes) {
+            if (pendingIds.remove(change.getId()) == null) {
+                this.trackGaps(change.getId(), now);
+                lastId = Math.max(lastId, change.getId());
+            }
+
+            Class<?> entityType = entityTypes.get(change.getEntityName());
+
+            if (entityType != null && !origin.equals(change.getOrigin())) {
+                changedIds.computeIfAbsent(entityType, type -> new ArrayList<>()).add(change.getEntityId());
+                queriesChanged |= !change.isInPlace();
+            }
+        }
+
+        if (changedIds.isEmpty()) {
+            return;
+        }
+
+        changedIds.forEach((entityType, ids) -> {
+            ids.forEach(id -> cache.evictEntityData(entityType, id));
+            entityChangeListeners.forEach(listener -> listener.onChange(entityType, ids));
+        });
+
+        // Cached queries keep only ids, so in-place changes are picked up by evicting the entities alone.
+        if (queriesChanged) {
+            cache.evictQueryRegions();
+        }
+    }
+
+    // Auto-increment ids are handed out before commit, so a lower id can still show up after a higher one.
+    private void trackGaps(long id, long now) {
+        for (long missingId = lastId + 1; missingId < id; missingId++) {
+            if (pendingIds.size() >= entityChangeLogProperties.getMaxTrackedGaps()) {
+                return;
+            }
+
+            pendingIds.put(missingId, now);
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            this.poll();
+        } catch (RuntimeException exception) {
+            log.warn("Could not read the entity change log: {}", exception.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,91 @@
+package com.emanueldev.sample_shop.cache;
+
+import com.emanueldev.sample_shop.config.EntityChangeLogProperties;
+import com.emanueldev.sample_shop.config.SecondLevelCacheProperties;
+import com.emanueldev.sample_shop.repositories.EntityChangeRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Each context gets its own provider, so caches are never shared between application instances in one JVM.
+    @Bean
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties secondLevelCacheProperties,
+                                              MeterRegistry meterRegistry) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        secondLevelCacheProperties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            configuration.setStatisticsEnabled(true);
+
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(name, configuration));
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties secondLevelCacheProperties,
+                                                                    CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, secondLevelCacheProperties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, secondLevelCacheProperties.isEnabled());
+
+            if (secondLevelCacheProperties.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                // Cached queries keep only ids, so evicting a product also refreshes every cached listing holding it.
+                hibernateProperties.put(AvailableSettings.QUERY_CACHE_LAYOUT, CacheLayout.SHALLOW);
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY,
+                        MissingCacheStrategy.CREATE.getExternalRepresentation());
+            }
+        };
+    }
+
+    @Bean(initMethod = "start")
+    public EntityChangePoller entityChangePoller(
+            EntityChangeRepository entityChangeRepository,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            EntityChangeLog entityChangeLog,
+            List<EntityChangeListener> entityChangeListeners,
+            EntityChangeLogProperties entityChangeLogProperties
+    ) {
+        List<Class<?>> entityTypes = entityManagerFactory
+                .getMetamodel()
+                .getEntities()
+                .stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .toList();
+
+        return new EntityChangePoller(
+                entityChangeRepository,
+                new TransactionTemplate(transactionManager),
+                entityManagerFactory.unwrap(SessionFactory.class).getCache(),
+                entityTypes,
+                entityChangeListeners,
+                entityChangeLog.getOrigin(),
+                entityChangeLogProperties);
+    }
+}
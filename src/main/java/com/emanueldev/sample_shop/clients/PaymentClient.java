@@ -5,7 +5,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 
-@FeignClient(value = "paymentAuthorizer", url = "https://util.devi.tools/api/v2/authorize")
+@FeignClient(
+        value = "paymentAuthorizer",
+        url = "${payment.authorizer.url:https://util.devi.tools/api/v2/authorize}",
+        configuration = PaymentClientConfig.class)
 public interface PaymentClient {
 
     @GetMapping
@@ -0,0 +1,26 @@
+package com.emanueldev.sample_shop.clients;
+
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import feign.Request;
+import feign.Retryer;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.TimeUnit;
+
+public class PaymentClientConfig {
+
+    @Bean
+    public Request.Options paymentClientOptions(PaymentProperties paymentProperties) {
+        PaymentProperties.Authorizer authorizer = paymentProperties.getAuthorizer();
+
+        return new Request.Options(
+                authorizer.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                authorizer.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                true);
+    }
+
+    @Bean
+    public Retryer paymentClientRetryer() {
+        return Retryer.NEVER_RETRY;
+    }
+}
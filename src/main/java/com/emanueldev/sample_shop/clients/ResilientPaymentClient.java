@@ -0,0 +1,112 @@
+package com.emanueldev.sample_shop.clients;
+
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.AuthorizerResponseDTO;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+public class ResilientPaymentClient {
+
+    public static final String NAME = "paymentAuthorizer";
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+
+    private final PaymentClient paymentClient;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+
+    public ResilientPaymentClient(
+            PaymentClient paymentClient,
+            PaymentProperties paymentProperties,
+            MeterRegistry meterRegistry
+    ) {
+        PaymentProperties.Authorizer authorizer = paymentProperties.getAuthorizer();
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig
+                .custom()
+                .maxConcurrentCalls(authorizer.getMaxConcurrentCalls())
+                .maxWaitDuration(authorizer.getMaxWaitDuration())
+                .build());
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig
+                .custom()
+                .slidingWindowSize(authorizer.getSlidingWindowSize())
+                .minimumNumberOfCalls(authorizer.getMinimumNumberOfCalls())
+                .failureRateThreshold(authorizer.getFailureRateThreshold())
+                .slowCallDurationThreshold(authorizer.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(authorizer.getSlowCallRateThreshold())
+                .waitDurationInOpenState(authorizer.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(authorizer.getPermittedCallsInHalfOpenState())
+                .recordException(ResilientPaymentClient::isProviderFailure)
+                .build());
+
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig
+                .custom()
+                .maxAttempts(authorizer.getRetryMaxAttempts())
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        authorizer.getRetryInitialBackoff(),
+                        authorizer.getRetryBackoffMultiplier(),
+                        authorizer.getRetryJitter()))
+                .retryOnException(ResilientPaymentClient::isRetryable)
+                .build());
+
+        this.paymentClient = paymentClient;
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.retry = retryRegistry.retry(NAME);
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+    }
+
+    // Retry wraps the breaker so every attempt is recorded, and the bulkhead sits innermost
+    // so waiting for a backoff does not hold one of its permits.
+    public ResponseEntity<AuthorizerResponseDTO> validatePaymentAuthorization() {
+        Supplier<ResponseEntity<AuthorizerResponseDTO>> call = Bulkhead.decorateSupplier(
+                bulkhead, paymentClient::validatePaymentAuthorization);
+
+        call = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+        call = Retry.decorateSupplier(retry, call);
+
+        return call.get();
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    // Declines (4xx) are healthy answers from the provider and must not open the breaker.
+    private static boolean isProviderFailure(Throwable throwable) {
+        return throwable instanceof FeignException feignException
+                && (feignException instanceof RetryableException || feignException.status() >= 500);
+    }
+
+    // The authorizer call is a GET without side effects, so timeouts and gateway errors are safe to repeat.
+    private static boolean isRetryable(Throwable throwable) {
+        return throwable instanceof RetryableException
+                || throwable instanceof FeignException feignException
+                && RETRYABLE_STATUSES.contains(feignException.status());
+    }
+}
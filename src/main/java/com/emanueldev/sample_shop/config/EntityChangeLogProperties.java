@@ -0,0 +1,25 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "entity-change-log")
+public class EntityChangeLogProperties {
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private int batchSize = 500;
+
+    private Duration gapTimeout = Duration.ofSeconds(30);
+
+    private int maxTrackedGaps = 1_000;
+
+    private Duration retention = Duration.ofHours(1);
+
+    private Duration pruneInterval = Duration.ofMinutes(1);
+}
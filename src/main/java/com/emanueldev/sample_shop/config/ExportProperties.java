@@ -0,0 +1,18 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    // MySQL Connector/J only streams a result set row by row when the fetch size is Integer.MIN_VALUE;
+    // any other value buffers the whole result in the driver. Also the default of the catalog loads
+    // of the product indexes.
+    public static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private int fetchSize = STREAMING_FETCH_SIZE;
+}
@@ -0,0 +1,22 @@
+package com.emanueldev.sample_shop.config;
+
+import com.emanueldev.sample_shop.services.inventory.InventoryStrategy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "inventory")
+public class InventoryProperties {
+
+    private InventoryStrategy strategy = InventoryStrategy.CONDITIONAL_UPDATE;
+
+    private int optimisticMaxAttempts = 5;
+
+    private int lockStripes = 1024;
+
+    private Duration stripeLockTimeout = Duration.ofSeconds(2);
+}
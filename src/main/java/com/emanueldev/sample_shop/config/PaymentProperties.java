@@ -0,0 +1,64 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment")
+public class PaymentProperties {
+
+    private Duration authorizingStaleAfter = Duration.ofMinutes(1);
+
+    private int asyncWorkers = 8;
+
+    private int asyncQueueCapacity = 100;
+
+    private Duration statusStreamTimeout = Duration.ofSeconds(30);
+
+    private Authorizer authorizer = new Authorizer();
+
+    @Getter
+    @Setter
+    public static class Authorizer {
+
+        private String url = "https://util.devi.tools/api/v2/authorize";
+
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        private Duration readTimeout = Duration.ofSeconds(2);
+
+        private int maxConcurrentCalls = 20;
+
+        private Duration maxWaitDuration = Duration.ZERO;
+
+        private int slidingWindowSize = 20;
+
+        private int minimumNumberOfCalls = 10;
+
+        private float failureRateThreshold = 50;
+
+        private Duration slowCallDurationThreshold = Duration.ofMillis(1500);
+
+        private float slowCallRateThreshold = 80;
+
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+        private int permittedCallsInHalfOpenState = 3;
+
+        private int retryMaxAttempts = 3;
+
+        private Duration retryInitialBackoff = Duration.ofMillis(100);
+
+        private double retryBackoffMultiplier = 2;
+
+        private double retryJitter = 0.5;
+
+        private boolean coalescingEnabled = false;
+
+        private Duration coalescingWindow = Duration.ZERO;
+    }
+}
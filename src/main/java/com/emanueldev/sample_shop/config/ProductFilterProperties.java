@@ -0,0 +1,24 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product-filter")
+public class ProductFilterProperties {
+
+    private int fetchSize = ExportProperties.STREAMING_FETCH_SIZE;
+
+    // Ascending bounds of the price ranges; 50 and 100 make the ranges 0-50, 50-100 and 100-.
+    private List<BigDecimal> priceBounds = List.of(
+            new BigDecimal("50"), new BigDecimal("100"), new BigDecimal("250"),
+            new BigDecimal("500"), new BigDecimal("1000"), new BigDecimal("2500"));
+
+    // Products in stock with at most this many units are also listed as low stock.
+    private long lowStockThreshold = 5;
+}
@@ -0,0 +1,17 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product-import")
+public class ProductImportProperties {
+
+    private int chunkSize = 1000;
+
+    private int maxReportedErrors = 1000;
+
+    private int maxRowLength = 4096;
+}
@@ -0,0 +1,17 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product-search")
+public class ProductSearchProperties {
+
+    private int fetchSize = ExportProperties.STREAMING_FETCH_SIZE;
+
+    private int minPrefixLength = 2;
+
+    private int maxPrefixExpansions = 50;
+}
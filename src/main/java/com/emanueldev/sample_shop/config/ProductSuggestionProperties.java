@@ -0,0 +1,16 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product-suggestion")
+public class ProductSuggestionProperties {
+
+    private int fetchSize = ExportProperties.STREAMING_FETCH_SIZE;
+
+    // Suggestions kept at every node of the trie, so also the most a request can get back.
+    private int maxSuggestions = 10;
+}
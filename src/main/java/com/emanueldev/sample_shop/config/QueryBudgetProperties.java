@@ -0,0 +1,19 @@
+package com.emanueldev.sample_shop.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    private int maxStatements = 20;
+
+    private boolean logEnabled = true;
+
+    private boolean headerEnabled = true;
+
+    private String headerName = "X-Statement-Count";
+}
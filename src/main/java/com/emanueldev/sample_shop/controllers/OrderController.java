@@ -1,23 +1,35 @@
 package com.emanueldev.sample_shop.controllers;
 
+import com.emanueldev.sample_shop.domain.orders.dto.response.CursorOrderResponseDTO;
 import com.emanueldev.sample_shop.domain.orders.dto.response.PaginatedOrderResponseDTO;
 import com.emanueldev.sample_shop.domain.orders.mappers.OrderMapper;
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
 import com.emanueldev.sample_shop.exceptions.ApplicationException;
 import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
 import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
 import com.emanueldev.sample_shop.services.orders.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Tag(name = "Orders", description = "Endpoints for Order CRUD operations like Create Order, Get Paginated Orders, Update Order and Delete Order")
@@ -29,21 +41,27 @@ public class OrderController {
     private final GetOrderByIdUseCase getOrderByIdUseCase;
     private final DeleteOrderUseCase deleteOrderUseCase;
     private final GetOrdersUseCase getOrdersUseCase;
+    private final GetOrdersByCursorUseCase getOrdersByCursorUseCase;
     private final OrderMapper orderMapper;
     private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
+    private final ExportOrdersUseCase exportOrdersUseCase;
 
     public OrderController(
             final CreateOrderUseCase createOrderUseCase,
             final GetOrderByIdUseCase getOrderByIdUseCase,
             final DeleteOrderUseCase deleteOrderUseCase,
             final GetOrdersUseCase getOrdersUseCase,
+            final GetOrdersByCursorUseCase getOrdersByCursorUseCase,
             final UpdateOrderStatusUseCase updateOrderStatusUseCase,
+            final ExportOrdersUseCase exportOrdersUseCase,
             final OrderMapper orderMapper) {
         this.createOrderUseCase = createOrderUseCase;
         this.getOrderByIdUseCase = getOrderByIdUseCase;
         this.deleteOrderUseCase = deleteOrderUseCase;
         this.updateOrderStatusUseCase = updateOrderStatusUseCase;
         this.getOrdersUseCase = getOrdersUseCase;
+        this.getOrdersByCursorUseCase = getOrdersByCursorUseCase;
+        this.exportOrdersUseCase = exportOrdersUseCase;
         this.orderMapper = orderMapper;
     }
 
@@ -82,6 +100,52 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Return a cursor page of orders", description = "Resource that return orders ordered by creation time, pass next_cursor to get the following page",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Orders returned successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorOrderResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorOrderResponseDTO> getAllByCursor(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) final Integer pageSize
+    ) {
+        CursorPage<OrderModel> orderPage = getOrdersByCursorUseCase.execute(cursor, pageSize);
+
+        CursorOrderResponseDTO response = orderMapper
+                .mappingFromOrderCursorPageToCursorOrderDTO(orderPage);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Export orders placed in a date range", description = "Resource that streams one row per order item, for orders placed from 'from' (inclusive) to 'to' (exclusive), as NDJSON or CSV",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Orders exported successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid format or date range",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/export")
+    public void export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") final String format,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition
+                .attachment()
+                .filename(exportFormat.fileName("orders"))
+                .build()
+                .toString());
+
+        exportOrdersUseCase.execute(from, to, exportFormat, response.getOutputStream());
+    }
+
 
     @Operation(summary = "Show an existent order", description = "Resource that return a existent order",
             responses = {
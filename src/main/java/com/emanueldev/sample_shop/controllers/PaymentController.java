@@ -1,14 +1,19 @@
 package com.emanueldev.sample_shop.controllers;
 
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
 import com.emanueldev.sample_shop.domain.payments.dtos.request.PaymentRequestDTO;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.CursorPaymentResponseDTO;
 import com.emanueldev.sample_shop.domain.payments.dtos.response.PaginatedPaymentResponseDTO;
 import com.emanueldev.sample_shop.domain.payments.dtos.response.PaymentResponseDTO;
 import com.emanueldev.sample_shop.domain.payments.mappers.PaymentMapper;
 import com.emanueldev.sample_shop.exceptions.ApplicationException;
 import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.services.payments.AuthorizePaymentAsyncUseCase;
 import com.emanueldev.sample_shop.services.payments.CreatePaymentUseCase;
 import com.emanueldev.sample_shop.services.payments.GetAllPaymentsUseCase;
 import com.emanueldev.sample_shop.services.payments.GetPaymentByIdUseCase;
+import com.emanueldev.sample_shop.services.payments.GetPaymentsByCursorUseCase;
+import com.emanueldev.sample_shop.services.payments.PaymentStatusStream;
 import com.emanueldev.sample_shop.services.payments.UpdatePaymentUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,35 +21,50 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.UUID;
 
-@RestController("/payments")
+@RestController
+@RequestMapping("/payments")
 @Tag(name = "Payments", description = "Endpoints for Payment CRUD operations like Create Payment, Get Paginated Payments and Update Payment")
 public class PaymentController {
 
     private final CreatePaymentUseCase createPaymentUseCase;
     private final GetPaymentByIdUseCase getPaymentByIdUseCase;
     private final GetAllPaymentsUseCase getAllPaymentsUseCase;
+    private final GetPaymentsByCursorUseCase getPaymentsByCursorUseCase;
     private final UpdatePaymentUseCase updatePaymentUseCase;
+    private final AuthorizePaymentAsyncUseCase authorizePaymentAsyncUseCase;
+    private final PaymentStatusStream paymentStatusStream;
     private final PaymentMapper paymentMapper;
 
     public PaymentController(
             final CreatePaymentUseCase createPaymentUseCase,
             final GetPaymentByIdUseCase getPaymentByIdUseCase,
             final GetAllPaymentsUseCase getAllPaymentsUseCase,
+            final GetPaymentsByCursorUseCase getPaymentsByCursorUseCase,
             final UpdatePaymentUseCase updatePaymentUseCase,
+            final AuthorizePaymentAsyncUseCase authorizePaymentAsyncUseCase,
+            final PaymentStatusStream paymentStatusStream,
             final PaymentMapper paymentMapper
     ) {
         this.createPaymentUseCase = createPaymentUseCase;
         this.getPaymentByIdUseCase = getPaymentByIdUseCase;
         this.getAllPaymentsUseCase = getAllPaymentsUseCase;
+        this.getPaymentsByCursorUseCase = getPaymentsByCursorUseCase;
         this.updatePaymentUseCase = updatePaymentUseCase;
+        this.authorizePaymentAsyncUseCase = authorizePaymentAsyncUseCase;
+        this.paymentStatusStream = paymentStatusStream;
         this.paymentMapper = paymentMapper;
     }
 
@@ -102,10 +122,48 @@ public class PaymentController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Update an existent payment", description = "Resource that updates Payment Status of an existent Payment.",
+    @Operation(summary = "Return a cursor page of payments", description = "Resource that return payments ordered by creation time, pass next_cursor to get the following page",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Payments returned successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPaymentResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPaymentResponseDTO> getAllByCursor(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) final Integer pageSize
+    ) {
+        CursorPage<Payment> paymentPage = getPaymentsByCursorUseCase.execute(cursor, pageSize);
+
+        CursorPaymentResponseDTO response = paymentMapper
+                .mappingFromPaymentCursorPageToCursorPaymentDTO(paymentPage);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Stream status changes of a payment", description = "Server-sent events with the current payment status followed by every change until the authorization finishes; changes made on another node arrive within the change log poll interval",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream opened",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+                    @ApiResponse(responseCode = "404", description = "Payment not found",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPaymentStatus(@PathVariable("id") UUID paymentId) {
+        return paymentStatusStream.subscribe(paymentId, () -> getPaymentByIdUseCase.execute(paymentId).getPaymentStatus());
+    }
+
+    @Operation(summary = "Update an existent payment", description = "Resource that updates Payment Status of an existent Payment. With async=true the authorization runs in background and the status can be polled or streamed.",
             responses = {
                     @ApiResponse(responseCode = "204", description = "Payment updated successfully",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = void.class))),
+                    @ApiResponse(responseCode = "202", description = "Payment authorization accepted",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = void.class))),
+                    @ApiResponse(responseCode = "409", description = "Payment authorization already in progress",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+                    @ApiResponse(responseCode = "503", description = "Payment provider unavailable or too many authorizations queued",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
                     @ApiResponse(responseCode = "404", description = "Payment not found",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
                     @ApiResponse(responseCode = "400", description = "Payment already made",
@@ -114,7 +172,19 @@ public class PaymentController {
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
             })
     @PatchMapping("/{id}")
-    public ResponseEntity<Void> updatePaymentStatus(@PathVariable("id") UUID paymentId) {
+    public ResponseEntity<Void> updatePaymentStatus(
+            @PathVariable("id") UUID paymentId,
+            @RequestParam(defaultValue = "false") final boolean async
+    ) {
+        if (async) {
+            authorizePaymentAsyncUseCase.execute(paymentId);
+
+            return ResponseEntity
+                    .accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequestUri().build().toUri())
+                    .build();
+        }
+
         updatePaymentUseCase.execute(paymentId);
 
         return ResponseEntity.noContent().build();
@@ -1,25 +1,50 @@
 package com.emanueldev.sample_shop.controllers;
 
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductStockShardsRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.CursorProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.FilteredProductResponseDTO;
 import com.emanueldev.sample_shop.domain.products.dto.response.PaginatedProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportReportDTO;
 import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSearchResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionResponseDTO;
 import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
 import com.emanueldev.sample_shop.exceptions.ApplicationException;
 import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
 import com.emanueldev.sample_shop.services.products.*;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterResult;
+import com.emanueldev.sample_shop.services.products.filter.ProductStockStatus;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchResult;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -31,23 +56,44 @@ public class ProductController {
     private final CreateProductUseCase createProductUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final GetAllProductsUseCase getAllProductsUseCase;
+    private final GetProductsByCursorUseCase getProductsByCursorUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
+    private final ConfigureProductStockShardsUseCase configureProductStockShardsUseCase;
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final SuggestProductsUseCase suggestProductsUseCase;
+    private final FilterProductsUseCase filterProductsUseCase;
     private final ProductMapper productMapper;
 
     public ProductController(
             CreateProductUseCase createProductUseCase,
             GetProductByIdUseCase getProductByIdUseCase,
             GetAllProductsUseCase getAllProductsUseCase,
+            GetProductsByCursorUseCase getProductsByCursorUseCase,
             DeleteProductUseCase deleteProductUseCase,
             UpdateProductUseCase updateProductUseCase,
+            ConfigureProductStockShardsUseCase configureProductStockShardsUseCase,
+            ImportProductsUseCase importProductsUseCase,
+            ExportProductsUseCase exportProductsUseCase,
+            SearchProductsUseCase searchProductsUseCase,
+            SuggestProductsUseCase suggestProductsUseCase,
+            FilterProductsUseCase filterProductsUseCase,
             ProductMapper productMapper
     ) {
         this.createProductUseCase = createProductUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
         this.getAllProductsUseCase = getAllProductsUseCase;
+        this.getProductsByCursorUseCase = getProductsByCursorUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
         this.updateProductUseCase = updateProductUseCase;
+        this.configureProductStockShardsUseCase = configureProductStockShardsUseCase;
+        this.importProductsUseCase = importProductsUseCase;
+        this.exportProductsUseCase = exportProductsUseCase;
+        this.searchProductsUseCase = searchProductsUseCase;
+        this.suggestProductsUseCase = suggestProductsUseCase;
+        this.filterProductsUseCase = filterProductsUseCase;
         this.productMapper = productMapper;
     }
 
@@ -70,6 +116,26 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = {ProductImportFormat.NDJSON_VALUE, ProductImportFormat.CSV_VALUE})
+    @Operation(summary = "Import products in bulk", description = "Resource that streams products from a NDJSON or CSV body (header name,description,price,stockQuantity) and returns the rows that could not be imported",
+        responses = {
+                @ApiResponse(responseCode = "200", description = "Import finished, failed rows are listed in the report.",
+                        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportReportDTO.class))),
+                @ApiResponse(responseCode = "400", description = "Invalid CSV header",
+                        content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+        })
+    public ResponseEntity<ProductImportReportDTO> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        ProductImportReportDTO response = importProductsUseCase.execute(
+                body,
+                ProductImportFormat.from(contentType),
+                contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8);
+
+        return ResponseEntity.ok(response);
+    }
+
 
 
     @Operation(summary = "Return a list of paginated products", description = "Resource that return a list of products",
@@ -90,6 +156,120 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Return a cursor page of products", description = "Resource that return products ordered by creation time, pass next_cursor to get the following page",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products returned successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorProductResponseDTO> getAllByCursor(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) final Integer pageSize
+    ) {
+        CursorPage<Product> productPage = getProductsByCursorUseCase.execute(cursor, pageSize);
+
+        CursorProductResponseDTO response = productMapper
+                .mappingFromProductCursorPageToCursorProductDTO(productPage);
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "Return a filtered page of products", description = "Resource that return the products in any of the price ranges and any of the stock statuses given, ordered by creation time, with the number of products in each price range and stock status",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products returned successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = FilteredProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Unknown price range",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+                    @ApiResponse(responseCode = "422", description = "Invalid stock status",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/filter")
+    public ResponseEntity<FilteredProductResponseDTO> filter(
+            @RequestParam(required = false) final List<String> priceRange,
+            @RequestParam(required = false) final List<ProductStockStatus> stockStatus,
+            @RequestParam(defaultValue = "0") @PositiveOrZero final Integer pageNumber,
+            @RequestParam(defaultValue = "5") @Positive @Max(100) final Integer pageSize
+    ) {
+        ProductFilterResult filterResult = filterProductsUseCase.execute(
+                priceRange != null ? priceRange : List.of(),
+                stockStatus != null ? stockStatus : List.of(),
+                pageNumber,
+                pageSize);
+
+        FilteredProductResponseDTO response = productMapper
+                .mappingFromProductFilterResultToFilteredProductDTO(filterResult);
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "Search products by name and description", description = "Resource that return the products matching every term of the query, best matches first; the last letters of a term may be left out",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products returned successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductSearchResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid query or limit",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponseDTO> search(
+            @RequestParam @NotBlank @Size(max = 200) final String q,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) final Integer limit
+    ) {
+        ProductSearchResult searchResult = searchProductsUseCase.execute(q, limit);
+
+        ProductSearchResponseDTO response = productMapper
+                .mappingFromProductSearchResultToProductSearchDTO(searchResult);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Suggest products by name prefix", description = "Resource that return the best selling products whose name starts with the prefix, for completing the search box as the user types",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Suggestions returned successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductSuggestionResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid prefix",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/suggest")
+    public ResponseEntity<ProductSuggestionResponseDTO> suggest(
+            @RequestParam @NotBlank @Size(max = 100) final String prefix
+    ) {
+        List<ProductSuggestion> suggestions = suggestProductsUseCase.execute(prefix);
+
+        ProductSuggestionResponseDTO response = productMapper
+                .mappingFromProductSuggestionsToProductSuggestionDTO(suggestions);
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    @Operation(summary = "Export the whole catalog", description = "Resource that streams every product ordered by creation time as NDJSON or CSV",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products exported successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid format",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(defaultValue = "ndjson") final String format,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition
+                .attachment()
+                .filename(exportFormat.fileName("products"))
+                .build()
+                .toString());
+
+        exportProductsUseCase.execute(exportFormat, response.getOutputStream());
+    }
+
 
     @Operation(summary = "Show a existent product", description = "Resource that return a existent product",
             responses = {
@@ -152,4 +332,26 @@ public class ProductController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Configure sharded stock of a product", description = "Resource that splits the stock of a product across counter shards, 0 shards disables sharding",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stock shards configured successfully",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Product not found",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+                    @ApiResponse(responseCode = "422", description = "Invalid field inserted",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApplicationException.class))),
+            })
+    @PutMapping("/{id}/stock-shards")
+    public ResponseEntity<ProductResponseDTO> configureStockShards(
+            @PathVariable("id") UUID id,
+            @RequestBody @Valid ProductStockShardsRequestDTO productStockShardsRequestDTO
+    ) {
+        Product product = configureProductStockShardsUseCase.execute(id, productStockShardsRequestDTO.getShards());
+
+        ProductResponseDTO response = productMapper
+                .mappingFromEntityToProductResponseDto(product);
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,34 @@
+package com.emanueldev.sample_shop.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    private final String headerName;
+
+    public ConsistencyTokenFilter(String headerName) {
+        this.headerName = headerName;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader(headerName);
+
+        if (ReadConsistency.isValidToken(token)) {
+            ReadConsistency.require(token);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.emanueldev.sample_shop.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// After a write commits during an HTTP request, hands the client the primary's executed GTID set
+// so its next reads can ask for a replica that has caught up with that write.
+public class ConsistencyTokenListener implements TransactionExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsistencyTokenListener.class);
+
+    private final DataSource primary;
+    private final String headerName;
+
+    public ConsistencyTokenListener(DataSource primary, String headerName) {
+        this.primary = primary;
+        this.headerName = headerName;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(requestAttributes instanceof ServletRequestAttributes servletRequestAttributes)) {
+            return;
+        }
+
+        HttpServletResponse response = servletRequestAttributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+            if (resultSet.next() && resultSet.getString(1) != null) {
+                response.setHeader(headerName, resultSet.getString(1).replaceAll("\\s", ""));
+            }
+        } catch (SQLException sqlException) {
+            log.warn("Could not read the executed GTID set for the consistency token: {}", sqlException.getMessage());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.emanueldev.sample_shop.datasource;
+
+import com.emanueldev.sample_shop.config.DataSourceRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties dataSourceRoutingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        List<ReplicaDataSource> replicas = new ArrayList<>();
+        List<DataSourceRoutingProperties.Replica> configuredReplicas = dataSourceRoutingProperties.getReplicas();
+
+        for (int i = 0; i < configuredReplicas.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configuredReplicas.get(i);
+            String name = replica.getName() == null ? "replica-" + (i + 1) : replica.getName();
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() == null ? dataSourceProperties.determineUsername() : replica.getUsername());
+            dataSource.setPassword(replica.getPassword() == null ? dataSourceProperties.determinePassword() : replica.getPassword());
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(dataSourceRoutingProperties.getReplicaPoolSize());
+            dataSource.setConnectionTimeout(dataSourceRoutingProperties.getReplicaConnectionTimeout().toMillis());
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            replicas.add(new ReplicaDataSource(name, dataSource));
+        }
+
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean(initMethod = "start")
+    public ReplicaHealthChecker replicaHealthChecker(
+            ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+            DataSourceRoutingProperties dataSourceRoutingProperties
+    ) {
+        return new ReplicaHealthChecker(readReplicaRoutingDataSource.getReplicas(), dataSourceRoutingProperties);
+    }
+
+    @Bean
+    public ConsistencyTokenListener consistencyTokenListener(
+            HikariDataSource primaryDataSource,
+            DataSourceRoutingProperties dataSourceRoutingProperties
+    ) {
+        return new ConsistencyTokenListener(primaryDataSource, dataSourceRoutingProperties.getConsistencyHeader());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConsistencyTokenFilter> consistencyTokenFilter(
+            DataSourceRoutingProperties dataSourceRoutingProperties
+    ) {
+        return new FilterRegistrationBean<>(new ConsistencyTokenFilter(dataSourceRoutingProperties.getConsistencyHeader()));
+    }
+
+    @Bean
+    public HealthIndicator replicasHealthIndicator(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return () -> {
+            Health.Builder health = Health.up();
+            long healthyReplicas = 0;
+
+            for (ReplicaDataSource replica : readReplicaRoutingDataSource.getReplicas()) {
+                health.withDetail(replica.getName(), Map.of(
+                        "healthy", replica.isHealthy(),
+                        "lagSeconds", replica.getLagSeconds()));
+                healthyReplicas += replica.isHealthy() ? 1 : 0;
+            }
+
+            return health
+                    .withDetail("readsFallBackToPrimary", healthyReplicas == 0)
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.emanueldev.sample_shop.datasource;
+
+import java.util.regex.Pattern;
+
+public final class ReadConsistency {
+
+    private static final Pattern GTID_SET = Pattern.compile("[0-9A-Za-z_:,\\-]{1,4096}");
+
+    private static final ThreadLocal<String> REQUIRED_GTIDS = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static boolean isValidToken(String token) {
+        return token != null && GTID_SET.matcher(token).matches();
+    }
+
+    public static void require(String gtids) {
+        REQUIRED_GTIDS.set(gtids);
+    }
+
+    public static String getRequiredGtids() {
+        return REQUIRED_GTIDS.get();
+    }
+
+    public static void clear() {
+        REQUIRED_GTIDS.remove();
+    }
+}
@@ -0,0 +1,146 @@
+package com.emanueldev.sample_shop.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Meant to sit behind a LazyConnectionDataSourceProxy: the read-only flag of the transaction is
+// only bound after the transaction manager asks for a connection, so the physical connection has
+// to be fetched on the first statement for the routing decision to see it.
+// Reads carrying a consistency token only use a replica that already applied those GTIDs.
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String ROUTING_COUNTER = "datasource.routing.connections";
+    public static final String REPLICA_HEALTHY_GAUGE = "datasource.replica.healthy";
+    public static final String REPLICA_LAG_GAUGE = "datasource.replica.lag";
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<ReplicaDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter consistentReplicaConnections;
+    private final Counter unhealthyFallbackConnections;
+    private final Counter laggingFallbackConnections;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryConnections = meterRegistry.counter(ROUTING_COUNTER, "target", "primary", "reason", "write");
+        this.replicaConnections = meterRegistry.counter(ROUTING_COUNTER, "target", "replica", "reason", "read");
+        this.consistentReplicaConnections = meterRegistry.counter(ROUTING_COUNTER, "target", "replica", "reason", "caught_up");
+        this.unhealthyFallbackConnections = meterRegistry.counter(ROUTING_COUNTER, "target", "fallback", "reason", "unhealthy");
+        this.laggingFallbackConnections = meterRegistry.counter(ROUTING_COUNTER, "target", "fallback", "reason", "lagging");
+
+        this.replicas.forEach(replica -> {
+            Gauge.builder(REPLICA_HEALTHY_GAUGE, replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder(REPLICA_LAG_GAUGE, replica, ReplicaDataSource::getLagSeconds)
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        });
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return this.route(DataSource::getConnection);
+    }
+
+    // Explicit credentials go to whichever pool the transaction is routed to, so they are checked by that pool.
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return this.route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return opener.open(primary);
+        }
+
+        String requiredGtids = ReadConsistency.getRequiredGtids();
+        boolean lagging = false;
+
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            ReplicaDataSource replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+
+            if (!replica.isHealthy()) {
+                continue;
+            }
+
+            Connection connection;
+            try {
+                connection = opener.open(replica.getDataSource());
+            } catch (SQLException sqlException) {
+                replica.markDown();
+                log.warn("Replica {} is unavailable, marking it down until the next health check: {}",
+                        replica.getName(), sqlException.getMessage());
+                continue;
+            }
+
+            if (requiredGtids == null) {
+                replicaConnections.increment();
+                return connection;
+            }
+
+            if (this.hasApplied(connection, requiredGtids)) {
+                consistentReplicaConnections.increment();
+                return connection;
+            }
+
+            connection.close();
+            lagging = true;
+        }
+
+        (lagging ? laggingFallbackConnections : unhealthyFallbackConnections).increment();
+        return opener.open(primary);
+    }
+
+    private boolean hasApplied(Connection connection, String requiredGtids) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)")) {
+            statement.setString(1, requiredGtids);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        } catch (SQLException sqlException) {
+            log.debug("Could not compare consistency token with replica GTIDs: {}", sqlException.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
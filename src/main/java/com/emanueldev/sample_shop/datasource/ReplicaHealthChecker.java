@@ -0,0 +1,109 @@
+package com.emanueldev.sample_shop.datasource;
+
+import com.emanueldev.sample_shop.config.DataSourceRoutingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaHealthChecker implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+    private final List<ReplicaDataSource> replicas;
+    private final int timeoutSeconds;
+    private final Duration maxReplicationLag;
+    private final Duration healthCheckInterval;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaHealthChecker(List<ReplicaDataSource> replicas, DataSourceRoutingProperties dataSourceRoutingProperties) {
+        this.replicas = replicas;
+        this.timeoutSeconds = (int) Math.max(1, dataSourceRoutingProperties.getHealthCheckTimeout().toSeconds());
+        this.maxReplicationLag = dataSourceRoutingProperties.getMaxReplicationLag();
+        this.healthCheckInterval = dataSourceRoutingProperties.getHealthCheckInterval();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(ReplicaDataSource replica) {
+        boolean wasHealthy = replica.isHealthy();
+
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                this.markDown(replica, wasHealthy, "connection is not valid");
+                return;
+            }
+
+            if (maxReplicationLag == null || maxReplicationLag.isZero()) {
+                replica.markUp(Double.NaN);
+            } else {
+                Double lag = this.replicationLag(connection);
+
+                if (lag == null) {
+                    this.markDown(replica, wasHealthy, "replication is not running");
+                    return;
+                }
+
+                replica.markUp(lag);
+
+                if (lag > maxReplicationLag.toSeconds()) {
+                    this.markDown(replica, wasHealthy, "replication lag of " + lag.longValue() + "s");
+                    return;
+                }
+            }
+
+            if (!wasHealthy) {
+                log.info("Replica {} is healthy, routing read-only transactions to it", replica.getName());
+            }
+        } catch (SQLException sqlException) {
+            this.markDown(replica, wasHealthy, sqlException.getMessage());
+        }
+    }
+
+    // Null when the replication threads are stopped; a server that is not a replica reports no lag.
+    private Double replicationLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+
+            try (ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    return 0d;
+                }
+
+                long secondsBehindSource = resultSet.getLong("Seconds_Behind_Source");
+                return resultSet.wasNull() ? null : (double) secondsBehindSource;
+            }
+        }
+    }
+
+    private void markDown(ReplicaDataSource replica, boolean wasHealthy, String reason) {
+        replica.markDown();
+
+        if (wasHealthy) {
+            log.warn("Replica {} is unhealthy ({}), read-only transactions fall back to the primary",
+                    replica.getName(), reason);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,17 @@
+package com.emanueldev.sample_shop.domain.orders.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorOrderResponseDTO {
+
+    List<OrderResponseDTO> orders;
+    String next_cursor;
+}
@@ -1,9 +1,11 @@
 package com.emanueldev.sample_shop.domain.orders.mappers;
 
 
+import com.emanueldev.sample_shop.domain.orders.dto.response.CursorOrderResponseDTO;
 import com.emanueldev.sample_shop.domain.orders.dto.response.OrderItemDTO;
 import com.emanueldev.sample_shop.domain.orders.dto.response.OrderResponseDTO;
 import com.emanueldev.sample_shop.domain.orders.dto.response.PaginatedOrderResponseDTO;
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
 import com.emanueldev.sample_shop.domain.payments.dtos.response.PaymentResponseDTO;
 import com.emanueldev.sample_shop.models.OrderModel;
 import com.emanueldev.sample_shop.models.OrderItem;
@@ -33,6 +35,20 @@ public class OrderMapper {
                 .build();
     }
 
+    public CursorOrderResponseDTO mappingFromOrderCursorPageToCursorOrderDTO(CursorPage<OrderModel> orderPage){
+        List<OrderResponseDTO> orderResponseDTOList = orderPage
+                .content()
+                .stream()
+                .map(this::mappingFromOrderToOrderResponseDTO)
+                .toList();
+
+        return CursorOrderResponseDTO
+                .builder()
+                .orders(orderResponseDTOList)
+                .next_cursor(orderPage.nextCursor())
+                .build();
+    }
+
     public OrderResponseDTO mappingFromOrderToOrderResponseDTO(OrderModel order) {
         OrderResponseDTO response = OrderResponseDTO
                 .builder()
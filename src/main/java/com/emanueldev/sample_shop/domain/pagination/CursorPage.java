@@ -0,0 +1,18 @@
+package com.emanueldev.sample_shop.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    // Expects one row more than the page size, the extra row only tells whether there is a next page.
+    public static <T> CursorPage<T> of(List<T> rows, int pageSize, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, pageSize);
+
+        return new CursorPage<>(content, cursorOf.apply(content.get(pageSize - 1)).encode());
+    }
+}
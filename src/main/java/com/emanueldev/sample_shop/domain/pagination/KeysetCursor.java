@@ -0,0 +1,33 @@
+package com.emanueldev.sample_shop.domain.pagination;
+
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.utils.PaginationExceptionMessageUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+public record KeysetCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String value = timestamp + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.indexOf(SEPARATOR);
+
+            return new KeysetCursor(
+                    LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    UUID.fromString(value.substring(separatorIndex + 1)));
+        } catch (RuntimeException exception) {
+            throw new HttpBadRequestException(PaginationExceptionMessageUtils.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.emanueldev.sample_shop.domain.payments.dtos.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPaymentResponseDTO {
+
+    List<PaymentResponseDTO> payments;
+    String next_cursor;
+}
@@ -0,0 +1,22 @@
+package com.emanueldev.sample_shop.domain.payments.dtos.response;
+
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@ToString
+@Builder
+public class PaymentStatusEventDTO {
+
+    @JsonProperty("payment_id")
+    private UUID paymentId;
+
+    @JsonProperty("payment_status")
+    private PaymentStatus paymentStatus;
+}
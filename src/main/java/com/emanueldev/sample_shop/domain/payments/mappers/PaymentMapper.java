@@ -1,5 +1,7 @@
 package com.emanueldev.sample_shop.domain.payments.mappers;
 
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.CursorPaymentResponseDTO;
 import com.emanueldev.sample_shop.domain.payments.dtos.response.PaginatedPaymentResponseDTO;
 import com.emanueldev.sample_shop.domain.payments.dtos.response.PaymentResponseDTO;
 import com.emanueldev.sample_shop.models.Payment;
@@ -37,4 +39,19 @@ public class PaymentMapper {
                 .total_pages(paymentPage.getTotalPages())
                 .build();
     }
+
+    public CursorPaymentResponseDTO mappingFromPaymentCursorPageToCursorPaymentDTO(CursorPage<Payment> paymentPage) {
+        List<PaymentResponseDTO> paymentResponseDTOList =
+                paymentPage
+                        .content()
+                        .stream()
+                        .map(this::mappingFromPaymentEntityToPaymentResponseDTO)
+                        .toList();
+
+        return CursorPaymentResponseDTO
+                .builder()
+                .payments(paymentResponseDTOList)
+                .next_cursor(paymentPage.nextCursor())
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package com.emanueldev.sample_shop.domain.products.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductStockShardsRequestDTO {
+
+    @NotNull
+    @PositiveOrZero
+    @Max(64)
+    private Integer shards;
+}
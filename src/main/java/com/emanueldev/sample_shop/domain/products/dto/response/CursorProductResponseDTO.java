@@ -0,0 +1,17 @@
+package com.emanueldev.sample_shop.domain.products.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorProductResponseDTO {
+
+    List<ProductResponseDTO> products;
+    String next_cursor;
+}
@@ -0,0 +1,14 @@
+package com.emanueldev.sample_shop.domain.products.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductFacetDTO {
+
+    private String value;
+    private long count;
+}
@@ -0,0 +1,20 @@
+package com.emanueldev.sample_shop.domain.products.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductImportErrorDTO {
+
+    private long line;
+    private String message;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> errors;
+}
@@ -0,0 +1,20 @@
+package com.emanueldev.sample_shop.domain.products.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductImportReportDTO {
+
+    long total_rows;
+    long imported_rows;
+    long failed_rows;
+    List<ProductImportErrorDTO> errors;
+    boolean errors_truncated;
+}
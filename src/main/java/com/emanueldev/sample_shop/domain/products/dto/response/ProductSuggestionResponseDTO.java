@@ -0,0 +1,16 @@
+package com.emanueldev.sample_shop.domain.products.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSuggestionResponseDTO {
+
+    List<ProductSuggestionDTO> suggestions;
+}
@@ -1,9 +1,20 @@
 package com.emanueldev.sample_shop.domain.products.mapper;
 
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.CursorProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.FilteredProductResponseDTO;
 import com.emanueldev.sample_shop.domain.products.dto.response.PaginatedProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductFacetDTO;
 import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSearchResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionResponseDTO;
 import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.services.products.filter.ProductFacet;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterResult;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchResult;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestion;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
@@ -50,6 +61,81 @@ public class ProductMapper {
                 .build();
     }
 
+    public CursorProductResponseDTO mappingFromProductCursorPageToCursorProductDTO(CursorPage<Product> productPage){
+        List<ProductResponseDTO> listProductResponseDTO = productPage
+                .content()
+                .stream()
+                .map(this::mappingFromEntityToProductResponseDto)
+                .toList();
+
+        return CursorProductResponseDTO
+                .builder()
+                .products(listProductResponseDTO)
+                .next_cursor(productPage.nextCursor())
+                .build();
+    }
+
+    public ProductSearchResponseDTO mappingFromProductSearchResultToProductSearchDTO(ProductSearchResult searchResult){
+        List<ProductResponseDTO> listProductResponseDTO = searchResult
+                .products()
+                .stream()
+                .map(this::mappingFromEntityToProductResponseDto)
+                .toList();
+
+        return ProductSearchResponseDTO
+                .builder()
+                .products(listProductResponseDTO)
+                .total_hits(searchResult.totalHits())
+                .build();
+    }
+
+    public ProductSuggestionResponseDTO mappingFromProductSuggestionsToProductSuggestionDTO(List<ProductSuggestion> suggestions){
+        List<ProductSuggestionDTO> listProductSuggestionDTO = suggestions
+                .stream()
+                .map(suggestion -> ProductSuggestionDTO
+                        .builder()
+                        .id(suggestion.id())
+                        .name(suggestion.name())
+                        .build())
+                .toList();
+
+        return ProductSuggestionResponseDTO
+                .builder()
+                .suggestions(listProductSuggestionDTO)
+                .build();
+    }
+
+    public FilteredProductResponseDTO mappingFromProductFilterResultToFilteredProductDTO(ProductFilterResult filterResult){
+        Page<Product> productPage = filterResult.page();
+
+        List<ProductResponseDTO> listProductResponseDTO = productPage
+                .getContent()
+                .stream()
+                .map(this::mappingFromEntityToProductResponseDto)
+                .toList();
+
+        return FilteredProductResponseDTO
+                .builder()
+                .products(listProductResponseDTO)
+                .current_page(productPage.getNumber())
+                .total_items(productPage.getTotalElements())
+                .total_pages(productPage.getTotalPages())
+                .price_ranges(this.mappingFromProductFacetsToProductFacetDTO(filterResult.priceRanges()))
+                .stock_statuses(this.mappingFromProductFacetsToProductFacetDTO(filterResult.stockStatuses()))
+                .build();
+    }
+
+    private List<ProductFacetDTO> mappingFromProductFacetsToProductFacetDTO(List<ProductFacet> facets){
+        return facets
+                .stream()
+                .map(facet -> ProductFacetDTO
+                        .builder()
+                        .value(facet.value())
+                        .count(facet.count())
+                        .build())
+                .toList();
+    }
+
     public void mappingProductRequestDTOToExistentProductEntity(ProductRequestDTO requestDTO, Product product){
         product.setName(requestDTO.getName());
         product.setDescription(requestDTO.getDescription());
@@ -38,6 +38,11 @@ public class ApplicationException {
         this.message = message;
     }
 
+    public ApplicationException(HttpServletRequest request, HttpStatus status, String message, Map<String, String> errors) {
+        this(request, status, message);
+        this.errors = errors;
+    }
+
     public ApplicationException(HttpServletRequest request, HttpStatus status, String message, BindingResult result) {
         this.path = request.getRequestURI();
         this.method = request.getMethod();
@@ -1,7 +1,20 @@
 package com.emanueldev.sample_shop.exceptions;
 
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
 public class HttpBadRequestException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
     public HttpBadRequestException(String message) {
+        this(message, null);
+    }
+
+    public HttpBadRequestException(String message, Map<String, String> errors) {
         super(message);
+        this.errors = errors;
     }
 }
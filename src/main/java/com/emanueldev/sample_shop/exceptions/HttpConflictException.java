@@ -0,0 +1,7 @@
+package com.emanueldev.sample_shop.exceptions;
+
+public class HttpConflictException extends RuntimeException {
+    public HttpConflictException(String message) {
+        super(message);
+    }
+}
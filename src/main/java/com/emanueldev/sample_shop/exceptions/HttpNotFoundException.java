@@ -1,7 +1,20 @@
 package com.emanueldev.sample_shop.exceptions;
 
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
 public class HttpNotFoundException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
     public HttpNotFoundException(String message) {
+        this(message, null);
+    }
+
+    public HttpNotFoundException(String message, Map<String, String> errors) {
         super(message);
+        this.errors = errors;
     }
 }
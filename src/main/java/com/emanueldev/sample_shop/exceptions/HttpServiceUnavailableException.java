@@ -0,0 +1,7 @@
+package com.emanueldev.sample_shop.exceptions;
+
+public class HttpServiceUnavailableException extends RuntimeException {
+    public HttpServiceUnavailableException(String message) {
+        super(message);
+    }
+}
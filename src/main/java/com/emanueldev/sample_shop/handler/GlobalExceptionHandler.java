@@ -2,7 +2,9 @@ package com.emanueldev.sample_shop.handler;
 
 import com.emanueldev.sample_shop.exceptions.ApplicationException;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -20,7 +22,8 @@ public class GlobalExceptionHandler {
         ApplicationException response = new ApplicationException(
                 request,
                 HttpStatus.BAD_REQUEST,
-                exception.getMessage());
+                exception.getMessage(),
+                exception.getErrors());
 
         return ResponseEntity
                 .status(response.getCode())
@@ -33,6 +36,33 @@ public class GlobalExceptionHandler {
         ApplicationException response = new ApplicationException(
                 request,
                 HttpStatus.NOT_FOUND,
+                exception.getMessage(),
+                exception.getErrors());
+
+        return ResponseEntity
+                .status(response.getCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    @ExceptionHandler(HttpConflictException.class)
+    public ResponseEntity<ApplicationException> handleHttpConflictException(HttpServletRequest request, HttpConflictException exception) {
+        ApplicationException response = new ApplicationException(
+                request,
+                HttpStatus.CONFLICT,
+                exception.getMessage());
+
+        return ResponseEntity
+                .status(response.getCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    @ExceptionHandler(HttpServiceUnavailableException.class)
+    public ResponseEntity<ApplicationException> handleHttpServiceUnavailableException(HttpServletRequest request, HttpServiceUnavailableException exception) {
+        ApplicationException response = new ApplicationException(
+                request,
+                HttpStatus.SERVICE_UNAVAILABLE,
                 exception.getMessage());
 
         return ResponseEntity
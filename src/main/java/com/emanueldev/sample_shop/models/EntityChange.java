@@ -0,0 +1,39 @@
+package com.emanueldev.sample_shop.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "tb_entity_changes", indexes = @Index(name = "idx_entity_changes_changed_at", columnList = "changed_at"))
+public class EntityChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_name", length = 100, nullable = false)
+    private String entityName;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "origin", length = 36, nullable = false)
+    private String origin;
+
+    // Only columns that cached queries neither filter nor sort on changed, so their results still hold.
+    @Column(name = "in_place", nullable = false, columnDefinition = "bit default 0")
+    private boolean inPlace;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, columnDefinition = "datetime(6) default current_timestamp(6)")
+    private LocalDateTime changedAt;
+}
@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_orders")
+@Table(name = "tb_orders", indexes = @Index(name = "idx_orders_order_date_id", columnList = "order_date, id"))
 @Getter
 @Setter
 @Builder
@@ -22,7 +22,7 @@ import java.util.UUID;
 public class OrderModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "total_value", precision = 10, scale = 2, nullable = false)
@@ -33,7 +33,6 @@ public class OrderModel {
     private OrderStatus orderStatus = OrderStatus.PENDING;
 
     @OneToOne(cascade = CascadeType.ALL)
-    @JsonManagedReference
     private Payment payment;
 
     @CreationTimestamp
@@ -1,8 +1,6 @@
 package com.emanueldev.sample_shop.models;
 
 import com.emanueldev.sample_shop.utils.PaymentStatus;
-import com.fasterxml.jackson.annotation.JsonBackReference;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_payments")
+@Table(name = "tb_payments", indexes = @Index(name = "idx_payments_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @Builder
@@ -22,15 +20,9 @@ import java.util.UUID;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
-    @OneToOne(fetch = FetchType.LAZY, mappedBy = "payment")
-    @JoinColumn(name = "order_id", referencedColumnName = "id")
-    @JsonBackReference
-    @JsonIgnore
-    private OrderModel order;
-
     @Column(name = "amount", nullable = false)
     private BigDecimal amount;
 
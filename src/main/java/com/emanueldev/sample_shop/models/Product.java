@@ -2,8 +2,12 @@ package com.emanueldev.sample_shop.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -13,11 +17,18 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tb_products")
+@Table(name = "tb_products",
+        indexes = @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_products_name", columnNames = "name"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Product.CACHE_REGION)
 public class Product {
 
+    public static final String CACHE_REGION = "product-entities";
+
+    public static final String QUERY_CACHE_REGION = "product-queries";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(length = 100, nullable = false)
@@ -32,6 +43,17 @@ public class Product {
     @Column(name = "stock_quantity", precision = 10, scale = 2, nullable = false)
     private Long stockQuantity;
 
+    @Column(name = "stock_shards", nullable = false, columnDefinition = "int default 0")
+    private int stockShards;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, columnDefinition = "datetime(6) default current_timestamp(6)")
+    private LocalDateTime createdAt;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,48 @@
+package com.emanueldev.sample_shop.models;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version 7 UUIDs (RFC 9562): 48 bits of unix millis, then a 12 bit counter that keeps ids generated
+// in the same millisecond increasing, then 62 random bits. Stored as BINARY(16) they sort by creation
+// time, so InnoDB appends new primary keys at the right edge of the clustered index.
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    private static final SecureRandom random = new SecureRandom();
+
+    public static UUID nextUuid() {
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last ->
+                Math.max(System.currentTimeMillis() << COUNTER_BITS, last + 1));
+
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        long leastSignificantBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return nextUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,135 @@
+package com.emanueldev.sample_shop.observability;
+
+import com.emanueldev.sample_shop.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_SUMMARY = "http.server.requests.statements";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100, 200};
+
+    private final QueryBudgetProperties queryBudgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetProperties queryBudgetProperties, MeterRegistry meterRegistry) {
+        this.queryBudgetProperties = queryBudgetProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatementCounter counter = RequestStatementCounter.start();
+        BudgetHeaderResponse budgetHeaderResponse = new BudgetHeaderResponse(response, counter);
+
+        try {
+            filterChain.doFilter(request, budgetHeaderResponse);
+        } finally {
+            RequestStatementCounter.stop();
+            budgetHeaderResponse.addBudgetHeader();
+            this.record(request, counter);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatementCounter counter) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        for (RequestStatementCounter.Kind kind : RequestStatementCounter.Kind.values()) {
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                    .tags("method", request.getMethod(), "uri", uri, "kind", kind.tagValue())
+                    .serviceLevelObjectives(STATEMENT_BUCKETS)
+                    .register(meterRegistry)
+                    .record(counter.get(kind));
+        }
+
+        if (queryBudgetProperties.isLogEnabled() && isOverBudget(counter)) {
+            log.warn("{} {} issued {} statements ({} entity loads, {} collection fetches), budget is {}",
+                    request.getMethod(), uri, counter.getStatementCount(),
+                    counter.get(RequestStatementCounter.Kind.ENTITY_LOAD),
+                    counter.get(RequestStatementCounter.Kind.COLLECTION_FETCH),
+                    queryBudgetProperties.getMaxStatements());
+        }
+    }
+
+    private boolean isOverBudget(RequestStatementCounter counter) {
+        return counter.getStatementCount() > queryBudgetProperties.getMaxStatements();
+    }
+
+    // Headers only stick before the response is committed, so the count is taken when the body
+    // starts being written; controllers have finished their queries by then.
+    private class BudgetHeaderResponse extends HttpServletResponseWrapper {
+
+        private final RequestStatementCounter counter;
+        private boolean headerWritten;
+
+        private BudgetHeaderResponse(HttpServletResponse response, RequestStatementCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        private void addBudgetHeader() {
+            if (headerWritten || isCommitted()) {
+                return;
+            }
+            headerWritten = true;
+
+            if (queryBudgetProperties.isHeaderEnabled() && isOverBudget(counter)) {
+                setHeader(queryBudgetProperties.getHeaderName(), String.valueOf(counter.getStatementCount()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addBudgetHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addBudgetHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addBudgetHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addBudgetHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addBudgetHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addBudgetHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
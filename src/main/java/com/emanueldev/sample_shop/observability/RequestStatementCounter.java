@@ -0,0 +1,111 @@
+package com.emanueldev.sample_shop.observability;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class RequestStatementCounter {
+
+    public enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER, ENTITY_LOAD, COLLECTION_FETCH;
+
+        public String tagValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final ThreadLocal<RequestStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final RequestStatementCounter parent;
+    private final Map<Kind, Integer> counts = new EnumMap<>(Kind.class);
+    private final List<String> statements;
+
+    private RequestStatementCounter(RequestStatementCounter parent, List<String> statements) {
+        this.parent = parent;
+        this.statements = statements;
+    }
+
+    // Counts only, so a long request such as an import does not keep the text of every statement.
+    public static RequestStatementCounter start() {
+        return start(null);
+    }
+
+    // Also keeps the text of each statement, for tests that print what was issued.
+    public static RequestStatementCounter startCapture() {
+        return start(new ArrayList<>());
+    }
+
+    private static RequestStatementCounter start(List<String> statements) {
+        RequestStatementCounter counter = new RequestStatementCounter(CURRENT.get(), statements);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void stop() {
+        RequestStatementCounter counter = CURRENT.get();
+
+        if (counter == null || counter.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter.parent);
+        }
+    }
+
+    public static void record(Kind kind) {
+        for (RequestStatementCounter counter = CURRENT.get(); counter != null; counter = counter.parent) {
+            counter.counts.merge(kind, 1, Integer::sum);
+        }
+    }
+
+    public static void recordStatement(String sql) {
+        if (CURRENT.get() == null) {
+            return;
+        }
+
+        Kind kind = kindOf(sql);
+        for (RequestStatementCounter counter = CURRENT.get(); counter != null; counter = counter.parent) {
+            counter.counts.merge(kind, 1, Integer::sum);
+
+            if (counter.statements != null) {
+                counter.statements.add(sql);
+            }
+        }
+    }
+
+    public List<String> getStatements() {
+        return statements == null ? List.of() : Collections.unmodifiableList(statements);
+    }
+
+    public int get(Kind kind) {
+        return counts.getOrDefault(kind, 0);
+    }
+
+    public int getStatementCount() {
+        return get(Kind.SELECT) + get(Kind.INSERT) + get(Kind.UPDATE) + get(Kind.DELETE) + get(Kind.OTHER);
+    }
+
+    static Kind kindOf(String sql) {
+        String statement = sql.stripLeading();
+
+        while (statement.startsWith("/*")) {
+            int commentEnd = statement.indexOf("*/");
+            if (commentEnd < 0) {
+                return Kind.OTHER;
+            }
+            statement = statement.substring(commentEnd + 2).stripLeading();
+        }
+
+        String keyword = statement.length() < 6 ? statement : statement.substring(0, 6);
+
+        return switch (keyword.toLowerCase(Locale.ROOT)) {
+            case "select" -> Kind.SELECT;
+            case "insert" -> Kind.INSERT;
+            case "update" -> Kind.UPDATE;
+            case "delete" -> Kind.DELETE;
+            default -> statement.regionMatches(true, 0, "with", 0, 4) ? Kind.SELECT : Kind.OTHER;
+        };
+    }
+}
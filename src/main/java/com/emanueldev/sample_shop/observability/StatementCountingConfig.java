@@ -0,0 +1,62 @@
+package com.emanueldev.sample_shop.observability;
+
+import com.emanueldev.sample_shop.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class StatementCountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                RequestStatementCounter.recordStatement(sql);
+                return sql;
+            });
+            hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new LoadCountingIntegrator()));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetProperties queryBudgetProperties,
+                                                                       MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new QueryBudgetFilter(queryBudgetProperties, meterRegistry));
+    }
+
+    private static class LoadCountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry eventListenerRegistry = sessionFactory
+                    .getServiceRegistry()
+                    .requireService(EventListenerRegistry.class);
+
+            eventListenerRegistry.appendListeners(EventType.POST_LOAD, event ->
+                    RequestStatementCounter.record(RequestStatementCounter.Kind.ENTITY_LOAD));
+            eventListenerRegistry.appendListeners(EventType.INIT_COLLECTION, event ->
+                    RequestStatementCounter.record(RequestStatementCounter.Kind.COLLECTION_FETCH));
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
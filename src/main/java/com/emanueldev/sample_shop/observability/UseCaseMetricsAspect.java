@@ -0,0 +1,86 @@
+package com.emanueldev.sample_shop.observability;
+
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect {
+
+    public static final String EXECUTION_TIMER = "usecase.execution";
+    public static final String ERROR_COUNTER = "usecase.errors";
+    public static final String IN_FLIGHT_GAUGE = "usecase.in.flight";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Runs outside the transactional proxy so the timer also covers the commit.
+    @Around("execution(public * com.emanueldev.sample_shop.services.products.*UseCase.execute(..)) || " +
+            "execution(public * com.emanueldev.sample_shop.services.orders.*UseCase.execute(..)) || " +
+            "execution(public * com.emanueldev.sample_shop.services.payments.*UseCase.execute(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        AtomicInteger running = inFlight.computeIfAbsent(useCase, this::registerInFlightGauge);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        running.incrementAndGet();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            outcome = outcomeOf(throwable);
+            Counter.builder(ERROR_COUNTER)
+                    .tags("usecase", useCase, "outcome", outcome, "exception", throwable.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw throwable;
+        } finally {
+            running.decrementAndGet();
+            sample.stop(Timer.builder(EXECUTION_TIMER)
+                    .tags("usecase", useCase, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private AtomicInteger registerInFlightGauge(String useCase) {
+        return meterRegistry.gauge(IN_FLIGHT_GAUGE, Tags.of("usecase", useCase), new AtomicInteger());
+    }
+
+    private static String outcomeOf(Throwable throwable) {
+        if (throwable instanceof HttpNotFoundException) {
+            return "not_found";
+        }
+        if (throwable instanceof HttpBadRequestException) {
+            return "bad_request";
+        }
+        if (throwable instanceof HttpConflictException) {
+            return "conflict";
+        }
+        if (throwable instanceof HttpServiceUnavailableException) {
+            return "service_unavailable";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,27 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.models.EntityChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EntityChangeRepository extends JpaRepository<EntityChange, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM EntityChange c")
+    long findLastId();
+
+    @Query("SELECT c FROM EntityChange c WHERE c.id > :lastId OR c.id IN :pendingIds ORDER BY c.id")
+    List<EntityChange> findChanges(@Param("lastId") long lastId,
+                                   @Param("pendingIds") Collection<Long> pendingIds,
+                                   Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM EntityChange c WHERE c.changedAt < :changedAt")
+    int deleteChangedBefore(@Param("changedAt") LocalDateTime changedAt);
+}
@@ -0,0 +1,12 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.OrderExportRow;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface OrderExportRepository {
+
+    // One row per order item for orders placed in [from, to); must be consumed and closed inside a transaction.
+    Stream<OrderExportRow> streamItemsForExport(LocalDateTime from, LocalDateTime to, int fetchSize);
+}
@@ -0,0 +1,32 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.OrderExportRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+
+    private final EntityManager entityManager;
+
+    public OrderExportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<OrderExportRow> streamItemsForExport(LocalDateTime from, LocalDateTime to, int fetchSize) {
+        return entityManager
+                .createQuery("SELECT new com.emanueldev.sample_shop.repositories.projections.OrderExportRow(" +
+                        "o.id, o.orderDate, o.orderStatus, o.totalValue, pay.paymentStatus, " +
+                        "p.id, p.name, i.quantity, i.unitPrice) " +
+                        "FROM OrderItem i JOIN i.order o JOIN i.product p LEFT JOIN o.payment pay " +
+                        "WHERE o.orderDate >= :from AND o.orderDate < :to " +
+                        "ORDER BY o.orderDate, o.id, i.id", OrderExportRow.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
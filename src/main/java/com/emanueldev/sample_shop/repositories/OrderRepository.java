@@ -1,9 +1,56 @@
 package com.emanueldev.sample_shop.repositories;
 
 import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.OrderStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-public interface OrderRepository extends JpaRepository<OrderModel, UUID> {
+public interface OrderRepository extends JpaRepository<OrderModel, UUID>, OrderExportRepository {
+
+    @Query(value = "SELECT o.id FROM OrderModel o", countQuery = "SELECT COUNT(o) FROM OrderModel o")
+    Page<UUID> findAllIds(Pageable pageable);
+
+    @Query("SELECT o.id FROM OrderModel o ORDER BY o.orderDate, o.id")
+    List<UUID> findFirstIds(Limit limit);
+
+    @Query("SELECT o.id FROM OrderModel o WHERE o.orderDate > :orderDate OR (o.orderDate = :orderDate AND o.id > :id) " +
+            "ORDER BY o.orderDate, o.id")
+    List<UUID> findIdsAfter(@Param("orderDate") LocalDateTime orderDate, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT o FROM OrderModel o LEFT JOIN FETCH o.payment LEFT JOIN FETCH o.orderItems i " +
+            "LEFT JOIN FETCH i.product WHERE o.id IN :ids")
+    List<OrderModel> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT o FROM OrderModel o LEFT JOIN FETCH o.payment LEFT JOIN FETCH o.orderItems i " +
+            "LEFT JOIN FETCH i.product WHERE o.id = :id")
+    Optional<OrderModel> findWithDetailsById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE OrderModel o SET o.orderStatus = :status WHERE o.id = :id AND o.orderStatus <> :status")
+    int updateStatusIfDifferent(@Param("id") UUID id, @Param("status") OrderStatus status);
+
+    default List<OrderModel> findAllWithDetailsInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, OrderModel> orders = findAllWithDetailsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(OrderModel::getId, Function.identity()));
+
+        return ids.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
@@ -1,9 +1,43 @@
 package com.emanueldev.sample_shop.repositories;
 
 import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+
+    List<Payment> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    @Query("SELECT p FROM Payment p WHERE p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id) " +
+            "ORDER BY p.createdAt, p.id")
+    List<Payment> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.paymentStatus = :status, p.updatedAt = :now WHERE p.id = :id AND " +
+            "(p.paymentStatus IN :claimableStatuses OR (p.paymentStatus = :status AND p.updatedAt < :staleBefore))")
+    int claimStatus(
+            @Param("id") UUID id,
+            @Param("status") PaymentStatus status,
+            @Param("claimableStatuses") Collection<PaymentStatus> claimableStatuses,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.paymentStatus = :status, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.paymentStatus = :currentStatus AND p.updatedAt = :currentUpdatedAt")
+    int updateStatus(
+            @Param("id") UUID id,
+            @Param("currentStatus") PaymentStatus currentStatus,
+            @Param("currentUpdatedAt") LocalDateTime currentUpdatedAt,
+            @Param("status") PaymentStatus status,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,14 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.models.Product;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductCacheRepository {
+
+    // Served from the second-level cache, loading only the missing products in one statement; unlike
+    // findAllById, which always queries the database. Products that do not exist are left out.
+    Map<UUID, Product> findAllByIdCached(Collection<UUID> ids);
+}
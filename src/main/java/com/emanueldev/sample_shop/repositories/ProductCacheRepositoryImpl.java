@@ -0,0 +1,36 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.models.Product;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.*;
+
+public class ProductCacheRepositoryImpl implements ProductCacheRepository {
+
+    private final EntityManager entityManager;
+
+    public ProductCacheRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Map<UUID, Product> findAllByIdCached(Collection<UUID> ids) {
+        Map<UUID, Product> products = new HashMap<>();
+
+        if (ids.isEmpty()) {
+            return products;
+        }
+
+        entityManager
+                .unwrap(Session.class)
+                .byMultipleIds(Product.class)
+                .withBatchSize(ids.size())
+                .multiLoad(List.copyOf(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(product -> products.put(product.getId(), product));
+
+        return products;
+    }
+}
@@ -0,0 +1,11 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductExportRow;
+
+import java.util.stream.Stream;
+
+public interface ProductExportRepository {
+
+    // Forward-only cursor over the whole catalog; must be consumed and closed inside a transaction.
+    Stream<ProductExportRow> streamAllForExport(int fetchSize);
+}
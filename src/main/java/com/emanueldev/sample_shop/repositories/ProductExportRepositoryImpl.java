@@ -0,0 +1,32 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductExportRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class ProductExportRepositoryImpl implements ProductExportRepository {
+
+    private final EntityManager entityManager;
+
+    public ProductExportRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Sharded stock is summed in the same statement: a streaming MySQL connection cannot run other
+    // queries until the cursor is fully read.
+    @Override
+    public Stream<ProductExportRow> streamAllForExport(int fetchSize) {
+        return entityManager
+                .createQuery("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductExportRow(" +
+                        "p.id, p.name, p.description, p.price, " +
+                        "CASE WHEN p.stockShards > 0 " +
+                        "THEN (SELECT COALESCE(SUM(s.quantity), 0L) FROM ProductStockShard s WHERE s.product = p) " +
+                        "ELSE p.stockQuantity END, " +
+                        "p.createdAt) " +
+                        "FROM Product p ORDER BY p.createdAt, p.id", ProductExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
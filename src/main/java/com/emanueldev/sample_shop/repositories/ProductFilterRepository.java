@@ -0,0 +1,11 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductFilterRow;
+
+import java.util.stream.Stream;
+
+public interface ProductFilterRepository {
+
+    // Forward-only cursor over the prices and stock of the whole catalog in creation order; must be consumed and closed inside a transaction.
+    Stream<ProductFilterRow> streamAllForFilters(int fetchSize);
+}
@@ -0,0 +1,26 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductFilterRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class ProductFilterRepositoryImpl implements ProductFilterRepository {
+
+    private final EntityManager entityManager;
+
+    public ProductFilterRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<ProductFilterRow> streamAllForFilters(int fetchSize) {
+        return entityManager
+                .createQuery("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductFilterRow(" +
+                        "p.id, p.price, " + ProductRepository.STOCK_QUANTITY + ", p.version) " +
+                        "FROM Product p ORDER BY p.createdAt, p.id", ProductFilterRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
@@ -1,13 +1,71 @@
 package com.emanueldev.sample_shop.repositories;
 
 import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.projections.ProductFilterRow;
+import com.emanueldev.sample_shop.repositories.projections.ProductSearchRow;
+import com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductStockRepository, ProductCacheRepository, ProductExportRepository, ProductSearchRepository, ProductSuggestionRepository, ProductFilterRepository {
+
+    // Units of the product in orders that were not cancelled, for ranking suggestions by popularity.
+    String UNITS_SOLD = "(SELECT COALESCE(SUM(i.quantity), 0) FROM OrderItem i " +
+            "WHERE i.product = p AND i.order.orderStatus <> com.emanueldev.sample_shop.models.OrderStatus.CANCELLED)";
+
+    // Units in stock, summed over the shards for products with sharded stock since their column is not kept up to date.
+    String STOCK_QUANTITY = "(CASE WHEN p.stockShards > 0 " +
+            "THEN (SELECT COALESCE(SUM(s.quantity), 0) FROM ProductStockShard s WHERE s.product = p) " +
+            "ELSE p.stockQuantity END)";
+
     @Query
     Optional<Product> findByName(String name);
+
+    @Query("SELECT p.name FROM Product p WHERE p.name IN :names")
+    List<String> findNamesIn(@Param("names") Collection<String> names);
+
+    @Query("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductSearchRow(p.id, p.name, p.description, p.version) " +
+            "FROM Product p WHERE p.id IN :ids")
+    List<ProductSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow(p.id, p.name, p.version, " +
+            UNITS_SOLD + ") FROM Product p WHERE p.id IN :ids")
+    List<ProductSuggestionRow> findSuggestionRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductFilterRow(p.id, p.price, " +
+            STOCK_QUANTITY + ", p.version) FROM Product p WHERE p.id IN :ids")
+    List<ProductFilterRow> findFilterRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Product.QUERY_CACHE_REGION)
+    })
+    Page<Product> findAll(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Product.QUERY_CACHE_REGION)
+    })
+    List<Product> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Product.QUERY_CACHE_REGION)
+    })
+    @Query("SELECT p FROM Product p WHERE p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id) " +
+            "ORDER BY p.createdAt, p.id")
+    List<Product> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
 }
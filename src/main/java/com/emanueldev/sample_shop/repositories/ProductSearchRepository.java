@@ -0,0 +1,11 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductSearchRow;
+
+import java.util.stream.Stream;
+
+public interface ProductSearchRepository {
+
+    // Forward-only cursor over the searchable fields of the whole catalog; must be consumed and closed inside a transaction.
+    Stream<ProductSearchRow> streamAllForSearch(int fetchSize);
+}
@@ -0,0 +1,26 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductSearchRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public ProductSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<ProductSearchRow> streamAllForSearch(int fetchSize) {
+        return entityManager
+                .createQuery("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductSearchRow(" +
+                        "p.id, p.name, p.description, p.version) " +
+                        "FROM Product p", ProductSearchRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,20 @@
+package com.emanueldev.sample_shop.repositories;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductStockRepository {
+
+    // All or nothing: returns the current stock of each product that cannot fulfill its quantity, or
+    // throws OptimisticLockingFailureException when concurrent orders keep winning the race.
+    Map<UUID, Long> decrementStockIfAvailable(Map<UUID, Long> quantitiesByProductId);
+
+    int incrementStock(Map<UUID, Long> quantitiesByProductId);
+
+    Map<UUID, Long> lockStockQuantities(Collection<UUID> productIds);
+
+    // Current prices, share locked so they cannot change before the caller's transaction ends.
+    Map<UUID, BigDecimal> lockPrices(Collection<UUID> productIds);
+}
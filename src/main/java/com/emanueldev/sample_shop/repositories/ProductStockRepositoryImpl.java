@@ -0,0 +1,178 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.models.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.*;
+
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final int MAX_DECREMENT_ATTEMPTS = 3;
+
+    // No entity maps to this space, so Hibernate neither clears the product regions nor invalidates
+    // cached product queries after a stock update; the touched products are evicted one by one instead.
+    private static final String STOCK_QUERY_SPACE = "tb_products_stock";
+
+    private final EntityManager entityManager;
+
+    public ProductStockRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Map<UUID, Long> decrementStockIfAvailable(Map<UUID, Long> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, Long> unavailableStock = new LinkedHashMap<>();
+
+        for (int attempt = 0; attempt < MAX_DECREMENT_ATTEMPTS; attempt++) {
+            if (tryDecrementStock(quantitiesByProductId)) {
+                return Map.of();
+            }
+
+            findCurrentStockQuantities(quantitiesByProductId.keySet()).forEach((productId, stockQuantity) -> {
+                if (stockQuantity < quantitiesByProductId.get(productId)) {
+                    unavailableStock.put(productId, stockQuantity);
+                }
+            });
+
+            if (!unavailableStock.isEmpty()) {
+                return unavailableStock;
+            }
+        }
+
+        // Every attempt lost a race to another order while the stock was there, so the caller retries
+        // the whole transaction instead of reporting a shortage that does not exist.
+        throw new OptimisticLockingFailureException(
+                "Stock of products " + quantitiesByProductId.keySet() + " kept changing after " + MAX_DECREMENT_ATTEMPTS + " attempts");
+    }
+
+    @Override
+    public int incrementStock(Map<UUID, Long> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return 0;
+        }
+
+        int updatedRows = createStockUpdateQuery(quantitiesByProductId, "+", false).executeUpdate();
+        evictCachedProducts(quantitiesByProductId.keySet());
+
+        return updatedRows;
+    }
+
+    @Override
+    public Map<UUID, Long> lockStockQuantities(Collection<UUID> productIds) {
+        Map<UUID, Long> stockQuantities = new LinkedHashMap<>();
+
+        entityManager
+                .createQuery("SELECT p.id, p.stockQuantity FROM Product p WHERE p.id IN :ids ORDER BY p.id", Object[].class)
+                .setParameter("ids", productIds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .forEach(row -> stockQuantities.put((UUID) row[0], (Long) row[1]));
+
+        return stockQuantities;
+    }
+
+    @Override
+    public Map<UUID, BigDecimal> lockPrices(Collection<UUID> productIds) {
+        Map<UUID, BigDecimal> prices = new HashMap<>();
+
+        entityManager
+                .createQuery("SELECT p.id, p.price FROM Product p WHERE p.id IN :ids ORDER BY p.id", Object[].class)
+                .setParameter("ids", productIds)
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .getResultList()
+                .forEach(row -> prices.put((UUID) row[0], (BigDecimal) row[1]));
+
+        return prices;
+    }
+
+    private boolean tryDecrementStock(Map<UUID, Long> quantitiesByProductId) {
+        entityManager.flush();
+
+        Session session = entityManager.unwrap(Session.class);
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+
+        int updatedRows = createStockUpdateQuery(quantitiesByProductId, "-", true).executeUpdate();
+        evictCachedProducts(quantitiesByProductId.keySet());
+
+        if (updatedRows != quantitiesByProductId.size()) {
+            session.doWork(connection -> connection.rollback(savepoint));
+            return false;
+        }
+
+        session.doWork(connection -> connection.releaseSavepoint(savepoint));
+        return true;
+    }
+
+    private Query createStockUpdateQuery(Map<UUID, Long> quantitiesByProductId, String operator, boolean requireAvailableStock) {
+        List<UUID> ids = new ArrayList<>(quantitiesByProductId.keySet());
+        StringBuilder requestedQuantity = new StringBuilder("CASE id");
+
+        for (int i = 0; i < ids.size(); i++) {
+            requestedQuantity.append(" WHEN :id").append(i).append(" THEN :quantity").append(i);
+        }
+        requestedQuantity.append(" ELSE 0 END");
+
+        String sql = "UPDATE tb_products SET stock_quantity = stock_quantity " + operator + " " + requestedQuantity +
+                ", version = version + 1 WHERE id IN (:ids)";
+
+        if (requireAvailableStock) {
+            sql += " AND stock_shards = 0 AND stock_quantity >= " + requestedQuantity;
+        }
+
+        NativeQuery<?> query = entityManager
+                .createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(STOCK_QUERY_SPACE);
+
+        for (int i = 0; i < ids.size(); i++) {
+            query.setParameter("id" + i, ids.get(i));
+            query.setParameter("quantity" + i, quantitiesByProductId.get(ids.get(i)));
+        }
+        query.setParameter("ids", ids);
+
+        return query;
+    }
+
+    // Evicts right away and again once the transaction completes, so a reader that cached the old
+    // row before the commit does not keep serving it. Cached listings neither filter nor sort on stock,
+    // so they stay and reload only the evicted products.
+    private void evictCachedProducts(Collection<UUID> productIds) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        List<UUID> evictedIds = List.copyOf(productIds);
+        Runnable eviction = () -> evictedIds.forEach(id -> cache.evictEntityData(Product.class, id));
+
+        eviction.run();
+        entityManager
+                .unwrap(SessionImplementor.class)
+                .getActionQueue()
+                .registerProcess((success, session) -> eviction.run());
+    }
+
+    private Map<UUID, Long> findCurrentStockQuantities(Collection<UUID> productIds) {
+        Map<UUID, Long> stockQuantities = new HashMap<>();
+
+        entityManager
+                .createQuery("SELECT p.id, p.stockQuantity FROM Product p WHERE p.id IN :ids", Object[].class)
+                .setParameter("ids", productIds)
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .getResultList()
+                .forEach(row -> stockQuantities.put((UUID) row[0], (Long) row[1]));
+
+        return stockQuantities;
+    }
+}
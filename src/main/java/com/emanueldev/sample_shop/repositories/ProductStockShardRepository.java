@@ -0,0 +1,44 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.models.ProductStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, UUID> {
+
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity - :quantity " +
+            "WHERE s.product.id = :productId AND s.shardIndex = :shardIndex AND s.quantity >= :quantity")
+    int decrementIfAvailable(
+            @Param("productId") UUID productId,
+            @Param("shardIndex") int shardIndex,
+            @Param("quantity") long quantity);
+
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity + :quantity " +
+            "WHERE s.product.id = :productId AND s.shardIndex = :shardIndex")
+    int increment(
+            @Param("productId") UUID productId,
+            @Param("shardIndex") int shardIndex,
+            @Param("quantity") long quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.product.id = :productId ORDER BY s.shardIndex")
+    List<ProductStockShard> lockAllByProductId(@Param("productId") UUID productId);
+
+    @Query("SELECT s.product.id, SUM(s.quantity) FROM ProductStockShard s " +
+            "WHERE s.product.id IN :productIds GROUP BY s.product.id")
+    List<Object[]> sumQuantitiesByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockShard s WHERE s.product.id = :productId")
+    int deleteAllByProductId(@Param("productId") UUID productId);
+}
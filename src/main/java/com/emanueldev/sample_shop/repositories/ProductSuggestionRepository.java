@@ -0,0 +1,11 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow;
+
+import java.util.stream.Stream;
+
+public interface ProductSuggestionRepository {
+
+    // Forward-only cursor over the names and units sold of the whole catalog; must be consumed and closed inside a transaction.
+    Stream<ProductSuggestionRow> streamAllForSuggestions(int fetchSize);
+}
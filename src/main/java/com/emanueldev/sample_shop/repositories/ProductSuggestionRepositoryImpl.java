@@ -0,0 +1,26 @@
+package com.emanueldev.sample_shop.repositories;
+
+import com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class ProductSuggestionRepositoryImpl implements ProductSuggestionRepository {
+
+    private final EntityManager entityManager;
+
+    public ProductSuggestionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<ProductSuggestionRow> streamAllForSuggestions(int fetchSize) {
+        return entityManager
+                .createQuery("SELECT new com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow(" +
+                        "p.id, p.name, p.version, " + ProductRepository.UNITS_SOLD + ") " +
+                        "FROM Product p", ProductSuggestionRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,21 @@
+package com.emanueldev.sample_shop.repositories.projections;
+
+import com.emanueldev.sample_shop.models.OrderStatus;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderExportRow(
+        UUID orderId,
+        LocalDateTime orderDate,
+        OrderStatus orderStatus,
+        BigDecimal totalValue,
+        PaymentStatus paymentStatus,
+        UUID productId,
+        String productName,
+        Long quantity,
+        BigDecimal unitPrice
+) {
+}
@@ -0,0 +1,15 @@
+package com.emanueldev.sample_shop.repositories.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ProductExportRow(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal price,
+        Long stockQuantity,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.emanueldev.sample_shop.repositories.projections;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductFilterRow(
+        UUID id,
+        BigDecimal price,
+        long stockQuantity,
+        long version
+) {
+}
@@ -0,0 +1,11 @@
+package com.emanueldev.sample_shop.repositories.projections;
+
+import java.util.UUID;
+
+public record ProductSearchRow(
+        UUID id,
+        String name,
+        String description,
+        long version
+) {
+}
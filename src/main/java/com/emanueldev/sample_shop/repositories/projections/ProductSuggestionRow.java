@@ -0,0 +1,11 @@
+package com.emanueldev.sample_shop.repositories.projections;
+
+import java.util.UUID;
+
+public record ProductSuggestionRow(
+        UUID id,
+        String name,
+        long version,
+        long unitsSold
+) {
+}
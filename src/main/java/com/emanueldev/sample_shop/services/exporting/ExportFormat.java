@@ -0,0 +1,36 @@
+package com.emanueldev.sample_shop.services.exporting;
+
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.utils.ExportExceptionMessageUtils;
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+
+        throw new HttpBadRequestException(ExportExceptionMessageUtils.INVALID_EXPORT_FORMAT);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String fileName(String name) {
+        return name + "." + extension;
+    }
+}
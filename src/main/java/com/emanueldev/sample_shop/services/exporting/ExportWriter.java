@@ -0,0 +1,103 @@
+package com.emanueldev.sample_shop.services.exporting;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Writes each row as soon as it is read, so memory stays at the size of the output buffer
+// regardless of how many rows are exported.
+public class ExportWriter implements Closeable {
+
+    private final List<String> columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private final ObjectWriter valueWriter;
+    private long rows;
+
+    public ExportWriter(ExportFormat format, List<String> columns, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        // ObjectMapper flushes after each value by default, which would push every field down to the socket.
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        if (format == ExportFormat.NDJSON) {
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setPrettyPrinter(new MinimalPrettyPrinter(""));
+        } else {
+            this.generator = null;
+            this.writeCsvLine(columns.toArray());
+        }
+    }
+
+    public void writeRow(Object... values) throws IOException {
+        if (generator != null) {
+            generator.writeStartObject();
+
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                valueWriter.writeValue(generator, values[i]);
+            }
+
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } else {
+            this.writeCsvLine(values);
+        }
+
+        rows++;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+
+        writer.flush();
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+
+            if (values[i] != null) {
+                this.writeCsvValue(values[i].toString());
+            }
+        }
+
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        boolean quoted = false;
+
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char character = value.charAt(i);
+            quoted = character == ',' || character == '"' || character == '\n' || character == '\r';
+        }
+
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
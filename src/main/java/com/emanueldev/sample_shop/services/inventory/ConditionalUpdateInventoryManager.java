@@ -0,0 +1,27 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class ConditionalUpdateInventoryManager implements InventoryManager {
+
+    private final ProductRepository productRepository;
+
+    public ConditionalUpdateInventoryManager(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public InventoryStrategy getStrategy() {
+        return InventoryStrategy.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public Map<UUID, Long> reserve(Map<UUID, Long> quantitiesByProductId) {
+        return productRepository.decrementStockIfAvailable(quantitiesByProductId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface InventoryManager {
+
+    InventoryStrategy getStrategy();
+
+    // Returns the current stock of each product that cannot fulfill its quantity, nothing is reserved in that case.
+    Map<UUID, Long> reserve(Map<UUID, Long> quantitiesByProductId);
+}
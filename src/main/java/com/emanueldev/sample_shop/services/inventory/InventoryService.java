@@ -0,0 +1,97 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.config.InventoryProperties;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class InventoryService {
+
+    private final Map<InventoryStrategy, InventoryManager> inventoryManagers = new EnumMap<>(InventoryStrategy.class);
+    private final InventoryProperties inventoryProperties;
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+    private final EntityChangeLog entityChangeLog;
+    private final ProductFilterIndex productFilterIndex;
+
+    public InventoryService(
+            List<InventoryManager> inventoryManagers,
+            InventoryProperties inventoryProperties,
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService,
+            EntityChangeLog entityChangeLog,
+            ProductFilterIndex productFilterIndex
+    ) {
+        inventoryManagers.forEach(manager -> this.inventoryManagers.put(manager.getStrategy(), manager));
+        this.inventoryProperties = inventoryProperties;
+        this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+        this.entityChangeLog = entityChangeLog;
+        this.productFilterIndex = productFilterIndex;
+    }
+
+    public Map<UUID, Long> reserve(Collection<Product> products, Map<UUID, Long> quantitiesByProductId) {
+        return reserve(inventoryProperties.getStrategy(), products, quantitiesByProductId);
+    }
+
+    public Map<UUID, Long> reserve(
+            InventoryStrategy strategy,
+            Collection<Product> products,
+            Map<UUID, Long> quantitiesByProductId
+    ) {
+        List<Product> shardedProducts = getShardedProducts(products);
+        Map<UUID, Long> rowQuantities = getRowQuantities(shardedProducts, quantitiesByProductId);
+
+        Map<UUID, Long> unavailableStock = rowQuantities.isEmpty()
+                ? Map.of()
+                : inventoryManagers.get(strategy).reserve(rowQuantities);
+
+        if (!unavailableStock.isEmpty()) {
+            return unavailableStock;
+        }
+
+        entityChangeLog.recordInPlace(Product.class, rowQuantities.keySet());
+
+        if (!shardedProducts.isEmpty()) {
+            unavailableStock = shardedStockService.reserve(shardedProducts, quantitiesByProductId);
+
+            if (!unavailableStock.isEmpty()) {
+                return unavailableStock;
+            }
+        }
+
+        Map<UUID, Long> reservedQuantities = new LinkedHashMap<>();
+        quantitiesByProductId.forEach((productId, quantity) -> reservedQuantities.put(productId, -quantity));
+        productFilterIndex.adjustStock(reservedQuantities);
+
+        return unavailableStock;
+    }
+
+    public void release(Collection<Product> products, Map<UUID, Long> quantitiesByProductId) {
+        List<Product> shardedProducts = getShardedProducts(products);
+        Map<UUID, Long> rowQuantities = getRowQuantities(shardedProducts, quantitiesByProductId);
+
+        productRepository.incrementStock(rowQuantities);
+        entityChangeLog.recordInPlace(Product.class, rowQuantities.keySet());
+        shardedStockService.release(shardedProducts, quantitiesByProductId);
+        productFilterIndex.adjustStock(quantitiesByProductId);
+    }
+
+    private List<Product> getShardedProducts(Collection<Product> products) {
+        return products.stream()
+                .filter(product -> product.getStockShards() > 0)
+                .toList();
+    }
+
+    private Map<UUID, Long> getRowQuantities(List<Product> shardedProducts, Map<UUID, Long> quantitiesByProductId) {
+        Map<UUID, Long> rowQuantities = new LinkedHashMap<>(quantitiesByProductId);
+        shardedProducts.forEach(product -> rowQuantities.remove(product.getId()));
+
+        return rowQuantities;
+    }
+}
@@ -0,0 +1,6 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+public enum InventoryStrategy {
+
+    CONDITIONAL_UPDATE, OPTIMISTIC, PESSIMISTIC, STRIPED_LOCK
+}
@@ -0,0 +1,48 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class OptimisticInventoryManager implements InventoryManager {
+
+    private final ProductRepository productRepository;
+
+    public OptimisticInventoryManager(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public InventoryStrategy getStrategy() {
+        return InventoryStrategy.OPTIMISTIC;
+    }
+
+    @Override
+    public Map<UUID, Long> reserve(Map<UUID, Long> quantitiesByProductId) {
+        List<Product> products = productRepository.findAllById(quantitiesByProductId.keySet());
+        Map<UUID, Long> unavailableStock = new LinkedHashMap<>();
+
+        products.forEach(product -> {
+            if (product.getStockQuantity() < quantitiesByProductId.get(product.getId())) {
+                unavailableStock.put(product.getId(), product.getStockQuantity());
+            }
+        });
+
+        if (!unavailableStock.isEmpty()) {
+            return unavailableStock;
+        }
+
+        products.forEach(product -> product.setStockQuantity(
+                product.getStockQuantity() - quantitiesByProductId.get(product.getId())));
+
+        productRepository.flush();
+
+        return Map.of();
+    }
+}
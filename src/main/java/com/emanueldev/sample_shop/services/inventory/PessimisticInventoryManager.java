@@ -0,0 +1,41 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class PessimisticInventoryManager implements InventoryManager {
+
+    private final ProductRepository productRepository;
+
+    public PessimisticInventoryManager(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public InventoryStrategy getStrategy() {
+        return InventoryStrategy.PESSIMISTIC;
+    }
+
+    @Override
+    public Map<UUID, Long> reserve(Map<UUID, Long> quantitiesByProductId) {
+        Map<UUID, Long> stockQuantities = productRepository.lockStockQuantities(quantitiesByProductId.keySet());
+        Map<UUID, Long> unavailableStock = new LinkedHashMap<>();
+
+        stockQuantities.forEach((productId, stockQuantity) -> {
+            if (stockQuantity < quantitiesByProductId.get(productId)) {
+                unavailableStock.put(productId, stockQuantity);
+            }
+        });
+
+        if (!unavailableStock.isEmpty()) {
+            return unavailableStock;
+        }
+
+        return productRepository.decrementStockIfAvailable(quantitiesByProductId);
+    }
+}
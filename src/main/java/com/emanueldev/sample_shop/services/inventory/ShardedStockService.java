@@ -0,0 +1,162 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.models.ProductStockShard;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.ProductStockShardRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+@Service
+public class ShardedStockService {
+
+    private final ProductStockShardRepository productStockShardRepository;
+    private final ProductRepository productRepository;
+
+    public ShardedStockService(
+            ProductStockShardRepository productStockShardRepository,
+            ProductRepository productRepository
+    ) {
+        this.productStockShardRepository = productStockShardRepository;
+        this.productRepository = productRepository;
+    }
+
+    // Unlike the row based managers this may leave earlier products decremented when a later one
+    // is unavailable, so callers must roll back the transaction on a non empty result.
+    public Map<UUID, Long> reserve(Collection<Product> products, Map<UUID, Long> quantitiesByProductId) {
+        Map<UUID, Long> unavailableStock = new LinkedHashMap<>();
+
+        products.stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .forEach(product -> {
+                    long quantity = quantitiesByProductId.get(product.getId());
+                    long stockQuantity = this.decrementStock(product, quantity);
+
+                    if (stockQuantity < quantity) {
+                        unavailableStock.put(product.getId(), stockQuantity);
+                    }
+                });
+
+        return unavailableStock;
+    }
+
+    public void release(Collection<Product> products, Map<UUID, Long> quantitiesByProductId) {
+        products.forEach(product -> productStockShardRepository.increment(
+                product.getId(),
+                ThreadLocalRandom.current().nextInt(product.getStockShards()),
+                quantitiesByProductId.get(product.getId())));
+    }
+
+    public Map<UUID, Long> getStockQuantities(Collection<UUID> productIds) {
+        Map<UUID, Long> stockQuantities = new HashMap<>();
+
+        if (productIds.isEmpty()) {
+            return stockQuantities;
+        }
+
+        productStockShardRepository
+                .sumQuantitiesByProductIds(productIds)
+                .forEach(row -> stockQuantities.put((UUID) row[0], ((Number) row[1]).longValue()));
+
+        return stockQuantities;
+    }
+
+    public void applyStockQuantities(Collection<Product> products) {
+        List<UUID> shardedProductIds = products.stream()
+                .filter(product -> product.getStockShards() > 0)
+                .map(Product::getId)
+                .toList();
+
+        Map<UUID, Long> stockQuantities = this.getStockQuantities(shardedProductIds);
+
+        products.stream()
+                .filter(product -> product.getStockShards() > 0)
+                .forEach(product -> product.setStockQuantity(stockQuantities.getOrDefault(product.getId(), 0L)));
+    }
+
+    public void configure(Product product, int shards) {
+        long stockQuantity = product.getStockShards() > 0
+                ? this.lockShards(product).stream().mapToLong(ProductStockShard::getQuantity).sum()
+                : product.getStockQuantity();
+
+        this.distribute(product, shards, stockQuantity);
+    }
+
+    public void updateStockQuantity(Product product, long stockQuantity) {
+        if (product.getStockShards() == 0) {
+            return;
+        }
+
+        this.lockShards(product);
+        this.distribute(product, product.getStockShards(), stockQuantity);
+    }
+
+    public void deleteShards(Product product) {
+        if (product.getStockShards() > 0) {
+            productStockShardRepository.deleteAllByProductId(product.getId());
+        }
+    }
+
+    // A failed conditional update keeps its lock until commit, so after a miss on the random shard
+    // the buyer goes straight to locking the shards in order instead of walking the others from
+    // wherever it started. Two drains that missed on different shards can still deadlock, which the
+    // database breaks by rolling one back for the caller to retry.
+    private long decrementStock(Product product, long quantity) {
+        int shardIndex = ThreadLocalRandom.current().nextInt(product.getStockShards());
+
+        if (productStockShardRepository.decrementIfAvailable(product.getId(), shardIndex, quantity) == 1) {
+            return quantity;
+        }
+
+        return this.drainShards(product, quantity);
+    }
+
+    // No single shard can serve the quantity, so take the whole counter under lock and drain shards in order.
+    private long drainShards(Product product, long quantity) {
+        List<ProductStockShard> shards = this.lockShards(product);
+        long stockQuantity = shards.stream().mapToLong(ProductStockShard::getQuantity).sum();
+
+        if (stockQuantity < quantity) {
+            return stockQuantity;
+        }
+
+        long remaining = quantity;
+
+        for (ProductStockShard shard : shards) {
+            long taken = Math.min(remaining, shard.getQuantity());
+            shard.setQuantity(shard.getQuantity() - taken);
+            remaining -= taken;
+        }
+
+        return quantity;
+    }
+
+    private List<ProductStockShard> lockShards(Product product) {
+        return productStockShardRepository.lockAllByProductId(product.getId());
+    }
+
+    private void distribute(Product product, int shards, long stockQuantity) {
+        productStockShardRepository.flush();
+        productStockShardRepository.deleteAllByProductId(product.getId());
+
+        if (shards > 1) {
+            List<ProductStockShard> stockShards = IntStream.range(0, shards)
+                    .mapToObj(shardIndex -> ProductStockShard
+                            .builder()
+                            .product(product)
+                            .shardIndex(shardIndex)
+                            .quantity(stockQuantity / shards + (shardIndex < stockQuantity % shards ? 1 : 0))
+                            .build())
+                    .toList();
+
+            productStockShardRepository.saveAll(stockShards);
+        }
+
+        product.setStockShards(shards > 1 ? shards : 0);
+        product.setStockQuantity(stockQuantity);
+        productRepository.save(product);
+    }
+}
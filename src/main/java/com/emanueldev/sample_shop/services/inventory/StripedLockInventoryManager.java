@@ -0,0 +1,110 @@
+package com.emanueldev.sample_shop.services.inventory;
+
+import com.emanueldev.sample_shop.config.InventoryProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class StripedLockInventoryManager implements InventoryManager {
+
+    private final ConditionalUpdateInventoryManager delegate;
+    private final ReentrantLock[] stripes;
+    private final long lockTimeoutNanos;
+
+    public StripedLockInventoryManager(
+            ConditionalUpdateInventoryManager delegate,
+            InventoryProperties inventoryProperties
+    ) {
+        this.delegate = delegate;
+        this.stripes = new ReentrantLock[inventoryProperties.getLockStripes()];
+        this.lockTimeoutNanos = inventoryProperties.getStripeLockTimeout().toNanos();
+
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public InventoryStrategy getStrategy() {
+        return InventoryStrategy.STRIPED_LOCK;
+    }
+
+    @Override
+    public Map<UUID, Long> reserve(Map<UUID, Long> quantitiesByProductId) {
+        List<ReentrantLock> acquiredLocks = acquireStripes(quantitiesByProductId);
+
+        try {
+            Map<UUID, Long> unavailableStock = delegate.reserve(quantitiesByProductId);
+            releaseWhenTransactionCompletes(acquiredLocks);
+            return unavailableStock;
+        } catch (RuntimeException exception) {
+            release(acquiredLocks);
+            throw exception;
+        }
+    }
+
+    private List<ReentrantLock> acquireStripes(Map<UUID, Long> quantitiesByProductId) {
+        int[] stripeIndexes = quantitiesByProductId
+                .keySet()
+                .stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        List<ReentrantLock> acquiredLocks = new ArrayList<>(stripeIndexes.length);
+
+        for (int stripeIndex : stripeIndexes) {
+            ReentrantLock lock = stripes[stripeIndex];
+
+            if (!tryLock(lock)) {
+                // The database update stays authoritative, the stripes only absorb contention before it.
+                break;
+            }
+            acquiredLocks.add(lock);
+        }
+
+        return acquiredLocks;
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(lockTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int stripeIndex(UUID productId) {
+        return Math.floorMod(productId.hashCode(), stripes.length);
+    }
+
+    private void releaseWhenTransactionCompletes(List<ReentrantLock> acquiredLocks) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(acquiredLocks);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(acquiredLocks);
+            }
+        });
+    }
+
+    private void release(List<ReentrantLock> acquiredLocks) {
+        for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
+            acquiredLocks.get(i).unlock();
+        }
+    }
+}
@@ -1,59 +1,83 @@
 package com.emanueldev.sample_shop.services.orders;
 
+import com.emanueldev.sample_shop.config.InventoryProperties;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
 import com.emanueldev.sample_shop.models.*;
 import com.emanueldev.sample_shop.repositories.OrderRepository;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.InventoryService;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
 import com.emanueldev.sample_shop.utils.OrderExceptionMessageUtils;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 @Service
 public class CreateOrderUseCase {
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
-
-    public CreateOrderUseCase(final ProductRepository productRepository, final OrderRepository orderRepository) {
+    private final InventoryService inventoryService;
+    private final InventoryProperties inventoryProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSuggestionIndex productSuggestionIndex;
+
+    public CreateOrderUseCase(
+            final ProductRepository productRepository,
+            final OrderRepository orderRepository,
+            final InventoryService inventoryService,
+            final InventoryProperties inventoryProperties,
+            final TransactionTemplate transactionTemplate,
+            final ProductSuggestionIndex productSuggestionIndex) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
+        this.inventoryService = inventoryService;
+        this.inventoryProperties = inventoryProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.productSuggestionIndex = productSuggestionIndex;
     }
 
-    @Transactional
     public OrderModel execute(OrderRequestDTO orderRequestDTO) {
-        List<OrderItem> orderItemList = orderRequestDTO
-                .getItems()
-                .stream()
-                .map(orderItemDTO -> {
-                    Product productExists = this.getProductById(orderItemDTO.getProductId());
-                    Long productStockQuantity = productExists.getStockQuantity();
-                    Long orderItemDTOQuantity = orderItemDTO.getQuantity();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> this.createOrder(orderRequestDTO));
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException exception) {
+                if (attempt >= inventoryProperties.getOptimisticMaxAttempts()) {
+                    throw new HttpConflictException(OrderExceptionMessageUtils.ORDER_STOCK_CONFLICT);
+                }
+            }
+        }
+    }
 
-                    if(productStockQuantity == 0) {
-                        throw new HttpBadRequestException(OrderExceptionMessageUtils.PRODUCT_OUT_OF_STOCK);
-                    }
+    private OrderModel createOrder(OrderRequestDTO orderRequestDTO) {
+        Map<UUID, Long> requestedQuantities = this.getRequestedQuantitiesByProductId(orderRequestDTO);
+        Map<UUID, Product> products = this.getProductsById(requestedQuantities.keySet());
 
-                    if(orderItemDTOQuantity > productStockQuantity) {
-                        throw new HttpBadRequestException(OrderExceptionMessageUtils.PRODUCT_DONT_HAVE_SUFFICIENT_STOCK);
-                    }
+        this.decrementStock(products.values(), requestedQuantities);
 
-                    productExists.setStockQuantity(productStockQuantity - orderItemDTOQuantity);
+        // The loaded products may come from the cache, so the prices charged are read again from the
+        // rows the reservation just locked.
+        Map<UUID, BigDecimal> prices = productRepository.lockPrices(requestedQuantities.keySet());
 
-                    productRepository.save(productExists);
+        List<OrderItem> orderItemList = orderRequestDTO
+                .getItems()
+                .stream()
+                .map(orderItemDTO -> {
+                    Product product = products.get(UUID.fromString(orderItemDTO.getProductId()));
 
                     return OrderItem
                             .builder()
-                            .product(productExists)
+                            .product(product)
                             .quantity(orderItemDTO.getQuantity())
-                            .unitPrice(productExists.getPrice())
+                            .unitPrice(prices.get(product.getId()))
                             .build();
                 })
                 .toList();
@@ -74,14 +98,62 @@ public class CreateOrderUseCase {
             order.getOrderItems().add(item);
         });
 
-        return orderRepository.save(order);
+        OrderModel createdOrder = orderRepository.save(order);
+        productSuggestionIndex.recordSales(requestedQuantities);
+
+        return createdOrder;
     }
 
-    private Product getProductById (String productId) {
-        UUID id = UUID.fromString(productId);
+    private Map<UUID, Long> getRequestedQuantitiesByProductId(OrderRequestDTO orderRequestDTO) {
+        Map<UUID, Long> requestedQuantities = new LinkedHashMap<>();
+
+        orderRequestDTO.getItems().forEach(orderItemDTO ->
+                requestedQuantities.merge(
+                        UUID.fromString(orderItemDTO.getProductId()),
+                        orderItemDTO.getQuantity(),
+                        Long::sum));
+
+        return requestedQuantities;
+    }
+
+    private Map<UUID, Product> getProductsById(Set<UUID> productIds) {
+        Map<UUID, Product> products = productRepository.findAllByIdCached(productIds);
+
+        Map<String, String> productsNotFound = new LinkedHashMap<>();
+
+        productIds.stream()
+                .filter(productId -> !products.containsKey(productId))
+                .forEach(productId -> productsNotFound.put(
+                        productId.toString(),
+                        ProductExceptionMessageUtils.PRODUCT_NOT_FOUND));
+
+        if(!productsNotFound.isEmpty()) {
+            throw new HttpNotFoundException(ProductExceptionMessageUtils.PRODUCT_NOT_FOUND, productsNotFound);
+        }
+
+        return products;
+    }
+
+    private void decrementStock(Collection<Product> products, Map<UUID, Long> requestedQuantities) {
+        Map<UUID, Long> unavailableStock = inventoryService.reserve(products, requestedQuantities);
+
+        if(unavailableStock.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> stockErrors = new LinkedHashMap<>();
+
+        unavailableStock.forEach((productId, stockQuantity) -> stockErrors.put(
+                productId.toString(),
+                stockQuantity == 0
+                        ? OrderExceptionMessageUtils.PRODUCT_OUT_OF_STOCK
+                        : OrderExceptionMessageUtils.PRODUCT_DONT_HAVE_SUFFICIENT_STOCK));
+
+        String message = stockErrors.containsValue(OrderExceptionMessageUtils.PRODUCT_DONT_HAVE_SUFFICIENT_STOCK)
+                ? OrderExceptionMessageUtils.PRODUCT_DONT_HAVE_SUFFICIENT_STOCK
+                : OrderExceptionMessageUtils.PRODUCT_OUT_OF_STOCK;
 
-        return productRepository.findById(id).orElseThrow(() ->
-                new HttpNotFoundException(ProductExceptionMessageUtils.PRODUCT_NOT_FOUND));
+        throw new HttpBadRequestException(message, stockErrors);
     }
 
 }
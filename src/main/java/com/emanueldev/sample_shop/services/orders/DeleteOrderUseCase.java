@@ -6,44 +6,58 @@ import com.emanueldev.sample_shop.models.OrderModel;
 import com.emanueldev.sample_shop.models.OrderStatus;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.OrderRepository;
-import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.InventoryService;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
 import com.emanueldev.sample_shop.utils.OrderExceptionMessageUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class DeleteOrderUseCase {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
+    private final InventoryService inventoryService;
+    private final ProductSuggestionIndex productSuggestionIndex;
 
     public DeleteOrderUseCase(
             final OrderRepository orderRepository,
-            final ProductRepository productRepository) {
+            final InventoryService inventoryService,
+            final ProductSuggestionIndex productSuggestionIndex) {
         this.orderRepository = orderRepository;
-        this.productRepository = productRepository;
+        this.inventoryService = inventoryService;
+        this.productSuggestionIndex = productSuggestionIndex;
 
     }
 
     @Transactional
     public void execute(UUID id) {
         OrderModel order = orderRepository
-                .findById(id)
+                .findWithDetailsById(id)
                 .orElseThrow(() -> new HttpNotFoundException(OrderExceptionMessageUtils.ORDER_NOT_FOUND));
 
-        if(order.getOrderStatus().equals(OrderStatus.CANCELLED)) {
+        // The status change is the guard: of two concurrent cancellations only one updates the row, so
+        // the stock and the sales of the order are given back once.
+        if(order.getOrderStatus().equals(OrderStatus.CANCELLED)
+                || orderRepository.updateStatusIfDifferent(id, OrderStatus.CANCELLED) == 0) {
             throw new HttpBadRequestException(OrderExceptionMessageUtils.ORDER_ALREADY_CANCELLED);
         }
 
+        Map<UUID, Long> releasedQuantities = new LinkedHashMap<>();
+        Map<UUID, Product> products = new LinkedHashMap<>();
+
         order.getOrderItems().forEach(item -> {
-            Product product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
-            productRepository.save(product);
+            releasedQuantities.merge(item.getProduct().getId(), item.getQuantity(), Long::sum);
+            products.putIfAbsent(item.getProduct().getId(), item.getProduct());
         });
 
-        order.setOrderStatus(OrderStatus.CANCELLED);
-        orderRepository.save(order);
+        inventoryService.release(products.values(), releasedQuantities);
+
+        Map<UUID, Long> returnedSales = new LinkedHashMap<>();
+        releasedQuantities.forEach((productId, quantity) -> returnedSales.put(productId, -quantity));
+        productSuggestionIndex.recordSales(returnedSales);
     }
 }
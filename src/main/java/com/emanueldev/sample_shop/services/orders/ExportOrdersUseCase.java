@@ -0,0 +1,60 @@
+package com.emanueldev.sample_shop.services.orders;
+
+import com.emanueldev.sample_shop.config.ExportProperties;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import com.emanueldev.sample_shop.repositories.projections.OrderExportRow;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
+import com.emanueldev.sample_shop.services.exporting.ExportWriter;
+import com.emanueldev.sample_shop.utils.ExportExceptionMessageUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class ExportOrdersUseCase {
+
+    private static final List<String> COLUMNS = List.of(
+            "orderId", "orderDate", "orderStatus", "totalValue", "paymentStatus",
+            "productId", "productName", "quantity", "unitPrice");
+
+    private final OrderRepository orderRepository;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
+
+    public ExportOrdersUseCase(
+            OrderRepository orderRepository,
+            ExportProperties exportProperties,
+            ObjectMapper objectMapper
+    ) {
+        this.orderRepository = orderRepository;
+        this.exportProperties = exportProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long execute(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream outputStream) throws IOException {
+        if (!from.isBefore(to)) {
+            throw new HttpBadRequestException(ExportExceptionMessageUtils.INVALID_EXPORT_DATE_RANGE);
+        }
+
+        try (Stream<OrderExportRow> rows = orderRepository.streamItemsForExport(from, to, exportProperties.getFetchSize());
+             ExportWriter writer = new ExportWriter(format, COLUMNS, outputStream, objectMapper)) {
+
+            for (Iterator<OrderExportRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                OrderExportRow row = iterator.next();
+                writer.writeRow(row.orderId(), row.orderDate(), row.orderStatus(), row.totalValue(), row.paymentStatus(),
+                        row.productId(), row.productName(), row.quantity(), row.unitPrice());
+            }
+
+            return writer.getRows();
+        }
+    }
+}
@@ -19,10 +19,10 @@ public class GetOrderByIdUseCase {
         this.orderRepository = orderRepository;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public OrderModel execute(UUID id) {
         return orderRepository
-                .findById(id)
+                .findWithDetailsById(id)
                 .orElseThrow(() -> new HttpNotFoundException(OrderExceptionMessageUtils.ORDER_NOT_FOUND));
     }
 
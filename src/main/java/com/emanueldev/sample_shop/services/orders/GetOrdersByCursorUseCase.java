@@ -0,0 +1,39 @@
+package com.emanueldev.sample_shop.services.orders;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class GetOrdersByCursorUseCase {
+
+    private final OrderRepository orderRepository;
+
+    public GetOrdersByCursorUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderModel> execute(String cursor, Integer pageSize) {
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<UUID> orderIds = cursor == null
+                ? orderRepository.findFirstIds(limit)
+                : this.findIdsAfter(KeysetCursor.decode(cursor), limit);
+
+        List<OrderModel> orders = orderRepository.findAllWithDetailsInOrder(orderIds);
+
+        return CursorPage.of(orders, pageSize, order -> new KeysetCursor(order.getOrderDate(), order.getId()));
+    }
+
+    private List<UUID> findIdsAfter(KeysetCursor cursor, Limit limit) {
+        return orderRepository.findIdsAfter(cursor.timestamp(), cursor.id(), limit);
+    }
+}
@@ -2,12 +2,13 @@ package com.emanueldev.sample_shop.services.orders;
 
 import com.emanueldev.sample_shop.models.OrderModel;
 import com.emanueldev.sample_shop.repositories.OrderRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.UUID;
+
 @Service
 public class GetOrdersUseCase {
 
@@ -19,8 +20,11 @@ public class GetOrdersUseCase {
 
     @Transactional(readOnly = true)
     public Page<OrderModel> execute(Integer pageNumber, Integer pageSize) {
-        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by("orderDate", "id"));
+
+        Page<UUID> orderIdPage = orderRepository.findAllIds(pageable);
+        List<OrderModel> orders = orderRepository.findAllWithDetailsInOrder(orderIdPage.getContent());
 
-        return orderRepository.findAll(pageable);
+        return new PageImpl<>(orders, pageable, orderIdPage.getTotalElements());
     }
 }
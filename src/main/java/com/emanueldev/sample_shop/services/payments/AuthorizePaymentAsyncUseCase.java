@@ -0,0 +1,83 @@
+package com.emanueldev.sample_shop.services.payments;
+
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
+import com.emanueldev.sample_shop.utils.PaymentExceptionMessageUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+@Service
+public class AuthorizePaymentAsyncUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorizePaymentAsyncUseCase.class);
+
+    private final UpdatePaymentUseCase updatePaymentUseCase;
+    private final PaymentStatusStream paymentStatusStream;
+    private final ThreadPoolExecutor executor;
+
+    public AuthorizePaymentAsyncUseCase(
+            UpdatePaymentUseCase updatePaymentUseCase,
+            PaymentStatusStream paymentStatusStream,
+            PaymentProperties paymentProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.updatePaymentUseCase = updatePaymentUseCase;
+        this.paymentStatusStream = paymentStatusStream;
+        this.executor = new ThreadPoolExecutor(
+                paymentProperties.getAsyncWorkers(),
+                paymentProperties.getAsyncWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(paymentProperties.getAsyncQueueCapacity()),
+                new CustomizableThreadFactory("payment-authorizer-"));
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "payment.authorization");
+    }
+
+    // The claim happens on the request thread so not found, already paid and in progress
+    // are still reported synchronously; only the provider round trip is queued.
+    public void execute(UUID id) {
+        LocalDateTime claimedAt = updatePaymentUseCase.claim(id);
+
+        try {
+            executor.execute(() -> this.complete(id, claimedAt));
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            HttpServiceUnavailableException exception =
+                    new HttpServiceUnavailableException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_QUEUE_FULL);
+
+            try {
+                updatePaymentUseCase.release(id, claimedAt);
+            } catch (RuntimeException releaseException) {
+                exception.addSuppressed(releaseException);
+            }
+
+            throw exception;
+        }
+    }
+
+    private void complete(UUID id, LocalDateTime claimedAt) {
+        try {
+            updatePaymentUseCase.complete(id, claimedAt);
+        } catch (HttpServiceUnavailableException ignored) {
+            // The claim was already released and subscribers were told the payment is pending again.
+        } catch (RuntimeException exception) {
+            log.error("Could not complete authorization of payment {}", id, exception);
+            paymentStatusStream.complete(id);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
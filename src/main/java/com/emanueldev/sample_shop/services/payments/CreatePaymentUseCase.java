@@ -45,8 +45,6 @@ public class CreatePaymentUseCase {
 
         Payment payment = Payment
                 .builder()
-                .order(order)
-
                 .amount(order.getTotalValue())
                 .paymentDate(LocalDateTime.now())
                 .paymentStatus(PaymentStatus.PENDING)
@@ -0,0 +1,36 @@
+package com.emanueldev.sample_shop.services.payments;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class GetPaymentsByCursorUseCase {
+
+    private final PaymentRepository paymentRepository;
+
+    public GetPaymentsByCursorUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Payment> execute(String cursor, Integer pageSize) {
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Payment> payments = cursor == null
+                ? paymentRepository.findAllByOrderByCreatedAtAscIdAsc(limit)
+                : this.findAfter(KeysetCursor.decode(cursor), limit);
+
+        return CursorPage.of(payments, pageSize, payment -> new KeysetCursor(payment.getCreatedAt(), payment.getId()));
+    }
+
+    private List<Payment> findAfter(KeysetCursor cursor, Limit limit) {
+        return paymentRepository.findAllAfter(cursor.timestamp(), cursor.id(), limit);
+    }
+}
@@ -0,0 +1,155 @@
+package com.emanueldev.sample_shop.services.payments;
+
+import com.emanueldev.sample_shop.clients.ResilientPaymentClient;
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.AuthorizerResponseDTO;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
+import com.emanueldev.sample_shop.utils.PaymentExceptionMessageUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class PaymentAuthorizationCoalescer {
+
+    private final ResilientPaymentClient paymentClient;
+    private final boolean enabled;
+    private final Duration window;
+    private final Duration followerTimeout;
+    private final AtomicReference<Flight> inFlight = new AtomicReference<>();
+    private final Counter leaderRequests;
+    private final Counter followerRequests;
+    private final DistributionSummary callersPerUpstreamCall;
+
+    public PaymentAuthorizationCoalescer(
+            ResilientPaymentClient paymentClient,
+            PaymentProperties paymentProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentClient = paymentClient;
+        this.enabled = paymentProperties.getAuthorizer().isCoalescingEnabled();
+        this.window = paymentProperties.getAuthorizer().getCoalescingWindow();
+        this.followerTimeout = followerTimeout(paymentProperties.getAuthorizer());
+        this.leaderRequests = meterRegistry.counter("payment.authorizer.coalescing.requests", "role", "leader");
+        this.followerRequests = meterRegistry.counter("payment.authorizer.coalescing.requests", "role", "follower");
+        this.callersPerUpstreamCall = DistributionSummary
+                .builder("payment.authorizer.coalescing.callers")
+                .register(meterRegistry);
+
+        Gauge.builder("payment.authorizer.coalescing.ratio", this, PaymentAuthorizationCoalescer::getCoalescingRatio)
+                .register(meterRegistry);
+    }
+
+    // The authorizer takes no per-payment input, so every caller arriving while a call is in
+    // flight (or within the window before it starts) shares that call's answer or failure.
+    public ResponseEntity<AuthorizerResponseDTO> validatePaymentAuthorization() {
+        if (!enabled) {
+            return paymentClient.validatePaymentAuthorization();
+        }
+
+        Flight flight = new Flight();
+        Flight current = inFlight.compareAndExchange(null, flight);
+
+        if (current != null) {
+            followerRequests.increment();
+            current.callers.incrementAndGet();
+            return current.await(followerTimeout);
+        }
+
+        leaderRequests.increment();
+        ResponseEntity<AuthorizerResponseDTO> response;
+
+        try {
+            this.waitForFollowers();
+            response = paymentClient.validatePaymentAuthorization();
+        } catch (Throwable throwable) {
+            this.land(flight);
+            flight.result.completeExceptionally(throwable);
+            throw throwable;
+        }
+
+        this.land(flight);
+        flight.result.complete(response);
+        return response;
+    }
+
+    public double getCoalescingRatio() {
+        double requests = leaderRequests.count() + followerRequests.count();
+
+        return requests == 0 ? 0 : followerRequests.count() / requests;
+    }
+
+    // Cleared before the result is handed out, so a caller arriving afterwards starts a new call
+    // instead of getting an answer that was fetched before it asked.
+    private void land(Flight flight) {
+        inFlight.set(null);
+        callersPerUpstreamCall.record(flight.callers.get());
+    }
+
+    // Holds the leader's request thread for the whole window on every upstream call, which adds
+    // the window to its latency; keep it to a few milliseconds, zero does not wait at all.
+    private void waitForFollowers() {
+        if (window.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(window.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The longest the leader's call can take: the window, then every attempt at its full connect,
+    // read and bulkhead wait with the longest backoff in between.
+    private static Duration followerTimeout(PaymentProperties.Authorizer authorizer) {
+        Duration attempt = authorizer.getConnectTimeout()
+                .plus(authorizer.getReadTimeout())
+                .plus(authorizer.getMaxWaitDuration());
+        Duration timeout = authorizer.getCoalescingWindow().plus(attempt.multipliedBy(authorizer.getRetryMaxAttempts()));
+        double backoffMillis = authorizer.getRetryInitialBackoff().toMillis() * (1 + authorizer.getRetryJitter());
+
+        for (int retry = 1; retry < authorizer.getRetryMaxAttempts(); retry++) {
+            timeout = timeout.plusMillis((long) Math.ceil(backoffMillis));
+            backoffMillis *= authorizer.getRetryBackoffMultiplier();
+        }
+
+        return timeout;
+    }
+
+    private static class Flight {
+
+        private final CompletableFuture<ResponseEntity<AuthorizerResponseDTO>> result = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+
+        private ResponseEntity<AuthorizerResponseDTO> await(Duration timeout) {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException executionException) {
+                if (executionException.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (executionException.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(executionException.getCause());
+            } catch (TimeoutException timeoutException) {
+                throw new HttpServiceUnavailableException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZER_UNAVAILABLE);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new HttpServiceUnavailableException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZER_UNAVAILABLE);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.emanueldev.sample_shop.services.payments;
+
+import com.emanueldev.sample_shop.cache.EntityChangeListener;
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.PaymentStatusEventDTO;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Subscribers are held by the node that accepted the stream. Status changes made on this node are
+// published directly and those made on other nodes arrive through the entity change log.
+@Component
+public class PaymentStatusStream implements EntityChangeListener {
+
+    public static final String EVENT_NAME = "payment-status";
+
+    private final Map<UUID, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final PaymentProperties paymentProperties;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentStatusStream(
+            PaymentProperties paymentProperties,
+            PaymentRepository paymentRepository,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.paymentProperties = paymentProperties;
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // The emitter is registered before the current status is loaded, so a change committed in
+    // between is published to it rather than lost; clients may see the same status twice.
+    public SseEmitter subscribe(UUID paymentId, Supplier<PaymentStatus> currentStatus) {
+        SseEmitter emitter = new SseEmitter(paymentProperties.getStatusStreamTimeout().toMillis());
+
+        subscribers.computeIfAbsent(paymentId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> this.unsubscribe(paymentId, emitter));
+        emitter.onTimeout(() -> this.unsubscribe(paymentId, emitter));
+        emitter.onError(error -> this.unsubscribe(paymentId, emitter));
+
+        PaymentStatus status;
+
+        try {
+            status = currentStatus.get();
+        } catch (RuntimeException exception) {
+            this.unsubscribe(paymentId, emitter);
+            throw exception;
+        }
+
+        this.send(paymentId, emitter, status, status == PaymentStatus.PAID || status == PaymentStatus.FAILED);
+
+        return emitter;
+    }
+
+    public void publish(UUID paymentId, PaymentStatus status) {
+        Set<SseEmitter> emitters = subscribers.get(paymentId);
+
+        if (emitters == null) {
+            return;
+        }
+
+        emitters.forEach(emitter -> this.send(paymentId, emitter, status, status != PaymentStatus.AUTHORIZING));
+    }
+
+    // The change log only says which payments changed, so the status is read back for the ones with
+    // subscribers here.
+    @Override
+    public void onChange(Class<?> entityType, Collection<UUID> ids) {
+        if (entityType != Payment.class) {
+            return;
+        }
+
+        List<UUID> subscribedIds = ids.stream().distinct().filter(subscribers::containsKey).toList();
+
+        if (subscribedIds.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate
+                .execute(status -> paymentRepository.findAllById(subscribedIds))
+                .forEach(payment -> this.publish(payment.getId(), payment.getPaymentStatus()));
+    }
+
+    // Ends every stream of the payment without a status, for when the outcome of an authorization
+    // is unknown; clients that reconnect are sent the status stored at that point.
+    public void complete(UUID paymentId) {
+        Set<SseEmitter> emitters = subscribers.remove(paymentId);
+
+        if (emitters != null) {
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    public int getSubscriberCount(UUID paymentId) {
+        Set<SseEmitter> emitters = subscribers.get(paymentId);
+
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    private void send(UUID paymentId, SseEmitter emitter, PaymentStatus status, boolean complete) {
+        try {
+            emitter.send(SseEmitter
+                    .event()
+                    .name(EVENT_NAME)
+                    .data(new PaymentStatusEventDTO(paymentId, status)));
+
+            if (complete) {
+                this.unsubscribe(paymentId, emitter);
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException exception) {
+            this.unsubscribe(paymentId, emitter);
+            emitter.completeWithError(exception);
+        }
+    }
+
+    private void unsubscribe(UUID paymentId, SseEmitter emitter) {
+        subscribers.computeIfPresent(paymentId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,41 +1,93 @@
 package com.emanueldev.sample_shop.services.payments;
 
-import com.emanueldev.sample_shop.clients.PaymentClient;
-import com.emanueldev.sample_shop.domain.payments.dtos.response.AuthorizerResponseDTO;
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.config.PaymentProperties;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
-import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
 import com.emanueldev.sample_shop.models.Payment;
-import com.emanueldev.sample_shop.repositories.OrderRepository;
 import com.emanueldev.sample_shop.repositories.PaymentRepository;
 import com.emanueldev.sample_shop.utils.PaymentExceptionMessageUtils;
 import com.emanueldev.sample_shop.utils.PaymentStatus;
 import feign.FeignException;
-import org.springframework.http.ResponseEntity;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class UpdatePaymentUseCase {
 
     private final PaymentRepository paymentRepository;
-    private final OrderRepository orderRepository;
-    private final PaymentClient paymentClient;
+    private final PaymentAuthorizationCoalescer paymentClient;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentProperties paymentProperties;
+    private final MeterRegistry meterRegistry;
+    private final PaymentStatusStream paymentStatusStream;
+    private final EntityChangeLog entityChangeLog;
 
     public UpdatePaymentUseCase(
             PaymentRepository paymentRepository,
-            PaymentClient paymentClient,
-            OrderRepository orderRepository
+            PaymentAuthorizationCoalescer paymentClient,
+            TransactionTemplate transactionTemplate,
+            PaymentProperties paymentProperties,
+            MeterRegistry meterRegistry,
+            PaymentStatusStream paymentStatusStream,
+            EntityChangeLog entityChangeLog
     ) {
         this.paymentRepository = paymentRepository;
         this.paymentClient = paymentClient;
-        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.paymentProperties = paymentProperties;
+        this.meterRegistry = meterRegistry;
+        this.paymentStatusStream = paymentStatusStream;
+        this.entityChangeLog = entityChangeLog;
     }
 
-    @Transactional
+    // The authorizer call runs between two short transactions so a slow provider never holds
+    // a pooled connection or the payment row lock.
     public void execute(UUID id) {
+        LocalDateTime claimedAt = this.claim(id);
+
+        if (this.complete(id, claimedAt) == PaymentStatus.FAILED) {
+            throw new HttpBadRequestException(PaymentExceptionMessageUtils.PAYMENT_NOT_AUTHORIZED);
+        }
+    }
+
+    // The claim is stamped on updated_at and returned, so completing or releasing it only changes
+    // the payment while that same claim holds it, not after a stale claim was taken over.
+    public LocalDateTime claim(UUID id) {
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        transactionTemplate.executeWithoutResult(status -> this.startAuthorization(id, claimedAt));
+        paymentStatusStream.publish(id, PaymentStatus.AUTHORIZING);
+
+        return claimedAt;
+    }
+
+    public PaymentStatus complete(UUID id, LocalDateTime claimedAt) {
+        PaymentStatus paymentStatus = this.authorize(id, claimedAt);
+
+        transactionTemplate.executeWithoutResult(status -> this.finishAuthorization(id, claimedAt, paymentStatus));
+        paymentStatusStream.publish(id, paymentStatus);
+
+        return paymentStatus;
+    }
+
+    public void release(UUID id, LocalDateTime claimedAt) {
+        transactionTemplate.executeWithoutResult(status -> this.finishAuthorization(id, claimedAt, PaymentStatus.PENDING));
+        paymentStatusStream.publish(id, PaymentStatus.PENDING);
+    }
+
+    private void startAuthorization(UUID id, LocalDateTime claimedAt) {
         Payment payment = paymentRepository
                 .findById(id)
                 .orElseThrow(() ->
@@ -45,21 +97,75 @@ public class UpdatePaymentUseCase {
             throw new HttpBadRequestException(PaymentExceptionMessageUtils.PAYMENT_ALREADY_CREATED);
         }
 
-        try {
-            ResponseEntity<AuthorizerResponseDTO> authorizerResponseDTO = paymentClient.validatePaymentAuthorization();
+        int claimedPayments = paymentRepository.claimStatus(
+                id,
+                PaymentStatus.AUTHORIZING,
+                List.of(PaymentStatus.PENDING, PaymentStatus.FAILED),
+                claimedAt,
+                claimedAt.minus(paymentProperties.getAuthorizingStaleAfter()));
+
+        if (claimedPayments == 0) {
+            throw new HttpConflictException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_IN_PROGRESS);
+        }
 
+        entityChangeLog.recordInPlace(Payment.class, List.of(id));
+    }
+
+    private PaymentStatus authorize(UUID id, LocalDateTime claimedAt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "authorized";
+
+        try {
+            paymentClient.validatePaymentAuthorization();
+            return PaymentStatus.PAID;
         } catch (FeignException feignException) {
             if(feignException.status() == 403) {
-                payment.setPaymentStatus(PaymentStatus.FAILED);
-                paymentRepository.save(payment);
-                throw new HttpBadRequestException(PaymentExceptionMessageUtils.PAYMENT_NOT_AUTHORIZED);
+                outcome = "declined";
+                return PaymentStatus.FAILED;
             }
+
+            outcome = "error";
+            throw this.releaseAuthorization(id, claimedAt, this.authorizerUnavailable());
+        } catch (CallNotPermittedException | BulkheadFullException rejection) {
+            outcome = "rejected";
+            throw this.releaseAuthorization(id, claimedAt, this.authorizerUnavailable());
+        } catch (RuntimeException exception) {
+            // Whatever else went wrong the outcome is unknown, so the claim is given back instead of
+            // leaving the payment AUTHORIZING until it goes stale.
+            outcome = "error";
+            throw this.releaseAuthorization(id, claimedAt, exception);
+        } finally {
+            sample.stop(meterRegistry.timer("payment.authorizer.requests", "outcome", outcome));
+        }
+    }
+
+    // A failed release is attached to the error being reported instead of replacing it.
+    private <T extends RuntimeException> T releaseAuthorization(UUID id, LocalDateTime claimedAt, T exception) {
+        try {
+            this.release(id, claimedAt);
+        } catch (RuntimeException releaseException) {
+            exception.addSuppressed(releaseException);
+        }
+
+        return exception;
+    }
+
+    private HttpServiceUnavailableException authorizerUnavailable() {
+        return new HttpServiceUnavailableException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZER_UNAVAILABLE);
+    }
+
+    private void finishAuthorization(UUID id, LocalDateTime claimedAt, PaymentStatus paymentStatus) {
+        int updatedPayments = paymentRepository.updateStatus(
+                id,
+                PaymentStatus.AUTHORIZING,
+                claimedAt,
+                paymentStatus,
+                LocalDateTime.now());
+
+        if (updatedPayments == 0) {
+            throw new HttpConflictException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_IN_PROGRESS);
         }
-        payment.setPaymentStatus(PaymentStatus.PAID);
-        OrderModel order = payment.getOrder();
-        order.setPayment(payment);
 
-        paymentRepository.save(payment);
-        orderRepository.save(order);
+        entityChangeLog.recordInPlace(Payment.class, List.of(id));
     }
 }
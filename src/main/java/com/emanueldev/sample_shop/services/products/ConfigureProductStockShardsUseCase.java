@@ -0,0 +1,48 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class ConfigureProductStockShardsUseCase {
+
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+    private final EntityChangeLog entityChangeLog;
+
+    public ConfigureProductStockShardsUseCase(
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService,
+            EntityChangeLog entityChangeLog
+    ) {
+        this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+        this.entityChangeLog = entityChangeLog;
+    }
+
+    @Transactional
+    public Product execute(UUID id, Integer shards) {
+        productRepository.lockStockQuantities(List.of(id));
+
+        Product product = this.productRepository
+                .findById(id)
+                .orElseThrow(() ->
+                        new HttpNotFoundException(
+                                ProductExceptionMessageUtils.PRODUCT_NOT_FOUND)
+                );
+
+        shardedStockService.configure(product, shards);
+        entityChangeLog.recordInPlace(Product.class, List.of(id));
+
+        return product;
+    }
+}
@@ -1,23 +1,45 @@
 package com.emanueldev.sample_shop.services.products;
 
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
 import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class CreateProductUseCase {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final EntityChangeLog entityChangeLog;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFilterIndex productFilterIndex;
 
-    public CreateProductUseCase(ProductRepository productRepository, ProductMapper productMapper) {
+    public CreateProductUseCase(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            EntityChangeLog entityChangeLog,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggestionIndex productSuggestionIndex,
+            ProductFilterIndex productFilterIndex
+    ) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.entityChangeLog = entityChangeLog;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestionIndex = productSuggestionIndex;
+        this.productFilterIndex = productFilterIndex;
     }
 
     @Transactional
@@ -34,7 +56,22 @@ public class CreateProductUseCase {
         Product productToCreate = productMapper
                 .mappingFromProductRequestToProductEntity(data);
 
-        return productRepository.save(productToCreate);
+        Product createdProduct;
+
+        // The name is the only unique key a new product can break, so losing a race for it against
+        // a concurrent write ends like the check above.
+        try {
+            createdProduct = productRepository.saveAndFlush(productToCreate);
+        } catch (DataIntegrityViolationException exception) {
+            throw new HttpBadRequestException(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS);
+        }
+
+        entityChangeLog.record(Product.class, List.of(createdProduct.getId()));
+        productSearchIndex.index(List.of(createdProduct));
+        productSuggestionIndex.index(List.of(createdProduct));
+        productFilterIndex.index(List.of(createdProduct));
+
+        return createdProduct;
     }
 
 
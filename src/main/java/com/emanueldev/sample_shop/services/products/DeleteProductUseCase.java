@@ -1,23 +1,44 @@
 package com.emanueldev.sample_shop.services.products;
 
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class DeleteProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+    private final EntityChangeLog entityChangeLog;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFilterIndex productFilterIndex;
 
     public DeleteProductUseCase(
-            ProductRepository productRepository
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService,
+            EntityChangeLog entityChangeLog,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggestionIndex productSuggestionIndex,
+            ProductFilterIndex productFilterIndex
     ){
         this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+        this.entityChangeLog = entityChangeLog;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestionIndex = productSuggestionIndex;
+        this.productFilterIndex = productFilterIndex;
     }
 
     @Transactional
@@ -29,6 +50,11 @@ public class DeleteProductUseCase {
                             ProductExceptionMessageUtils.PRODUCT_NOT_FOUND)
                 );
 
+        shardedStockService.deleteShards(product);
         productRepository.delete(product);
+        entityChangeLog.record(Product.class, List.of(id));
+        productSearchIndex.remove(List.of(id));
+        productSuggestionIndex.remove(List.of(id));
+        productFilterIndex.remove(List.of(id));
     }
 }
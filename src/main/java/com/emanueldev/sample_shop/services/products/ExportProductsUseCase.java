@@ -0,0 +1,50 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.config.ExportProperties;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductExportRow;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
+import com.emanueldev.sample_shop.services.exporting.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class ExportProductsUseCase {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "description", "price", "stockQuantity", "createdAt");
+
+    private final ProductRepository productRepository;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
+
+    public ExportProductsUseCase(
+            ProductRepository productRepository,
+            ExportProperties exportProperties,
+            ObjectMapper objectMapper
+    ) {
+        this.productRepository = productRepository;
+        this.exportProperties = exportProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long execute(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<ProductExportRow> rows = productRepository.streamAllForExport(exportProperties.getFetchSize());
+             ExportWriter writer = new ExportWriter(format, COLUMNS, outputStream, objectMapper)) {
+
+            for (Iterator<ProductExportRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                ProductExportRow row = iterator.next();
+                writer.writeRow(row.id(), row.name(), row.description(), row.price(), row.stockQuantity(), row.createdAt());
+            }
+
+            return writer.getRows();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterHits;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterResult;
+import com.emanueldev.sample_shop.services.products.filter.ProductStockStatus;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+public class FilterProductsUseCase {
+
+    private final ProductFilterIndex productFilterIndex;
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+
+    public FilterProductsUseCase(
+            ProductFilterIndex productFilterIndex,
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService
+    ) {
+        this.productFilterIndex = productFilterIndex;
+        this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+    }
+
+    // The index only picks the ids of the page; products come from the second-level cache in
+    // creation order, skipping any deleted after the index was read.
+    @Transactional(readOnly = true)
+    public ProductFilterResult execute(
+            Collection<String> priceRanges,
+            Collection<ProductStockStatus> stockStatuses,
+            Integer pageNumber,
+            Integer pageSize
+    ) {
+        this.validatePriceRanges(priceRanges);
+
+        ProductFilterHits hits = productFilterIndex.filter(
+                Set.copyOf(priceRanges),
+                Set.copyOf(stockStatuses),
+                (long) pageNumber * pageSize,
+                pageSize);
+
+        List<Product> products = List.of();
+
+        if (!hits.ids().isEmpty()) {
+            Map<UUID, Product> productsById = productRepository.findAllByIdCached(hits.ids());
+
+            products = hits.ids()
+                    .stream()
+                    .map(productsById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            shardedStockService.applyStockQuantities(products);
+        }
+
+        return new ProductFilterResult(
+                new PageImpl<>(products, PageRequest.of(pageNumber, pageSize), hits.totalItems()),
+                hits.priceRanges(),
+                hits.stockStatuses());
+    }
+
+    private void validatePriceRanges(Collection<String> priceRanges) {
+        Map<String, String> unknownPriceRanges = new LinkedHashMap<>();
+
+        priceRanges.stream()
+                .filter(priceRange -> !productFilterIndex.priceRanges().contains(priceRange))
+                .forEach(priceRange -> unknownPriceRanges.put(
+                        priceRange,
+                        ProductExceptionMessageUtils.PRODUCT_FILTER_PRICE_RANGE_OPTIONS + String.join(", ", productFilterIndex.priceRanges())));
+
+        if (!unknownPriceRanges.isEmpty()) {
+            throw new HttpBadRequestException(ProductExceptionMessageUtils.PRODUCT_FILTER_INVALID_PRICE_RANGE, unknownPriceRanges);
+        }
+    }
+}
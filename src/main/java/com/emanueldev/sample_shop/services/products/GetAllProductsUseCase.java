@@ -2,6 +2,7 @@ package com.emanueldev.sample_shop.services.products;
 
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -11,15 +12,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetAllProductsUseCase {
 
     private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
 
-    public GetAllProductsUseCase(ProductRepository productRepository){
+    public GetAllProductsUseCase(
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService
+    ){
         this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
     }
 
     @Transactional(readOnly = true)
     public Page<Product> execute(Integer pageNumber, Integer size) {
-        return this.productRepository
+        Page<Product> productPage = this.productRepository
                 .findAll(PageRequest.of(pageNumber, size));
+
+        shardedStockService.applyStockQuantities(productPage.getContent());
+
+        return productPage;
     }
 
 }
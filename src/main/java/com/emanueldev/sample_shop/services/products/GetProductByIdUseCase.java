@@ -3,27 +3,38 @@ package com.emanueldev.sample_shop.services.products;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class GetProductByIdUseCase {
 
     private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
 
-    public GetProductByIdUseCase(ProductRepository productRepository){
+    public GetProductByIdUseCase(
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService
+    ){
         this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
     }
 
     @Transactional(readOnly = true)
     public Product execute(UUID id) {
-        return productRepository.findById(id)
+        Product product = productRepository.findById(id)
                 .orElseThrow(() ->
                         new HttpNotFoundException(
                                 ProductExceptionMessageUtils
                                         .PRODUCT_NOT_FOUND));
+
+        shardedStockService.applyStockQuantities(List.of(product));
+
+        return product;
     }
 }
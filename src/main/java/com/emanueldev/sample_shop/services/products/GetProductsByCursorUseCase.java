@@ -0,0 +1,47 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class GetProductsByCursorUseCase {
+
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+
+    public GetProductsByCursorUseCase(
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService
+    ) {
+        this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Product> execute(String cursor, Integer pageSize) {
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Product> products = cursor == null
+                ? productRepository.findAllByOrderByCreatedAtAscIdAsc(limit)
+                : this.findAfter(KeysetCursor.decode(cursor), limit);
+
+        CursorPage<Product> productPage = CursorPage.of(
+                products, pageSize, product -> new KeysetCursor(product.getCreatedAt(), product.getId()));
+
+        shardedStockService.applyStockQuantities(productPage.content());
+
+        return productPage;
+    }
+
+    private List<Product> findAfter(KeysetCursor cursor, Limit limit) {
+        return productRepository.findAllAfter(cursor.timestamp(), cursor.id(), limit);
+    }
+}
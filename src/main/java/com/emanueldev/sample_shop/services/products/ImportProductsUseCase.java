@@ -0,0 +1,227 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.config.ProductImportProperties;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportErrorDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportReportDTO;
+import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportReader;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportRow;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.*;
+
+@Service
+public class ImportProductsUseCase {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final EntityChangeLog entityChangeLog;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFilterIndex productFilterIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProductImportProperties productImportProperties;
+
+    public ImportProductsUseCase(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            EntityChangeLog entityChangeLog,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggestionIndex productSuggestionIndex,
+            ProductFilterIndex productFilterIndex,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ProductImportProperties productImportProperties
+    ) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.entityChangeLog = entityChangeLog;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestionIndex = productSuggestionIndex;
+        this.productFilterIndex = productFilterIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.productImportProperties = productImportProperties;
+    }
+
+    // Every chunk commits on its own, so rows imported before a failure stay imported and the heap
+    // only ever holds one chunk plus the capped error report.
+    public ProductImportReportDTO execute(InputStream content, ProductImportFormat format, Charset charset) throws IOException {
+        ProductImportReader reader = format.open(
+                new InputStreamReader(content, charset),
+                objectMapper.reader(),
+                productImportProperties.getMaxRowLength());
+
+        ProductImportReportDTO report = ProductImportReportDTO
+                .builder()
+                .errors(new ArrayList<>())
+                .build();
+
+        List<ProductImportRow> chunk = new ArrayList<>(productImportProperties.getChunkSize());
+        ProductImportRow row;
+
+        while ((row = reader.next()) != null) {
+            chunk.add(this.validate(row));
+
+            if (chunk.size() >= productImportProperties.getChunkSize()) {
+                this.importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            this.importChunk(chunk, report);
+        }
+
+        return report;
+    }
+
+    private ProductImportRow validate(ProductImportRow row) {
+        if (!row.isValid()) {
+            return row;
+        }
+
+        Set<ConstraintViolation<ProductRequestDTO>> violations = validator.validate(row.product());
+
+        if (violations.isEmpty()) {
+            return row;
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        return ProductImportRow.invalid(row.line(), ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_ROW, errors);
+    }
+
+    private void importChunk(List<ProductImportRow> chunk, ProductImportReportDTO report) {
+        List<ProductImportRow> importedRows = this.insert(chunk);
+
+        Set<Long> importedLines = new HashSet<>();
+        importedRows.forEach(importedRow -> importedLines.add(importedRow.line()));
+
+        for (ProductImportRow row : chunk) {
+            report.setTotal_rows(report.getTotal_rows() + 1);
+
+            if (importedLines.contains(row.line())) {
+                report.setImported_rows(report.getImported_rows() + 1);
+                continue;
+            }
+
+            report.setFailed_rows(report.getFailed_rows() + 1);
+
+            if (report.getErrors().size() >= productImportProperties.getMaxReportedErrors()) {
+                report.setErrors_truncated(true);
+                continue;
+            }
+
+            String message = row.isValid()
+                    ? ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS
+                    : row.message();
+
+            report.getErrors().add(ProductImportErrorDTO
+                    .builder()
+                    .line(row.line())
+                    .message(message)
+                    .errors(row.errors())
+                    .build());
+        }
+    }
+
+    // The unique name constraint is what keeps names unique; the lookup in insertChunk only keeps the
+    // names it finds out of the batch. A name taken by a concurrent write, or equal to another one only
+    // under the collation of the column, fails the whole batch, so the chunk is retried one row at a
+    // time and only the rows that clash are reported.
+    private List<ProductImportRow> insert(List<ProductImportRow> chunk) {
+        try {
+            return transactionTemplate.execute(status -> this.insertChunk(chunk));
+        } catch (ConstraintViolationException exception) {
+            List<ProductImportRow> importedRows = new ArrayList<>();
+
+            for (ProductImportRow row : chunk) {
+                if (!row.isValid()) {
+                    continue;
+                }
+
+                try {
+                    importedRows.addAll(transactionTemplate.execute(status -> this.insertChunk(List.of(row))));
+                } catch (ConstraintViolationException rowException) {
+                    // Reported as a repeated name along with the ones the lookup found.
+                }
+            }
+
+            return importedRows;
+        }
+    }
+
+    // Names already stored are looked up with one query per chunk, compared as written, and the inserts
+    // go out as a single JDBC batch without populating the second-level cache with rows nobody has read yet.
+    private List<ProductImportRow> insertChunk(List<ProductImportRow> chunk) {
+        List<String> names = chunk.stream()
+                .filter(ProductImportRow::isValid)
+                .map(row -> row.product().getName())
+                .distinct()
+                .toList();
+
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> usedNames = new HashSet<>(productRepository.findNamesIn(names));
+
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(productImportProperties.getChunkSize());
+        session.setCacheMode(CacheMode.IGNORE);
+
+        List<ProductImportRow> importedRows = new ArrayList<>();
+        List<Product> importedProducts = new ArrayList<>();
+
+        for (ProductImportRow row : chunk) {
+            if (!row.isValid() || !usedNames.add(row.product().getName())) {
+                continue;
+            }
+
+            Product product = productMapper.mappingFromProductRequestToProductEntity(row.product());
+            session.persist(product);
+
+            importedRows.add(row);
+            importedProducts.add(product);
+        }
+
+        session.flush();
+        session.clear();
+        entityChangeLog.record(Product.class, importedProducts.stream().map(Product::getId).toList());
+        productSearchIndex.index(importedProducts);
+        productSuggestionIndex.index(importedProducts);
+        productFilterIndex.index(importedProducts);
+
+        return importedRows;
+    }
+}
@@ -0,0 +1,41 @@
+package com.emanueldev.sample_shop.services.products;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+// How the in-memory product indexes (search, suggestions and filters) take writes. Changes made by
+// the use cases are applied once the surrounding transaction commits, so rolled back writes never
+// show up. Changes from other nodes are reloaded inside a read-write transaction, so they come from
+// the primary and not from a lagging replica. Rows carry the product version, and an index skips a
+// row older than the one it holds, so a late reload never goes back to a previous state.
+public final class ProductIndexUpdates {
+
+    private ProductIndexUpdates() {
+    }
+
+    public static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    public static void write(ReadWriteLock lock, Runnable change) {
+        lock.writeLock().lock();
+
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchHits;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class SearchProductsUseCase {
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final ShardedStockService shardedStockService;
+
+    public SearchProductsUseCase(
+            ProductSearchIndex productSearchIndex,
+            ProductRepository productRepository,
+            ShardedStockService shardedStockService
+    ) {
+        this.productSearchIndex = productSearchIndex;
+        this.productRepository = productRepository;
+        this.shardedStockService = shardedStockService;
+    }
+
+    // The index only ranks ids; products come from the second-level cache in ranking order,
+    // skipping any deleted after the index was read.
+    @Transactional(readOnly = true)
+    public ProductSearchResult execute(String query, Integer limit) {
+        ProductSearchHits hits = productSearchIndex.search(query, limit);
+
+        if (hits.ids().isEmpty()) {
+            return new ProductSearchResult(hits.totalHits(), List.of());
+        }
+
+        Map<UUID, Product> products = productRepository.findAllByIdCached(hits.ids());
+
+        List<Product> rankedProducts = hits.ids()
+                .stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        shardedStockService.applyStockQuantities(rankedProducts);
+
+        return new ProductSearchResult(hits.totalHits(), rankedProducts);
+    }
+}
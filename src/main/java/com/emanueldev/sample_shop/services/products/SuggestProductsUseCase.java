@@ -0,0 +1,28 @@
+package com.emanueldev.sample_shop.services.products;
+
+import com.emanueldev.sample_shop.config.ProductSuggestionProperties;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestion;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SuggestProductsUseCase {
+
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductSuggestionProperties productSuggestionProperties;
+
+    public SuggestProductsUseCase(
+            ProductSuggestionIndex productSuggestionIndex,
+            ProductSuggestionProperties productSuggestionProperties
+    ) {
+        this.productSuggestionIndex = productSuggestionIndex;
+        this.productSuggestionProperties = productSuggestionProperties;
+    }
+
+    // Served from memory only, since it runs on every keystroke of the search box.
+    public List<ProductSuggestion> execute(String prefix) {
+        return productSuggestionIndex.suggest(prefix, productSuggestionProperties.getMaxSuggestions());
+    }
+}
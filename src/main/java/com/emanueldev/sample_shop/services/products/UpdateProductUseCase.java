@@ -1,15 +1,22 @@
 package com.emanueldev.sample_shop.services.products;
 
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
 import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,13 +25,28 @@ public class UpdateProductUseCase {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ShardedStockService shardedStockService;
+    private final EntityChangeLog entityChangeLog;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFilterIndex productFilterIndex;
 
     public UpdateProductUseCase(
             ProductRepository productRepository,
-            ProductMapper productMapper
+            ProductMapper productMapper,
+            ShardedStockService shardedStockService,
+            EntityChangeLog entityChangeLog,
+            ProductSearchIndex productSearchIndex,
+            ProductSuggestionIndex productSuggestionIndex,
+            ProductFilterIndex productFilterIndex
     ){
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.shardedStockService = shardedStockService;
+        this.entityChangeLog = entityChangeLog;
+        this.productSearchIndex = productSearchIndex;
+        this.productSuggestionIndex = productSuggestionIndex;
+        this.productFilterIndex = productFilterIndex;
     }
 
     @Transactional
@@ -49,7 +71,22 @@ public class UpdateProductUseCase {
         }
 
         productMapper.mappingProductRequestDTOToExistentProductEntity(productRequestDTO, product);
+        shardedStockService.updateStockQuantity(product, productRequestDTO.getStockQuantity());
+        entityChangeLog.record(Product.class, List.of(id));
 
-        return productRepository.save(product);
+        Product updatedProduct;
+
+        // Same race on the unique name as in CreateProductUseCase.
+        try {
+            updatedProduct = productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException exception) {
+            throw new HttpBadRequestException(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS);
+        }
+
+        productSearchIndex.index(List.of(updatedProduct));
+        productSuggestionIndex.index(List.of(updatedProduct));
+        productFilterIndex.index(List.of(updatedProduct));
+
+        return updatedProduct;
     }
 }
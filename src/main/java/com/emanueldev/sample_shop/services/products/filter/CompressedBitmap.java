@@ -0,0 +1,577 @@
+package com.emanueldev.sample_shop.services.products.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Roaring style bitmap of non negative ints. Values are split by their high 16 bits into chunks of
+// 65536; a chunk with few values keeps them as a sorted array and a fuller one as 1024 words of bits,
+// so sparse and dense sets both stay small and intersections run a word or a value at a time.
+public final class CompressedBitmap {
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    public void add(int value) {
+        char key = (char) (value >>> 16);
+        char low = (char) value;
+        int position = this.position(key);
+
+        if (position < 0) {
+            position = -position - 1;
+            this.insert(position, key, new ArrayContainer(new char[]{low}, 1));
+            return;
+        }
+
+        containers[position] = container(position).add(low);
+    }
+
+    public void remove(int value) {
+        int position = this.position((char) (value >>> 16));
+
+        if (position < 0) {
+            return;
+        }
+
+        Container container = container(position).remove((char) value);
+
+        if (container == null) {
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(containers, position + 1, containers, position, size - position - 1);
+            containers[--size] = null;
+        } else {
+            containers[position] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        int position = this.position((char) (value >>> 16));
+        return position >= 0 && container(position).contains((char) value);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+
+        for (int i = 0; i < size; i++) {
+            cardinality += container(i).cardinality();
+        }
+
+        return cardinality;
+    }
+
+    public long sizeInBytes() {
+        long bytes = 2L * keys.length + 4L * containers.length;
+
+        for (int i = 0; i < size; i++) {
+            bytes += container(i).sizeInBytes();
+        }
+
+        return bytes;
+    }
+
+    public static CompressedBitmap and(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+        int l = 0;
+        int r = 0;
+
+        while (l < left.size && r < right.size) {
+            if (left.keys[l] < right.keys[r]) {
+                l++;
+            } else if (left.keys[l] > right.keys[r]) {
+                r++;
+            } else {
+                Container container = left.container(l).and(right.container(r));
+
+                if (container != null) {
+                    result.append(left.keys[l], container);
+                }
+
+                l++;
+                r++;
+            }
+        }
+
+        return result;
+    }
+
+    public static CompressedBitmap or(Collection<CompressedBitmap> bitmaps) {
+        CompressedBitmap result = new CompressedBitmap();
+
+        for (CompressedBitmap bitmap : bitmaps) {
+            result = or(result, bitmap);
+        }
+
+        return result;
+    }
+
+    public static CompressedBitmap or(CompressedBitmap left, CompressedBitmap right) {
+        CompressedBitmap result = new CompressedBitmap();
+        int l = 0;
+        int r = 0;
+
+        while (l < left.size || r < right.size) {
+            if (r == right.size || (l < left.size && left.keys[l] < right.keys[r])) {
+                result.append(left.keys[l], left.container(l).copy());
+                l++;
+            } else if (l == left.size || left.keys[l] > right.keys[r]) {
+                result.append(right.keys[r], right.container(r).copy());
+                r++;
+            } else {
+                result.append(left.keys[l], left.container(l).or(right.container(r)));
+                l++;
+                r++;
+            }
+        }
+
+        return result;
+    }
+
+    // Counts the intersection without building it, which is all a facet needs.
+    public long andCardinality(CompressedBitmap other) {
+        long cardinality = 0;
+        int l = 0;
+        int r = 0;
+
+        while (l < size && r < other.size) {
+            if (keys[l] < other.keys[r]) {
+                l++;
+            } else if (keys[l] > other.keys[r]) {
+                r++;
+            } else {
+                cardinality += container(l).andCardinality(other.container(r));
+                l++;
+                r++;
+            }
+        }
+
+        return cardinality;
+    }
+
+    // Up to limit values in ascending order after skipping the first skip ones; whole chunks are
+    // skipped by their cardinality, so a deep page costs no more than the first one.
+    public int[] select(long skip, int limit) {
+        int[] values = new int[limit];
+        int count = 0;
+        long remaining = skip;
+
+        for (int i = 0; i < size && count < limit; i++) {
+            Container container = container(i);
+            int cardinality = container.cardinality();
+
+            if (remaining >= cardinality) {
+                remaining -= cardinality;
+                continue;
+            }
+
+            count = container.select((int) remaining, (int) keys[i] << 16, values, count);
+            remaining = 0;
+        }
+
+        return count == limit ? values : Arrays.copyOf(values, count);
+    }
+
+    private Container container(int position) {
+        return containers[position];
+    }
+
+    private int position(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int position, char key, Container container) {
+        this.grow();
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(containers, position, containers, position + 1, size - position);
+        keys[position] = key;
+        containers[position] = container;
+        size++;
+    }
+
+    private void append(char key, Container container) {
+        this.grow();
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void grow() {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+    }
+
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        // Null once the last value is gone.
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract long sizeInBytes();
+
+        abstract Container copy();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract int select(int skip, int high, int[] values, int count);
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+
+            if (position >= 0) {
+                return this;
+            }
+
+            if (cardinality == ARRAY_LIMIT) {
+                return this.toBitmap().add(value);
+            }
+
+            position = -position - 1;
+
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, Math.max(4, cardinality + (cardinality >> 1))));
+            }
+
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+
+            if (position < 0) {
+                return this;
+            }
+
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinality--;
+            return cardinality == 0 ? null : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 2L * values.length + 16;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] kept = new char[cardinality];
+            int count = 0;
+
+            if (other instanceof BitmapContainer bitmap) {
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        kept[count++] = values[i];
+                    }
+                }
+            } else {
+                ArrayContainer array = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        kept[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+
+            return count == 0 ? null : new ArrayContainer(kept, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+
+            ArrayContainer array = (ArrayContainer) other;
+            char[] merged = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    merged[count++] = values[i++];
+                } else if (i == cardinality || values[i] > array.values[j]) {
+                    merged[count++] = array.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+
+            ArrayContainer result = new ArrayContainer(merged, count);
+            return count > ARRAY_LIMIT ? result.toBitmap() : result;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+
+            if (other instanceof BitmapContainer bitmap) {
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        count++;
+                    }
+                }
+
+                return count;
+            }
+
+            ArrayContainer array = (ArrayContainer) other;
+            int i = 0;
+            int j = 0;
+
+            while (i < cardinality && j < array.cardinality) {
+                if (values[i] < array.values[j]) {
+                    i++;
+                } else if (values[i] > array.values[j]) {
+                    j++;
+                } else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+
+            return count;
+        }
+
+        @Override
+        int select(int skip, int high, int[] selected, int count) {
+            for (int i = skip; i < cardinality && count < selected.length; i++) {
+                selected[count++] = high | values[i];
+            }
+
+            return count;
+        }
+
+        private BitmapContainer toBitmap() {
+            long[] words = new long[WORDS];
+
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+
+            return new BitmapContainer(words, cardinality);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long word = words[value >>> 6];
+            long updated = word & ~(1L << value);
+
+            if (updated == word) {
+                return this;
+            }
+
+            words[value >>> 6] = updated;
+            cardinality--;
+            return cardinality <= ARRAY_LIMIT ? this.toArray() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 8L * WORDS + 16;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] kept = new long[WORDS];
+            int count = 0;
+
+            for (int i = 0; i < WORDS; i++) {
+                kept[i] = words[i] & otherWords[i];
+                count += Long.bitCount(kept[i]);
+            }
+
+            if (count == 0) {
+                return null;
+            }
+
+            BitmapContainer result = new BitmapContainer(kept, count);
+            return count <= ARRAY_LIMIT ? result.toArray() : result;
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] merged = words.clone();
+
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    merged[array.values[i] >>> 6] |= 1L << array.values[i];
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+
+                for (int i = 0; i < WORDS; i++) {
+                    merged[i] |= otherWords[i];
+                }
+            }
+
+            int count = 0;
+
+            for (long word : merged) {
+                count += Long.bitCount(word);
+            }
+
+            return new BitmapContainer(merged, count);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.andCardinality(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+
+            for (int i = 0; i < WORDS; i++) {
+                count += Long.bitCount(words[i] & otherWords[i]);
+            }
+
+            return count;
+        }
+
+        @Override
+        int select(int skip, int high, int[] selected, int count) {
+            int remaining = skip;
+
+            for (int i = 0; i < WORDS && count < selected.length; i++) {
+                long word = words[i];
+                int bits = Long.bitCount(word);
+
+                if (remaining >= bits) {
+                    remaining -= bits;
+                    continue;
+                }
+
+                while (word != 0 && count < selected.length) {
+                    long lowest = word & -word;
+
+                    if (remaining > 0) {
+                        remaining--;
+                    } else {
+                        selected[count++] = high | (i << 6) | Long.numberOfTrailingZeros(lowest);
+                    }
+
+                    word ^= lowest;
+                }
+            }
+
+            return count;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
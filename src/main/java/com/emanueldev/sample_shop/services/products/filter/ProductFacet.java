@@ -0,0 +1,4 @@
+package com.emanueldev.sample_shop.services.products.filter;
+
+public record ProductFacet(String value, long count) {
+}
@@ -0,0 +1,12 @@
+package com.emanueldev.sample_shop.services.products.filter;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProductFilterHits(
+        long totalItems,
+        List<UUID> ids,
+        List<ProductFacet> priceRanges,
+        List<ProductFacet> stockStatuses
+) {
+}
@@ -0,0 +1,334 @@
+package com.emanueldev.sample_shop.services.products.filter;
+
+import com.emanueldev.sample_shop.cache.EntityChangeListener;
+import com.emanueldev.sample_shop.config.ProductFilterProperties;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductFilterRow;
+import com.emanueldev.sample_shop.services.products.ProductIndexUpdates;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// One compressed bitmap of product numbers per price range and per stock status, so a listing
+// filter is an intersection of bitmaps and every facet count a cardinality. Products are numbered
+// in creation order, which is also the order listings come back in. Loaded and kept in sync the
+// same way as the search index; stock follows the reservations and releases made here and is
+// reloaded from the database for writes made on other nodes.
+@Component
+public class ProductFilterIndex implements EntityChangeListener, SmartInitializingSingleton {
+
+    public static final String PRODUCTS_GAUGE = "product.filter.products";
+    public static final String BITMAP_BYTES_GAUGE = "product.filter.bitmap.bytes";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFilterIndex.class);
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductFilterProperties productFilterProperties;
+    private final List<String> priceRanges;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> documents = new HashMap<>();
+
+    private UUID[] productIds = new UUID[0];
+    private byte[] productPriceRanges = new byte[0];
+    private long[] stockQuantities = new long[0];
+    private long[] versions = new long[0];
+    private int nextDocument;
+
+    private CompressedBitmap products = new CompressedBitmap();
+    private CompressedBitmap[] priceRangeBitmaps;
+    private final Map<ProductStockStatus, CompressedBitmap> stockStatusBitmaps = new EnumMap<>(ProductStockStatus.class);
+
+    public ProductFilterIndex(
+            ProductRepository productRepository,
+            TransactionTemplate transactionTemplate,
+            ProductFilterProperties productFilterProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.productFilterProperties = productFilterProperties;
+        this.priceRanges = priceRanges(productFilterProperties.getPriceBounds());
+        this.clear();
+
+        Gauge.builder(PRODUCTS_GAUGE, this, ProductFilterIndex::size).register(meterRegistry);
+        Gauge.builder(BITMAP_BYTES_GAUGE, this, ProductFilterIndex::bitmapBytes).register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.rebuild();
+    }
+
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+
+        try {
+            this.clear();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ProductFilterRow> rows = productRepository.streamAllForFilters(productFilterProperties.getFetchSize())) {
+                    rows.forEach(this::upsert);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Indexed {} products ({} bitmap bytes) for filters in {} ms",
+                this.size(), this.bitmapBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    // The stock must be the whole stock of the product, summed over its shards when it has them.
+    // Rows are read after the commit, once the version of the product has been incremented.
+    public void index(Collection<Product> products) {
+        List<Product> indexedProducts = List.copyOf(products);
+
+        ProductIndexUpdates.afterCommit(() -> ProductIndexUpdates.write(lock, () -> indexedProducts.forEach(product ->
+                this.upsert(new ProductFilterRow(product.getId(), product.getPrice(), product.getStockQuantity(), product.getVersion())))));
+    }
+
+    public void remove(Collection<UUID> ids) {
+        List<UUID> removedIds = List.copyOf(ids);
+        ProductIndexUpdates.afterCommit(() -> ProductIndexUpdates.write(lock, () -> removedIds.forEach(this::delete)));
+    }
+
+    // Positive quantities were released back to stock and negative ones reserved.
+    public void adjustStock(Map<UUID, Long> quantitiesByProductId) {
+        Map<UUID, Long> quantities = Map.copyOf(quantitiesByProductId);
+
+        ProductIndexUpdates.afterCommit(() -> ProductIndexUpdates.write(lock, () -> quantities.forEach((id, quantity) -> {
+            Integer document = documents.get(id);
+
+            if (document != null) {
+                this.updateStock(document, Math.max(0, stockQuantities[document] + quantity));
+            }
+        })));
+    }
+
+    // Reservations of products with sharded stock record no product change, so their stock on other nodes
+    // only catches up on the next rebuild.
+    @Override
+    public void onChange(Class<?> entityType, Collection<UUID> ids) {
+        if (entityType != Product.class) {
+            return;
+        }
+
+        List<ProductFilterRow> rows = transactionTemplate.execute(status -> productRepository.findFilterRowsByIdIn(ids));
+        Set<UUID> removedIds = new HashSet<>(ids);
+        rows.forEach(row -> removedIds.remove(row.id()));
+
+        ProductIndexUpdates.write(lock, () -> {
+            removedIds.forEach(this::delete);
+            rows.forEach(this::upsert);
+        });
+    }
+
+    // Ranges selected together are joined, then intersected with the statuses selected; an empty
+    // selection does not filter. The counts of each facet apply the selection of the other one only,
+    // so they tell how many products picking that value would add or keep.
+    public ProductFilterHits filter(
+            Collection<String> selectedPriceRanges,
+            Collection<ProductStockStatus> selectedStockStatuses,
+            long skip,
+            int limit
+    ) {
+        lock.readLock().lock();
+
+        try {
+            CompressedBitmap byPrice = selectedPriceRanges.isEmpty()
+                    ? products
+                    : CompressedBitmap.or(selectedPriceRanges.stream()
+                            .map(priceRange -> priceRangeBitmaps[priceRanges.indexOf(priceRange)])
+                            .toList());
+            CompressedBitmap byStock = selectedStockStatuses.isEmpty()
+                    ? products
+                    : CompressedBitmap.or(selectedStockStatuses.stream()
+                            .map(stockStatusBitmaps::get)
+                            .toList());
+            CompressedBitmap matches = byPrice == products
+                    ? byStock
+                    : byStock == products ? byPrice : CompressedBitmap.and(byPrice, byStock);
+
+            List<UUID> ids = Arrays.stream(matches.select(skip, limit))
+                    .mapToObj(document -> productIds[document])
+                    .toList();
+
+            List<ProductFacet> priceRangeFacets = new ArrayList<>();
+
+            for (int i = 0; i < priceRanges.size(); i++) {
+                priceRangeFacets.add(new ProductFacet(priceRanges.get(i), priceRangeBitmaps[i].andCardinality(byStock)));
+            }
+
+            List<ProductFacet> stockStatusFacets = new ArrayList<>();
+            stockStatusBitmaps.forEach((stockStatus, bitmap) ->
+                    stockStatusFacets.add(new ProductFacet(stockStatus.name(), bitmap.andCardinality(byPrice))));
+
+            return new ProductFilterHits(matches.cardinality(), ids, priceRangeFacets, stockStatusFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> priceRanges() {
+        return priceRanges;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long bitmapBytes() {
+        lock.readLock().lock();
+
+        try {
+            long bytes = products.sizeInBytes();
+
+            for (CompressedBitmap bitmap : priceRangeBitmaps) {
+                bytes += bitmap.sizeInBytes();
+            }
+
+            for (CompressedBitmap bitmap : stockStatusBitmaps.values()) {
+                bytes += bitmap.sizeInBytes();
+            }
+
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsert(ProductFilterRow row) {
+        Integer document = documents.get(row.id());
+
+        if (document == null) {
+            document = this.allocate();
+            documents.put(row.id(), document);
+            productIds[document] = row.id();
+            products.add(document);
+        } else if (versions[document] > row.version()) {
+            return;
+        } else {
+            priceRangeBitmaps[productPriceRanges[document]].remove(document);
+            this.unmarkStock(document);
+        }
+
+        productPriceRanges[document] = (byte) this.priceRange(row.price());
+        stockQuantities[document] = row.stockQuantity();
+        versions[document] = row.version();
+        priceRangeBitmaps[productPriceRanges[document]].add(document);
+        this.markStock(document);
+    }
+
+    private void delete(UUID id) {
+        Integer document = documents.remove(id);
+
+        if (document == null) {
+            return;
+        }
+
+        priceRangeBitmaps[productPriceRanges[document]].remove(document);
+        this.unmarkStock(document);
+        products.remove(document);
+        productIds[document] = null;
+    }
+
+    private void updateStock(int document, long stockQuantity) {
+        this.unmarkStock(document);
+        stockQuantities[document] = stockQuantity;
+        this.markStock(document);
+    }
+
+    private void markStock(int document) {
+        this.stockStatuses(stockQuantities[document]).forEach(stockStatus -> stockStatusBitmaps.get(stockStatus).add(document));
+    }
+
+    private void unmarkStock(int document) {
+        this.stockStatuses(stockQuantities[document]).forEach(stockStatus -> stockStatusBitmaps.get(stockStatus).remove(document));
+    }
+
+    private List<ProductStockStatus> stockStatuses(long stockQuantity) {
+        if (stockQuantity <= 0) {
+            return List.of(ProductStockStatus.OUT_OF_STOCK);
+        }
+
+        return stockQuantity <= productFilterProperties.getLowStockThreshold()
+                ? List.of(ProductStockStatus.IN_STOCK, ProductStockStatus.LOW_STOCK)
+                : List.of(ProductStockStatus.IN_STOCK);
+    }
+
+    // Lower bound included, upper bound left out.
+    private int priceRange(BigDecimal price) {
+        int priceRange = 0;
+
+        for (BigDecimal bound : productFilterProperties.getPriceBounds()) {
+            if (price.compareTo(bound) < 0) {
+                break;
+            }
+
+            priceRange++;
+        }
+
+        return priceRange;
+    }
+
+    // Numbers of deleted products are not handed out again, so listings keep creation order until the next rebuild.
+    private int allocate() {
+        if (nextDocument == productIds.length) {
+            int capacity = Math.max(1024, nextDocument + (nextDocument >> 1));
+            productIds = Arrays.copyOf(productIds, capacity);
+            productPriceRanges = Arrays.copyOf(productPriceRanges, capacity);
+            stockQuantities = Arrays.copyOf(stockQuantities, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+
+        return nextDocument++;
+    }
+
+    private void clear() {
+        documents.clear();
+        productIds = new UUID[0];
+        productPriceRanges = new byte[0];
+        stockQuantities = new long[0];
+        versions = new long[0];
+        nextDocument = 0;
+        products = new CompressedBitmap();
+        priceRangeBitmaps = new CompressedBitmap[priceRanges.size()];
+        Arrays.setAll(priceRangeBitmaps, i -> new CompressedBitmap());
+        Arrays.stream(ProductStockStatus.values()).forEach(stockStatus -> stockStatusBitmaps.put(stockStatus, new CompressedBitmap()));
+    }
+
+    private static List<String> priceRanges(List<BigDecimal> bounds) {
+        List<String> priceRanges = new ArrayList<>();
+        String lower = "0";
+
+        for (BigDecimal bound : bounds) {
+            String upper = bound.stripTrailingZeros().toPlainString();
+            priceRanges.add(lower + "-" + upper);
+            lower = upper;
+        }
+
+        priceRanges.add(lower + "-");
+        return List.copyOf(priceRanges);
+    }
+}
@@ -0,0 +1,13 @@
+package com.emanueldev.sample_shop.services.products.filter;
+
+import com.emanueldev.sample_shop.models.Product;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public record ProductFilterResult(
+        Page<Product> page,
+        List<ProductFacet> priceRanges,
+        List<ProductFacet> stockStatuses
+) {
+}
@@ -0,0 +1,7 @@
+package com.emanueldev.sample_shop.services.products.filter;
+
+public enum ProductStockStatus {
+    IN_STOCK,
+    OUT_OF_STOCK,
+    LOW_STOCK
+}
@@ -0,0 +1,180 @@
+package com.emanueldev.sample_shop.services.products.importing;
+
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class CsvProductImportReader extends ProductImportReader {
+
+    private static final List<String> COLUMNS = List.of("name", "description", "price", "stockQuantity");
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private int[] columnIndexes;
+    private int columnCount;
+    private boolean tooLong;
+
+    public CsvProductImportReader(Reader reader, int maxRowLength) {
+        super(reader, maxRowLength);
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+
+        while (true) {
+            long rowLine = lineNumber;
+
+            if (!readRecord()) {
+                return null;
+            }
+
+            if (tooLong) {
+                return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_ROW_TOO_LONG);
+            }
+
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+
+            if (fields.size() != columnCount) {
+                return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW);
+            }
+
+            return toRow(rowLine);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (!readRecord() || tooLong) {
+            throw new HttpBadRequestException(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_HEADER);
+        }
+
+        if (fields.get(0).indexOf(BYTE_ORDER_MARK) == 0) {
+            fields.set(0, fields.get(0).substring(1));
+        }
+
+        columnCount = fields.size();
+        columnIndexes = new int[COLUMNS.size()];
+
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            columnIndexes[column] = indexOf(COLUMNS.get(column));
+
+            if (columnIndexes[column] < 0) {
+                throw new HttpBadRequestException(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_HEADER);
+            }
+        }
+    }
+
+    private int indexOf(String column) {
+        for (int index = 0; index < fields.size(); index++) {
+            if (fields.get(index).trim().equalsIgnoreCase(column)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        tooLong = false;
+
+        int length = 0;
+        boolean quoted = false;
+        int character = read();
+
+        if (character == END) {
+            return false;
+        }
+
+        while (character != END) {
+            if (++length > maxRowLength) {
+                tooLong = true;
+            }
+
+            if (quoted) {
+                if (character != '"') {
+                    append(character);
+                } else if (peek() == '"') {
+                    append(read());
+                } else {
+                    quoted = false;
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                addField();
+            } else if (character == '\n') {
+                break;
+            } else if (character != '\r') {
+                append(character);
+            }
+
+            character = read();
+        }
+
+        addField();
+
+        return true;
+    }
+
+    private void append(int character) {
+        if (!tooLong) {
+            field.append((char) character);
+        }
+    }
+
+    private void addField() {
+        if (!tooLong) {
+            fields.add(field.toString());
+        }
+
+        field.setLength(0);
+    }
+
+    private ProductImportRow toRow(long rowLine) {
+        Map<String, String> errors = new HashMap<>();
+
+        BigDecimal price = parseNumber("price", fields.get(columnIndexes[2]), BigDecimal::new, errors);
+        Long stockQuantity = parseNumber("stockQuantity", fields.get(columnIndexes[3]), Long::valueOf, errors);
+
+        if (!errors.isEmpty()) {
+            return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW, errors);
+        }
+
+        ProductRequestDTO product = new ProductRequestDTO(
+                fields.get(columnIndexes[0]),
+                fields.get(columnIndexes[1]),
+                price,
+                stockQuantity);
+
+        return ProductImportRow.valid(rowLine, product);
+    }
+
+    private <T> T parseNumber(String column, String value, Function<String, T> parser, Map<String, String> errors) {
+        if (value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return parser.apply(value.trim());
+        } catch (NumberFormatException exception) {
+            errors.put(column, ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_NUMBER);
+            return null;
+        }
+    }
+}
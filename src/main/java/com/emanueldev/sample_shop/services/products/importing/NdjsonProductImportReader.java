@@ -0,0 +1,85 @@
+package com.emanueldev.sample_shop.services.products.importing;
+
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+
+public class NdjsonProductImportReader extends ProductImportReader {
+
+    private final ObjectReader objectReader;
+    private final StringBuilder line = new StringBuilder();
+
+    public NdjsonProductImportReader(Reader reader, ObjectReader objectReader, int maxRowLength) {
+        super(reader, maxRowLength);
+        this.objectReader = objectReader
+                .forType(ProductRequestDTO.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    @Override
+    public ProductImportRow next() throws IOException {
+        while (true) {
+            long rowLine = lineNumber;
+            boolean tooLong = false;
+            line.setLength(0);
+
+            int character = read();
+
+            if (character == END) {
+                return null;
+            }
+
+            while (character != END && character != '\n') {
+                if (line.length() < maxRowLength) {
+                    line.append((char) character);
+                } else {
+                    tooLong = true;
+                }
+
+                character = read();
+            }
+
+            if (tooLong) {
+                return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_ROW_TOO_LONG);
+            }
+
+            String value = line.toString();
+
+            if (!value.isBlank()) {
+                return parse(rowLine, value);
+            }
+        }
+    }
+
+    private ProductImportRow parse(long rowLine, String value) {
+        try {
+            ProductRequestDTO product = objectReader.readValue(value);
+
+            return product == null
+                    ? ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW)
+                    : ProductImportRow.valid(rowLine, product);
+        } catch (MismatchedInputException exception) {
+            boolean numberField = exception.getTargetType() != null
+                    && Number.class.isAssignableFrom(exception.getTargetType())
+                    && !exception.getPath().isEmpty();
+
+            if (!numberField) {
+                return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW);
+            }
+
+            String field = exception.getPath().get(exception.getPath().size() - 1).getFieldName();
+
+            return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW,
+                    Map.of(field, ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_NUMBER));
+        } catch (JsonProcessingException exception) {
+            return ProductImportRow.invalid(rowLine, ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW);
+        }
+    }
+}
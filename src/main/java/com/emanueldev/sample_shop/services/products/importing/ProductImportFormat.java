@@ -0,0 +1,37 @@
+package com.emanueldev.sample_shop.services.products.importing;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.http.MediaType;
+
+import java.io.Reader;
+
+public enum ProductImportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(MediaType.parseMediaType("text/csv"));
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    ProductImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ProductImportFormat from(MediaType contentType) {
+        for (ProductImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported import format " + contentType);
+    }
+
+    public ProductImportReader open(Reader reader, ObjectReader objectReader, int maxRowLength) {
+        return switch (this) {
+            case NDJSON -> new NdjsonProductImportReader(reader, objectReader, maxRowLength);
+            case CSV -> new CsvProductImportReader(reader, maxRowLength);
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.emanueldev.sample_shop.services.products.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Reads through its own buffer a character at a time, so a row never holds more than maxRowLength
+// characters in memory no matter how large the uploaded file or a single malformed line is.
+public abstract class ProductImportReader {
+
+    protected static final int END = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    protected final int maxRowLength;
+    protected long lineNumber = 1;
+
+    protected ProductImportReader(Reader reader, int maxRowLength) {
+        this.reader = reader;
+        this.maxRowLength = maxRowLength;
+    }
+
+    public abstract ProductImportRow next() throws IOException;
+
+    protected int read() throws IOException {
+        int character = peek();
+
+        if (character != END) {
+            position++;
+
+            if (character == '\n') {
+                lineNumber++;
+            }
+        }
+
+        return character;
+    }
+
+    protected int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+
+            if (limit <= 0) {
+                limit = 0;
+                return END;
+            }
+        }
+
+        return buffer[position];
+    }
+}
@@ -0,0 +1,24 @@
+package com.emanueldev.sample_shop.services.products.importing;
+
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+
+import java.util.Map;
+
+public record ProductImportRow(long line, ProductRequestDTO product, String message, Map<String, String> errors) {
+
+    public static ProductImportRow valid(long line, ProductRequestDTO product) {
+        return new ProductImportRow(line, product, null, null);
+    }
+
+    public static ProductImportRow invalid(long line, String message) {
+        return new ProductImportRow(line, null, message, null);
+    }
+
+    public static ProductImportRow invalid(long line, String message, Map<String, String> errors) {
+        return new ProductImportRow(line, null, message, errors);
+    }
+
+    public boolean isValid() {
+        return product != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.emanueldev.sample_shop.services.products.search;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProductSearchHits(long totalHits, List<UUID> ids) {
+
+    public static final ProductSearchHits EMPTY = new ProductSearchHits(0, List.of());
+}
@@ -0,0 +1,679 @@
+package com.emanueldev.sample_shop.services.products.search;
+
+import com.emanueldev.sample_shop.cache.EntityChangeListener;
+import com.emanueldev.sample_shop.config.ProductSearchProperties;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductSearchRow;
+import com.emanueldev.sample_shop.services.products.ProductIndexUpdates;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Inverted index over product names and descriptions. Every term keeps its postings as a sorted
+// array of document numbers, so a query starts from the rarest term and merges or gallops through
+// the others. It is loaded from the database before the web server starts and kept in sync by the
+// product use cases and, for writes made on other nodes, by the entity change log, as described
+// in ProductIndexUpdates.
+@Component
+public class ProductSearchIndex implements EntityChangeListener, SmartInitializingSingleton {
+
+    public static final String DOCUMENTS_GAUGE = "product.search.documents";
+    public static final String TERMS_GAUGE = "product.search.terms";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    // Usual BM25 defaults.
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // A term in the name counts as much as three in the description.
+    private static final int NAME_WEIGHT = 3;
+
+    // Completions of a query term rank below the term itself.
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    private static final int MAX_QUERY_TERMS = 10;
+
+    // Past this size ratio, galloping through the longer list beats merging it.
+    private static final int GALLOP_RATIO = 4;
+
+    // Frequencies and lengths are kept in one byte next to each posting, so scoring reads the postings
+    // sequentially instead of looking up every document. Product texts stay far below these caps.
+    private static final int MAX_FREQUENCY = 255;
+    private static final int MAX_LENGTH = 255;
+
+    // The BM25 term frequency saturation only depends on the frequency, the length and the average
+    // length, so it is tabulated once and rebuilt when the average length drifts past this tolerance.
+    private static final double SATURATION_TOLERANCE = 0.01;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSearchProperties productSearchProperties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<UUID, Integer> documents = new HashMap<>();
+
+    private UUID[] productIds = new UUID[0];
+    private long[] versions = new long[0];
+    private int[] lengths = new int[0];
+    private Postings[][] documentTerms = new Postings[0][];
+    private int[] freeDocuments = new int[0];
+    private int freeDocumentCount;
+    private int nextDocument;
+    private long totalLength;
+    private volatile Saturation saturation = new Saturation(0, new float[0]);
+
+    public ProductSearchIndex(
+            ProductRepository productRepository,
+            TransactionTemplate transactionTemplate,
+            ProductSearchProperties productSearchProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.productSearchProperties = productSearchProperties;
+
+        Gauge.builder(DOCUMENTS_GAUGE, this, ProductSearchIndex::size).register(meterRegistry);
+        Gauge.builder(TERMS_GAUGE, this, ProductSearchIndex::termCount).register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.rebuild();
+    }
+
+    // Holds the write lock for the whole load; changes from other nodes arriving meanwhile wait and
+    // are applied on top, and versions keep a late reload from going back to an older row.
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+
+        try {
+            this.clear();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ProductSearchRow> rows = productRepository.streamAllForSearch(productSearchProperties.getFetchSize())) {
+                    rows.forEach(this::upsert);
+                }
+            });
+
+            terms.values().forEach(Postings::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Indexed {} products ({} terms) for search in {} ms",
+                this.size(), this.termCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    public void index(Collection<Product> products) {
+        ProductIndexUpdates.afterCommit(() -> this.apply(products
+                .stream()
+                .map(product -> new ProductSearchRow(product.getId(), product.getName(), product.getDescription(), product.getVersion()))
+                .toList(), List.of()));
+    }
+
+    public void remove(Collection<UUID> ids) {
+        List<UUID> removedIds = List.copyOf(ids);
+        ProductIndexUpdates.afterCommit(() -> this.apply(List.of(), removedIds));
+    }
+
+    @Override
+    public void onChange(Class<?> entityType, Collection<UUID> ids) {
+        if (entityType != Product.class) {
+            return;
+        }
+
+        List<ProductSearchRow> rows = transactionTemplate.execute(status -> productRepository.findSearchRowsByIdIn(ids));
+
+        Set<UUID> removedIds = new HashSet<>(ids);
+        rows.forEach(row -> removedIds.remove(row.id()));
+
+        this.apply(rows, removedIds);
+    }
+
+    public ProductSearchHits search(String query, int limit) {
+        List<String> queryTerms = ProductSearchTokenizer
+                .tokenize(query)
+                .stream()
+                .distinct()
+                .limit(MAX_QUERY_TERMS)
+                .toList();
+
+        if (queryTerms.isEmpty()) {
+            return ProductSearchHits.EMPTY;
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return this.find(queryTerms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Collection<ProductSearchRow> rows, Collection<UUID> removedIds) {
+        ProductIndexUpdates.write(lock, () -> {
+            removedIds.forEach(this::delete);
+            rows.forEach(this::upsert);
+        });
+    }
+
+    private ProductSearchHits find(List<String> queryTerms, int limit) {
+        List<QueryTerm[]> groups = new ArrayList<>();
+
+        for (String queryTerm : queryTerms) {
+            QueryTerm[] group = this.expand(queryTerm);
+
+            if (group.length == 0) {
+                return ProductSearchHits.EMPTY;
+            }
+
+            groups.add(group);
+        }
+
+        // Every query term has to match, so the cheapest group picks the candidates and the others only
+        // narrow them down. The first group is scored last, once the candidates left are few.
+        groups.sort(Comparator.comparingLong(ProductSearchIndex::postingsCount));
+
+        float[] saturation = this.saturation((double) totalLength / documents.size());
+        Candidates candidates = new Candidates(this.union(groups.get(0)));
+
+        for (int i = 1; i < groups.size() && candidates.size > 0; i++) {
+            candidates.match(groups.get(i), saturation);
+        }
+
+        candidates.match(groups.get(0), saturation);
+
+        UUID[] ids = Arrays.stream(candidates.top(limit))
+                .mapToObj(candidate -> productIds[candidates.documents[candidate]])
+                .toArray(UUID[]::new);
+
+        return new ProductSearchHits(candidates.size, List.of(ids));
+    }
+
+    // The term itself plus its most common completions, each weighted by its BM25 idf.
+    private QueryTerm[] expand(String queryTerm) {
+        List<QueryTerm> group = new ArrayList<>();
+        Postings exact = terms.get(queryTerm);
+
+        if (exact != null) {
+            group.add(new QueryTerm(exact, this.idf(exact)));
+        }
+
+        if (queryTerm.length() >= productSearchProperties.getMinPrefixLength()) {
+            terms.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false)
+                    .values()
+                    .stream()
+                    .sorted(Comparator.comparingInt((Postings postings) -> postings.size).reversed())
+                    .limit(productSearchProperties.getMaxPrefixExpansions())
+                    .forEach(postings -> group.add(new QueryTerm(postings, this.idf(postings) * PREFIX_WEIGHT)));
+        }
+
+        return group.toArray(QueryTerm[]::new);
+    }
+
+    private double idf(Postings postings) {
+        double documentCount = documents.size();
+        return Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+    }
+
+    private float[] saturation(double averageLength) {
+        Saturation current = saturation;
+
+        if (Math.abs(current.averageLength - averageLength) <= averageLength * SATURATION_TOLERANCE) {
+            return current.values;
+        }
+
+        float[] values = new float[(MAX_FREQUENCY + 1) * (MAX_LENGTH + 1)];
+
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            double norm = K1 * (1 - B + B * length / averageLength);
+
+            for (int frequency = 1; frequency <= MAX_FREQUENCY; frequency++) {
+                values[frequency << 8 | length] = (float) (frequency * (K1 + 1) / (frequency + norm));
+            }
+        }
+
+        saturation = new Saturation(averageLength, values);
+        return values;
+    }
+
+    private static double score(QueryTerm queryTerm, int position, float[] saturation) {
+        int frequency = queryTerm.postings.frequencies[position] & 0xFF;
+        int length = queryTerm.postings.lengths[position] & 0xFF;
+
+        return queryTerm.weight * saturation[frequency << 8 | length];
+    }
+
+    // Documents of a large prefix group are merged through a bitmap, which comes out sorted without
+    // sorting; a small one is cheaper to sort than to scan a bitmap as wide as the catalog.
+    private int[] union(QueryTerm[] group) {
+        if (group.length == 1) {
+            return Arrays.copyOf(group[0].postings.documents, group[0].postings.size);
+        }
+
+        long[] words = new long[(nextDocument + 63) >>> 6];
+        long count = postingsCount(group);
+
+        if (count < words.length) {
+            return this.sortedUnion(group, (int) count);
+        }
+
+        for (QueryTerm queryTerm : group) {
+            for (int i = 0; i < queryTerm.postings.size; i++) {
+                int document = queryTerm.postings.documents[i];
+                words[document >>> 6] |= 1L << document;
+            }
+        }
+
+        int distinct = 0;
+
+        for (long word : words) {
+            distinct += Long.bitCount(word);
+        }
+
+        int[] union = new int[distinct];
+        int position = 0;
+
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                union[position++] = (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+
+        return union;
+    }
+
+    private int[] sortedUnion(QueryTerm[] group, int count) {
+        int[] union = new int[count];
+        int position = 0;
+
+        for (QueryTerm queryTerm : group) {
+            System.arraycopy(queryTerm.postings.documents, 0, union, position, queryTerm.postings.size);
+            position += queryTerm.postings.size;
+        }
+
+        Arrays.sort(union);
+        int distinct = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || union[distinct - 1] != union[i]) {
+                union[distinct++] = union[i];
+            }
+        }
+
+        return Arrays.copyOf(union, distinct);
+    }
+
+    // Binary search over a sorted range that first doubles its step from the start, so walking two
+    // sorted lists costs the log of the gaps between matches instead of the log of the list size.
+    private static int gallop(int[] values, int from, int to, int value) {
+        int low = from;
+        int step = 1;
+
+        while (low + step < to && values[low + step] < value) {
+            low += step;
+            step <<= 1;
+        }
+
+        return Arrays.binarySearch(values, low, Math.min(low + step + 1, to), value);
+    }
+
+    private void upsert(ProductSearchRow row) {
+        Integer document = documents.get(row.id());
+
+        if (document == null) {
+            document = this.allocate();
+            documents.put(row.id(), document);
+        } else if (versions[document] > row.version()) {
+            return;
+        } else {
+            this.unindex(document);
+        }
+
+        List<String> nameTerms = ProductSearchTokenizer.tokenize(row.name());
+        List<String> descriptionTerms = ProductSearchTokenizer.tokenize(row.description());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        nameTerms.forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        descriptionTerms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+        int length = NAME_WEIGHT * nameTerms.size() + descriptionTerms.size();
+        Postings[] postingsOfDocument = new Postings[frequencies.size()];
+        int i = 0;
+
+        for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+            Postings postings = terms.computeIfAbsent(frequency.getKey(), Postings::new);
+            postings.add(document, frequency.getValue(), length);
+            postingsOfDocument[i++] = postings;
+        }
+
+        productIds[document] = row.id();
+        versions[document] = row.version();
+        lengths[document] = length;
+        documentTerms[document] = postingsOfDocument;
+        totalLength += length;
+    }
+
+    private void delete(UUID id) {
+        Integer document = documents.remove(id);
+
+        if (document == null) {
+            return;
+        }
+
+        this.unindex(document);
+        productIds[document] = null;
+
+        if (freeDocumentCount == freeDocuments.length) {
+            freeDocuments = Arrays.copyOf(freeDocuments, Math.max(16, freeDocumentCount * 2));
+        }
+
+        freeDocuments[freeDocumentCount++] = document;
+    }
+
+    private void unindex(int document) {
+        for (Postings postings : documentTerms[document]) {
+            postings.remove(document);
+
+            if (postings.size == 0) {
+                terms.remove(postings.term);
+            }
+        }
+
+        totalLength -= lengths[document];
+        documentTerms[document] = null;
+    }
+
+    // Numbers of deleted products are handed out again, so the arrays never outgrow the catalog.
+    private int allocate() {
+        if (freeDocumentCount > 0) {
+            return freeDocuments[--freeDocumentCount];
+        }
+
+        if (nextDocument == productIds.length) {
+            int capacity = Math.max(1024, nextDocument + (nextDocument >> 1));
+            productIds = Arrays.copyOf(productIds, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            documentTerms = Arrays.copyOf(documentTerms, capacity);
+        }
+
+        return nextDocument++;
+    }
+
+    private void clear() {
+        terms.clear();
+        documents.clear();
+        productIds = new UUID[0];
+        versions = new long[0];
+        lengths = new int[0];
+        documentTerms = new Postings[0][];
+        freeDocuments = new int[0];
+        freeDocumentCount = 0;
+        nextDocument = 0;
+        totalLength = 0;
+    }
+
+    private static long postingsCount(QueryTerm[] group) {
+        long count = 0;
+
+        for (QueryTerm queryTerm : group) {
+            count += queryTerm.postings.size;
+        }
+
+        return count;
+    }
+
+    private record QueryTerm(Postings postings, double weight) {
+    }
+
+    private record Saturation(double averageLength, float[] values) {
+    }
+
+    private static final class Postings {
+
+        private final String term;
+        private int[] documents = new int[2];
+        private byte[] frequencies = new byte[2];
+        private byte[] lengths = new byte[2];
+        private int size;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int document, int frequency, int length) {
+            int position = size == 0 || documents[size - 1] < document
+                    ? size
+                    : -(Arrays.binarySearch(documents, 0, size, document) + 1);
+
+            if (size == documents.length) {
+                int capacity = size + (size >> 1) + 1;
+                documents = Arrays.copyOf(documents, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+
+            System.arraycopy(documents, position, documents, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+            System.arraycopy(lengths, position, lengths, position + 1, size - position);
+            documents[position] = document;
+            frequencies[position] = (byte) Math.min(frequency, MAX_FREQUENCY);
+            lengths[position] = (byte) Math.min(length, MAX_LENGTH);
+            size++;
+        }
+
+        private void remove(int document) {
+            int position = Arrays.binarySearch(documents, 0, size, document);
+
+            if (position < 0) {
+                return;
+            }
+
+            System.arraycopy(documents, position + 1, documents, position, size - position - 1);
+            System.arraycopy(frequencies, position + 1, frequencies, position, size - position - 1);
+            System.arraycopy(lengths, position + 1, lengths, position, size - position - 1);
+            size--;
+        }
+
+        private void trim() {
+            documents = Arrays.copyOf(documents, size);
+            frequencies = Arrays.copyOf(frequencies, size);
+            lengths = Arrays.copyOf(lengths, size);
+        }
+    }
+
+    // Matching documents in ascending order with their accumulated score.
+    private static final class Candidates {
+
+        private final int[] documents;
+        private final double[] scores;
+        private int size;
+
+        private Candidates(int[] documents) {
+            this.documents = documents;
+            this.scores = new double[documents.length];
+            this.size = documents.length;
+        }
+
+        // Drops the candidates no term of the group matches and adds the best score of the group to the others.
+        private void match(QueryTerm[] group, float[] saturation) {
+            double[] best = new double[size];
+
+            for (QueryTerm queryTerm : group) {
+                this.intersect(queryTerm, best, saturation);
+            }
+
+            int kept = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (best[i] > 0) {
+                    documents[kept] = documents[i];
+                    scores[kept++] = scores[i] + best[i];
+                }
+            }
+
+            size = kept;
+        }
+
+        // Lists of similar sizes are merged side by side; otherwise the shorter one is walked and the
+        // other one galloped through, skipping the long runs that cannot match.
+        private void intersect(QueryTerm queryTerm, double[] best, float[] saturation) {
+            Postings postings = queryTerm.postings;
+            int position = 0;
+
+            if (postings.size < GALLOP_RATIO * size && size < GALLOP_RATIO * postings.size) {
+                for (int i = 0; i < size && position < postings.size; ) {
+                    int document = postings.documents[position];
+
+                    if (documents[i] == document) {
+                        best[i] = Math.max(best[i], score(queryTerm, position, saturation));
+                        i++;
+                        position++;
+                    } else if (documents[i] < document) {
+                        i++;
+                    } else {
+                        position++;
+                    }
+                }
+
+                return;
+            }
+
+            if (postings.size <= size) {
+                for (int i = 0; i < postings.size && position < size; i++) {
+                    position = gallop(documents, position, size, postings.documents[i]);
+
+                    if (position < 0) {
+                        position = -(position + 1);
+                        continue;
+                    }
+
+                    best[position] = Math.max(best[position], score(queryTerm, i, saturation));
+                    position++;
+                }
+
+                return;
+            }
+
+            for (int i = 0; i < size && position < postings.size; i++) {
+                position = gallop(postings.documents, position, postings.size, documents[i]);
+
+                if (position < 0) {
+                    position = -(position + 1);
+                    continue;
+                }
+
+                best[i] = Math.max(best[i], score(queryTerm, position, saturation));
+                position++;
+            }
+        }
+
+        // Candidate positions of the best matches, best first, kept in a heap whose root is the worst one.
+        private int[] top(int limit) {
+            int[] heap = new int[Math.min(limit, size)];
+            int heapSize = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (heapSize < heap.length) {
+                    heap[heapSize] = i;
+                    this.siftUp(heap, heapSize++);
+                } else if (scores[i] >= scores[heap[0]] && this.compare(i, heap[0]) < 0) {
+                    heap[0] = i;
+                    this.siftDown(heap, heapSize);
+                }
+            }
+
+            return Arrays.stream(heap)
+                    .boxed()
+                    .sorted(this::compare)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private void siftUp(int[] heap, int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+
+                if (this.compare(heap[position], heap[parent]) <= 0) {
+                    return;
+                }
+
+                this.swap(heap, position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int heapSize) {
+            int position = 0;
+
+            while (true) {
+                int worst = position;
+                int left = 2 * position + 1;
+                int right = left + 1;
+
+                if (left < heapSize && this.compare(heap[left], heap[worst]) > 0) {
+                    worst = left;
+                }
+
+                if (right < heapSize && this.compare(heap[right], heap[worst]) > 0) {
+                    worst = right;
+                }
+
+                if (worst == position) {
+                    return;
+                }
+
+                this.swap(heap, position, worst);
+                position = worst;
+            }
+        }
+
+        private void swap(int[] heap, int left, int right) {
+            int value = heap[left];
+            heap[left] = heap[right];
+            heap[right] = value;
+        }
+
+        // Higher score first, ties in document order so results are stable between calls.
+        private int compare(int left, int right) {
+            int byScore = Double.compare(scores[right], scores[left]);
+            return byScore != 0 ? byScore : Integer.compare(documents[left], documents[right]);
+        }
+    }
+}
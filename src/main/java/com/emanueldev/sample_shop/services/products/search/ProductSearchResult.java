@@ -0,0 +1,8 @@
+package com.emanueldev.sample_shop.services.products.search;
+
+import com.emanueldev.sample_shop.models.Product;
+
+import java.util.List;
+
+public record ProductSearchResult(long totalHits, List<Product> products) {
+}
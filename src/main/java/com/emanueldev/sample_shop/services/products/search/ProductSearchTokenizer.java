@@ -0,0 +1,56 @@
+package com.emanueldev.sample_shop.services.products.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class ProductSearchTokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 40;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private ProductSearchTokenizer() {
+    }
+
+    // Splits on anything that is not a letter or a digit, lower-cases and drops accents, so
+    // "Fogão" and "fogao" end up as the same term.
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean tokenChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(normalize(text, start, i));
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static String normalize(String text, int start, int end) {
+        String token = text.substring(start, Math.min(end, start + MAX_TOKEN_LENGTH));
+
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) >= 0x80) {
+                token = DIACRITICS.matcher(Normalizer.normalize(token, Normalizer.Form.NFD)).replaceAll("");
+                break;
+            }
+        }
+
+        return token.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,6 @@
+package com.emanueldev.sample_shop.services.products.suggestion;
+
+import java.util.UUID;
+
+public record ProductSuggestion(UUID id, String name) {
+}
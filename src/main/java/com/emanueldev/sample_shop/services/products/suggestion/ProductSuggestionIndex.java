@@ -0,0 +1,595 @@
+package com.emanueldev.sample_shop.services.products.suggestion;
+
+import com.emanueldev.sample_shop.cache.EntityChangeListener;
+import com.emanueldev.sample_shop.config.ProductSuggestionProperties;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchTokenizer;
+import com.emanueldev.sample_shop.services.products.ProductIndexUpdates;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Radix trie over normalized product names. Every node keeps the best selling products below it,
+// so a suggestion is one walk down the prefix with no scan of the subtree. Edges hold whole runs
+// of characters, which keeps one node per product name plus one per branching point.
+// It is loaded and kept in sync the same way as the search index; units sold follow the orders
+// created and cancelled here and are reloaded from the database for writes made on other nodes.
+@Component
+public class ProductSuggestionIndex implements EntityChangeListener, SmartInitializingSingleton {
+
+    public static final String PRODUCTS_GAUGE = "product.suggestion.products";
+    public static final String NODES_GAUGE = "product.suggestion.nodes";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSuggestionIndex.class);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final int[] NO_DOCUMENTS = new int[0];
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSuggestionProperties productSuggestionProperties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> documents = new HashMap<>();
+
+    private Node root = new Node(new char[0]);
+    private UUID[] productIds = new UUID[0];
+    private String[] names = new String[0];
+    private long[] versions = new long[0];
+    private long[] unitsSold = new long[0];
+    private int[] freeDocuments = new int[0];
+    private int freeDocumentCount;
+    private int nextDocument;
+    private int nodeCount = 1;
+
+    public ProductSuggestionIndex(
+            ProductRepository productRepository,
+            TransactionTemplate transactionTemplate,
+            ProductSuggestionProperties productSuggestionProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.productSuggestionProperties = productSuggestionProperties;
+
+        Gauge.builder(PRODUCTS_GAUGE, this, ProductSuggestionIndex::size).register(meterRegistry);
+        Gauge.builder(NODES_GAUGE, this, ProductSuggestionIndex::nodeCount).register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.rebuild();
+    }
+
+    // Names are inserted first and the best products of every node worked out in one pass at the end,
+    // instead of once per insert along the whole path.
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+
+        try {
+            this.clear();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ProductSuggestionRow> rows = productRepository.streamAllForSuggestions(productSuggestionProperties.getFetchSize())) {
+                    rows.forEach(row -> this.upsert(row, false));
+                }
+            });
+
+            this.rank(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Indexed {} products ({} nodes) for suggestions in {} ms",
+                this.size(), this.nodeCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    public void index(Collection<Product> products) {
+        List<Product> indexedProducts = List.copyOf(products);
+
+        ProductIndexUpdates.afterCommit(() -> ProductIndexUpdates.write(lock, () -> indexedProducts.forEach(product -> {
+            Integer document = documents.get(product.getId());
+            long productUnitsSold = document == null ? 0 : unitsSold[document];
+
+            this.upsert(new ProductSuggestionRow(product.getId(), product.getName(), product.getVersion(), productUnitsSold), true);
+        })));
+    }
+
+    public void remove(Collection<UUID> ids) {
+        List<UUID> removedIds = List.copyOf(ids);
+        ProductIndexUpdates.afterCommit(() -> ProductIndexUpdates.write(lock, () -> removedIds.forEach(this::delete)));
+    }
+
+    // Negative quantities take back the units of a cancelled order.
+    public void recordSales(Map<UUID, Long> quantitiesByProductId) {
+        Map<UUID, Long> quantities = Map.copyOf(quantitiesByProductId);
+
+        ProductIndexUpdates.afterCommit(() -> ProductIndexUpdates.write(lock, () -> quantities.forEach((id, quantity) -> {
+            Integer document = documents.get(id);
+
+            if (document != null) {
+                this.updateUnitsSold(document, Math.max(0, unitsSold[document] + quantity));
+            }
+        })));
+    }
+
+    // Orders of products with sharded stock record no product change, so their units sold on other nodes
+    // only catch up on the next rebuild.
+    @Override
+    public void onChange(Class<?> entityType, Collection<UUID> ids) {
+        if (entityType != Product.class) {
+            return;
+        }
+
+        List<ProductSuggestionRow> rows = transactionTemplate.execute(status -> productRepository.findSuggestionRowsByIdIn(ids));
+        Set<UUID> removedIds = new HashSet<>(ids);
+        rows.forEach(row -> removedIds.remove(row.id()));
+
+        ProductIndexUpdates.write(lock, () -> {
+            removedIds.forEach(this::delete);
+            rows.forEach(row -> this.upsert(row, true));
+        });
+    }
+
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String key = key(prefix);
+
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+
+        try {
+            Node node = this.find(key);
+
+            if (node == null) {
+                return List.of();
+            }
+
+            return Arrays.stream(node.top)
+                    .limit(limit)
+                    .mapToObj(document -> new ProductSuggestion(productIds[document], names[document]))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Same normalization as the search terms, so accents, case and punctuation never get in the way.
+    private static String key(String name) {
+        return String.join(" ", ProductSearchTokenizer.tokenize(name));
+    }
+
+    // The node the prefix ends in, which may be partway through its edge.
+    private Node find(String prefix) {
+        Node node = root;
+        int depth = 0;
+
+        while (depth < prefix.length()) {
+            Node child = node.child(prefix.charAt(depth));
+
+            if (child == null) {
+                return null;
+            }
+
+            int common = commonLength(child.label, prefix, depth);
+
+            if (common < child.label.length && depth + common < prefix.length()) {
+                return null;
+            }
+
+            node = child;
+            depth += common;
+        }
+
+        return node;
+    }
+
+    private void upsert(ProductSuggestionRow row, boolean rank) {
+        Integer document = documents.get(row.id());
+
+        if (document == null) {
+            document = this.allocate();
+            documents.put(row.id(), document);
+        } else if (versions[document] > row.version()) {
+            this.updateUnitsSold(document, row.unitsSold());
+            return;
+        } else if (key(names[document]).equals(key(row.name()))) {
+            names[document] = row.name();
+            versions[document] = row.version();
+            unitsSold[document] = row.unitsSold();
+            this.rankPath(this.path(key(row.name())), document);
+            return;
+        } else {
+            this.unlink(document);
+        }
+
+        productIds[document] = row.id();
+        names[document] = row.name();
+        versions[document] = row.version();
+        unitsSold[document] = row.unitsSold();
+        this.link(document, rank);
+    }
+
+    private void delete(UUID id) {
+        Integer document = documents.remove(id);
+
+        if (document == null) {
+            return;
+        }
+
+        this.unlink(document);
+        productIds[document] = null;
+        names[document] = null;
+
+        if (freeDocumentCount == freeDocuments.length) {
+            freeDocuments = Arrays.copyOf(freeDocuments, Math.max(16, freeDocumentCount * 2));
+        }
+
+        freeDocuments[freeDocumentCount++] = document;
+    }
+
+    private void updateUnitsSold(int document, long value) {
+        if (unitsSold[document] == value) {
+            return;
+        }
+
+        unitsSold[document] = value;
+        this.rankPath(this.path(key(names[document])), document);
+    }
+
+    // Adds the document under its key, splitting the edge where the key leaves it.
+    private void link(int document, boolean rank) {
+        String key = key(names[document]);
+
+        if (key.isEmpty()) {
+            return;
+        }
+
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+
+        while (depth < key.length()) {
+            Node child = node.child(key.charAt(depth));
+
+            if (child == null) {
+                child = new Node(key.substring(depth).toCharArray());
+                node.addChild(child);
+                nodeCount++;
+                depth = key.length();
+            } else {
+                int common = commonLength(child.label, key, depth);
+
+                if (common < child.label.length) {
+                    child = node.split(child, common);
+                    nodeCount++;
+                }
+
+                depth += common;
+            }
+
+            node = child;
+            path.add(node);
+        }
+
+        node.documents = append(node.documents, document);
+
+        if (rank) {
+            this.rankPath(path, document);
+        }
+    }
+
+    // Takes the document out from under its key and folds away nodes left without a purpose.
+    private void unlink(int document) {
+        String key = key(names[document]);
+        List<Node> path = this.path(key);
+
+        if (key.isEmpty() || path.size() == 1) {
+            return;
+        }
+
+        Node node = path.get(path.size() - 1);
+        node.documents = without(node.documents, document);
+
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+
+            if (current.documents.length == 0 && current.children.length == 0) {
+                path.get(i - 1).removeChild(current);
+                path.remove(i);
+                nodeCount--;
+            } else if (current.documents.length == 0 && current.children.length == 1) {
+                if (i + 1 < path.size()) {
+                    path.remove(i + 1);
+                }
+
+                current.absorbChild();
+                nodeCount--;
+            }
+        }
+
+        this.rankPath(path, document);
+    }
+
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+
+        while (depth < key.length()) {
+            node = node.child(key.charAt(depth));
+
+            if (node == null) {
+                return List.of(root);
+            }
+
+            depth += node.label.length;
+            path.add(node);
+        }
+
+        return path;
+    }
+
+    // Lists above a node are built from its list only, so once the changed document is neither in the
+    // node's old list nor in its new one, nothing further up can change.
+    private void rankPath(List<Node> path, int document) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            int[] previous = node.top;
+            this.rankNode(node);
+
+            if (!contains(previous, document) && !contains(node.top, document)) {
+                return;
+            }
+        }
+    }
+
+    private void rank(Node node) {
+        for (Node child : node.children) {
+            this.rank(child);
+        }
+
+        this.rankNode(node);
+    }
+
+    // The best products of a node are among its own and the best of each child, since anything better
+    // than a product in a child's list is also in that child's list.
+    private void rankNode(Node node) {
+        if (node.children.length == 0 && node.documents.length == 1) {
+            node.top = node.documents;
+            return;
+        }
+
+        int[] top = new int[productSuggestionProperties.getMaxSuggestions()];
+        int size = 0;
+
+        for (int document : node.documents) {
+            size = this.offer(top, size, document);
+        }
+
+        // A child's list is sorted, so the first product that misses the cut ends it.
+        for (Node child : node.children) {
+            for (int document : child.top) {
+                if (size == top.length && this.compare(document, top[size - 1]) > 0) {
+                    break;
+                }
+
+                size = this.offer(top, size, document);
+            }
+        }
+
+        node.top = Arrays.copyOf(top, size);
+    }
+
+    // Keeps the list sorted best first.
+    private int offer(int[] top, int size, int document) {
+        int position = size;
+
+        while (position > 0 && this.compare(document, top[position - 1]) < 0) {
+            position--;
+        }
+
+        if (position == top.length) {
+            return size;
+        }
+
+        int kept = Math.min(size, top.length - 1);
+        System.arraycopy(top, position, top, position + 1, kept - position);
+        top[position] = document;
+
+        return kept + 1;
+    }
+
+    // More units sold first, then alphabetical, then document order so results are stable between calls.
+    private int compare(int left, int right) {
+        int byUnitsSold = Long.compare(unitsSold[right], unitsSold[left]);
+
+        if (byUnitsSold != 0) {
+            return byUnitsSold;
+        }
+
+        int byName = names[left].compareToIgnoreCase(names[right]);
+        return byName != 0 ? byName : Integer.compare(left, right);
+    }
+
+    // Numbers of deleted products are handed out again, so the arrays never outgrow the catalog.
+    private int allocate() {
+        if (freeDocumentCount > 0) {
+            return freeDocuments[--freeDocumentCount];
+        }
+
+        if (nextDocument == productIds.length) {
+            int capacity = Math.max(1024, nextDocument + (nextDocument >> 1));
+            productIds = Arrays.copyOf(productIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            unitsSold = Arrays.copyOf(unitsSold, capacity);
+        }
+
+        return nextDocument++;
+    }
+
+    private void clear() {
+        documents.clear();
+        root = new Node(new char[0]);
+        productIds = new UUID[0];
+        names = new String[0];
+        versions = new long[0];
+        unitsSold = new long[0];
+        freeDocuments = new int[0];
+        freeDocumentCount = 0;
+        nextDocument = 0;
+        nodeCount = 1;
+    }
+
+    private static int commonLength(char[] label, String key, int from) {
+        int length = Math.min(label.length, key.length() - from);
+        int common = 0;
+
+        while (common < length && label[common] == key.charAt(from + common)) {
+            common++;
+        }
+
+        return common;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int current : values) {
+            if (current == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] appended = Arrays.copyOf(values, values.length + 1);
+        appended[values.length] = value;
+        return appended;
+    }
+
+    private static int[] without(int[] values, int value) {
+        int[] kept = new int[values.length];
+        int size = 0;
+
+        for (int current : values) {
+            if (current != value) {
+                kept[size++] = current;
+            }
+        }
+
+        return size == 0 ? NO_DOCUMENTS : Arrays.copyOf(kept, size);
+    }
+
+    // Children are sorted by the first character of their label, which is unique among siblings.
+    private static final class Node {
+
+        private char[] label;
+        private Node[] children = NO_CHILDREN;
+        private int[] documents = NO_DOCUMENTS;
+        private int[] top = NO_DOCUMENTS;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            int position = this.position(first);
+            return position >= 0 ? children[position] : null;
+        }
+
+        private void addChild(Node child) {
+            int position = -(this.position(child.label[0]) + 1);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, position);
+            System.arraycopy(children, position, grown, position + 1, children.length - position);
+            grown[position] = child;
+            children = grown;
+        }
+
+        private void removeChild(Node child) {
+            int position = this.position(child.label[0]);
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, position);
+            System.arraycopy(children, position + 1, shrunk, position, shrunk.length - position);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        // Puts a new node holding the first characters of the child's edge between this node and the child.
+        private Node split(Node child, int length) {
+            Node middle = new Node(Arrays.copyOf(child.label, length));
+            children[this.position(child.label[0])] = middle;
+            child.label = Arrays.copyOfRange(child.label, length, child.label.length);
+            middle.children = new Node[]{child};
+            middle.top = child.top;
+            return middle;
+        }
+
+        private void absorbChild() {
+            Node child = children[0];
+            char[] joined = Arrays.copyOf(label, label.length + child.label.length);
+            System.arraycopy(child.label, 0, joined, label.length, child.label.length);
+            label = joined;
+            children = child.children;
+            documents = child.documents;
+        }
+
+        private int position(char first) {
+            int low = 0;
+            int high = children.length - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char value = children[middle].label[0];
+
+                if (value < first) {
+                    low = middle + 1;
+                } else if (value > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+
+            return -(low + 1);
+        }
+    }
+}
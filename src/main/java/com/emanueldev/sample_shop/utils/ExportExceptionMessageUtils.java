@@ -0,0 +1,6 @@
+package com.emanueldev.sample_shop.utils;
+
+public class ExportExceptionMessageUtils {
+    public static final String INVALID_EXPORT_FORMAT = "Export format must be ndjson or csv.";
+    public static final String INVALID_EXPORT_DATE_RANGE = "The from date must be before the to date.";
+}
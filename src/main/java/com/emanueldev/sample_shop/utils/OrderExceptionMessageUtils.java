@@ -7,4 +7,5 @@ public class OrderExceptionMessageUtils {
     public static final String ORDER_NOT_PAYED = "Cannot update an order that have not been payed.";
     public static final String ORDER_CANCELED = "Cannot update an order that have been canceled.";
     public static final String ORDER_ALREADY_CANCELLED = "This order already have been canceled.";
+    public static final String ORDER_STOCK_CONFLICT = "Could not reserve stock because of concurrent orders, please try again.";
 }
@@ -0,0 +1,5 @@
+package com.emanueldev.sample_shop.utils;
+
+public class PaginationExceptionMessageUtils {
+    public static final String INVALID_CURSOR = "Invalid pagination cursor.";
+}
@@ -5,4 +5,7 @@ public class PaymentExceptionMessageUtils {
     public static final String PAYMENT_ALREADY_EXISTS = "This order already have other payment request.";
     public static final String PAYMENT_NOT_AUTHORIZED = "The payment is not authorized by provider.";
     public static final String PAYMENT_ALREADY_CREATED = "Payment for this order has already been made and validated.";
+    public static final String PAYMENT_AUTHORIZATION_IN_PROGRESS = "The payment authorization is already in progress.";
+    public static final String PAYMENT_AUTHORIZER_UNAVAILABLE = "The payment provider is unavailable, please try again.";
+    public static final String PAYMENT_AUTHORIZATION_QUEUE_FULL = "Too many payment authorizations in progress, please try again.";
 }
@@ -2,5 +2,5 @@ package com.emanueldev.sample_shop.utils;
 
 public enum PaymentStatus {
 
-    PENDING, PAID, FAILED
+    PENDING, AUTHORIZING, PAID, FAILED
 }
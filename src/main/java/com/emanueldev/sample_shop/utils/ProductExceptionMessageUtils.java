@@ -3,4 +3,11 @@ package com.emanueldev.sample_shop.utils;
 public class ProductExceptionMessageUtils {
     public static final String PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS = "A product with same name already exists.";
     public static final String PRODUCT_NOT_FOUND = "Product Not Found.";
+    public static final String PRODUCT_IMPORT_INVALID_HEADER = "The CSV header must contain the columns name, description, price and stockQuantity.";
+    public static final String PRODUCT_IMPORT_INVALID_ROW = "Validation error";
+    public static final String PRODUCT_IMPORT_MALFORMED_ROW = "Malformed row.";
+    public static final String PRODUCT_IMPORT_ROW_TOO_LONG = "Row exceeds the maximum length.";
+    public static final String PRODUCT_IMPORT_INVALID_NUMBER = "must be a number";
+    public static final String PRODUCT_FILTER_INVALID_PRICE_RANGE = "Unknown price range.";
+    public static final String PRODUCT_FILTER_PRICE_RANGE_OPTIONS = "must be one of: ";
 }
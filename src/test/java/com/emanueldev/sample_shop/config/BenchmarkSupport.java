@@ -0,0 +1,65 @@
+package com.emanueldev.sample_shop.config;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    // Suffix for the generated names, so a run never collides with the products of a previous one.
+    public static String runId() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public static String productRow(String name, String description, double price, long stockQuantity) {
+        return String.format(Locale.ROOT,
+                "{\"name\": \"%s\", \"description\": \"%s\", \"price\": %.2f, \"stockQuantity\": %d}%n",
+                name, description, price, stockQuantity);
+    }
+
+    // Generated one row at a time while it is read, so a catalog of millions of rows never sits in memory.
+    public static InputStream generatedRows(long rows, LongFunction<String> formatter) {
+        return new InputStream() {
+
+            private long row;
+            private byte[] current = new byte[0];
+            private int position;
+
+            @Override
+            public int read() {
+                if (position == current.length) {
+                    if (row == rows) {
+                        return -1;
+                    }
+
+                    current = formatter.apply(row++).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+
+                return current[position++] & 0xFF;
+            }
+        };
+    }
+
+    public static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static void print(String operation, long[] latencies) {
+        Arrays.sort(latencies);
+        System.out.printf("product %s p50=%.1f us p99=%.1f us max=%d us%n",
+                operation,
+                latencies[latencies.length / 2] / 1000.0,
+                latencies[latencies.length * 99 / 100] / 1000.0,
+                TimeUnit.NANOSECONDS.toMicros(latencies[latencies.length - 1]));
+    }
+}
@@ -0,0 +1,110 @@
+package com.emanueldev.sample_shop.config;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.lifecycle.Startables;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@ContextConfiguration(initializers = ReplicatedMySQLConfig.Initializer.class)
+public class ReplicatedMySQLConfig {
+
+    public static final int PRIMARY_SERVER_ID = 1;
+    public static final int REPLICA_SERVER_ID = 2;
+
+    protected static void executeOnReplica(String sql) throws SQLException {
+        Initializer.execute(Initializer.replica, sql);
+    }
+
+    static class Initializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        static Network network = Network.newNetwork();
+
+        static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0.28")
+                .withNetwork(network)
+                .withNetworkAliases("primary")
+                .withCommand("--server-id=" + PRIMARY_SERVER_ID, "--log-bin=mysql-bin",
+                        "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+        static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0.28")
+                .withNetwork(network)
+                .withCommand("--server-id=" + REPLICA_SERVER_ID, "--log-bin=mysql-bin",
+                        "--gtid-mode=ON", "--enforce-gtid-consistency=ON", "--read-only=ON");
+
+        private static boolean replicating;
+
+        private static Connection rootConnection(MySQLContainer<?> container) throws SQLException {
+            return DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+        }
+
+        private static void execute(MySQLContainer<?> container, String sql) throws SQLException {
+            try (Connection connection = rootConnection(container); Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        }
+
+        // Both servers ran the same container bootstrap (database and user creation), so the replica
+        // marks the primary's bootstrap transactions as applied and only replays what comes after.
+        private static synchronized void startReplication() throws SQLException {
+            if (replicating) {
+                return;
+            }
+
+            String primaryGtids;
+            try (Connection connection = rootConnection(primary);
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+                resultSet.next();
+                primaryGtids = resultSet.getString(1);
+            }
+
+            execute(replica, "RESET MASTER");
+            execute(replica, "SET GLOBAL gtid_purged = '" + primaryGtids + "'");
+            execute(replica, "CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'primary', SOURCE_PORT = 3306, " +
+                    "SOURCE_USER = 'root', SOURCE_PASSWORD = '" + primary.getPassword() + "', " +
+                    "SOURCE_AUTO_POSITION = 1, GET_SOURCE_PUBLIC_KEY = 1");
+            execute(replica, "START REPLICA");
+            replicating = true;
+        }
+
+        private static Map<String, String> createConnectionConfiguration() {
+            return Map.of(
+                    "spring.datasource.url", primary.getJdbcUrl(),
+                    "spring.datasource.username", primary.getUsername(),
+                    "spring.datasource.password", primary.getPassword(),
+                    "datasource.routing.enabled", "true",
+                    "datasource.routing.replicas[0].name", "replica-1",
+                    "datasource.routing.replicas[0].url", replica.getJdbcUrl(),
+                    "datasource.routing.replicas[0].username", "root",
+                    "datasource.routing.replicas[0].password", replica.getPassword(),
+                    "datasource.routing.health-check-interval", "200ms");
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+            Startables.deepStart(Stream.of(primary, replica)).join();
+
+            try {
+                startReplication();
+            } catch (SQLException sqlException) {
+                throw new IllegalStateException("Could not start replication between the MySQL containers", sqlException);
+            }
+
+            ConfigurableEnvironment environment = applicationContext.getEnvironment();
+            MapPropertySource replicatedMySQL = new MapPropertySource("replicatedMySQL", (Map) createConnectionConfiguration());
+            environment.getPropertySources().addFirst(replicatedMySQL);
+        }
+    }
+}
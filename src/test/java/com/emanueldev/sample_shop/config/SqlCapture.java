@@ -0,0 +1,84 @@
+package com.emanueldev.sample_shop.config;
+
+import com.emanueldev.sample_shop.observability.RequestStatementCounter;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlCapture {
+
+    @FunctionalInterface
+    public interface Block<T> {
+        T run() throws Exception;
+    }
+
+    private final RequestStatementCounter counter;
+    private final Object result;
+
+    private SqlCapture(RequestStatementCounter counter, Object result) {
+        this.counter = counter;
+        this.result = result;
+    }
+
+    public static <T> SqlCapture of(Block<T> block) throws Exception {
+        RequestStatementCounter counter = RequestStatementCounter.startCapture();
+
+        try {
+            return new SqlCapture(counter, block.run());
+        } finally {
+            RequestStatementCounter.stop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getResult() {
+        return (T) result;
+    }
+
+    public List<String> getStatements() {
+        return counter.getStatements();
+    }
+
+    public int count() {
+        return counter.getStatementCount();
+    }
+
+    public int count(Kind kind) {
+        return counter.get(kind);
+    }
+
+    public SqlCapture assertStatements(int expected) {
+        assertEquals(expected, count(), this::describe);
+        return this;
+    }
+
+    public SqlCapture assertStatements(Kind kind, int expected) {
+        assertEquals(expected, count(kind), this::describe);
+        return this;
+    }
+
+    public SqlCapture assertAtMost(int max) {
+        assertTrue(count() <= max, () -> "expected at most " + max + " statements but was " + count() + describe());
+        return this;
+    }
+
+    public SqlCapture assertAtMost(Kind kind, int max) {
+        assertTrue(count(kind) <= max, () -> "expected at most " + max + " " + kind.tagValue()
+                + " but was " + count(kind) + describe());
+        return this;
+    }
+
+    private String describe() {
+        StringBuilder description = new StringBuilder("\nStatements issued:");
+        List<String> statements = getStatements();
+
+        for (int i = 0; i < statements.size(); i++) {
+            description.append("\n  ").append(i + 1).append(". ").append(statements.get(i));
+        }
+
+        return description.toString();
+    }
+}
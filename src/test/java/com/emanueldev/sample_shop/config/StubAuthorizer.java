@@ -0,0 +1,102 @@
+package com.emanueldev.sample_shop.config;
+
+import com.emanueldev.sample_shop.clients.PaymentClient;
+import com.emanueldev.sample_shop.clients.PaymentClientConfig;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StubAuthorizer {
+
+    public static final String AUTHORIZED_BODY = "{\"status\":\"success\",\"data\":{\"authorization\":true}}";
+    public static final String DECLINED_BODY = "{\"status\":\"fail\",\"data\":{\"authorization\":false}}";
+
+    public record StubResponse(int status, String body, long delayMillis) {
+    }
+
+    private final Queue<StubResponse> scriptedResponses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch firstHit = new CountDownLatch(1);
+    private volatile StubResponse defaultResponse = new StubResponse(200, AUTHORIZED_BODY, 0);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpServer server;
+
+    public StubAuthorizer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            firstHit.countDown();
+
+            StubResponse response = scriptedResponses.poll();
+            if (response == null) {
+                response = defaultResponse;
+            }
+
+            try {
+                Thread.sleep(response.delayMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            } catch (IOException ignored) {
+            }
+        });
+        server.start();
+    }
+
+    public void respondWith(int status, String body, long delayMillis) {
+        defaultResponse = new StubResponse(status, body, delayMillis);
+    }
+
+    public void enqueue(int status, String body, long delayMillis) {
+        scriptedResponses.add(new StubResponse(status, body, delayMillis));
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public boolean awaitFirstHit(long timeout, TimeUnit unit) throws InterruptedException {
+        return firstHit.await(timeout, unit);
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public PaymentClient client(PaymentProperties paymentProperties) {
+        PaymentClientConfig paymentClientConfig = new PaymentClientConfig();
+
+        return Feign
+                .builder()
+                .contract(new SpringMvcContract())
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(() ->
+                        new HttpMessageConverters(new MappingJackson2HttpMessageConverter()))))
+                .options(paymentClientConfig.paymentClientOptions(paymentProperties))
+                .retryer(paymentClientConfig.paymentClientRetryer())
+                .target(PaymentClient.class, this.getUrl());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
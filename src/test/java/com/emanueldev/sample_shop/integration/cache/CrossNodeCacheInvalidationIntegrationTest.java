@@ -0,0 +1,148 @@
+package com.emanueldev.sample_shop.integration.cache;
+
+import com.emanueldev.sample_shop.SampleShopApplication;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.services.orders.CreateOrderUseCase;
+import com.emanueldev.sample_shop.services.orders.DeleteOrderUseCase;
+import com.emanueldev.sample_shop.services.products.CreateProductUseCase;
+import com.emanueldev.sample_shop.services.products.DeleteProductUseCase;
+import com.emanueldev.sample_shop.services.products.GetProductByIdUseCase;
+import com.emanueldev.sample_shop.services.products.UpdateProductUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "entity-change-log.poll-interval=100ms")
+public class CrossNodeCacheInvalidationIntegrationTest extends TestContainersConfig {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(15);
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Autowired
+    private DeleteProductUseCase deleteProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private DeleteOrderUseCase deleteOrderUseCase;
+
+    private ConfigurableApplicationContext otherNode;
+
+    @BeforeAll
+    void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(SampleShopApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(argument("spring.datasource.url"),
+                        argument("spring.datasource.username"),
+                        argument("spring.datasource.password"),
+                        argument("spring.jpa.properties.hibernate.dialect"),
+                        "--entity-change-log.poll-interval=100ms");
+    }
+
+    @AfterAll
+    void stopOtherNode() {
+        otherNode.close();
+    }
+
+    private String argument(String name) {
+        return "--" + name + "=" + environment.getProperty(name, "");
+    }
+
+    private ProductRequestDTO productRequest(String name, long stockQuantity) {
+        return new ProductRequestDTO(name, "Produto compartilhado entre as instâncias.", new BigDecimal("30.00"), stockQuantity);
+    }
+
+    private Product readOnOtherNode(UUID id) {
+        return otherNode.getBean(GetProductByIdUseCase.class).execute(id);
+    }
+
+    private boolean cachedOnOtherNode(UUID id) {
+        return otherNode.getBean(EntityManagerFactory.class).getCache().contains(Product.class, id);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String description) throws InterruptedException {
+        long deadline = System.nanoTime() + MAX_STALENESS.toNanos();
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + description);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    @DisplayName("Given Product Cached On Other Node When Updated Should Serve New Data On Other Node")
+    void integrationTestGivenProductCachedOnOtherNode_when_Updated_ShouldServeNewDataOnOtherNode() throws InterruptedException {
+        UUID id = createProductUseCase.execute(productRequest("Produto de duas instâncias " + UUID.randomUUID(), 10L)).getId();
+        readOnOtherNode(id);
+        assertTrue(cachedOnOtherNode(id));
+
+        String newName = "Produto renomeado " + UUID.randomUUID();
+        updateProductUseCase.execute(id, productRequest(newName, 10L));
+
+        awaitUntil(() -> readOnOtherNode(id).getName().equals(newName), "other node to see the new name");
+    }
+
+    @Test
+    @DisplayName("Given Product Cached On Other Node When Orders Change Stock Should Serve New Stock On Other Node")
+    void integrationTestGivenProductCachedOnOtherNode_when_OrdersChangeStock_ShouldServeNewStockOnOtherNode() throws InterruptedException {
+        UUID id = createProductUseCase.execute(productRequest("Produto com estoque " + UUID.randomUUID(), 10L)).getId();
+        assertEquals(10L, readOnOtherNode(id).getStockQuantity());
+
+        OrderModel order = createOrderUseCase.execute(new OrderRequestDTO(List.of(new OrderItemRequestDTO(id.toString(), 4L))));
+
+        awaitUntil(() -> readOnOtherNode(id).getStockQuantity() == 6L, "other node to see the reserved stock");
+
+        deleteOrderUseCase.execute(order.getId());
+
+        awaitUntil(() -> readOnOtherNode(id).getStockQuantity() == 10L, "other node to see the released stock");
+    }
+
+    @Test
+    @DisplayName("Given Product Cached On Other Node When Deleted Should Not Be Found On Other Node")
+    void integrationTestGivenProductCachedOnOtherNode_when_Deleted_ShouldNotBeFoundOnOtherNode() throws InterruptedException {
+        UUID id = createProductUseCase.execute(productRequest("Produto removido " + UUID.randomUUID(), 10L)).getId();
+        readOnOtherNode(id);
+
+        deleteProductUseCase.execute(id);
+
+        awaitUntil(() -> {
+            try {
+                readOnOtherNode(id);
+                return false;
+            } catch (HttpNotFoundException notFound) {
+                return true;
+            }
+        }, "other node to drop the deleted product");
+    }
+}
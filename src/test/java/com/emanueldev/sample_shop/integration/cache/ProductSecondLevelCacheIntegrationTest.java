@@ -0,0 +1,148 @@
+package com.emanueldev.sample_shop.integration.cache;
+
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.models.EntityChange;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.EntityChangeRepository;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.UpdateProductUseCase;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "entity-change-log.poll-interval=100ms")
+public class ProductSecondLevelCacheIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityChangeRepository entityChangeRepository;
+
+    @Autowired
+    private EntityChangeLog entityChangeLog;
+
+    @Autowired
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+    }
+
+    private Product createProduct() {
+        return productRepository.save(Product
+                .builder()
+                .name("Produto em cache " + UUID.randomUUID())
+                .description("Produto usado nos testes de cache.")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(100L)
+                .build());
+    }
+
+    private Product findProduct(UUID id) {
+        return transactionTemplate.execute(status -> productRepository.findById(id).orElseThrow());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String description) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + description);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    @DisplayName("Given Loaded Product When Find By Id Should Be Served From Second Level Cache")
+    void integrationTestGivenLoadedProduct_when_FindById_ShouldBeServedFromSecondLevelCache() throws Exception {
+        Product product = createProduct();
+        cache.evictAll();
+        findProduct(product.getId());
+
+        assertTrue(cache.contains(Product.class, product.getId()));
+
+        SqlCapture.of(() -> findProduct(product.getId())).assertStatements(0);
+    }
+
+    @Test
+    @DisplayName("Given Cached Products When Stock Changes Should Evict Only The Changed Product")
+    void integrationTestGivenCachedProducts_when_StockChanges_ShouldEvictOnlyTheChangedProduct() {
+        Product changedProduct = createProduct();
+        Product otherProduct = createProduct();
+        findProduct(changedProduct.getId());
+        findProduct(otherProduct.getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.decrementStockIfAvailable(Map.of(changedProduct.getId(), 3L)));
+
+        assertFalse(cache.contains(Product.class, changedProduct.getId()));
+        assertTrue(cache.contains(Product.class, otherProduct.getId()));
+        assertEquals(97L, findProduct(changedProduct.getId()).getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Given Product Update When Committed Should Record Change For Other Nodes")
+    void integrationTestGivenProductUpdate_when_Committed_ShouldRecordChangeForOtherNodes() {
+        Product product = createProduct();
+
+        updateProductUseCase.execute(product.getId(), new ProductRequestDTO(
+                "Produto atualizado " + UUID.randomUUID(),
+                "Produto usado nos testes de cache.",
+                new BigDecimal("12.00"),
+                100L));
+
+        assertTrue(entityChangeRepository.findAll().stream().anyMatch(change ->
+                change.getEntityId().equals(product.getId()) && change.getOrigin().equals(entityChangeLog.getOrigin())));
+    }
+
+    @Test
+    @DisplayName("Given Change Recorded By Another Node When Polled Should Evict Cached Product")
+    void integrationTestGivenChangeRecordedByAnotherNode_when_Polled_ShouldEvictCachedProduct() throws InterruptedException {
+        Product product = createProduct();
+        findProduct(product.getId());
+        assertTrue(cache.contains(Product.class, product.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> entityChangeRepository.save(EntityChange
+                .builder()
+                .entityName(Product.class.getSimpleName())
+                .entityId(product.getId())
+                .origin("another-node")
+                .build()));
+
+        awaitUntil(() -> !cache.contains(Product.class, product.getId()), "product to be evicted");
+    }
+}
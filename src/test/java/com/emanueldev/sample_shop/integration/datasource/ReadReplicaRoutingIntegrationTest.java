@@ -0,0 +1,135 @@
+package com.emanueldev.sample_shop.integration.datasource;
+
+import com.emanueldev.sample_shop.config.ReplicatedMySQLConfig;
+import com.emanueldev.sample_shop.datasource.ReadReplicaRoutingDataSource;
+import com.emanueldev.sample_shop.datasource.ReplicaDataSource;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.services.payments.GetPaymentByIdUseCase;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "datasource.routing.max-replication-lag=5s")
+public class ReadReplicaRoutingIntegrationTest extends ReplicatedMySQLConfig {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private GetPaymentByIdUseCase getPaymentByIdUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ReplicaDataSource replica;
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        replica = readReplicaRoutingDataSource.getReplicas().get(0);
+        awaitUntil(() -> replica.isHealthy(), "replica to become healthy");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executeOnReplica("START REPLICA");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, String description) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + description);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private int serverId(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private double routedTo(String target) {
+        return meterRegistry.get(ReadReplicaRoutingDataSource.ROUTING_COUNTER)
+                .tag("target", target)
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    @DisplayName("Integration test given healthy replica when running transactions should send only read only ones to the replica")
+    @Test
+    void integrationTestGivenHealthyReplica_when_RunningTransactions_ShouldSendOnlyReadOnlyOnesToTheReplica() {
+        assertEquals(PRIMARY_SERVER_ID, serverId(false));
+        assertEquals(REPLICA_SERVER_ID, serverId(true));
+    }
+
+    @DisplayName("Integration test given payment written on primary when reading through read only use case should be served by the replica")
+    @Test
+    void integrationTestGivenPaymentWrittenOnPrimary_when_ReadingThroughReadOnlyUseCase_ShouldBeServedByTheReplica() throws InterruptedException {
+        Payment payment = paymentRepository.save(Payment
+                .builder()
+                .amount(new BigDecimal("120.00"))
+                .paymentStatus(PaymentStatus.PENDING)
+                .build());
+        double replicaReadsBefore = routedTo("replica");
+
+        awaitUntil(() -> {
+            try {
+                return getPaymentByIdUseCase.execute(payment.getId()) != null;
+            } catch (HttpNotFoundException notReplicatedYet) {
+                return false;
+            }
+        }, "payment to replicate");
+
+        assertTrue(routedTo("replica") > replicaReadsBefore);
+    }
+
+    @DisplayName("Integration test given stopped replication when running read only transaction should fall back to primary")
+    @Test
+    void integrationTestGivenStoppedReplication_when_RunningReadOnlyTransaction_ShouldFallBackToPrimary() throws Exception {
+        executeOnReplica("STOP REPLICA");
+        awaitUntil(() -> !replica.isHealthy(), "replica to be marked down");
+        double fallbacksBefore = routedTo("fallback");
+
+        assertEquals(PRIMARY_SERVER_ID, serverId(true));
+        assertEquals(fallbacksBefore + 1, routedTo("fallback"));
+
+        executeOnReplica("START REPLICA");
+        awaitUntil(() -> replica.isHealthy(), "replica to recover");
+
+        assertEquals(REPLICA_SERVER_ID, serverId(true));
+    }
+}
@@ -0,0 +1,127 @@
+package com.emanueldev.sample_shop.integration.datasource;
+
+import com.emanueldev.sample_shop.config.ReplicatedMySQLConfig;
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.datasource.ReadReplicaRoutingDataSource;
+import com.emanueldev.sample_shop.datasource.ReplicaDataSource;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Lag checks are off so a replica with a stopped SQL thread stays in rotation, which is how a
+// lagging replica looks to the router between two health checks.
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "datasource.routing.max-replication-lag=0s")
+public class ReadYourWritesIntegrationTest extends ReplicatedMySQLConfig {
+
+    private static final String TOKEN_HEADER = "X-Consistency-Token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executeOnReplica("START REPLICA SQL_THREAD");
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get(ReadReplicaRoutingDataSource.ROUTING_COUNTER)
+                .tags("target", target, "reason", reason)
+                .counter()
+                .count();
+    }
+
+    private MvcResult createOrder() throws Exception {
+        Product product = productRepository.save(Product
+                .builder()
+                .name("Produto replicado " + UUID.randomUUID())
+                .description("Produto usado no teste de leitura consistente.")
+                .price(new BigDecimal("15.00"))
+                .stockQuantity(100L)
+                .build());
+
+        String body = objectMapper.writeValueAsString(Map.of("items", List.of(
+                Map.of("productId", product.getId().toString(), "quantity", 1))));
+
+        return mockMvc.perform(post("/orders").contentType(TestConfigs.CONTENT_TYPE_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+    }
+
+    private String orderId(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    @DisplayName("Integration test given lagging replica when reading own order with token should be served by primary")
+    @Test
+    void integrationTestGivenLaggingReplica_when_ReadingOwnOrderWithToken_ShouldBeServedByPrimary() throws Exception {
+        ReplicaDataSource replica = readReplicaRoutingDataSource.getReplicas().get(0);
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!replica.isHealthy() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(replica.isHealthy());
+
+        executeOnReplica("STOP REPLICA SQL_THREAD");
+
+        MvcResult created = this.createOrder();
+        String token = created.getResponse().getHeader(TOKEN_HEADER);
+        String orderId = this.orderId(created);
+        assertNotNull(token);
+
+        mockMvc.perform(get("/orders/" + orderId)).andExpect(status().isNotFound());
+
+        double laggingBefore = routed("fallback", "lagging");
+        mockMvc.perform(get("/orders/" + orderId).header(TOKEN_HEADER, token)).andExpect(status().isOk());
+        assertEquals(laggingBefore + 1, routed("fallback", "lagging"));
+    }
+
+    @DisplayName("Integration test given caught up replica when reading own order with token should be served by replica")
+    @Test
+    void integrationTestGivenCaughtUpReplica_when_ReadingOwnOrderWithToken_ShouldBeServedByReplica() throws Exception {
+        MvcResult created = this.createOrder();
+        String token = created.getResponse().getHeader(TOKEN_HEADER);
+        String orderId = this.orderId(created);
+
+        double caughtUpBefore = routed("replica", "caught_up");
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (routed("replica", "caught_up") == caughtUpBefore && System.nanoTime() < deadline) {
+            mockMvc.perform(get("/orders/" + orderId).header(TOKEN_HEADER, token)).andExpect(status().isOk());
+            Thread.sleep(50);
+        }
+
+        assertTrue(routed("replica", "caught_up") > caughtUpBefore);
+    }
+}
@@ -0,0 +1,179 @@
+package com.emanueldev.sample_shop.integration.inventory;
+
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.InventoryService;
+import com.emanueldev.sample_shop.services.inventory.InventoryStrategy;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.orders.CreateOrderUseCase;
+import com.emanueldev.sample_shop.services.orders.DeleteOrderUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class InventoryConcurrencyIntegrationTest extends TestContainersConfig {
+
+    private static final int BUYERS = 500;
+    private static final long INITIAL_STOCK = 100L;
+    private static final int CANCELLATIONS = 20;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ShardedStockService shardedStockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private DeleteOrderUseCase deleteOrderUseCase;
+
+    @ParameterizedTest
+    @EnumSource(InventoryStrategy.class)
+    @DisplayName("Given 500 Concurrent Buyers On One Product When Reserve Stock then Never Oversell")
+    void integrationTestGiven500ConcurrentBuyersOnOneProduct_when_ReserveStock_ShouldNeverOversell(InventoryStrategy strategy) throws Exception {
+        UUID productId = createProduct("Produto concorrido " + strategy);
+
+        runBuyers(strategy, productId, strategy.toString());
+
+        assertEquals(0L, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 32})
+    @DisplayName("Given 500 Concurrent Buyers On One Sharded Product When Reserve Stock then Never Oversell")
+    void integrationTestGiven500ConcurrentBuyersOnOneShardedProduct_when_ReserveStock_ShouldNeverOversell(int shards) throws Exception {
+        UUID productId = createProduct("Produto concorrido em " + shards + " shards");
+        transactionTemplate.executeWithoutResult(status ->
+                shardedStockService.configure(productRepository.findById(productId).orElseThrow(), shards));
+
+        runBuyers(InventoryStrategy.CONDITIONAL_UPDATE, productId, "shards=" + shards);
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        long shardStock = shardedStockService.getStockQuantities(List.of(productId)).getOrDefault(productId, 0L);
+        shardedStockService.applyStockQuantities(List.of(product));
+
+        assertEquals(0L, shardStock);
+        assertEquals(0L, product.getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Given Concurrent Cancellations Of One Order When Delete Order then Release Its Stock Once")
+    void integrationTestGivenConcurrentCancellationsOfOneOrder_when_DeleteOrder_ShouldReleaseItsStockOnce() throws Exception {
+        UUID productId = createProduct("Produto de pedido cancelado " + UUID.randomUUID());
+        UUID orderId = createOrderUseCase
+                .execute(new OrderRequestDTO(List.of(new OrderItemRequestDTO(productId.toString(), 5L))))
+                .getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CANCELLATIONS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger cancellations = new AtomicInteger();
+        AtomicInteger rejections = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CANCELLATIONS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    deleteOrderUseCase.execute(orderId);
+                    cancellations.incrementAndGet();
+                } catch (HttpBadRequestException exception) {
+                    rejections.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(1, cancellations.get());
+        assertEquals(CANCELLATIONS - 1, rejections.get());
+        assertEquals(INITIAL_STOCK, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    private UUID createProduct(String name) {
+        return productRepository.save(Product
+                .builder()
+                .name(name)
+                .description("Produto disputado por muitos compradores.")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(INITIAL_STOCK)
+                .build()).getId();
+    }
+
+    private void runBuyers(InventoryStrategy strategy, UUID productId, String label) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successfulReservations = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (reserveWithRetry(strategy, productId)) {
+                    successfulReservations.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        System.out.printf("inventory %s buyers=%d elapsed=%d ms throughput=%.1f reservations/s%n",
+                label, BUYERS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                BUYERS / (elapsedNanos / 1_000_000_000.0));
+
+        assertEquals(INITIAL_STOCK, successfulReservations.get());
+    }
+
+    private boolean reserveWithRetry(InventoryStrategy strategy, UUID productId) {
+        while (true) {
+            try {
+                Boolean reserved = transactionTemplate.execute(status -> inventoryService
+                        .reserve(strategy, productRepository.findAllById(List.of(productId)), Map.of(productId, 1L))
+                        .isEmpty());
+                return Boolean.TRUE.equals(reserved);
+            } catch (ConcurrencyFailureException exception) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.emanueldev.sample_shop.integration.models;
+
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.models.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with -Dbenchmark.uuid.rows=10000000 to reproduce the 10M rows comparison.
+@EnabledIfSystemProperty(named = "benchmark.uuid.rows", matches = "\\d+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class UuidInsertBenchmarkIntegrationTest extends TestContainersConfig {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String TABLE = "tb_uuid_insert_benchmark";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"random", "time-ordered"})
+    @DisplayName("Given Uuid Strategy When Insert Rows then Print Insert Throughput")
+    void integrationTestGivenUuidStrategy_when_InsertRows_ShouldPrintInsertThroughput(String strategy) {
+        long rows = Long.getLong("benchmark.uuid.rows");
+        Supplier<UUID> uuids = strategy.equals("random") ? UUID::randomUUID : TimeOrderedUuidGenerator::nextUuid;
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (id BINARY(16) NOT NULL PRIMARY KEY, payload VARCHAR(64) NOT NULL)");
+
+        long startedAt = System.nanoTime();
+        for (long inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < Math.min(BATCH_SIZE, rows - inserted); i++) {
+                batch.add(new Object[]{toBytes(uuids.get()), "payload-" + (inserted + i)});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO " + TABLE + " (id, payload) VALUES (?, ?)", batch);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        System.out.printf("uuid strategy=%s rows=%d elapsed=%d ms throughput=%.1f rows/s%n",
+                strategy, rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rows / (elapsedNanos / 1_000_000_000.0));
+
+        assertEquals(rows, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class));
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,149 @@
+package com.emanueldev.sample_shop.integration.order.controllers;
+
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.response.OrderResponseDTO;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.models.OrderStatus;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.orders.CreateOrderUseCase;
+import com.emanueldev.sample_shop.utils.PaginationExceptionMessageUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class OrderControllerIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Given Freshly Created Product When Create Order Should Accept Its Time Ordered Id")
+    void integrationTestGivenFreshlyCreatedProduct_when_CreateOrder_ShouldAcceptItsTimeOrderedId() throws Exception {
+        String name = "Produto " + UUID.randomUUID();
+        MvcResult productResult = mockMvc.perform(post("/products")
+                        .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                        .content(objectMapper.writeValueAsString(new ProductRequestDTO(name, name + ".", new BigDecimal("10.00"), 5L))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        ProductResponseDTO product = objectMapper.readValue(productResult.getResponse().getContentAsString(), ProductResponseDTO.class);
+        assertEquals(7, product.getId().version());
+
+        OrderRequestDTO request = new OrderRequestDTO(List.of(new OrderItemRequestDTO(product.getId().toString(), 2L)));
+        MvcResult orderResult = mockMvc.perform(post("/orders")
+                        .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        OrderResponseDTO order = objectMapper.readValue(orderResult.getResponse().getContentAsString(), OrderResponseDTO.class);
+
+        assertNotNull(order.getId());
+        assertEquals(OrderStatus.PENDING, order.getOrderStatus());
+        assertEquals(new BigDecimal("20.00"), order.getTotalValue());
+
+        MvcResult orderedProductResult = mockMvc.perform(get("/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        ProductResponseDTO orderedProduct = objectMapper.readValue(orderedProductResult.getResponse().getContentAsString(), ProductResponseDTO.class);
+        assertEquals(3L, orderedProduct.getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Given Orders Sharing One Order Date When List Orders By Cursor Should Return Each Order Once Up To The Last Page")
+    void integrationTestGivenOrdersSharingOneOrderDate_when_ListOrdersByCursor_ShouldReturnEachOrderOnceUpToTheLastPage() throws Exception {
+        // A date after every other order keeps the shared rows at the end of the listing.
+        LocalDateTime orderDate = LocalDateTime.of(2999, 1, 1, 0, 0);
+        Product product = productRepository.save(Product
+                .builder()
+                .name("Produto do pedido paginado")
+                .description("Produto usado na paginação de pedidos.")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(10L)
+                .build());
+
+        List<UUID> orderIds = IntStream.range(0, 5)
+                .mapToObj(i -> createOrderUseCase
+                        .execute(new OrderRequestDTO(List.of(new OrderItemRequestDTO(product.getId().toString(), 1L))))
+                        .getId())
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE OrderModel o SET o.orderDate = :orderDate WHERE o.id IN :ids")
+                .setParameter("orderDate", orderDate)
+                .setParameter("ids", orderIds)
+                .executeUpdate());
+
+        String cursor = new KeysetCursor(orderDate.minusSeconds(1), new UUID(0L, 0L)).encode();
+        List<UUID> listedIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get("/orders/cursor").param("cursor", cursor).param("pageSize", "2"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.get("orders").forEach(order -> listedIds.add(UUID.fromString(order.get("id").asText())));
+            pageSizes.add(page.get("orders").size());
+            cursor = page.get("next_cursor").isNull() ? null : page.get("next_cursor").asText();
+        }
+
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(orderIds.stream().sorted(Comparator.comparing(UUID::toString)).toList(), listedIds);
+    }
+
+    @Test
+    @DisplayName("Given Malformed Cursor When List Orders By Cursor Should Return Bad Request")
+    void integrationTestGivenMalformedCursor_when_ListOrdersByCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/orders/cursor").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(PaginationExceptionMessageUtils.INVALID_CURSOR));
+    }
+}
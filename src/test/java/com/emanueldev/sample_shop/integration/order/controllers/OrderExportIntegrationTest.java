@@ -0,0 +1,115 @@
+package com.emanueldev.sample_shop.integration.order.controllers;
+
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.orders.CreateOrderUseCase;
+import com.emanueldev.sample_shop.utils.ExportExceptionMessageUtils;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@SpringBootTest
+public class OrderExportIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    private OrderModel order;
+
+    private Product firstProduct;
+
+    private Product secondProduct;
+
+    @BeforeAll
+    void setup() {
+        firstProduct = productRepository.save(Product
+                .builder()
+                .name("Produto do pedido exportado 1")
+                .description("Produto usado na exportação de pedidos.")
+                .price(new BigDecimal("12.00"))
+                .stockQuantity(50L)
+                .build());
+        secondProduct = productRepository.save(Product
+                .builder()
+                .name("Produto do pedido exportado 2")
+                .description("Produto usado na exportação de pedidos.")
+                .price(new BigDecimal("7.50"))
+                .stockQuantity(50L)
+                .build());
+
+        order = createOrderUseCase.execute(new OrderRequestDTO(List.of(
+                new OrderItemRequestDTO(firstProduct.getId().toString(), 2L),
+                new OrderItemRequestDTO(secondProduct.getId().toString(), 1L))));
+    }
+
+    private List<String> exportOrders(LocalDateTime from, LocalDateTime to) throws Exception {
+        String content = mockMvc.perform(get("/orders/export")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        return Arrays.asList(content.split("\r\n"));
+    }
+
+    @Test
+    @DisplayName("Given Order In Date Range When Export Orders Should Write One Row Per Item")
+    void integrationTestGivenOrderInDateRange_when_ExportOrders_ShouldWriteOneRowPerItem() throws Exception {
+        List<String> lines = exportOrders(LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+
+        List<String> orderLines = lines.stream().filter(line -> line.startsWith(order.getId().toString())).toList();
+
+        assertEquals("orderId,orderDate,orderStatus,totalValue,paymentStatus,productId,productName,quantity,unitPrice", lines.get(0));
+        assertEquals(2, orderLines.size());
+        assertTrue(orderLines.stream().anyMatch(line -> line.endsWith(
+                firstProduct.getId() + ",Produto do pedido exportado 1,2,12.00")));
+        assertTrue(orderLines.stream().anyMatch(line -> line.endsWith(
+                secondProduct.getId() + ",Produto do pedido exportado 2,1,7.50")));
+    }
+
+    @Test
+    @DisplayName("Given Order Outside Date Range When Export Orders Should Not Write It")
+    void integrationTestGivenOrderOutsideDateRange_when_ExportOrders_ShouldNotWriteIt() throws Exception {
+        List<String> lines = exportOrders(LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+
+        assertTrue(lines.stream().noneMatch(line -> line.startsWith(order.getId().toString())));
+    }
+
+    @Test
+    @DisplayName("Given From After To When Export Orders Should Return Bad Request")
+    void integrationTestGivenFromAfterTo_when_ExportOrders_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/orders/export")
+                        .param("from", "2025-02-10T00:00:00")
+                        .param("to", "2025-02-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ExportExceptionMessageUtils.INVALID_EXPORT_DATE_RANGE));
+    }
+}
@@ -0,0 +1,166 @@
+package com.emanueldev.sample_shop.integration.order.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.models.*;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@SpringBootTest
+public class OrderQueryBudgetIntegrationTest extends TestContainersConfig {
+
+    private static final int ORDERS = 120;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final List<Product> products = new ArrayList<>();
+
+    private UUID lastOrderId;
+
+    @BeforeAll
+    void setup() {
+        for (int i = 0; i < 10; i++) {
+            products.add(productRepository.save(Product
+                    .builder()
+                    .name("Produto do orçamento de pedidos " + i)
+                    .description("Produto usado no orçamento de queries.")
+                    .price(new BigDecimal("10.00"))
+                    .stockQuantity(900L)
+                    .build()));
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            lastOrderId = orderRepository.save(this.order(i % 2 == 0 ? null : PaymentStatus.PAID)).getId();
+        }
+    }
+
+    private OrderModel order(PaymentStatus paymentStatus) {
+        OrderModel order = OrderModel
+                .builder()
+                .totalValue(new BigDecimal("30.00"))
+                .orderStatus(OrderStatus.PENDING)
+                .orderItems(new ArrayList<>())
+                .payment(paymentStatus == null ? null : Payment
+                        .builder()
+                        .amount(new BigDecimal("30.00"))
+                        .paymentDate(LocalDateTime.now())
+                        .paymentStatus(paymentStatus)
+                        .build())
+                .build();
+
+        products.subList(0, ITEMS_PER_ORDER).forEach(product -> order.getOrderItems().add(OrderItem
+                .builder()
+                .order(order)
+                .product(product)
+                .quantity(1L)
+                .unitPrice(product.getPrice())
+                .build()));
+
+        return order;
+    }
+
+    private String orderBody(int items) throws Exception {
+        List<Map<String, Object>> orderItems = new ArrayList<>();
+
+        for (int i = 0; i < items; i++) {
+            orderItems.add(Map.of("productId", products.get(i).getId().toString(), "quantity", 1));
+        }
+
+        return objectMapper.writeValueAsString(Map.of("items", orderItems));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    @DisplayName("Given Order Items When Create Order Should Not Issue Statements Per Item Beyond Inserts")
+    void integrationTestGivenOrderItems_when_CreateOrder_ShouldNotIssueStatementsPerItemBeyondInserts(int items) throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(post("/orders")
+                                .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                                .content(orderBody(items)))
+                        .andExpect(status().isCreated()))
+                .assertStatements(Kind.INSERT, 2 + items)
+                .assertStatements(Kind.SELECT, 2)
+                .assertStatements(Kind.UPDATE, 1);
+    }
+
+    @Test
+    @DisplayName("Given Order Id When Get Order Should Issue One Select")
+    void integrationTestGivenOrderId_when_GetOrder_ShouldIssueOneSelect() throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/orders/" + lastOrderId)).andExpect(status().isOk()))
+                .assertStatements(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    @DisplayName("Given Page Size When List Orders Should Issue Same Statements For Any Page Size")
+    void integrationTestGivenPageSize_when_ListOrders_ShouldIssueSameStatementsForAnyPageSize(int pageSize) throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/orders").param("pageNumber", "0").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk()))
+                .assertStatements(3)
+                .assertStatements(Kind.COLLECTION_FETCH, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    @DisplayName("Given Page Size When List Orders By Cursor Should Issue Same Statements For Any Page Size")
+    void integrationTestGivenPageSize_when_ListOrdersByCursor_ShouldIssueSameStatementsForAnyPageSize(int pageSize) throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/orders/cursor").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk()))
+                .assertStatements(2)
+                .assertStatements(Kind.COLLECTION_FETCH, 0);
+    }
+
+    @Test
+    @DisplayName("Given Paid Order When Update Order Status Should Select Once And Update Once")
+    void integrationTestGivenPaidOrder_when_UpdateOrderStatus_ShouldSelectOnceAndUpdateOnce() throws Exception {
+        UUID id = orderRepository.save(this.order(PaymentStatus.PAID)).getId();
+
+        SqlCapture.of(() -> mockMvc.perform(patch("/orders/" + id)).andExpect(status().isNoContent()))
+                .assertStatements(Kind.UPDATE, 1)
+                .assertStatements(2);
+    }
+
+    @Test
+    @DisplayName("Given Existent Order When Delete Order Should Load Items And Products In One Select")
+    void integrationTestGivenExistentOrder_when_DeleteOrder_ShouldLoadItemsAndProductsInOneSelect() throws Exception {
+        UUID id = orderRepository.save(this.order(null)).getId();
+
+        SqlCapture.of(() -> mockMvc.perform(delete("/orders/" + id)).andExpect(status().isNoContent()))
+                .assertStatements(Kind.SELECT, 1)
+                .assertStatements(Kind.INSERT, 1)
+                .assertStatements(4);
+    }
+}
@@ -0,0 +1,147 @@
+package com.emanueldev.sample_shop.integration.order.services;
+
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.orders.dto.response.CursorOrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.response.OrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.response.PaginatedOrderResponseDTO;
+import com.emanueldev.sample_shop.domain.orders.mappers.OrderMapper;
+import com.emanueldev.sample_shop.models.*;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.orders.GetOrderByIdUseCase;
+import com.emanueldev.sample_shop.services.orders.GetOrdersByCursorUseCase;
+import com.emanueldev.sample_shop.services.orders.GetOrdersUseCase;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class OrderQueryCountIntegrationTest extends TestContainersConfig {
+
+    private static final int ORDERS = 60;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private GetOrdersUseCase getOrdersUseCase;
+
+    @Autowired
+    private GetOrdersByCursorUseCase getOrdersByCursorUseCase;
+
+    @Autowired
+    private GetOrderByIdUseCase getOrderByIdUseCase;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private UUID lastOrderId;
+
+    @BeforeAll
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(Product
+                    .builder()
+                    .name("Produto da listagem " + i)
+                    .description("Produto usado na contagem de queries.")
+                    .price(new BigDecimal("10.00"))
+                    .stockQuantity(100L)
+                    .build()));
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            OrderModel order = OrderModel
+                    .builder()
+                    .totalValue(new BigDecimal("30.00"))
+                    .orderStatus(OrderStatus.PENDING)
+                    .orderItems(new ArrayList<>())
+                    .payment(i % 2 == 0 ? null : Payment
+                            .builder()
+                            .amount(new BigDecimal("30.00"))
+                            .paymentDate(LocalDateTime.now())
+                            .paymentStatus(PaymentStatus.PAID)
+                            .build())
+                    .build();
+
+            products.forEach(product -> order.getOrderItems().add(OrderItem
+                    .builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(1L)
+                    .unitPrice(product.getPrice())
+                    .build()));
+
+            lastOrderId = orderRepository.save(order).getId();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 50})
+    @DisplayName("Given Page Of Orders When List Orders then Run Same Query Count For Any Page Size")
+    void integrationTestGivenPageOfOrders_when_ListOrders_ShouldRunSameQueryCountForAnyPageSize(int pageSize) {
+        statistics.clear();
+
+        PaginatedOrderResponseDTO response = orderMapper
+                .mappingFromOrderPageToPaginatedOrderDTO(getOrdersUseCase.execute(0, pageSize));
+
+        assertEquals(pageSize, response.getOrders().size());
+        response.getOrders().forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 50})
+    @DisplayName("Given Cursor Page Of Orders When List Orders By Cursor then Run Same Query Count For Any Page Size")
+    void integrationTestGivenCursorPageOfOrders_when_ListOrdersByCursor_ShouldRunSameQueryCountForAnyPageSize(int pageSize) {
+        statistics.clear();
+
+        CursorOrderResponseDTO response = orderMapper
+                .mappingFromOrderCursorPageToCursorOrderDTO(getOrdersByCursorUseCase.execute(null, pageSize));
+
+        assertEquals(pageSize, response.getOrders().size());
+        assertNotNull(response.getNext_cursor());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Given Order Id When Get Order then Load Order Items Products And Payment In One Query")
+    void integrationTestGivenOrderId_when_GetOrder_ShouldLoadOrderItemsProductsAndPaymentInOneQuery() {
+        statistics.clear();
+
+        OrderResponseDTO response = orderMapper
+                .mappingFromOrderToOrderResponseDTO(getOrderByIdUseCase.execute(lastOrderId));
+
+        assertEquals(ITEMS_PER_ORDER, response.getItems().size());
+        assertNotNull(response.getPayment());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,99 @@
+package com.emanueldev.sample_shop.integration.payment.controllers;
+
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.utils.PaginationExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class PaymentControllerIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Given Payments Sharing One Creation Time When List Payments By Cursor Should Return Each Payment Once Up To The Last Page")
+    void integrationTestGivenPaymentsSharingOneCreationTime_when_ListPaymentsByCursor_ShouldReturnEachPaymentOnceUpToTheLastPage() throws Exception {
+        // A creation time after every other payment keeps the shared rows at the end of the listing.
+        LocalDateTime createdAt = LocalDateTime.of(2999, 1, 1, 0, 0);
+
+        List<UUID> paymentIds = IntStream.range(0, 5)
+                .mapToObj(i -> paymentRepository.save(Payment
+                        .builder()
+                        .amount(new BigDecimal("10.00"))
+                        .paymentStatus(PaymentStatus.PENDING)
+                        .build()).getId())
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Payment p SET p.createdAt = :createdAt WHERE p.id IN :ids")
+                .setParameter("createdAt", createdAt)
+                .setParameter("ids", paymentIds)
+                .executeUpdate());
+
+        String cursor = new KeysetCursor(createdAt.minusSeconds(1), new UUID(0L, 0L)).encode();
+        List<UUID> listedIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get("/payments/cursor").param("cursor", cursor).param("pageSize", "2"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.get("payments").forEach(payment -> listedIds.add(UUID.fromString(payment.get("id").asText())));
+            pageSizes.add(page.get("payments").size());
+            cursor = page.get("next_cursor").isNull() ? null : page.get("next_cursor").asText();
+        }
+
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(paymentIds.stream().sorted(Comparator.comparing(UUID::toString)).toList(), listedIds);
+    }
+
+    @Test
+    @DisplayName("Given Malformed Cursor When List Payments By Cursor Should Return Bad Request")
+    void integrationTestGivenMalformedCursor_when_ListPaymentsByCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/payments/cursor").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(PaginationExceptionMessageUtils.INVALID_CURSOR));
+    }
+}
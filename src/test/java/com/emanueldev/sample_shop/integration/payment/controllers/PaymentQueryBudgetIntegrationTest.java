@@ -0,0 +1,153 @@
+package com.emanueldev.sample_shop.integration.payment.controllers;
+
+import com.emanueldev.sample_shop.clients.PaymentClient;
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.models.*;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@SpringBootTest
+public class PaymentQueryBudgetIntegrationTest extends TestContainersConfig {
+
+    private static final int PAYMENTS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockitoBean
+    private PaymentClient paymentClient;
+
+    private Product product;
+
+    private UUID paymentId;
+
+    @BeforeAll
+    void setup() {
+        product = productRepository.save(Product
+                .builder()
+                .name("Produto do orçamento")
+                .description("Produto usado no orçamento de queries.")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(900L)
+                .build());
+
+        for (int i = 0; i < PAYMENTS; i++) {
+            paymentId = paymentRepository.save(Payment
+                    .builder()
+                    .amount(new BigDecimal("10.00"))
+                    .paymentStatus(PaymentStatus.PENDING)
+                    .build()).getId();
+        }
+    }
+
+    private UUID createOrder() {
+        OrderModel order = OrderModel
+                .builder()
+                .totalValue(product.getPrice())
+                .orderStatus(OrderStatus.PENDING)
+                .orderItems(new ArrayList<>())
+                .build();
+
+        order.getOrderItems().add(OrderItem
+                .builder()
+                .order(order)
+                .product(product)
+                .quantity(1L)
+                .unitPrice(product.getPrice())
+                .build());
+
+        return orderRepository.save(order).getId();
+    }
+
+    @Test
+    @DisplayName("Given Order Without Payment When Create Payment Should Stay Within Budget")
+    void integrationTestGivenOrderWithoutPayment_when_CreatePayment_ShouldStayWithinBudget() throws Exception {
+        UUID orderId = this.createOrder();
+
+        SqlCapture.of(() -> mockMvc.perform(post("/payments")
+                                .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("orderId", orderId.toString()))))
+                        .andExpect(status().isCreated()))
+                .assertStatements(Kind.INSERT, 1)
+                .assertStatements(3);
+    }
+
+    @Test
+    @DisplayName("Given Payment Id When Get Payment Should Issue One Select")
+    void integrationTestGivenPaymentId_when_GetPayment_ShouldIssueOneSelect() throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/payments/" + paymentId)).andExpect(status().isOk()))
+                .assertStatements(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    @DisplayName("Given Page Size When List Payments Should Issue Same Statements For Any Page Size")
+    void integrationTestGivenPageSize_when_ListPayments_ShouldIssueSameStatementsForAnyPageSize(int pageSize) throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/payments").param("pageNumber", "0").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk()))
+                .assertStatements(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    @DisplayName("Given Page Size When List Payments By Cursor Should Issue One Select For Any Page Size")
+    void integrationTestGivenPageSize_when_ListPaymentsByCursor_ShouldIssueOneSelectForAnyPageSize(int pageSize) throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/payments/cursor").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk()))
+                .assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("Given Pending Payment When Authorize Payment Should Claim And Finish With Conditional Updates And Change Log Entries")
+    void integrationTestGivenPendingPayment_when_AuthorizePayment_ShouldClaimAndFinishWithConditionalUpdatesAndChangeLogEntries() throws Exception {
+        UUID id = paymentRepository.save(Payment
+                .builder()
+                .amount(new BigDecimal("10.00"))
+                .paymentStatus(PaymentStatus.PENDING)
+                .build()).getId();
+        given(paymentClient.validatePaymentAuthorization()).willReturn(ResponseEntity.ok().build());
+
+        SqlCapture.of(() -> mockMvc.perform(patch("/payments/" + id)).andExpect(status().isNoContent()))
+                .assertStatements(Kind.UPDATE, 2)
+                .assertStatements(Kind.INSERT, 2)
+                .assertStatements(5);
+    }
+}
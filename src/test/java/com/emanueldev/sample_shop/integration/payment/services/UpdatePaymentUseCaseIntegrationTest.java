@@ -0,0 +1,97 @@
+package com.emanueldev.sample_shop.integration.payment.services;
+
+import com.emanueldev.sample_shop.clients.PaymentClient;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.services.payments.UpdatePaymentUseCase;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class UpdatePaymentUseCaseIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private UpdatePaymentUseCase updatePaymentUseCase;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private PaymentClient paymentClient;
+
+    @DisplayName("Integration test given pending payment when authorizing should not hold a connection during the authorizer call")
+    @Test
+    void integrationTestGivenPendingPayment_when_Authorizing_ShouldNotHoldAConnectionDuringTheAuthorizerCall() {
+        Payment payment = paymentRepository.save(Payment
+                .builder()
+                .amount(new BigDecimal("950.00"))
+                .paymentStatus(PaymentStatus.PENDING)
+                .build());
+
+        AtomicInteger activeConnections = new AtomicInteger(-1);
+        AtomicReference<Boolean> transactionActive = new AtomicReference<>();
+        AtomicReference<PaymentStatus> statusDuringCall = new AtomicReference<>();
+
+        given(paymentClient.validatePaymentAuthorization()).willAnswer(invocation -> {
+            activeConnections.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            statusDuringCall.set(paymentRepository.findById(payment.getId()).orElseThrow().getPaymentStatus());
+            return ResponseEntity.ok().build();
+        });
+
+        updatePaymentUseCase.execute(payment.getId());
+
+        assertEquals(0, activeConnections.get());
+        assertFalse(transactionActive.get());
+        assertEquals(PaymentStatus.AUTHORIZING, statusDuringCall.get());
+        assertEquals(PaymentStatus.PAID, paymentRepository.findById(payment.getId()).orElseThrow().getPaymentStatus());
+    }
+
+    @DisplayName("Integration test given stale claim taken over when releasing it should leave the new claim in place")
+    @Test
+    void integrationTestGivenStaleClaimTakenOver_when_ReleasingIt_ShouldLeaveTheNewClaimInPlace() {
+        Payment payment = paymentRepository.save(Payment
+                .builder()
+                .amount(new BigDecimal("950.00"))
+                .paymentStatus(PaymentStatus.PENDING)
+                .build());
+
+        LocalDateTime staleClaim = updatePaymentUseCase.claim(payment.getId());
+        LocalDateTime takeover = staleClaim.plusSeconds(1);
+        transactionTemplate.executeWithoutResult(status -> paymentRepository.claimStatus(
+                payment.getId(), PaymentStatus.AUTHORIZING, List.of(PaymentStatus.PENDING), takeover, takeover));
+
+        assertThrows(HttpConflictException.class, () -> updatePaymentUseCase.release(payment.getId(), staleClaim));
+        assertEquals(PaymentStatus.AUTHORIZING, paymentRepository.findById(payment.getId()).orElseThrow().getPaymentStatus());
+
+        given(paymentClient.validatePaymentAuthorization()).willReturn(ResponseEntity.ok().build());
+
+        assertEquals(PaymentStatus.PAID, updatePaymentUseCase.complete(payment.getId(), takeover));
+        assertEquals(PaymentStatus.PAID, paymentRepository.findById(payment.getId()).orElseThrow().getPaymentStatus());
+    }
+}
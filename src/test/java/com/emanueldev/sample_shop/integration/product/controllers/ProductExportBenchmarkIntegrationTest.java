@@ -0,0 +1,99 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.BenchmarkSupport;
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.services.products.ImportProductsUseCase;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with -Dbenchmark.export.rows=1000000 to export a 1M products catalog; compare the printed peak
+// live heap between row counts to check that it does not grow with the export size.
+@EnabledIfSystemProperty(named = "benchmark.export.rows", matches = "\\d+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, properties = {
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false"
+})
+public class ProductExportBenchmarkIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Test
+    @DisplayName("Given Catalog When Export Products then Print Export Throughput And Peak Heap")
+    void integrationTestGivenCatalog_when_ExportProducts_ShouldPrintExportThroughputAndPeakHeap() throws Exception {
+        long rows = Long.getLong("benchmark.export.rows");
+        importProductsUseCase.execute(generatedRows(rows), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        System.gc();
+        long baselineHeap = liveHeap();
+
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(liveHeap(), Math::max), 0, 100, TimeUnit.MILLISECONDS);
+
+        HttpRequest request = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + TestConfigs.SERVER_PORT + "/api/v1/products/export"))
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        HttpResponse<InputStream> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        long exportedRows = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            while (reader.readLine() != null) {
+                exportedRows++;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        heapSampler.shutdownNow();
+
+        System.out.printf("product export rows=%d elapsed=%d ms throughput=%.1f rows/s live heap before=%d MB peak live heap=%d MB%n",
+                exportedRows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                exportedRows / (elapsedNanos / 1_000_000_000.0),
+                baselineHeap / (1024 * 1024), peakHeap.get() / (1024 * 1024));
+
+        assertEquals(200, response.statusCode());
+        assertTrue(exportedRows >= rows);
+    }
+
+    // Heap still in use right after the last collection of each pool, so garbage produced while
+    // streaming does not count as retained memory.
+    private long liveHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans()
+                .stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+                .mapToLong(pool -> pool.getCollectionUsage().getUsed())
+                .sum();
+    }
+
+    private InputStream generatedRows(long rows) {
+        String runId = BenchmarkSupport.runId();
+
+        return BenchmarkSupport.generatedRows(rows, row -> BenchmarkSupport.productRow(
+                "Produto " + runId + " " + row, "Produto gerado para o benchmark de exportação.", 19.90, 10));
+    }
+}
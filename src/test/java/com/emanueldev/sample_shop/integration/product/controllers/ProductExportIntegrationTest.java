@@ -0,0 +1,119 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.orders.CreateOrderUseCase;
+import com.emanueldev.sample_shop.services.products.ConfigureProductStockShardsUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@SpringBootTest
+public class ProductExportIntegrationTest extends TestContainersConfig {
+
+    private static final int PRODUCTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ConfigureProductStockShardsUseCase configureProductStockShardsUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    private List<UUID> productIds;
+
+    @BeforeAll
+    void setup() {
+        productIds = new ArrayList<>();
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(productRepository.save(Product
+                    .builder()
+                    .name("Produto exportado " + i)
+                    .description("Produto usado na exportação, com vírgula.")
+                    .price(new BigDecimal("15.50"))
+                    .stockQuantity(40L)
+                    .build()).getId());
+        }
+
+        configureProductStockShardsUseCase.execute(productIds.get(0), 4);
+        createOrderUseCase.execute(new OrderRequestDTO(List.of(new OrderItemRequestDTO(productIds.get(0).toString(), 5L))));
+    }
+
+    @Test
+    @DisplayName("Given Products When Export As NDJSON Should Stream Every Product From One Select")
+    void integrationTestGivenProducts_when_ExportAsNdjson_ShouldStreamEveryProductFromOneSelect() throws Exception {
+        SqlCapture capture = SqlCapture.of(() -> mockMvc.perform(get("/products/export"))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                        .andReturn())
+                .assertStatements(Kind.SELECT, 1)
+                .assertStatements(1);
+
+        MvcResult result = capture.getResult();
+        List<JsonNode> exported = new ArrayList<>();
+
+        for (String line : result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode product = objectMapper.readTree(line);
+
+            if (productIds.contains(UUID.fromString(product.get("id").asText()))) {
+                exported.add(product);
+            }
+        }
+
+        assertEquals(PRODUCTS, exported.size());
+        assertEquals(productIds.get(0).toString(), exported.get(0).get("id").asText());
+        assertEquals(35L, exported.get(0).get("stockQuantity").asLong());
+        assertEquals("Produto exportado 29", exported.get(PRODUCTS - 1).get("name").asText());
+        assertEquals(15.5, exported.get(PRODUCTS - 1).get("price").asDouble());
+    }
+
+    @Test
+    @DisplayName("Given Products When Export As CSV Should Write Header And Quoted Values")
+    void integrationTestGivenProducts_when_ExportAsCsv_ShouldWriteHeaderAndQuotedValues() throws Exception {
+        String content = mockMvc.perform(get("/products/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = Arrays.asList(content.split("\r\n"));
+
+        assertEquals("id,name,description,price,stockQuantity,createdAt", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith(productIds.get(1)
+                + ",Produto exportado 1,\"Produto usado na exportação, com vírgula.\",15.50,40,")));
+    }
+}
@@ -0,0 +1,131 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.BenchmarkSupport;
+import com.emanueldev.sample_shop.config.ProductFilterProperties;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.ImportProductsUseCase;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterHits;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.filter.ProductStockStatus;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with -Dbenchmark.filter.products=1000000 to filter a 1M products catalog.
+@EnabledIfSystemProperty(named = "benchmark.filter.products", matches = "\\d+")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false"
+})
+public class ProductFilterBenchmarkIntegrationTest extends TestContainersConfig {
+
+    private record Query(String name, List<String> priceRanges, List<ProductStockStatus> stockStatuses, boolean deepPage) {
+    }
+
+    private static final List<Query> QUERIES = List.of(
+            new Query("none", List.of(), List.of(), false),
+            new Query("price=50-100", List.of("50-100"), List.of(), false),
+            new Query("price=100-250 stock=LOW_STOCK", List.of("100-250"), List.of(ProductStockStatus.LOW_STOCK), false),
+            new Query("price=0-50,250-500,1000-2500 stock=IN_STOCK",
+                    List.of("0-50", "250-500", "1000-2500"), List.of(ProductStockStatus.IN_STOCK), false),
+            new Query("stock=OUT_OF_STOCK", List.of(), List.of(ProductStockStatus.OUT_OF_STOCK), false),
+            new Query("price=50-100,100-250 stock=IN_STOCK deep page", List.of("50-100", "100-250"), List.of(ProductStockStatus.IN_STOCK), true)
+    );
+
+    @Autowired
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductFilterProperties productFilterProperties;
+
+    @Test
+    @DisplayName("Given Catalog When Filter Products then Print Memory And Latency")
+    void integrationTestGivenCatalog_when_FilterProducts_ShouldPrintMemoryAndLatency() throws Exception {
+        long products = Long.getLong("benchmark.filter.products");
+        importProductsUseCase.execute(generatedRows(products), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        // A second index, so the heap it takes is measured apart from the one the context already holds.
+        ProductFilterIndex index = new ProductFilterIndex(
+                productRepository, transactionTemplate, productFilterProperties, new SimpleMeterRegistry());
+
+        long heapBefore = BenchmarkSupport.usedHeapAfterGc();
+        long startedAt = System.nanoTime();
+        index.rebuild();
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long heapAfter = BenchmarkSupport.usedHeapAfterGc();
+
+        System.out.printf("product filter index products=%d build=%d ms heap=%d MB bitmaps=%d KB%n",
+                index.size(), buildMillis, (heapAfter - heapBefore) / (1024 * 1024), index.bitmapBytes() / 1024);
+
+        for (Query query : QUERIES) {
+            long skip = query.deepPage()
+                    ? index.filter(query.priceRanges(), query.stockStatuses(), 0, 1).totalItems() / 2
+                    : 0;
+
+            for (int i = 0; i < 1000; i++) {
+                index.filter(query.priceRanges(), query.stockStatuses(), skip, 20);
+            }
+
+            long[] latencies = new long[5000];
+            ProductFilterHits hits = null;
+
+            for (int i = 0; i < latencies.length; i++) {
+                long queryStartedAt = System.nanoTime();
+                hits = index.filter(query.priceRanges(), query.stockStatuses(), skip, 20);
+                latencies[i] = System.nanoTime() - queryStartedAt;
+            }
+
+            BenchmarkSupport.print("filter " + query.name() + " matches=" + hits.totalItems(), latencies);
+            assertEquals(20, hits.ids().size());
+        }
+
+        // Reservations and releases of a single product, applied one order at a time as the inventory does.
+        List<UUID> ids = index.filter(List.of(), List.of(), 0, 10_000).ids();
+        Random random = new Random(7);
+        long[] stockLatencies = new long[10_000];
+
+        for (int i = 0; i < stockLatencies.length; i++) {
+            UUID productId = ids.get(random.nextInt(ids.size()));
+            long stockStartedAt = System.nanoTime();
+            index.adjustStock(Map.of(productId, i % 2 == 0 ? -3L : 3L));
+            stockLatencies[i] = System.nanoTime() - stockStartedAt;
+        }
+
+        BenchmarkSupport.print("adjust stock", stockLatencies);
+
+        assertTrue(index.size() >= products);
+    }
+
+    // Mostly cheap products and a tenth of them with little or no stock left.
+    private InputStream generatedRows(long rows) {
+        String runId = BenchmarkSupport.runId();
+        Random random = new Random(42);
+
+        return BenchmarkSupport.generatedRows(rows, row -> {
+            String name = "Produto filtrado " + row + " " + runId;
+            double price = 0.99 + Math.min(4999.0, Math.abs(random.nextGaussian()) * 400);
+            long stockQuantity = random.nextInt(10) == 0 ? random.nextInt(6) : 6 + random.nextInt(895);
+
+            return BenchmarkSupport.productRow(name, name + ".", price, stockQuantity);
+        });
+    }
+}
@@ -0,0 +1,199 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductStockShardsRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.FilteredProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductFacetDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Narrow price ranges that no other test writes products in, so each test only sees its own products.
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "product-filter.price-bounds=4999.91,4999.92,4999.93,4999.94,4999.95")
+public class ProductFilterIntegrationTest extends TestContainersConfig {
+
+    private static final String LISTED_RANGE = "4999.91-4999.92";
+    private static final String OTHER_RANGE = "4999.92-4999.93";
+    private static final String ORDERED_RANGE = "4999.93-4999.94";
+    private static final String UPDATED_RANGE = "4999.94-4999.95";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductFilterIndex productFilterIndex;
+
+    private ProductResponseDTO createProduct(String price, long stockQuantity) throws Exception {
+        String name = "Produto " + UUID.randomUUID();
+        ProductRequestDTO request = new ProductRequestDTO(name, name + ".", new BigDecimal(price), stockQuantity);
+
+        MvcResult result = mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ProductResponseDTO.class);
+    }
+
+    private String createOrder(UUID productId, long quantity) throws Exception {
+        Map<String, Object> request = Map.of("items", List.of(Map.of("productId", productId.toString(), "quantity", quantity)));
+
+        MvcResult result = mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private FilteredProductResponseDTO filter(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), FilteredProductResponseDTO.class);
+    }
+
+    private List<UUID> filteredIds(String priceRange, String stockStatus) throws Exception {
+        return this.filter(get("/products/filter").param("priceRange", priceRange).param("stockStatus", stockStatus))
+                .getProducts()
+                .stream()
+                .map(ProductResponseDTO::getId)
+                .toList();
+    }
+
+    private static long count(List<ProductFacetDTO> facets, String value) {
+        return facets.stream().filter(facet -> facet.getValue().equals(value)).findFirst().orElseThrow().getCount();
+    }
+
+    @Test
+    @DisplayName("Given Products In Price Ranges When Filter Should Intersect Filters And Count Facets")
+    void integrationTestGivenProductsInPriceRanges_when_Filter_ShouldIntersectFiltersAndCountFacets() throws Exception {
+        ProductResponseDTO outOfStock = createProduct("4999.91", 0);
+        ProductResponseDTO lowStock = createProduct("4999.91", 3);
+        ProductResponseDTO inStock = createProduct("4999.92", 50);
+
+        FilteredProductResponseDTO lowStockPage = this.filter(get("/products/filter")
+                .param("priceRange", LISTED_RANGE)
+                .param("stockStatus", "LOW_STOCK"));
+
+        assertEquals(List.of(lowStock.getId()), lowStockPage.getProducts().stream().map(ProductResponseDTO::getId).toList());
+        assertEquals(1, lowStockPage.getTotal_items());
+        assertEquals(1, count(lowStockPage.getPrice_ranges(), LISTED_RANGE));
+        assertEquals(0, count(lowStockPage.getPrice_ranges(), OTHER_RANGE));
+        assertEquals(1, count(lowStockPage.getStock_statuses(), "IN_STOCK"));
+        assertEquals(1, count(lowStockPage.getStock_statuses(), "OUT_OF_STOCK"));
+        assertEquals(1, count(lowStockPage.getStock_statuses(), "LOW_STOCK"));
+
+        SqlCapture capture = SqlCapture.of(() -> this.filter(get("/products/filter")
+                        .param("priceRange", LISTED_RANGE, OTHER_RANGE)
+                        .param("pageSize", "2")
+                        .param("pageNumber", "1")))
+                .assertAtMost(1);
+
+        FilteredProductResponseDTO secondPage = capture.getResult();
+        assertEquals(List.of(inStock.getId()), secondPage.getProducts().stream().map(ProductResponseDTO::getId).toList());
+        assertEquals(3, secondPage.getTotal_items());
+        assertEquals(2, secondPage.getTotal_pages());
+        assertEquals(List.of(outOfStock.getId(), lowStock.getId()), filteredIds(LISTED_RANGE, "OUT_OF_STOCK,IN_STOCK"));
+    }
+
+    @Test
+    @DisplayName("Given Orders And Cancellations When Filter Should Move Products Between Stock Statuses")
+    void integrationTestGivenOrdersAndCancellations_when_Filter_ShouldMoveProductsBetweenStockStatuses() throws Exception {
+        ProductResponseDTO rowStock = createProduct("4999.93", 2);
+        ProductResponseDTO shardedStock = createProduct("4999.93", 10);
+
+        mockMvc.perform(put("/products/{id}/stock-shards", shardedStock.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProductStockShardsRequestDTO(4))))
+                .andExpect(status().isOk());
+
+        String rowOrderId = createOrder(rowStock.getId(), 2);
+        createOrder(shardedStock.getId(), 7);
+
+        assertEquals(List.of(rowStock.getId()), filteredIds(ORDERED_RANGE, "OUT_OF_STOCK"));
+        assertEquals(List.of(shardedStock.getId()), filteredIds(ORDERED_RANGE, "LOW_STOCK"));
+
+        mockMvc.perform(delete("/orders/{id}", rowOrderId))
+                .andExpect(status().isNoContent());
+
+        assertTrue(filteredIds(ORDERED_RANGE, "OUT_OF_STOCK").isEmpty());
+        assertEquals(List.of(rowStock.getId(), shardedStock.getId()), filteredIds(ORDERED_RANGE, "LOW_STOCK"));
+
+        productFilterIndex.rebuild();
+
+        assertEquals(List.of(rowStock.getId(), shardedStock.getId()), filteredIds(ORDERED_RANGE, "LOW_STOCK"));
+    }
+
+    @Test
+    @DisplayName("Given Updated Deleted And Unindexed Products When Filter Should Reflect Them After Rebuild")
+    void integrationTestGivenUpdatedDeletedAndUnindexedProducts_when_Filter_ShouldReflectThemAfterRebuild() throws Exception {
+        ProductResponseDTO updated = createProduct("4999.91", 20);
+        ProductResponseDTO deleted = createProduct("4999.94", 20);
+
+        ProductRequestDTO update = new ProductRequestDTO(updated.getName(), updated.getDescription(), new BigDecimal("4999.94"), 20L);
+        mockMvc.perform(put("/products/{id}", updated.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/products/{id}", deleted.getId()))
+                .andExpect(status().isNoContent());
+
+        UUID savedId = productRepository.save(Product
+                .builder()
+                .name("Produto " + UUID.randomUUID())
+                .description("Gravado sem passar pelos casos de uso.")
+                .price(new BigDecimal("4999.94"))
+                .stockQuantity(20L)
+                .build()).getId();
+
+        assertEquals(List.of(updated.getId()), filteredIds(UPDATED_RANGE, "IN_STOCK"));
+
+        productFilterIndex.rebuild();
+
+        assertEquals(List.of(updated.getId(), savedId), filteredIds(UPDATED_RANGE, "IN_STOCK"));
+    }
+
+    @Test
+    @DisplayName("Given Unknown Price Range Or Stock Status When Filter Should Reject The Request")
+    void integrationTestGivenUnknownPriceRangeOrStockStatus_when_Filter_ShouldRejectTheRequest() throws Exception {
+        mockMvc.perform(get("/products/filter").param("priceRange", "10-20"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/filter").param("stockStatus", "ON_SALE"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/products/filter").param("pageSize", "101"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,76 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.BenchmarkSupport;
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportReportDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with -Dbenchmark.import.rows=1000000 to reproduce the 1M products import.
+@EnabledIfSystemProperty(named = "benchmark.import.rows", matches = "\\d+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, properties = {
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false"
+})
+public class ProductImportBenchmarkIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Given Generated Rows When Import Products then Print Import Throughput")
+    void integrationTestGivenGeneratedRows_when_ImportProducts_ShouldPrintImportThroughput() throws Exception {
+        long rows = Long.getLong("benchmark.import.rows");
+        String runId = BenchmarkSupport.runId();
+
+        HttpRequest request = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + TestConfigs.SERVER_PORT + "/api/v1/products/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> generatedRows(rows, runId)))
+                .build();
+
+        AtomicLong peakHeap = new AtomicLong();
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(() -> {
+            Runtime runtime = Runtime.getRuntime();
+            peakHeap.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsedNanos = System.nanoTime() - startedAt;
+        heapSampler.shutdownNow();
+
+        System.out.printf("product import rows=%d elapsed=%d ms throughput=%.1f rows/s peak heap=%d MB%n",
+                rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rows / (elapsedNanos / 1_000_000_000.0),
+                peakHeap.get() / (1024 * 1024));
+
+        assertEquals(200, response.statusCode(), response.body());
+        ProductImportReportDTO report = objectMapper.readValue(response.body(), ProductImportReportDTO.class);
+        assertEquals(rows, report.getImported_rows());
+        assertEquals(0, report.getFailed_rows());
+    }
+
+    private InputStream generatedRows(long rows, String runId) {
+        return BenchmarkSupport.generatedRows(rows, row -> BenchmarkSupport.productRow(
+                "Produto " + runId + " " + row, "Produto gerado para o benchmark de importação.", 19.90, 10));
+    }
+}
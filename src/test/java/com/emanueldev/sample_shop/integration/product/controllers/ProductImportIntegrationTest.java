@@ -0,0 +1,138 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportReportDTO;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "product-import.chunk-size=100")
+public class ProductImportIntegrationTest extends TestContainersConfig {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private ProductImportReportDTO importProducts(String contentType, String content) throws Exception {
+        MvcResult result = mockMvc.perform(post("/products/import")
+                        .contentType(contentType)
+                        .content(content))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ProductImportReportDTO.class);
+    }
+
+    private String ndjsonRow(String name, String price) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "name", name,
+                "description", "Produto importado em lote.",
+                "price", new BigDecimal(price),
+                "stockQuantity", 10)) + "\n";
+    }
+
+    @Test
+    @DisplayName("Given NDJSON Rows When Import Products Should Insert One Batch Per Chunk")
+    void integrationTestGivenNdjsonRows_when_ImportProducts_ShouldInsertOneBatchPerChunk() throws Exception {
+        int rows = CHUNK_SIZE * 2 + 50;
+        StringBuilder content = new StringBuilder();
+
+        for (int i = 0; i < rows; i++) {
+            content.append(ndjsonRow("Produto importado " + i, "19.90"));
+        }
+
+        SqlCapture capture = SqlCapture.of(() -> importProducts(MediaType.APPLICATION_NDJSON_VALUE, content.toString()))
+                .assertStatements(Kind.SELECT, 3)
+                .assertStatements(Kind.INSERT, 6);
+
+        ProductImportReportDTO report = capture.getResult();
+        assertEquals(rows, report.getTotal_rows());
+        assertEquals(rows, report.getImported_rows());
+        assertEquals(0, report.getFailed_rows());
+        assertTrue(productRepository.findByName("Produto importado " + (rows - 1)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Given Rows With Errors When Import Products Should Report Each Failed Row")
+    void integrationTestGivenRowsWithErrors_when_ImportProducts_ShouldReportEachFailedRow() throws Exception {
+        productRepository.save(Product
+                .builder()
+                .name("Produto já cadastrado")
+                .description("Produto cadastrado antes da importação.")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(5L)
+                .build());
+
+        String content = ndjsonRow("Produto já cadastrado", "10.00")
+                + ndjsonRow("Produto com erro", "0.10")
+                + ndjsonRow("Produto repetido", "10.00")
+                + ndjsonRow("Produto repetido", "12.00")
+                + "{\"name\": \n";
+
+        ProductImportReportDTO report = importProducts(MediaType.APPLICATION_NDJSON_VALUE, content);
+
+        assertEquals(5, report.getTotal_rows());
+        assertEquals(1, report.getImported_rows());
+        assertEquals(4, report.getFailed_rows());
+        assertEquals(1, report.getErrors().get(0).getLine());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, report.getErrors().get(0).getMessage());
+        assertEquals(2, report.getErrors().get(1).getLine());
+        assertTrue(report.getErrors().get(1).getErrors().containsKey("price"));
+        assertEquals(4, report.getErrors().get(2).getLine());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, report.getErrors().get(2).getMessage());
+        assertEquals(5, report.getErrors().get(3).getLine());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW, report.getErrors().get(3).getMessage());
+        assertEquals(new BigDecimal("10.00"), productRepository.findByName("Produto repetido").orElseThrow().getPrice());
+    }
+
+    @Test
+    @DisplayName("Given CSV Rows When Import Products Should Insert Them")
+    void integrationTestGivenCsvRows_when_ImportProducts_ShouldInsertThem() throws Exception {
+        String content = "name,description,price,stockQuantity\n"
+                + "\"Cadeira, gamer\",Cadeira gamer reclinável.,899.90,3\n"
+                + "Mesa de escritório,Mesa de escritório em L.,459.00,8\n";
+
+        ProductImportReportDTO report = importProducts("text/csv", content);
+
+        assertEquals(2, report.getImported_rows());
+        assertEquals(0, report.getFailed_rows());
+        assertEquals(3L, productRepository.findByName("Cadeira, gamer").orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Given CSV Without Header When Import Products Should Return Bad Request")
+    void integrationTestGivenCsvWithoutHeader_when_ImportProducts_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/products/import")
+                        .contentType("text/csv")
+                        .content("Mesa,Mesa de escritório em L.,459.00,8\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_HEADER));
+    }
+}
@@ -0,0 +1,194 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestConfigs;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@SpringBootTest
+public class ProductQueryBudgetIntegrationTest extends TestContainersConfig {
+
+    private static final int PRODUCTS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID productId;
+
+    @BeforeAll
+    void setup() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            productId = productRepository.save(Product
+                    .builder()
+                    .name("Produto do orçamento " + i)
+                    .description("Produto usado no orçamento de queries.")
+                    .price(new BigDecimal("10.00"))
+                    .stockQuantity(100L)
+                    .build()).getId();
+        }
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private String productBody(String name) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "name", name,
+                "description", "Produto usado no orçamento de queries.",
+                "price", new BigDecimal("25.00"),
+                "stockQuantity", 10));
+    }
+
+    private UUID createProduct() throws Exception {
+        MvcResult result = mockMvc.perform(post("/products")
+                        .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                        .content(productBody("Produto temporário")))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return UUID.fromString(objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText());
+    }
+
+    @Test
+    @DisplayName("Given Valid Product When Create Product Should Insert Product And Change Log Entry")
+    void integrationTestGivenValidProduct_when_CreateProduct_ShouldInsertProductAndChangeLogEntry() throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(post("/products")
+                                .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                                .content(productBody("Produto novo")))
+                        .andExpect(status().isCreated()))
+                .assertStatements(Kind.INSERT, 2)
+                .assertStatements(3);
+    }
+
+    @Test
+    @DisplayName("Given Product Id When Get Product Should Issue One Select")
+    void integrationTestGivenProductId_when_GetProduct_ShouldIssueOneSelect() throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/products/" + productId)).andExpect(status().isOk()))
+                .assertStatements(Kind.SELECT, 1)
+                .assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("Given Product In Second Level Cache When Get Product Should Issue No Statement")
+    void integrationTestGivenProductInSecondLevelCache_when_GetProduct_ShouldIssueNoStatement() throws Exception {
+        mockMvc.perform(get("/products/" + productId)).andExpect(status().isOk());
+
+        SqlCapture.of(() -> mockMvc.perform(get("/products/" + productId)).andExpect(status().isOk()))
+                .assertStatements(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    @DisplayName("Given Page Size When List Products Should Issue Same Statements For Any Page Size")
+    void integrationTestGivenPageSize_when_ListProducts_ShouldIssueSameStatementsForAnyPageSize(int pageSize) throws Exception {
+        SqlCapture.of(() -> mockMvc.perform(get("/products").param("pageNumber", "0").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk()))
+                .assertStatements(2);
+
+        SqlCapture.of(() -> mockMvc.perform(get("/products").param("pageNumber", "0").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk()))
+                .assertStatements(0);
+    }
+
+    @Test
+    @DisplayName("Given Cached Listing When Stock Of Listed Products Changes Should Reload Only Those Products")
+    void integrationTestGivenCachedListing_when_StockOfListedProductsChanges_ShouldReloadOnlyThoseProducts() throws Exception {
+        MvcResult result = mockMvc.perform(get("/products").param("pageNumber", "0").param("pageSize", "20"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode listedProducts = objectMapper.readTree(result.getResponse().getContentAsString()).get("products");
+        Map<UUID, Long> quantities = Map.of(
+                UUID.fromString(listedProducts.get(0).get("id").asText()), 1L,
+                UUID.fromString(listedProducts.get(7).get("id").asText()), 1L,
+                UUID.fromString(listedProducts.get(19).get("id").asText()), 1L);
+
+        transactionTemplate.executeWithoutResult(status -> productRepository.decrementStockIfAvailable(quantities));
+
+        SqlCapture.of(() -> mockMvc.perform(get("/products").param("pageNumber", "0").param("pageSize", "20"))
+                        .andExpect(status().isOk()))
+                .assertStatements(Kind.SELECT, quantities.size())
+                .assertStatements(quantities.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    @DisplayName("Given Page Size When List Products By Cursor Should Issue One Select For Any Page Size")
+    void integrationTestGivenPageSize_when_ListProductsByCursor_ShouldIssueOneSelectForAnyPageSize(int pageSize) throws Exception {
+        SqlCapture capture = SqlCapture.of(() -> mockMvc.perform(get("/products/cursor").param("pageSize", String.valueOf(pageSize)))
+                        .andExpect(status().isOk())
+                        .andReturn())
+                .assertStatements(1);
+
+        JsonNode response = objectMapper.readTree(capture.<MvcResult>getResult().getResponse().getContentAsString());
+
+        SqlCapture.of(() -> mockMvc.perform(get("/products/cursor")
+                                .param("pageSize", String.valueOf(pageSize))
+                                .param("cursor", response.get("next_cursor").asText()))
+                        .andExpect(status().isOk()))
+                .assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("Given Existent Product When Update Product Should Stay Within Budget")
+    void integrationTestGivenExistentProduct_when_UpdateProduct_ShouldStayWithinBudget() throws Exception {
+        UUID id = createProduct();
+
+        SqlCapture.of(() -> mockMvc.perform(put("/products/" + id)
+                                .contentType(TestConfigs.CONTENT_TYPE_JSON)
+                                .content(productBody("Produto atualizado")))
+                        .andExpect(status().isOk()))
+                .assertStatements(Kind.UPDATE, 1)
+                .assertStatements(Kind.INSERT, 1)
+                .assertStatements(3);
+    }
+
+    @Test
+    @DisplayName("Given Existent Product When Delete Product Should Stay Within Budget")
+    void integrationTestGivenExistentProduct_when_DeleteProduct_ShouldStayWithinBudget() throws Exception {
+        UUID id = createProduct();
+
+        SqlCapture.of(() -> mockMvc.perform(delete("/products/" + id)).andExpect(status().isNoContent()))
+                .assertStatements(Kind.DELETE, 1)
+                .assertStatements(Kind.INSERT, 1)
+                .assertStatements(2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.BenchmarkSupport;
+import com.emanueldev.sample_shop.config.ProductSearchProperties;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.ImportProductsUseCase;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with -Dbenchmark.search.products=1000000 to search a 1M products catalog.
+@EnabledIfSystemProperty(named = "benchmark.search.products", matches = "\\d+")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false"
+})
+public class ProductSearchBenchmarkIntegrationTest extends TestContainersConfig {
+
+    private static final String[] NOUNS = {
+            "geladeira", "fogão", "microondas", "cadeira", "mesa", "notebook", "celular", "televisão",
+            "ventilador", "liquidificador", "cafeteira", "aspirador", "sofá", "colchão", "armário", "fone",
+            "monitor", "teclado", "mouse", "impressora", "batedeira", "panela", "frigideira", "torradeira",
+            "lavadora", "secadora", "purificador", "ar condicionado", "churrasqueira", "bicicleta"
+    };
+
+    private static final String[] BRANDS = {
+            "Brastemp", "Electrolux", "Consul", "Samsung", "LG", "Philips", "Mondial", "Arno", "Britânia",
+            "Multilaser", "Dell", "Lenovo", "Motorola", "Tramontina", "Oster", "Midea", "Positivo", "Sony"
+    };
+
+    private static final String[] ADJECTIVES = {
+            "inox", "preto", "branco", "compacto", "portátil", "digital", "inverter", "silencioso", "premium",
+            "reclinável", "gamer", "elétrico", "automático", "slim", "turbo", "retrô", "smart", "bivolt"
+    };
+
+    private static final String[] FEATURES = {
+            "timer", "controle remoto", "wi-fi", "bluetooth", "painel touch", "filtro", "luz led",
+            "economia de energia", "função turbo", "garantia estendida", "design moderno", "alta potência"
+    };
+
+    private static final String[] QUERIES = {
+            "geladeira", "geladeira brastemp", "gel", "cadeira gamer reclin", "samsung smart inverter",
+            "m12345", "fone bluetooth", "ar condicionado inverter silencioso", "ca", "panela inox tramontina"
+    };
+
+    @Autowired
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductSearchProperties productSearchProperties;
+
+    @Test
+    @DisplayName("Given Catalog When Search Products then Print Query Latency")
+    void integrationTestGivenCatalog_when_SearchProducts_ShouldPrintQueryLatency() throws Exception {
+        long products = Long.getLong("benchmark.search.products");
+        importProductsUseCase.execute(generatedRows(products), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        // A second index, so the heap it takes is measured apart from the one the context already holds.
+        ProductSearchIndex index = new ProductSearchIndex(
+                productRepository, transactionTemplate, productSearchProperties, new SimpleMeterRegistry());
+
+        long heapBefore = BenchmarkSupport.usedHeapAfterGc();
+        long startedAt = System.nanoTime();
+        index.rebuild();
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long heapAfter = BenchmarkSupport.usedHeapAfterGc();
+
+        System.out.printf("product search index products=%d terms=%d build=%d ms heap=%d MB%n",
+                index.size(), index.termCount(), buildMillis, (heapAfter - heapBefore) / (1024 * 1024));
+
+        for (String query : QUERIES) {
+            for (int i = 0; i < 200; i++) {
+                index.search(query, 10);
+            }
+
+            long[] latencies = new long[1000];
+            long totalHits = 0;
+
+            for (int i = 0; i < latencies.length; i++) {
+                long queryStartedAt = System.nanoTime();
+                totalHits = index.search(query, 10).totalHits();
+                latencies[i] = System.nanoTime() - queryStartedAt;
+            }
+
+            BenchmarkSupport.print("search query=\"" + query + "\" hits=" + totalHits, latencies);
+        }
+
+        assertTrue(index.size() >= products);
+        assertFalse(index.search("geladeira brastemp", 10).ids().isEmpty());
+        assertEquals(List.of(), index.search("produtoinexistente", 10).ids());
+    }
+
+    private InputStream generatedRows(long rows) {
+        String runId = BenchmarkSupport.runId();
+        Random random = new Random(42);
+
+        return BenchmarkSupport.generatedRows(rows, row -> {
+            String noun = NOUNS[random.nextInt(NOUNS.length)];
+            String name = noun + " " + BRANDS[random.nextInt(BRANDS.length)] + " "
+                    + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " M" + row + " " + runId;
+            String description = noun + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " e "
+                    + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " com "
+                    + FEATURES[random.nextInt(FEATURES.length)] + " e "
+                    + FEATURES[random.nextInt(FEATURES.length)] + ", garantia de "
+                    + (1 + random.nextInt(24)) + " meses.";
+
+            return BenchmarkSupport.productRow(name, description, 19.90, 10);
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSearchResponseDTO;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter.Kind;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class ProductSearchIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    // Unique per test, so products written by other tests never match.
+    private String uniqueTerm() {
+        return "termo" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    private ProductResponseDTO createProduct(String name, String description) throws Exception {
+        ProductRequestDTO request = new ProductRequestDTO(name, description, new BigDecimal("99.90"), 10L);
+
+        MvcResult result = mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ProductResponseDTO.class);
+    }
+
+    private ProductSearchResponseDTO search(String query) throws Exception {
+        MvcResult result = mockMvc.perform(get("/products/search").param("q", query))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ProductSearchResponseDTO.class);
+    }
+
+    private List<UUID> ids(ProductSearchResponseDTO response) {
+        return response.getProducts().stream().map(ProductResponseDTO::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Given Created Products When Search Should Rank Them By Relevance From One Select")
+    void integrationTestGivenCreatedProducts_when_Search_ShouldRankThemByRelevanceFromOneSelect() throws Exception {
+        String term = uniqueTerm();
+        ProductResponseDTO inName = createProduct("Geladeira " + term, "Geladeira frost free 2 portas.");
+        ProductResponseDTO inDescription = createProduct("Fogão " + uniqueTerm(), "Fogão que combina com a geladeira " + term + ".");
+        createProduct("Microondas " + uniqueTerm(), "Microondas 20 litros.");
+
+        SqlCapture capture = SqlCapture.of(() -> search(term.substring(0, 10) + " GELADÉIRA"))
+                .assertStatements(Kind.SELECT, 1)
+                .assertStatements(1);
+
+        ProductSearchResponseDTO response = capture.getResult();
+        assertEquals(2, response.getTotal_hits());
+        assertEquals(List.of(inName.getId(), inDescription.getId()), ids(response));
+        assertEquals(inName.getName(), response.getProducts().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Given Updated And Deleted Products When Search Should Return Only Current Products")
+    void integrationTestGivenUpdatedAndDeletedProducts_when_Search_ShouldReturnOnlyCurrentProducts() throws Exception {
+        String term = uniqueTerm();
+        String newTerm = uniqueTerm();
+        ProductResponseDTO updated = createProduct("Cadeira " + term, "Cadeira gamer reclinável.");
+        ProductResponseDTO deleted = createProduct("Mesa " + term, "Mesa de escritório em L.");
+
+        ProductRequestDTO update = new ProductRequestDTO("Poltrona " + newTerm, "Poltrona reclinável.", new BigDecimal("899.90"), 3L);
+        mockMvc.perform(put("/products/{id}", updated.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/products/{id}", deleted.getId()))
+                .andExpect(status().isNoContent());
+
+        assertTrue(search(term).getProducts().isEmpty());
+        assertEquals(List.of(updated.getId()), ids(search(newTerm)));
+        assertEquals(List.of(updated.getId()), ids(search("poltrona reclin " + newTerm)));
+    }
+
+    @Test
+    @DisplayName("Given Products Written Outside The Use Cases When Rebuild Should Make Them Searchable")
+    void integrationTestGivenProductsWrittenOutsideTheUseCases_when_Rebuild_ShouldMakeThemSearchable() throws Exception {
+        String term = uniqueTerm();
+        UUID productId = productRepository.save(Product
+                .builder()
+                .name("Air fryer " + term)
+                .description("Air fryer 4 litros.")
+                .price(new BigDecimal("399.90"))
+                .stockQuantity(7L)
+                .build()).getId();
+
+        assertTrue(search(term).getProducts().isEmpty());
+
+        productSearchIndex.rebuild();
+
+        assertEquals(List.of(productId), ids(search(term)));
+    }
+
+    @Test
+    @DisplayName("Given Blank Query When Search Should Return Bad Request")
+    void integrationTestGivenBlankQuery_when_Search_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/products/search").param("q", ""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/search").param("q", "geladeira").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,155 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.BenchmarkSupport;
+import com.emanueldev.sample_shop.config.ProductSuggestionProperties;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow;
+import com.emanueldev.sample_shop.services.products.ImportProductsUseCase;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with -Dbenchmark.suggest.products=1000000 to suggest from a 1M products catalog.
+@EnabledIfSystemProperty(named = "benchmark.suggest.products", matches = "\\d+")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false"
+})
+public class ProductSuggestionBenchmarkIntegrationTest extends TestContainersConfig {
+
+    private static final String[] NOUNS = {
+            "geladeira", "fogão", "microondas", "cadeira", "mesa", "notebook", "celular", "televisão",
+            "ventilador", "liquidificador", "cafeteira", "aspirador", "sofá", "colchão", "armário", "fone",
+            "monitor", "teclado", "mouse", "impressora", "batedeira", "panela", "frigideira", "torradeira",
+            "lavadora", "secadora", "purificador", "ar condicionado", "churrasqueira", "bicicleta"
+    };
+
+    private static final String[] BRANDS = {
+            "Brastemp", "Electrolux", "Consul", "Samsung", "LG", "Philips", "Mondial", "Arno", "Britânia",
+            "Multilaser", "Dell", "Lenovo", "Motorola", "Tramontina", "Oster", "Midea", "Positivo", "Sony"
+    };
+
+    private static final String[] ADJECTIVES = {
+            "inox", "preto", "branco", "compacto", "portátil", "digital", "inverter", "silencioso", "premium",
+            "reclinável", "gamer", "elétrico", "automático", "slim", "turbo", "retrô", "smart", "bivolt"
+    };
+
+    private static final String[] PREFIXES = {
+            "g", "ge", "gela", "geladeira b", "geladeira brastemp inox", "geladeira brastemp inox m12",
+            "ar cond", "cadeira dell", "m", "xyz"
+    };
+
+    @Autowired
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductSuggestionProperties productSuggestionProperties;
+
+    @Test
+    @DisplayName("Given Catalog When Suggest Products then Print Memory And Latency")
+    void integrationTestGivenCatalog_when_SuggestProducts_ShouldPrintMemoryAndLatency() throws Exception {
+        long products = Long.getLong("benchmark.suggest.products");
+        importProductsUseCase.execute(generatedRows(products), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        // A second index, so the heap it takes is measured apart from the one the context already holds.
+        ProductSuggestionIndex index = new ProductSuggestionIndex(
+                productRepository, transactionTemplate, productSuggestionProperties, new SimpleMeterRegistry());
+
+        long heapBefore = BenchmarkSupport.usedHeapAfterGc();
+        long startedAt = System.nanoTime();
+        index.rebuild();
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        long heapAfter = BenchmarkSupport.usedHeapAfterGc();
+
+        System.out.printf("product suggestion index products=%d nodes=%d build=%d ms heap=%d MB%n",
+                index.size(), index.nodeCount(), buildMillis, (heapAfter - heapBefore) / (1024 * 1024));
+
+        List<ProductSuggestionRow> rows = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductSuggestionRow> stream = productRepository.streamAllForSuggestions(productSuggestionProperties.getFetchSize())) {
+                stream.forEach(rows::add);
+            }
+        });
+
+        // A few best sellers and a long tail, recorded one order at a time as the use cases do.
+        Random random = new Random(7);
+        long[] saleLatencies = new long[10_000];
+
+        for (int i = 0; i < saleLatencies.length; i++) {
+            UUID productId = rows.get(random.nextInt(Math.min(rows.size(), 1 + random.nextInt(1000) * 1000))).id();
+            long saleStartedAt = System.nanoTime();
+            index.recordSales(Map.of(productId, 1L + random.nextInt(5)));
+            saleLatencies[i] = System.nanoTime() - saleStartedAt;
+        }
+
+        BenchmarkSupport.print("record sale", saleLatencies);
+
+        long[] renameLatencies = new long[1000];
+
+        for (int i = 0; i < renameLatencies.length; i++) {
+            ProductSuggestionRow row = rows.get(random.nextInt(rows.size()));
+            Product product = Product.builder().id(row.id()).name("Renomeado " + row.name()).version(row.version()).build();
+            long renameStartedAt = System.nanoTime();
+            index.index(List.of(product));
+            renameLatencies[i] = System.nanoTime() - renameStartedAt;
+        }
+
+        BenchmarkSupport.print("rename product", renameLatencies);
+
+        for (String prefix : PREFIXES) {
+            for (int i = 0; i < 10_000; i++) {
+                index.suggest(prefix, 10);
+            }
+
+            long[] latencies = new long[100_000];
+            int suggestions = 0;
+
+            for (int i = 0; i < latencies.length; i++) {
+                long queryStartedAt = System.nanoTime();
+                suggestions = index.suggest(prefix, 10).size();
+                latencies[i] = System.nanoTime() - queryStartedAt;
+            }
+
+            BenchmarkSupport.print("suggest prefix=\"" + prefix + "\" suggestions=" + suggestions, latencies);
+        }
+
+        assertTrue(index.size() >= products);
+        assertEquals(10, index.suggest("ge", 10).size());
+        assertEquals(List.of(), index.suggest("produtoinexistente", 10));
+    }
+
+    private InputStream generatedRows(long rows) {
+        String runId = BenchmarkSupport.runId();
+        Random random = new Random(42);
+
+        return BenchmarkSupport.generatedRows(rows, row -> {
+            String noun = NOUNS[random.nextInt(NOUNS.length)];
+            String name = noun + " " + BRANDS[random.nextInt(BRANDS.length)] + " "
+                    + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " M" + row + " " + runId;
+
+            return BenchmarkSupport.productRow(name, name + ".", 19.90, 10);
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package com.emanueldev.sample_shop.integration.product.controllers;
+
+import com.emanueldev.sample_shop.config.SqlCapture;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionResponseDTO;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class ProductSuggestionIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    // Unique per test and used as the start of every name, so products written by other tests never match.
+    private String uniquePrefix() {
+        return "Termo" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    private ProductResponseDTO createProduct(String name) throws Exception {
+        ProductRequestDTO request = new ProductRequestDTO(name, name + ".", new BigDecimal("99.90"), 10L);
+
+        MvcResult result = mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ProductResponseDTO.class);
+    }
+
+    private String createOrder(UUID productId, long quantity) throws Exception {
+        Map<String, Object> request = Map.of("items", List.of(Map.of("productId", productId.toString(), "quantity", quantity)));
+
+        MvcResult result = mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private List<UUID> suggest(String prefix) throws Exception {
+        MvcResult result = mockMvc.perform(get("/products/suggest").param("prefix", prefix))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ProductSuggestionResponseDTO.class)
+                .getSuggestions()
+                .stream()
+                .map(ProductSuggestionDTO::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Given Ordered Products When Suggest Should Rank Best Sellers First Without Queries")
+    void integrationTestGivenOrderedProducts_when_Suggest_ShouldRankBestSellersFirstWithoutQueries() throws Exception {
+        String prefix = uniquePrefix();
+        ProductResponseDTO geladeira = createProduct(prefix + " Geladeira Eletrolux");
+        ProductResponseDTO fogao = createProduct(prefix + " Fogão 4 bocas");
+        createProduct(uniquePrefix() + " Microondas");
+
+        createOrder(fogao.getId(), 3);
+        String cancelledOrderId = createOrder(geladeira.getId(), 5);
+
+        SqlCapture capture = SqlCapture.of(() -> suggest(prefix.toLowerCase()))
+                .assertStatements(0);
+
+        List<UUID> suggestions = capture.getResult();
+        assertEquals(List.of(geladeira.getId(), fogao.getId()), suggestions);
+
+        mockMvc.perform(delete("/orders/{id}", cancelledOrderId))
+                .andExpect(status().isNoContent());
+
+        assertEquals(List.of(fogao.getId(), geladeira.getId()), suggest(prefix));
+        assertEquals(List.of(geladeira.getId()), suggest(prefix + " gelad"));
+    }
+
+    @Test
+    @DisplayName("Given Renamed And Deleted Products When Suggest Should Return Only Current Names")
+    void integrationTestGivenRenamedAndDeletedProducts_when_Suggest_ShouldReturnOnlyCurrentNames() throws Exception {
+        String prefix = uniquePrefix();
+        String newPrefix = uniquePrefix();
+        ProductResponseDTO renamed = createProduct(prefix + " Cadeira gamer");
+        ProductResponseDTO deleted = createProduct(prefix + " Mesa de escritório");
+
+        ProductRequestDTO update = new ProductRequestDTO(newPrefix + " Poltrona", "Poltrona reclinável.", new BigDecimal("899.90"), 3L);
+        mockMvc.perform(put("/products/{id}", renamed.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/products/{id}", deleted.getId()))
+                .andExpect(status().isNoContent());
+
+        assertTrue(suggest(prefix).isEmpty());
+        assertEquals(List.of(renamed.getId()), suggest(newPrefix + " pol"));
+    }
+
+    @Test
+    @DisplayName("Given Products Written Outside The Use Cases When Rebuild Should Suggest Them")
+    void integrationTestGivenProductsWrittenOutsideTheUseCases_when_Rebuild_ShouldSuggestThem() throws Exception {
+        String prefix = uniquePrefix();
+        UUID productId = productRepository.save(Product
+                .builder()
+                .name(prefix + " Air fryer")
+                .description("Air fryer 4 litros.")
+                .price(new BigDecimal("399.90"))
+                .stockQuantity(7L)
+                .build()).getId();
+
+        assertTrue(suggest(prefix).isEmpty());
+
+        productSuggestionIndex.rebuild();
+
+        assertEquals(List.of(productId), suggest(prefix));
+    }
+
+    @Test
+    @DisplayName("Given Blank Prefix When Suggest Should Return Bad Request")
+    void integrationTestGivenBlankPrefix_when_Suggest_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/products/suggest").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/suggest").param("prefix", "a".repeat(101)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,109 @@
+package com.emanueldev.sample_shop.load;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyReport {
+
+    public record EndpointStats(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    private static class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        private synchronized void add(long latencyNanos, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        private synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    public void startRecording() {
+        recording = true;
+    }
+
+    public void stopRecording() {
+        recording = false;
+    }
+
+    public void record(String endpoint, long latencyNanos, boolean error) {
+        if (recording) {
+            samples.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, error);
+        }
+    }
+
+    public List<EndpointStats> summarize(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        List<EndpointStats> stats = new ArrayList<>();
+
+        samples.forEach((endpoint, endpointSamples) -> {
+            long[] latencies = endpointSamples.sorted();
+            stats.add(new EndpointStats(
+                    endpoint,
+                    latencies.length,
+                    endpointSamples.errors,
+                    latencies.length / elapsedSeconds,
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.95),
+                    percentile(latencies, 0.99),
+                    percentile(latencies, 1.0)));
+        });
+
+        stats.sort(Comparator.comparing(EndpointStats::endpoint));
+        return stats;
+    }
+
+    public static String format(List<EndpointStats> stats) {
+        StringBuilder table = new StringBuilder(String.format("%-24s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        stats.forEach(endpoint -> table.append(String.format("%-24s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint.endpoint(), endpoint.requests(), endpoint.errors(), endpoint.throughputPerSecond(),
+                endpoint.p50Millis(), endpoint.p95Millis(), endpoint.p99Millis(), endpoint.maxMillis())));
+
+        return table.toString();
+    }
+
+    // Nearest-rank percentile, exact because every sample is kept.
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        int rank = (int) Math.ceil(percentile * sortedLatencies.length);
+        long nanos = sortedLatencies[Math.max(rank, 1) - 1];
+
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,268 @@
+package com.emanueldev.sample_shop.load;
+
+import com.emanueldev.sample_shop.config.StubAuthorizer;
+import com.emanueldev.sample_shop.config.TestContainersConfig;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Run with ./mvnw -P load-test test; tune with -Dload.duration=PT2M -Dload.concurrency=64 -Dload.max-p99-ms=300
+// or per endpoint with -Dload.max-p99-ms.orders.create=800.
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+public class MixedWorkloadLoadTest extends TestContainersConfig {
+
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int PRODUCTS = Integer.getInteger("load.products", 200);
+    private static final int AUTHORIZER_LATENCY_MS = Integer.getInteger("load.authorizer-latency-ms", 50);
+    private static final double MAX_P99_MS = Double.parseDouble(System.getProperty("load.max-p99-ms", "500"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private static final double MIN_THROUGHPUT = Double.parseDouble(System.getProperty("load.min-throughput", "0"));
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-test-report.json"));
+
+    private static final StubAuthorizer stubAuthorizer = startStubAuthorizer();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+
+    private final LatencyReport report = new LatencyReport();
+
+    private List<UUID> productIds;
+
+    private static StubAuthorizer startStubAuthorizer() {
+        try {
+            StubAuthorizer authorizer = new StubAuthorizer();
+            authorizer.respondWith(200, StubAuthorizer.AUTHORIZED_BODY, AUTHORIZER_LATENCY_MS);
+            return authorizer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void paymentAuthorizer(DynamicPropertyRegistry registry) {
+        registry.add("payment.authorizer.url", stubAuthorizer::getUrl);
+    }
+
+    @BeforeAll
+    void seed() {
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product
+                    .builder()
+                    .name("Produto de carga " + i)
+                    .description("Produto criado para o teste de carga.")
+                    .price(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                    .stockQuantity(1_000_000L)
+                    .build());
+        }
+
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+    }
+
+    @AfterAll
+    void stopStubAuthorizer() {
+        stubAuthorizer.stop();
+    }
+
+    @Test
+    @DisplayName("Load test given seeded catalog when running mixed workload should stay within thresholds")
+    void loadTestGivenSeededCatalog_when_RunningMixedWorkload_ShouldStayWithinThresholds() throws Exception {
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(CONCURRENCY);
+        long warmupEndsAt = System.nanoTime() + WARMUP.toNanos();
+        long endsAt = warmupEndsAt + DURATION.toNanos();
+
+        List<Future<?>> users = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            users.add(virtualUsers.submit(() -> {
+                while (System.nanoTime() < endsAt) {
+                    this.runIteration(ThreadLocalRandom.current());
+                }
+                return null;
+            }));
+        }
+
+        Thread.sleep(WARMUP.toMillis());
+        report.startRecording();
+        long measuredFrom = System.nanoTime();
+        for (Future<?> user : users) {
+            user.get(DURATION.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        long elapsed = System.nanoTime() - measuredFrom;
+        report.stopRecording();
+        virtualUsers.shutdownNow();
+
+        List<LatencyReport.EndpointStats> stats = report.summarize(elapsed);
+        System.out.println(LatencyReport.format(stats));
+        this.writeReport(stats, elapsed);
+
+        List<String> violations = this.checkThresholds(stats, elapsed);
+        assertTrue(violations.isEmpty(), String.join(System.lineSeparator(), violations));
+    }
+
+    private void runIteration(Random random) throws Exception {
+        double workload = random.nextDouble();
+
+        if (workload < 0.35) {
+            this.send("products.page", "GET", "/products?pageNumber=" + random.nextInt(10) + "&pageSize=20", null, 200);
+        } else if (workload < 0.50) {
+            this.browseByCursor(random.nextInt(3) + 1);
+        } else if (workload < 0.70) {
+            this.send("products.get", "GET", "/products/" + this.randomProductId(random), null, 200);
+        } else if (workload < 0.90) {
+            JsonNode order = this.placeOrder(random);
+            if (order != null) {
+                this.send("orders.get", "GET", "/orders/" + order.get("id").asText(), null, 200);
+            }
+        } else {
+            JsonNode order = this.placeOrder(random);
+            if (order == null) {
+                return;
+            }
+
+            JsonNode payment = this.send("payments.create", "POST", "/payments",
+                    Map.of("orderId", order.get("id").asText()), 201);
+            if (payment != null) {
+                this.send("payments.authorize", "PATCH", "/payments/" + payment.get("id").asText(), null, 204);
+            }
+        }
+    }
+
+    private void browseByCursor(int pages) throws Exception {
+        String cursor = null;
+
+        for (int page = 0; page < pages; page++) {
+            String path = "/products/cursor?pageSize=20" + (cursor == null ? "" : "&cursor=" + cursor);
+            JsonNode response = this.send("products.cursor", "GET", path, null, 200);
+
+            if (response == null || response.get("next_cursor").isNull()) {
+                return;
+            }
+            cursor = response.get("next_cursor").asText();
+        }
+    }
+
+    private JsonNode placeOrder(Random random) throws Exception {
+        Set<UUID> products = new LinkedHashSet<>();
+        int items = random.nextInt(3) + 1;
+        while (products.size() < items) {
+            products.add(this.randomProductId(random));
+        }
+
+        List<Map<String, Object>> orderItems = products.stream()
+                .map(productId -> Map.<String, Object>of("productId", productId.toString(), "quantity", 1))
+                .toList();
+
+        return this.send("orders.create", "POST", "/orders", Map.of("items", orderItems), 201);
+    }
+
+    private UUID randomProductId(Random random) {
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+
+    private JsonNode send(String endpoint, String method, String path, Object body, int expectedStatus) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - start, true);
+            return null;
+        }
+        boolean error = response.statusCode() != expectedStatus;
+        report.record(endpoint, System.nanoTime() - start, error);
+
+        if (error || response.body().length == 0) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private List<String> checkThresholds(List<LatencyReport.EndpointStats> stats, long elapsedNanos) {
+        List<String> violations = new ArrayList<>();
+
+        for (LatencyReport.EndpointStats endpoint : stats) {
+            double maxP99 = Double.parseDouble(System.getProperty(
+                    "load.max-p99-ms." + endpoint.endpoint(), String.valueOf(MAX_P99_MS)));
+
+            if (endpoint.p99Millis() > maxP99) {
+                violations.add(String.format("%s p99 %.1f ms is above %.1f ms",
+                        endpoint.endpoint(), endpoint.p99Millis(), maxP99));
+            }
+            if (endpoint.errorRate() > MAX_ERROR_RATE) {
+                violations.add(String.format("%s error rate %.4f is above %.4f",
+                        endpoint.endpoint(), endpoint.errorRate(), MAX_ERROR_RATE));
+            }
+        }
+
+        double throughput = stats.stream().mapToLong(LatencyReport.EndpointStats::requests).sum()
+                / (elapsedNanos / 1_000_000_000.0);
+        if (throughput < MIN_THROUGHPUT) {
+            violations.add(String.format("throughput %.1f req/s is below %.1f req/s", throughput, MIN_THROUGHPUT));
+        }
+
+        return violations;
+    }
+
+    private void writeReport(List<LatencyReport.EndpointStats> stats, long elapsedNanos) throws IOException {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("duration_seconds", elapsedNanos / 1_000_000_000.0);
+        content.put("concurrency", CONCURRENCY);
+        content.put("authorizer_latency_ms", AUTHORIZER_LATENCY_MS);
+        content.put("endpoints", stats);
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        objectMapper
+                .copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .writer(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(REPORT.toFile(), content);
+    }
+}
@@ -0,0 +1,147 @@
+package com.emanueldev.sample_shop.unit.cache;
+
+import com.emanueldev.sample_shop.cache.EntityChangeListener;
+import com.emanueldev.sample_shop.cache.EntityChangePoller;
+import com.emanueldev.sample_shop.config.EntityChangeLogProperties;
+import com.emanueldev.sample_shop.models.EntityChange;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.EntityChangeRepository;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityChangePollerTest {
+
+    private static final String ORIGIN = "this-node";
+
+    private static final List<Long> NO_PENDING_IDS = List.of(-1L);
+
+    @Mock
+    private EntityChangeRepository entityChangeRepository;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private EntityChangeListener entityChangeListener;
+
+    private EntityChangePoller entityChangePoller;
+
+    @BeforeEach
+    void setup() {
+        entityChangePoller = new EntityChangePoller(
+                entityChangeRepository,
+                TransactionOperations.withoutTransaction(),
+                cache,
+                List.of(Product.class),
+                List.of(entityChangeListener),
+                ORIGIN,
+                new EntityChangeLogProperties());
+
+        given(entityChangeRepository.findLastId()).willReturn(10L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        entityChangePoller.close();
+    }
+
+    private static EntityChange change(long id, UUID entityId, String origin) {
+        return EntityChange
+                .builder()
+                .id(id)
+                .entityName("Product")
+                .entityId(entityId)
+                .origin(origin)
+                .build();
+    }
+
+    @DisplayName("Given Changes From Another Node When Poll then Evict Entities And Notify Listeners")
+    @Test
+    void testGivenChangesFromAnotherNode_WhenPoll_thenEvictEntitiesAndNotifyListeners() {
+        UUID productId = UUID.randomUUID();
+        UUID otherProductId = UUID.randomUUID();
+        given(entityChangeRepository.findChanges(eq(10L), eq(NO_PENDING_IDS), any(Limit.class)))
+                .willReturn(List.of(change(11, productId, "other-node"), change(12, otherProductId, "other-node")));
+
+        entityChangePoller.poll();
+
+        then(cache).should().evictEntityData(Product.class, productId);
+        then(cache).should().evictEntityData(Product.class, otherProductId);
+        then(cache).should().evictQueryRegions();
+        then(entityChangeListener).should().onChange(Product.class, List.of(productId, otherProductId));
+    }
+
+    @DisplayName("Given In Place Changes From Another Node When Poll then Evict Entities But Keep Cached Queries")
+    @Test
+    void testGivenInPlaceChangesFromAnotherNode_WhenPoll_thenEvictEntitiesButKeepCachedQueries() {
+        UUID productId = UUID.randomUUID();
+        EntityChange change = change(11, productId, "other-node");
+        change.setInPlace(true);
+        given(entityChangeRepository.findChanges(eq(10L), eq(NO_PENDING_IDS), any(Limit.class)))
+                .willReturn(List.of(change));
+
+        entityChangePoller.poll();
+
+        then(cache).should().evictEntityData(Product.class, productId);
+        then(cache).should(never()).evictQueryRegions();
+        then(entityChangeListener).should().onChange(Product.class, List.of(productId));
+    }
+
+    @DisplayName("Given Change From This Node When Poll then Do Not Evict")
+    @Test
+    void testGivenChangeFromThisNode_WhenPoll_thenDoNotEvict() {
+        given(entityChangeRepository.findChanges(eq(10L), eq(NO_PENDING_IDS), any(Limit.class)))
+                .willReturn(List.of(change(11, UUID.randomUUID(), ORIGIN)));
+
+        entityChangePoller.poll();
+
+        then(cache).shouldHaveNoInteractions();
+        then(entityChangeListener).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Given Skipped Id When Poll Again then Ask For It And Evict Once It Commits")
+    @Test
+    void testGivenSkippedId_WhenPollAgain_thenAskForItAndEvictOnceItCommits() {
+        UUID lateProductId = UUID.randomUUID();
+        given(entityChangeRepository.findChanges(eq(10L), eq(NO_PENDING_IDS), any(Limit.class)))
+                .willReturn(List.of(change(12, UUID.randomUUID(), "other-node")));
+        given(entityChangeRepository.findChanges(eq(12L), eq(List.of(11L)), any(Limit.class)))
+                .willReturn(List.of(change(11, lateProductId, "other-node")));
+
+        entityChangePoller.poll();
+        entityChangePoller.poll();
+        entityChangePoller.poll();
+
+        then(cache).should().evictEntityData(Product.class, lateProductId);
+        then(entityChangeRepository).should().findChanges(eq(12L), eq(NO_PENDING_IDS), any(Limit.class));
+    }
+
+    @DisplayName("Given Change Of Unknown Entity When Poll then Ignore It")
+    @Test
+    void testGivenChangeOfUnknownEntity_WhenPoll_thenIgnoreIt() {
+        EntityChange change = change(11, UUID.randomUUID(), "other-node");
+        change.setEntityName("Unknown");
+        given(entityChangeRepository.findChanges(eq(10L), eq(NO_PENDING_IDS), any(Limit.class)))
+                .willReturn(List.of(change));
+
+        entityChangePoller.poll();
+
+        then(cache).shouldHaveNoInteractions();
+    }
+}
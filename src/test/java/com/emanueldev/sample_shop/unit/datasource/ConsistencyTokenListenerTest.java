@@ -0,0 +1,101 @@
+package com.emanueldev.sample_shop.unit.datasource;
+
+import com.emanueldev.sample_shop.datasource.ConsistencyTokenListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsistencyTokenListenerTest {
+
+    private static final String HEADER = "X-Consistency-Token";
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private TransactionExecution transaction;
+
+    private MockHttpServletResponse response;
+
+    private ConsistencyTokenListener consistencyTokenListener;
+
+    @BeforeEach
+    void setup() {
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        consistencyTokenListener = new ConsistencyTokenListener(primary, HEADER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("Given committed write transaction When after commit Then should return primary GTID set as token")
+    @Test
+    void testGivenCommittedWriteTransaction_WhenAfterCommit_thenReturnPrimaryGtidSetAsToken() throws SQLException {
+        given(transaction.isReadOnly()).willReturn(false);
+        given(transaction.isNewTransaction()).willReturn(true);
+        given(primary.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery("SELECT @@GLOBAL.gtid_executed")).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getString(1)).willReturn("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27,\n4a1b2c3d-71ca-11e1-9e33-c80aa9429562:1-3");
+
+        consistencyTokenListener.afterCommit(transaction, null);
+
+        assertEquals("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27,4a1b2c3d-71ca-11e1-9e33-c80aa9429562:1-3",
+                response.getHeader(HEADER));
+    }
+
+    @DisplayName("Given read only transaction When after commit Then should not query primary")
+    @Test
+    void testGivenReadOnlyTransaction_WhenAfterCommit_thenNotQueryPrimary() {
+        given(transaction.isReadOnly()).willReturn(true);
+
+        consistencyTokenListener.afterCommit(transaction, null);
+
+        then(primary).shouldHaveNoInteractions();
+        assertNull(response.getHeader(HEADER));
+    }
+
+    @DisplayName("Given no current request When after commit Then should not query primary")
+    @Test
+    void testGivenNoCurrentRequest_WhenAfterCommit_thenNotQueryPrimary() {
+        RequestContextHolder.resetRequestAttributes();
+        given(transaction.isReadOnly()).willReturn(false);
+        given(transaction.isNewTransaction()).willReturn(true);
+
+        consistencyTokenListener.afterCommit(transaction, null);
+
+        then(primary).shouldHaveNoInteractions();
+    }
+}
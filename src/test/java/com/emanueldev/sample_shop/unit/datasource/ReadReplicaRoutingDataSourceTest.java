@@ -0,0 +1,197 @@
+package com.emanueldev.sample_shop.unit.datasource;
+
+import com.emanueldev.sample_shop.datasource.ReadConsistency;
+import com.emanueldev.sample_shop.datasource.ReadReplicaRoutingDataSource;
+import com.emanueldev.sample_shop.datasource.ReplicaDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplicaDataSource;
+
+    @Mock
+    private DataSource secondReplicaDataSource;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private static final String GTIDS = "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27";
+
+    private MeterRegistry meterRegistry;
+
+    private ReplicaDataSource firstReplica;
+
+    private ReplicaDataSource secondReplica;
+
+    private ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        firstReplica = new ReplicaDataSource("replica-1", firstReplicaDataSource);
+        secondReplica = new ReplicaDataSource("replica-2", secondReplicaDataSource);
+        firstReplica.markUp(0);
+        secondReplica.markUp(0);
+
+        readReplicaRoutingDataSource = new ReadReplicaRoutingDataSource(
+                primary, List.of(firstReplica, secondReplica), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadConsistency.clear();
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get(ReadReplicaRoutingDataSource.ROUTING_COUNTER)
+                .tags("target", target, "reason", reason)
+                .counter()
+                .count();
+    }
+
+    private void givenReplicaApplied(Connection connection, boolean applied) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getInt(1)).willReturn(applied ? 1 : 0);
+    }
+
+    @DisplayName("Given read write transaction When get connection Then should use primary")
+    @Test
+    void testGivenReadWriteTransaction_WhenGetConnection_thenUsePrimary() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        assertSame(primaryConnection, readReplicaRoutingDataSource.getConnection());
+        then(firstReplicaDataSource).shouldHaveNoInteractions();
+        then(secondReplicaDataSource).shouldHaveNoInteractions();
+        assertEquals(1, routed("primary", "write"));
+    }
+
+    @DisplayName("Given read only transactions When get connection Then should round robin between replicas")
+    @Test
+    void testGivenReadOnlyTransactions_WhenGetConnection_thenRoundRobinBetweenReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(firstReplicaDataSource.getConnection()).willReturn(firstReplicaConnection);
+        given(secondReplicaDataSource.getConnection()).willReturn(secondReplicaConnection);
+
+        assertSame(firstReplicaConnection, readReplicaRoutingDataSource.getConnection());
+        assertSame(secondReplicaConnection, readReplicaRoutingDataSource.getConnection());
+        assertSame(firstReplicaConnection, readReplicaRoutingDataSource.getConnection());
+        then(primary).shouldHaveNoInteractions();
+        assertEquals(3, routed("replica", "read"));
+    }
+
+    @DisplayName("Given unhealthy replica When get read only connection Then should skip it")
+    @Test
+    void testGivenUnhealthyReplica_WhenGetReadOnlyConnection_thenSkipIt() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        firstReplica.markDown();
+        given(secondReplicaDataSource.getConnection()).willReturn(secondReplicaConnection);
+
+        assertSame(secondReplicaConnection, readReplicaRoutingDataSource.getConnection());
+        assertSame(secondReplicaConnection, readReplicaRoutingDataSource.getConnection());
+        then(firstReplicaDataSource).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Given failing replicas When get read only connection Then should mark them down and fall back to primary")
+    @Test
+    void testGivenFailingReplicas_WhenGetReadOnlyConnection_thenMarkDownAndFallBackToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(firstReplicaDataSource.getConnection()).willThrow(new SQLException("Communications link failure"));
+        given(secondReplicaDataSource.getConnection()).willThrow(new SQLException("Communications link failure"));
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        assertSame(primaryConnection, readReplicaRoutingDataSource.getConnection());
+        assertFalse(firstReplica.isHealthy());
+        assertFalse(secondReplica.isHealthy());
+        assertEquals(1, routed("fallback", "unhealthy"));
+        assertEquals(0, meterRegistry.get(ReadReplicaRoutingDataSource.REPLICA_HEALTHY_GAUGE)
+                .tag("replica", "replica-1").gauge().value());
+
+        readReplicaRoutingDataSource.getConnection();
+        then(firstReplicaDataSource).should(times(1)).getConnection();
+        assertEquals(2, routed("fallback", "unhealthy"));
+    }
+
+    @DisplayName("Given consistency token When first replica is behind Then should use the replica that caught up")
+    @Test
+    void testGivenConsistencyToken_WhenFirstReplicaIsBehind_thenUseReplicaThatCaughtUp() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.require(GTIDS);
+        given(firstReplicaDataSource.getConnection()).willReturn(firstReplicaConnection);
+        given(secondReplicaDataSource.getConnection()).willReturn(secondReplicaConnection);
+        givenReplicaApplied(firstReplicaConnection, false);
+        givenReplicaApplied(secondReplicaConnection, true);
+
+        assertSame(secondReplicaConnection, readReplicaRoutingDataSource.getConnection());
+        then(firstReplicaConnection).should().close();
+        assertEquals(1, routed("replica", "caught_up"));
+        then(primary).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Given consistency token When no replica caught up Then should fall back to primary as lagging")
+    @Test
+    void testGivenConsistencyToken_WhenNoReplicaCaughtUp_thenFallBackToPrimaryAsLagging() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.require(GTIDS);
+        given(firstReplicaDataSource.getConnection()).willReturn(firstReplicaConnection);
+        given(secondReplicaDataSource.getConnection()).willReturn(secondReplicaConnection);
+        givenReplicaApplied(firstReplicaConnection, false);
+        givenReplicaApplied(secondReplicaConnection, false);
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        assertSame(primaryConnection, readReplicaRoutingDataSource.getConnection());
+        assertEquals(1, routed("fallback", "lagging"));
+        assertEquals(0, routed("fallback", "unhealthy"));
+        assertTrue(firstReplica.isHealthy());
+        assertTrue(secondReplica.isHealthy());
+    }
+
+    @DisplayName("Given credentials When get connection Then should pass them to the routed pool")
+    @Test
+    void testGivenCredentials_WhenGetConnection_thenPassThemToRoutedPool() throws SQLException {
+        given(primary.getConnection("reporting", "secret")).willReturn(primaryConnection);
+        given(firstReplicaDataSource.getConnection("reporting", "secret")).willReturn(firstReplicaConnection);
+
+        assertSame(primaryConnection, readReplicaRoutingDataSource.getConnection("reporting", "secret"));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstReplicaConnection, readReplicaRoutingDataSource.getConnection("reporting", "secret"));
+        assertEquals(1, routed("primary", "write"));
+        assertEquals(1, routed("replica", "read"));
+    }
+}
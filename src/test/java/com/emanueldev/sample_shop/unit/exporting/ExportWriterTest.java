@@ -0,0 +1,86 @@
+package com.emanueldev.sample_shop.unit.exporting;
+
+import com.emanueldev.sample_shop.models.OrderStatus;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
+import com.emanueldev.sample_shop.services.exporting.ExportWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "price", "status", "createdAt");
+
+    private ObjectMapper objectMapper;
+
+    private ByteArrayOutputStream outputStream;
+
+    private UUID id;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        outputStream = new ByteArrayOutputStream();
+        id = UUID.fromString("3492e3ef-e7de-4c18-81dd-8a814e43d54f");
+    }
+
+    @DisplayName("Given Rows When Write NDJSON then Write One Json Object Per Line")
+    @Test
+    void testGivenRows_WhenWriteNdjson_thenWriteOneJsonObjectPerLine() throws IOException {
+        try (ExportWriter writer = new ExportWriter(ExportFormat.NDJSON, COLUMNS, outputStream, objectMapper)) {
+            writer.writeRow(id, "Fogão \"4 bocas\"", new BigDecimal("299.90"), OrderStatus.PENDING, LocalDateTime.of(2025, 2, 10, 10, 0, 30));
+            writer.writeRow(id, null, new BigDecimal("10.00"), OrderStatus.DELIVERED, LocalDateTime.of(2025, 2, 11, 8, 15));
+
+            assertEquals(2, writer.getRows());
+        }
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(id.toString(), first.get("id").asText());
+        assertEquals("Fogão \"4 bocas\"", first.get("name").asText());
+        assertTrue(lines[0].contains("\"price\":299.90"));
+        assertEquals("PENDING", first.get("status").asText());
+        assertEquals("2025-02-10T10:00:30", first.get("createdAt").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("name").isNull());
+    }
+
+    @DisplayName("Given Values With Separators When Write CSV then Quote Only Those Values")
+    @Test
+    void testGivenValuesWithSeparators_WhenWriteCsv_thenQuoteOnlyThoseValues() throws IOException {
+        try (ExportWriter writer = new ExportWriter(ExportFormat.CSV, COLUMNS, outputStream, objectMapper)) {
+            writer.writeRow(id, "Cadeira, \"gamer\"", new BigDecimal("899.90"), OrderStatus.PENDING, LocalDateTime.of(2025, 2, 10, 10, 0, 30));
+            writer.writeRow(id, "Mesa\nde escritório", new BigDecimal("459.00"), null, LocalDateTime.of(2025, 2, 11, 8, 15, 1));
+        }
+
+        assertEquals("id,name,price,status,createdAt\r\n" +
+                id + ",\"Cadeira, \"\"gamer\"\"\",899.90,PENDING,2025-02-10T10:00:30\r\n" +
+                id + ",\"Mesa\nde escritório\",459.00,,2025-02-11T08:15:01\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("Given No Rows When Write CSV then Write Only The Header")
+    @Test
+    void testGivenNoRows_WhenWriteCsv_thenWriteOnlyTheHeader() throws IOException {
+        new ExportWriter(ExportFormat.CSV, COLUMNS, outputStream, objectMapper).close();
+
+        assertEquals("id,name,price,status,createdAt\r\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,147 @@
+package com.emanueldev.sample_shop.unit.inventory.services;
+
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.models.ProductStockShard;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.ProductStockShardRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedStockServiceTest {
+
+    @Mock
+    private ProductStockShardRepository productStockShardRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ShardedStockService shardedStockService;
+
+    private Product product;
+
+    @BeforeEach
+    void setup() {
+        product = Product
+                .builder()
+                .id(UUID.fromString("5a1f7b1e-8d0c-4f2e-9a55-3f0c2a6d7e11"))
+                .name("Console")
+                .description("Console disputado em promocao relampago.")
+                .price(new BigDecimal("2500.00"))
+                .stockQuantity(0L)
+                .stockShards(4)
+                .build();
+    }
+
+    @DisplayName("Given Random Shard With Enough Stock When Reserve then Decrement Only That Shard")
+    @Test
+    void testGivenRandomShardWithEnoughStock_WhenReserve_thenDecrementOnlyThatShard() {
+        given(productStockShardRepository.decrementIfAvailable(eq(product.getId()), anyInt(), eq(2L))).willReturn(1);
+
+        Map<UUID, Long> result = shardedStockService.reserve(List.of(product), Map.of(product.getId(), 2L));
+
+        assertTrue(result.isEmpty());
+        verify(productStockShardRepository, times(1)).decrementIfAvailable(eq(product.getId()), anyInt(), eq(2L));
+        verify(productStockShardRepository, never()).lockAllByProductId(any());
+    }
+
+    @DisplayName("Given Empty Random Shard When Reserve then Drain Locked Shards Without Trying The Others")
+    @Test
+    void testGivenEmptyRandomShard_WhenReserve_thenDrainLockedShardsWithoutTryingTheOthers() {
+        List<ProductStockShard> shards = List.of(shard(0, 0L), shard(1, 3L), shard(2, 0L), shard(3, 0L));
+
+        given(productStockShardRepository.decrementIfAvailable(eq(product.getId()), anyInt(), eq(2L))).willReturn(0);
+        given(productStockShardRepository.lockAllByProductId(product.getId())).willReturn(shards);
+
+        Map<UUID, Long> result = shardedStockService.reserve(List.of(product), Map.of(product.getId(), 2L));
+
+        assertTrue(result.isEmpty());
+        assertEquals(List.of(0L, 1L, 0L, 0L), shards.stream().map(ProductStockShard::getQuantity).toList());
+        verify(productStockShardRepository, times(1)).decrementIfAvailable(eq(product.getId()), anyInt(), eq(2L));
+    }
+
+    @DisplayName("Given No Shard With Enough Stock When Reserve then Drain Locked Shards")
+    @Test
+    void testGivenNoShardWithEnoughStock_WhenReserve_thenDrainLockedShards() {
+        List<ProductStockShard> shards = List.of(shard(0, 2L), shard(1, 1L), shard(2, 0L), shard(3, 3L));
+
+        given(productStockShardRepository.decrementIfAvailable(any(), anyInt(), anyLong())).willReturn(0);
+        given(productStockShardRepository.lockAllByProductId(product.getId())).willReturn(shards);
+
+        Map<UUID, Long> result = shardedStockService.reserve(List.of(product), Map.of(product.getId(), 5L));
+
+        assertTrue(result.isEmpty());
+        assertEquals(List.of(0L, 0L, 0L, 1L), shards.stream().map(ProductStockShard::getQuantity).toList());
+        verify(productStockShardRepository, times(1)).decrementIfAvailable(any(), anyInt(), anyLong());
+    }
+
+    @DisplayName("Given Insufficient Aggregated Stock When Reserve then Return Aggregated Stock")
+    @Test
+    void testGivenInsufficientAggregatedStock_WhenReserve_thenReturnAggregatedStock() {
+        List<ProductStockShard> shards = List.of(shard(0, 1L), shard(1, 1L), shard(2, 0L), shard(3, 1L));
+
+        given(productStockShardRepository.decrementIfAvailable(any(), anyInt(), anyLong())).willReturn(0);
+        given(productStockShardRepository.lockAllByProductId(product.getId())).willReturn(shards);
+
+        Map<UUID, Long> result = shardedStockService.reserve(List.of(product), Map.of(product.getId(), 5L));
+
+        assertEquals(Map.of(product.getId(), 3L), result);
+        assertEquals(List.of(1L, 1L, 0L, 1L), shards.stream().map(ProductStockShard::getQuantity).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("Given Single Row Product When Configure Shards then Distribute Stock Across Shards")
+    @Test
+    void testGivenSingleRowProduct_WhenConfigureShards_thenDistributeStockAcrossShards() {
+        product.setStockShards(0);
+        product.setStockQuantity(10L);
+        ArgumentCaptor<List<ProductStockShard>> captor = ArgumentCaptor.forClass(List.class);
+
+        shardedStockService.configure(product, 3);
+
+        verify(productStockShardRepository).saveAll(captor.capture());
+        assertEquals(List.of(4L, 3L, 3L), captor.getValue().stream().map(ProductStockShard::getQuantity).toList());
+        assertEquals(3, product.getStockShards());
+        assertEquals(10L, product.getStockQuantity());
+        verify(productRepository).save(product);
+    }
+
+    @DisplayName("Given Sharded Product When Disable Shards then Move Aggregated Stock Back To Product")
+    @Test
+    void testGivenShardedProduct_WhenDisableShards_thenMoveAggregatedStockBackToProduct() {
+        given(productStockShardRepository.lockAllByProductId(product.getId()))
+                .willReturn(List.of(shard(0, 2L), shard(1, 5L), shard(2, 0L), shard(3, 1L)));
+
+        shardedStockService.configure(product, 0);
+
+        verify(productStockShardRepository).deleteAllByProductId(product.getId());
+        verify(productStockShardRepository, never()).saveAll(any());
+        assertEquals(0, product.getStockShards());
+        assertEquals(8L, product.getStockQuantity());
+    }
+
+    private ProductStockShard shard(int shardIndex, long quantity) {
+        return ProductStockShard
+                .builder()
+                .product(product)
+                .shardIndex(shardIndex)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.emanueldev.sample_shop.unit.inventory.services;
+
+import com.emanueldev.sample_shop.config.InventoryProperties;
+import com.emanueldev.sample_shop.services.inventory.ConditionalUpdateInventoryManager;
+import com.emanueldev.sample_shop.services.inventory.StripedLockInventoryManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StripedLockInventoryManagerTest {
+
+    @Mock
+    private ConditionalUpdateInventoryManager delegate;
+
+    private StripedLockInventoryManager stripedLockInventoryManager;
+
+    private final UUID productId = UUID.fromString("a70a7f05-d5e4-4c2b-b96e-0750710d632d");
+
+    @BeforeEach
+    void setup() {
+        InventoryProperties inventoryProperties = new InventoryProperties();
+        inventoryProperties.setLockStripes(16);
+
+        stripedLockInventoryManager = new StripedLockInventoryManager(delegate, inventoryProperties);
+    }
+
+    @DisplayName("Given 500 Concurrent Buyers On One Product When Reserve then Never Oversell")
+    @Test
+    void testGiven500ConcurrentBuyersOnOneProduct_WhenReserve_thenNeverOversell() throws Exception {
+        int buyers = 500;
+        long initialStock = 100L;
+        long[] stock = { initialStock };
+
+        given(delegate.reserve(anyMap())).willAnswer(invocation -> {
+            long current = stock[0];
+            Thread.onSpinWait();
+            if (current < 1) {
+                return Map.of(productId, current);
+            }
+            stock[0] = current - 1;
+            return Map.of();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successfulReservations = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < buyers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (stripedLockInventoryManager.reserve(Map.of(productId, 1L)).isEmpty()) {
+                    successfulReservations.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(initialStock, successfulReservations.get());
+        assertEquals(0L, stock[0]);
+    }
+
+    @DisplayName("Given Delegate Failure When Reserve then Release Stripe Locks")
+    @Test
+    void testGivenDelegateFailure_WhenReserve_thenReleaseStripeLocks() throws Exception {
+        given(delegate.reserve(anyMap()))
+                .willThrow(new IllegalStateException("database unavailable"))
+                .willReturn(Map.of());
+
+        assertThrows(IllegalStateException.class, () -> stripedLockInventoryManager.reserve(Map.of(productId, 1L)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Map<UUID, Long>> otherThread = executor
+                .submit(() -> stripedLockInventoryManager.reserve(Map.of(productId, 1L)));
+
+        assertTrue(otherThread.get(5, TimeUnit.SECONDS).isEmpty());
+        executor.shutdown();
+    }
+}
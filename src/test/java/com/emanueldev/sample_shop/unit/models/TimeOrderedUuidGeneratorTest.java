@@ -0,0 +1,74 @@
+package com.emanueldev.sample_shop.unit.models;
+
+import com.emanueldev.sample_shop.models.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @DisplayName("Given Generated Uuid When Read Fields then Return Version 7 And Current Timestamp")
+    @Test
+    void testGivenGeneratedUuid_WhenReadFields_thenReturnVersion7AndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.nextUuid();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @DisplayName("Given Many Uuids In Same Millisecond When Compare Binary Form then Keep Generation Order")
+    @Test
+    void testGivenManyUuidsInSameMillisecond_WhenCompareBinaryForm_thenKeepGenerationOrder() {
+        List<byte[]> generated = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(toBytes(TimeOrderedUuidGenerator.nextUuid()));
+        }
+
+        for (int i = 1; i < generated.size(); i++) {
+            assertTrue(Arrays.compareUnsigned(generated.get(i - 1), generated.get(i)) < 0);
+        }
+    }
+
+    @DisplayName("Given Concurrent Generation When Generate Uuids then Never Repeat")
+    @Test
+    void testGivenConcurrentGeneration_WhenGenerateUuids_thenNeverRepeat() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                List<UUID> uuids = new ArrayList<>();
+                for (int j = 0; j < 5_000; j++) {
+                    uuids.add(TimeOrderedUuidGenerator.nextUuid());
+                }
+                return uuids;
+            }));
+        }
+
+        Set<UUID> uuids = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+            uuids.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(40_000, uuids.size());
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,144 @@
+package com.emanueldev.sample_shop.unit.observability;
+
+import com.emanueldev.sample_shop.config.QueryBudgetProperties;
+import com.emanueldev.sample_shop.observability.QueryBudgetFilter;
+import com.emanueldev.sample_shop.observability.RequestStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBudgetFilterTest {
+
+    private QueryBudgetProperties queryBudgetProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private QueryBudgetFilter queryBudgetFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setup() {
+        queryBudgetProperties = new QueryBudgetProperties();
+        queryBudgetProperties.setMaxStatements(2);
+        meterRegistry = new SimpleMeterRegistry();
+        queryBudgetFilter = new QueryBudgetFilter(queryBudgetProperties, meterRegistry);
+
+        request = new MockHttpServletRequest("GET", "/orders/1");
+        response = new MockHttpServletResponse();
+    }
+
+    private FilterChain chainIssuing(String... statements) {
+        return (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+            for (String statement : statements) {
+                RequestStatementCounter.recordStatement(statement);
+            }
+            RequestStatementCounter.record(RequestStatementCounter.Kind.ENTITY_LOAD);
+            servletResponse.getWriter().write("{}");
+        };
+    }
+
+    private DistributionSummary statements(String kind) {
+        return meterRegistry.get(QueryBudgetFilter.STATEMENTS_SUMMARY)
+                .tags("method", "GET", "uri", "/orders/{id}", "kind", kind)
+                .summary();
+    }
+
+    @DisplayName("Given request within budget When filter Then should record statements per kind without header")
+    @Test
+    void testGivenRequestWithinBudget_WhenFilter_thenRecordStatementsWithoutHeader() throws Exception {
+        queryBudgetFilter.doFilter(request, response, chainIssuing(
+                "/* load Order */ select o.id from orders o where o.id=?",
+                "insert into payments (id) values (?)"));
+
+        assertEquals(1, statements("select").totalAmount());
+        assertEquals(1, statements("insert").totalAmount());
+        assertEquals(0, statements("update").totalAmount());
+        assertEquals(1, statements("entity_load").totalAmount());
+        assertNull(response.getHeader(queryBudgetProperties.getHeaderName()));
+    }
+
+    @DisplayName("Given request over budget When filter Then should add statement count header before body is written")
+    @Test
+    void testGivenRequestOverBudget_WhenFilter_thenAddStatementCountHeader() throws Exception {
+        queryBudgetFilter.doFilter(request, response, chainIssuing(
+                "select * from orders",
+                "select * from order_items",
+                "update products set stock_quantity=? where id=?"));
+
+        assertEquals("3", response.getHeader(queryBudgetProperties.getHeaderName()));
+        assertEquals(2, statements("select").totalAmount());
+        assertEquals(1, statements("update").totalAmount());
+    }
+
+    @DisplayName("Given header disabled When request over budget Then should not add statement count header")
+    @Test
+    void testGivenHeaderDisabled_WhenRequestOverBudget_thenNotAddHeader() throws Exception {
+        queryBudgetProperties.setHeaderEnabled(false);
+
+        queryBudgetFilter.doFilter(request, response, chainIssuing(
+                "select 1", "select 2", "select 3"));
+
+        assertNull(response.getHeader(queryBudgetProperties.getHeaderName()));
+    }
+
+    @DisplayName("Given statements outside a request When record Then should be ignored")
+    @Test
+    void testGivenStatementsOutsideRequest_WhenRecord_thenIgnore() throws Exception {
+        RequestStatementCounter.recordStatement("select 1");
+
+        queryBudgetFilter.doFilter(request, response, chainIssuing());
+
+        assertEquals(0, statements("select").totalAmount());
+        RequestStatementCounter.recordStatement("select 1");
+        assertEquals(0, statements("select").totalAmount());
+    }
+
+    @DisplayName("Given enclosing counter When filter Then should count statements in both request and enclosing counter")
+    @Test
+    void testGivenEnclosingCounter_WhenFilter_thenCountInBothCounters() throws Exception {
+        RequestStatementCounter enclosing = RequestStatementCounter.startCapture();
+        try {
+            RequestStatementCounter.recordStatement("select 1");
+            queryBudgetFilter.doFilter(request, response, chainIssuing("select 2", "delete from orders"));
+            RequestStatementCounter.recordStatement("update products set name=?");
+        } finally {
+            RequestStatementCounter.stop();
+        }
+
+        assertEquals(4, enclosing.getStatementCount());
+        assertEquals(List.of("select 1", "select 2", "delete from orders", "update products set name=?"),
+                enclosing.getStatements());
+        assertEquals(1, statements("select").totalAmount());
+        assertEquals(1, statements("delete").totalAmount());
+    }
+
+    @DisplayName("Given request counter When record Then should count statements without keeping their text")
+    @Test
+    void testGivenRequestCounter_WhenRecord_thenCountWithoutKeepingText() {
+        RequestStatementCounter counter = RequestStatementCounter.start();
+        try {
+            RequestStatementCounter.recordStatement("select 1");
+            RequestStatementCounter.recordStatement("insert into tb_products values (?)");
+        } finally {
+            RequestStatementCounter.stop();
+        }
+
+        assertEquals(2, counter.getStatementCount());
+        assertEquals(List.of(), counter.getStatements());
+    }
+}
@@ -0,0 +1,91 @@
+package com.emanueldev.sample_shop.unit.observability;
+
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.observability.UseCaseMetricsAspect;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.services.payments.GetPaymentByIdUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UseCaseMetricsAspectTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private GetPaymentByIdUseCase getPaymentByIdUseCase;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new GetPaymentByIdUseCase(paymentRepository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        getPaymentByIdUseCase = proxyFactory.getProxy();
+    }
+
+    private Timer executionTimer(String outcome) {
+        return meterRegistry.get(UseCaseMetricsAspect.EXECUTION_TIMER)
+                .tags("usecase", "GetPaymentByIdUseCase", "outcome", outcome)
+                .timer();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get(UseCaseMetricsAspect.IN_FLIGHT_GAUGE)
+                .tag("usecase", "GetPaymentByIdUseCase")
+                .gauge()
+                .value();
+    }
+
+    @DisplayName("Given existent payment When execute Then should record success and track in flight executions")
+    @Test
+    void testGivenExistentPayment_WhenExecute_thenShouldRecordSuccessAndTrackInFlightExecutions() {
+        UUID paymentId = UUID.randomUUID();
+        AtomicReference<Double> inFlightDuringExecution = new AtomicReference<>();
+        given(paymentRepository.findById(paymentId)).willAnswer(invocation -> {
+            inFlightDuringExecution.set(this.inFlight());
+            return Optional.of(new Payment());
+        });
+
+        getPaymentByIdUseCase.execute(paymentId);
+
+        assertEquals(1, executionTimer("success").count());
+        assertEquals(1.0, inFlightDuringExecution.get());
+        assertEquals(0.0, this.inFlight());
+    }
+
+    @DisplayName("Given non existent payment When execute Then should record not found outcome and error")
+    @Test
+    void testGivenNonExistentPayment_WhenExecute_thenShouldRecordNotFoundOutcomeAndError() {
+        UUID paymentId = UUID.randomUUID();
+        given(paymentRepository.findById(paymentId)).willReturn(Optional.empty());
+
+        assertThrows(HttpNotFoundException.class, () -> getPaymentByIdUseCase.execute(paymentId));
+
+        assertEquals(1, executionTimer("not_found").count());
+        assertEquals(1, meterRegistry.get(UseCaseMetricsAspect.ERROR_COUNTER)
+                .tags("usecase", "GetPaymentByIdUseCase", "outcome", "not_found", "exception", "HttpNotFoundException")
+                .counter()
+                .count());
+        assertEquals(0.0, this.inFlight());
+    }
+}
@@ -0,0 +1,47 @@
+package com.emanueldev.sample_shop.unit.order.dto;
+
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.models.TimeOrderedUuidGenerator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderItemRequestDTOTest {
+
+    private Validator validator;
+
+    @BeforeEach
+    void setup() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @DisplayName("Given time ordered product id When validate Then should accept it")
+    @Test
+    void testGivenTimeOrderedProductId_WhenValidate_thenShouldAcceptIt() {
+        OrderItemRequestDTO item = new OrderItemRequestDTO(TimeOrderedUuidGenerator.nextUuid().toString(), 1L);
+
+        assertTrue(validator.validate(item).isEmpty());
+    }
+
+    @DisplayName("Given random product id When validate Then should accept it")
+    @Test
+    void testGivenRandomProductId_WhenValidate_thenShouldAcceptIt() {
+        OrderItemRequestDTO item = new OrderItemRequestDTO(UUID.randomUUID().toString(), 1L);
+
+        assertTrue(validator.validate(item).isEmpty());
+    }
+
+    @DisplayName("Given malformed product id When validate Then should reject it")
+    @Test
+    void testGivenMalformedProductId_WhenValidate_thenShouldRejectIt() {
+        OrderItemRequestDTO item = new OrderItemRequestDTO("not-an-uuid", 1L);
+
+        assertEquals(1, validator.validate(item).size());
+    }
+}
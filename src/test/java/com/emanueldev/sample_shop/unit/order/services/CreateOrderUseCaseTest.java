@@ -0,0 +1,218 @@
+package com.emanueldev.sample_shop.unit.order.services;
+
+import com.emanueldev.sample_shop.config.InventoryProperties;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderItemRequestDTO;
+import com.emanueldev.sample_shop.domain.orders.dto.request.OrderRequestDTO;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.OrderStatus;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.InventoryService;
+import com.emanueldev.sample_shop.services.orders.CreateOrderUseCase;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import com.emanueldev.sample_shop.utils.OrderExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateOrderUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Spy
+    private InventoryProperties inventoryProperties = new InventoryProperties();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @InjectMocks
+    private CreateOrderUseCase createOrderUseCase;
+
+    private Product product1;
+
+    private Product product2;
+
+    @BeforeEach
+    void setup() {
+        product1 = Product
+                .builder()
+                .id(UUID.fromString("a70a7f05-d5e4-4c2b-b96e-0750710d632d"))
+                .name("Geladeira Eletrolux")
+                .description("Geladeira Eletrolux 2 portas.")
+                .price(new BigDecimal("950.00"))
+                .stockQuantity(10L)
+                .build();
+
+        product2 = Product
+                .builder()
+                .id(UUID.fromString("de384fc4-4fc0-4f3e-a0a5-fd0468d15a88"))
+                .name("Fogão 4 bocas")
+                .description("Fogão de última geração.")
+                .price(new BigDecimal("300.00"))
+                .stockQuantity(5L)
+                .build();
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private OrderRequestDTO orderRequest(OrderItemRequestDTO... items) {
+        return new OrderRequestDTO(List.of(items));
+    }
+
+    @DisplayName("Given Order Items When Create Order then Load Products Once And Decrement Stock In A Single Call")
+    @Test
+    void testGivenOrderItems_WhenCreateOrder_thenLoadProductsOnceAndDecrementStockInASingleCall() {
+        OrderRequestDTO orderRequestDTO = orderRequest(
+                new OrderItemRequestDTO(product1.getId().toString(), 2L),
+                new OrderItemRequestDTO(product2.getId().toString(), 1L),
+                new OrderItemRequestDTO(product1.getId().toString(), 1L));
+
+        given(productRepository.findAllByIdCached(Set.of(product1.getId(), product2.getId())))
+                .willReturn(Map.of(product1.getId(), product1, product2.getId(), product2));
+        given(inventoryService.reserve(any(), eq(Map.of(product1.getId(), 3L, product2.getId(), 1L))))
+                .willReturn(Map.of());
+        given(productRepository.lockPrices(Set.of(product1.getId(), product2.getId())))
+                .willReturn(Map.of(product1.getId(), new BigDecimal("950.00"), product2.getId(), new BigDecimal("300.00")));
+        given(orderRepository.save(any(OrderModel.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        OrderModel order = createOrderUseCase.execute(orderRequestDTO);
+
+        assertNotNull(order);
+        assertEquals(OrderStatus.PENDING, order.getOrderStatus());
+        assertEquals(3, order.getOrderItems().size());
+        assertEquals(new BigDecimal("3150.00"), order.getTotalValue());
+        verify(productRepository, times(1)).findAllByIdCached(any());
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any(Product.class));
+        verify(productSuggestionIndex).recordSales(Map.of(product1.getId(), 3L, product2.getId(), 1L));
+    }
+
+    @DisplayName("Given Price Changed Since Product Was Cached When Create Order then Charge The Locked Row Price")
+    @Test
+    void testGivenPriceChangedSinceProductWasCached_WhenCreateOrder_thenChargeTheLockedRowPrice() {
+        OrderRequestDTO orderRequestDTO = orderRequest(new OrderItemRequestDTO(product1.getId().toString(), 2L));
+
+        given(productRepository.findAllByIdCached(any())).willReturn(Map.of(product1.getId(), product1));
+        given(inventoryService.reserve(any(), any())).willReturn(Map.of());
+        given(productRepository.lockPrices(Set.of(product1.getId())))
+                .willReturn(Map.of(product1.getId(), new BigDecimal("999.90")));
+        given(orderRepository.save(any(OrderModel.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        OrderModel order = createOrderUseCase.execute(orderRequestDTO);
+
+        assertEquals(new BigDecimal("999.90"), order.getOrderItems().get(0).getUnitPrice());
+        assertEquals(new BigDecimal("1999.80"), order.getTotalValue());
+    }
+
+    @DisplayName("Given Nonexistent Products When Create Order then Throws Not Found Exception With Each Product")
+    @Test
+    void testGivenNonexistentProducts_WhenCreateOrder_thenThrowsNotFoundExceptionWithEachProduct() {
+        UUID nonexistentProductId = UUID.fromString("3492e3ef-e7de-4c18-81dd-8a814e43d54f");
+        OrderRequestDTO orderRequestDTO = orderRequest(
+                new OrderItemRequestDTO(product1.getId().toString(), 1L),
+                new OrderItemRequestDTO(nonexistentProductId.toString(), 1L));
+
+        given(productRepository.findAllByIdCached(any())).willReturn(Map.of(product1.getId(), product1));
+
+        HttpNotFoundException result = assertThrows(HttpNotFoundException.class,
+                () -> createOrderUseCase.execute(orderRequestDTO));
+
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_NOT_FOUND, result.getMessage());
+        assertEquals(Map.of(nonexistentProductId.toString(), ProductExceptionMessageUtils.PRODUCT_NOT_FOUND), result.getErrors());
+        verify(inventoryService, never()).reserve(any(), any());
+        verify(orderRepository, never()).save(any(OrderModel.class));
+    }
+
+    @DisplayName("Given Products Without Stock When Create Order then Throws Bad Request Exception With Each Product")
+    @Test
+    void testGivenProductsWithoutStock_WhenCreateOrder_thenThrowsBadRequestExceptionWithEachProduct() {
+        OrderRequestDTO orderRequestDTO = orderRequest(
+                new OrderItemRequestDTO(product1.getId().toString(), 20L),
+                new OrderItemRequestDTO(product2.getId().toString(), 1L));
+
+        given(productRepository.findAllByIdCached(any())).willReturn(Map.of(product1.getId(), product1, product2.getId(), product2));
+        given(inventoryService.reserve(any(), any()))
+                .willReturn(Map.of(product1.getId(), 10L, product2.getId(), 0L));
+
+        HttpBadRequestException result = assertThrows(HttpBadRequestException.class,
+                () -> createOrderUseCase.execute(orderRequestDTO));
+
+        assertEquals(OrderExceptionMessageUtils.PRODUCT_DONT_HAVE_SUFFICIENT_STOCK, result.getMessage());
+        assertEquals(OrderExceptionMessageUtils.PRODUCT_DONT_HAVE_SUFFICIENT_STOCK, result.getErrors().get(product1.getId().toString()));
+        assertEquals(OrderExceptionMessageUtils.PRODUCT_OUT_OF_STOCK, result.getErrors().get(product2.getId().toString()));
+        verify(orderRepository, never()).save(any(OrderModel.class));
+    }
+
+    @DisplayName("Given Concurrent Stock Updates When Create Order then Retry Until Max Attempts And Throws Conflict Exception")
+    @Test
+    void testGivenConcurrentStockUpdates_WhenCreateOrder_thenRetryUntilMaxAttemptsAndThrowsConflictException() {
+        OrderRequestDTO orderRequestDTO = orderRequest(new OrderItemRequestDTO(product1.getId().toString(), 1L));
+
+        given(productRepository.findAllByIdCached(any())).willReturn(Map.of(product1.getId(), product1));
+        given(inventoryService.reserve(any(), any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Product.class, product1.getId()));
+
+        HttpConflictException result = assertThrows(HttpConflictException.class,
+                () -> createOrderUseCase.execute(orderRequestDTO));
+
+        assertEquals(OrderExceptionMessageUtils.ORDER_STOCK_CONFLICT, result.getMessage());
+        verify(inventoryService, times(inventoryProperties.getOptimisticMaxAttempts())).reserve(any(), any());
+        verify(orderRepository, never()).save(any(OrderModel.class));
+        verifyNoInteractions(productSuggestionIndex);
+    }
+
+    @DisplayName("Given Deadlock On Stock Shards When Create Order then Retry And Create Order")
+    @Test
+    void testGivenDeadlockOnStockShards_WhenCreateOrder_thenRetryAndCreateOrder() {
+        OrderRequestDTO orderRequestDTO = orderRequest(new OrderItemRequestDTO(product1.getId().toString(), 1L));
+
+        given(productRepository.findAllByIdCached(any())).willReturn(Map.of(product1.getId(), product1));
+        given(inventoryService.reserve(any(), any()))
+                .willThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .willReturn(Map.of());
+        given(productRepository.lockPrices(any())).willReturn(Map.of(product1.getId(), product1.getPrice()));
+        given(orderRepository.save(any(OrderModel.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        OrderModel result = createOrderUseCase.execute(orderRequestDTO);
+
+        assertEquals(OrderStatus.PENDING, result.getOrderStatus());
+        verify(inventoryService, times(2)).reserve(any(), any());
+        verify(orderRepository, times(1)).save(any(OrderModel.class));
+    }
+}
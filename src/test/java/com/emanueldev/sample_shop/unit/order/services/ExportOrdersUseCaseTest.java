@@ -0,0 +1,87 @@
+package com.emanueldev.sample_shop.unit.order.services;
+
+import com.emanueldev.sample_shop.config.ExportProperties;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.models.OrderStatus;
+import com.emanueldev.sample_shop.repositories.OrderRepository;
+import com.emanueldev.sample_shop.repositories.projections.OrderExportRow;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
+import com.emanueldev.sample_shop.services.orders.ExportOrdersUseCase;
+import com.emanueldev.sample_shop.utils.ExportExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportOrdersUseCaseTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private ExportProperties exportProperties;
+
+    private ExportOrdersUseCase exportOrdersUseCase;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setup() {
+        exportProperties = new ExportProperties();
+        exportOrdersUseCase = new ExportOrdersUseCase(orderRepository, exportProperties, new ObjectMapper());
+        from = LocalDateTime.of(2025, 2, 1, 0, 0);
+        to = LocalDateTime.of(2025, 3, 1, 0, 0);
+    }
+
+    @DisplayName("Given Date Range When Export Orders then Write One Row Per Item And Close The Cursor")
+    @Test
+    void testGivenDateRange_WhenExportOrders_thenWriteOneRowPerItemAndCloseTheCursor() throws IOException {
+        UUID orderId = UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886");
+        UUID productId = UUID.fromString("3492e3ef-e7de-4c18-81dd-8a814e43d54f");
+        AtomicBoolean closed = new AtomicBoolean();
+        OrderExportRow row = new OrderExportRow(orderId, LocalDateTime.of(2025, 2, 10, 10, 0, 30), OrderStatus.PENDING,
+                new BigDecimal("200.00"), PaymentStatus.values()[0], productId, "Garrafa térmica", 2L, new BigDecimal("100.00"));
+
+        given(orderRepository.streamItemsForExport(from, to, Integer.MIN_VALUE))
+                .willReturn(Stream.of(row, row).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long rows = exportOrdersUseCase.execute(from, to, ExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertEquals("orderId,orderDate,orderStatus,totalValue,paymentStatus,productId,productName,quantity,unitPrice", lines[0]);
+        assertEquals(orderId + ",2025-02-10T10:00:30,PENDING,200.00," + PaymentStatus.values()[0] + "," + productId
+                + ",Garrafa térmica,2,100.00", lines[1]);
+        assertTrue(closed.get());
+    }
+
+    @DisplayName("Given From After To When Export Orders then Throws Exception")
+    @Test
+    void testGivenFromAfterTo_WhenExportOrders_thenThrowsException() {
+        HttpBadRequestException result = assertThrows(HttpBadRequestException.class,
+                () -> exportOrdersUseCase.execute(to, from, ExportFormat.NDJSON, new ByteArrayOutputStream()));
+
+        assertEquals(ExportExceptionMessageUtils.INVALID_EXPORT_DATE_RANGE, result.getMessage());
+        verifyNoInteractions(orderRepository);
+    }
+}
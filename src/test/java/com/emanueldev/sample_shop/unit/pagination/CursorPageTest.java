@@ -0,0 +1,56 @@
+package com.emanueldev.sample_shop.unit.pagination;
+
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
+import com.emanueldev.sample_shop.domain.pagination.KeysetCursor;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.utils.PaginationExceptionMessageUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    private final KeysetCursor cursor = new KeysetCursor(
+            LocalDateTime.of(2025, 2, 10, 10, 30, 15, 123456000),
+            UUID.fromString("57922257-3e13-438d-8e83-21cab11a7f41"));
+
+    @DisplayName("Given Keyset Cursor When Encode And Decode then Return Same Cursor")
+    @Test
+    void testGivenKeysetCursor_WhenEncodeAndDecode_thenReturnSameCursor() {
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @DisplayName("Given Invalid Cursor When Decode then Throws Bad Request Exception")
+    @Test
+    void testGivenInvalidCursor_WhenDecode_thenThrowsBadRequestException() {
+        HttpBadRequestException result = assertThrows(HttpBadRequestException.class,
+                () -> KeysetCursor.decode("not-a-cursor"));
+
+        assertEquals(PaginationExceptionMessageUtils.INVALID_CURSOR, result.getMessage());
+    }
+
+    @DisplayName("Given More Rows Than Page Size When Create Page then Return Next Cursor Of Last Row")
+    @Test
+    void testGivenMoreRowsThanPageSize_WhenCreatePage_thenReturnNextCursorOfLastRow() {
+        CursorPage<Integer> result = CursorPage.of(List.of(1, 2, 3), 2,
+                row -> new KeysetCursor(cursor.timestamp().plusSeconds(row), cursor.id()));
+
+        assertEquals(List.of(1, 2), result.content());
+        assertEquals(cursor.timestamp().plusSeconds(2), KeysetCursor.decode(result.nextCursor()).timestamp());
+    }
+
+    @DisplayName("Given Rows Up To Page Size When Create Page then Return No Next Cursor")
+    @Test
+    void testGivenRowsUpToPageSize_WhenCreatePage_thenReturnNoNextCursor() {
+        CursorPage<Integer> result = CursorPage.of(List.of(1, 2), 2,
+                row -> new KeysetCursor(cursor.timestamp(), cursor.id()));
+
+        assertEquals(List.of(1, 2), result.content());
+        assertNull(result.nextCursor());
+    }
+}
@@ -0,0 +1,159 @@
+package com.emanueldev.sample_shop.unit.payment.clients;
+
+import com.emanueldev.sample_shop.clients.ResilientPaymentClient;
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.config.StubAuthorizer;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.AuthorizerResponseDTO;
+import com.emanueldev.sample_shop.domain.payments.enums.AuthorizationStatus;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientPaymentClientTest {
+
+    private StubAuthorizer stubAuthorizer;
+
+    private PaymentProperties paymentProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() throws IOException {
+        stubAuthorizer = new StubAuthorizer();
+
+        paymentProperties = new PaymentProperties();
+        PaymentProperties.Authorizer authorizer = paymentProperties.getAuthorizer();
+        authorizer.setReadTimeout(Duration.ofMillis(300));
+        authorizer.setRetryInitialBackoff(Duration.ofMillis(10));
+        authorizer.setSlidingWindowSize(4);
+        authorizer.setMinimumNumberOfCalls(4);
+        authorizer.setWaitDurationInOpenState(Duration.ofMillis(200));
+        authorizer.setPermittedCallsInHalfOpenState(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubAuthorizer.stop();
+    }
+
+    private ResilientPaymentClient resilientClient() {
+        return new ResilientPaymentClient(stubAuthorizer.client(paymentProperties), paymentProperties, meterRegistry);
+    }
+
+    @DisplayName("Given healthy authorizer When validate payment authorization Then should return authorization")
+    @Test
+    void testGivenHealthyAuthorizer_WhenValidatePaymentAuthorization_thenShouldReturnAuthorization() {
+        ResponseEntity<AuthorizerResponseDTO> response = resilientClient().validatePaymentAuthorization();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(AuthorizationStatus.SUCCESS, response.getBody().getStatus());
+        assertTrue(response.getBody().getData().isAuthorized());
+        assertEquals(1, stubAuthorizer.getHits());
+    }
+
+    @DisplayName("Given transient gateway errors When validate payment authorization Then should retry until success")
+    @Test
+    void testGivenTransientGatewayErrors_WhenValidatePaymentAuthorization_thenShouldRetryUntilSuccess() {
+        stubAuthorizer.enqueue(503, "", 0);
+        stubAuthorizer.enqueue(502, "", 0);
+
+        ResponseEntity<AuthorizerResponseDTO> response = resilientClient().validatePaymentAuthorization();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(3, stubAuthorizer.getHits());
+        assertEquals(1, meterRegistry.get("resilience4j.retry.calls")
+                .tag("kind", "successful_with_retry").functionCounter().count());
+    }
+
+    @DisplayName("Given declined payment When validate payment authorization Then should not retry nor open breaker")
+    @Test
+    void testGivenDeclinedPayment_WhenValidatePaymentAuthorization_thenShouldNotRetryNorOpenBreaker() {
+        stubAuthorizer.respondWith(403, StubAuthorizer.DECLINED_BODY, 0);
+        ResilientPaymentClient client = resilientClient();
+
+        for (int i = 0; i < 6; i++) {
+            FeignException exception = assertThrows(FeignException.class, client::validatePaymentAuthorization);
+            assertEquals(403, exception.status());
+        }
+
+        assertEquals(6, stubAuthorizer.getHits());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getState());
+    }
+
+    @DisplayName("Given slow authorizer When validate payment authorization Then should time out after retry budget")
+    @Test
+    void testGivenSlowAuthorizer_WhenValidatePaymentAuthorization_thenShouldTimeOutAfterRetryBudget() {
+        stubAuthorizer.respondWith(200, StubAuthorizer.AUTHORIZED_BODY, 1000);
+        ResilientPaymentClient client = resilientClient();
+
+        long start = System.nanoTime();
+        assertThrows(RetryableException.class, client::validatePaymentAuthorization);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(3, stubAuthorizer.getHits());
+        assertTrue(elapsedMillis < 3000, "the read timeout should cut every attempt short");
+    }
+
+    @DisplayName("Given failing authorizer When validate payment authorization Then should open breaker and probe when half open")
+    @Test
+    void testGivenFailingAuthorizer_WhenValidatePaymentAuthorization_thenShouldOpenBreakerAndProbeWhenHalfOpen()
+            throws InterruptedException {
+        stubAuthorizer.respondWith(500, "", 0);
+        ResilientPaymentClient client = resilientClient();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FeignException.InternalServerError.class, client::validatePaymentAuthorization);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, client.getState());
+        assertThrows(CallNotPermittedException.class, client::validatePaymentAuthorization);
+        assertEquals(4, stubAuthorizer.getHits());
+
+        stubAuthorizer.respondWith(200, StubAuthorizer.AUTHORIZED_BODY, 0);
+        Thread.sleep(300);
+
+        client.validatePaymentAuthorization();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, client.getState());
+        client.validatePaymentAuthorization();
+        assertEquals(CircuitBreaker.State.CLOSED, client.getState());
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tag("state", "closed").gauge().value());
+    }
+
+    @DisplayName("Given saturated bulkhead When validate payment authorization Then should reject extra calls")
+    @Test
+    void testGivenSaturatedBulkhead_WhenValidatePaymentAuthorization_thenShouldRejectExtraCalls() throws Exception {
+        paymentProperties.getAuthorizer().setMaxConcurrentCalls(1);
+        stubAuthorizer.respondWith(200, StubAuthorizer.AUTHORIZED_BODY, 200);
+        ResilientPaymentClient client = resilientClient();
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<AuthorizerResponseDTO>> inFlight = caller.submit(client::validatePaymentAuthorization);
+            assertTrue(stubAuthorizer.awaitFirstHit(2, TimeUnit.SECONDS));
+
+            assertThrows(BulkheadFullException.class, client::validatePaymentAuthorization);
+            assertEquals(200, inFlight.get(2, TimeUnit.SECONDS).getStatusCode().value());
+            assertEquals(1, stubAuthorizer.getHits());
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+}
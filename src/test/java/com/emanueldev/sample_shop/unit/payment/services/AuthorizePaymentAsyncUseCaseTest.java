@@ -0,0 +1,118 @@
+package com.emanueldev.sample_shop.unit.payment.services;
+
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
+import com.emanueldev.sample_shop.services.payments.AuthorizePaymentAsyncUseCase;
+import com.emanueldev.sample_shop.services.payments.PaymentStatusStream;
+import com.emanueldev.sample_shop.services.payments.UpdatePaymentUseCase;
+import com.emanueldev.sample_shop.utils.PaymentExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizePaymentAsyncUseCaseTest {
+
+    @Mock
+    private UpdatePaymentUseCase updatePaymentUseCase;
+
+    @Mock
+    private PaymentStatusStream paymentStatusStream;
+
+    private PaymentProperties paymentProperties;
+
+    private AuthorizePaymentAsyncUseCase authorizePaymentAsyncUseCase;
+
+    @BeforeEach
+    void setup() {
+        paymentProperties = new PaymentProperties();
+        paymentProperties.setAsyncWorkers(1);
+        paymentProperties.setAsyncQueueCapacity(1);
+
+        authorizePaymentAsyncUseCase = new AuthorizePaymentAsyncUseCase(
+                updatePaymentUseCase, paymentStatusStream, paymentProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        authorizePaymentAsyncUseCase.shutdown();
+    }
+
+    @DisplayName("Given pending payment When execute Then should claim it and authorize in background")
+    @Test
+    void testGivenPendingPayment_WhenExecute_thenShouldClaimItAndAuthorizeInBackground() {
+        UUID paymentId = UUID.randomUUID();
+        LocalDateTime claimedAt = LocalDateTime.now();
+        given(updatePaymentUseCase.claim(paymentId)).willReturn(claimedAt);
+        given(updatePaymentUseCase.complete(paymentId, claimedAt)).willReturn(PaymentStatus.PAID);
+
+        authorizePaymentAsyncUseCase.execute(paymentId);
+
+        then(updatePaymentUseCase).should().claim(paymentId);
+        then(updatePaymentUseCase).should(timeout(2000)).complete(paymentId, claimedAt);
+    }
+
+    @DisplayName("Given unexpected failure in background When execute Then should end the payment status streams")
+    @Test
+    void testGivenUnexpectedFailureInBackground_WhenExecute_thenShouldEndThePaymentStatusStreams() {
+        UUID paymentId = UUID.randomUUID();
+        given(updatePaymentUseCase.complete(eq(paymentId), any()))
+                .willThrow(new HttpConflictException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_IN_PROGRESS));
+
+        authorizePaymentAsyncUseCase.execute(paymentId);
+
+        then(paymentStatusStream).should(timeout(2000)).complete(paymentId);
+    }
+
+    @DisplayName("Given payment already being authorized When execute Then should throw conflict without queueing")
+    @Test
+    void testGivenPaymentAlreadyBeingAuthorized_WhenExecute_thenShouldThrowConflictWithoutQueueing() {
+        UUID paymentId = UUID.randomUUID();
+        willThrow(new HttpConflictException(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_IN_PROGRESS))
+                .given(updatePaymentUseCase).claim(paymentId);
+
+        assertThrows(HttpConflictException.class, () -> authorizePaymentAsyncUseCase.execute(paymentId));
+
+        then(updatePaymentUseCase).should(never()).complete(any(), any());
+    }
+
+    @DisplayName("Given saturated worker pool When execute Then should release claim and throw service unavailable")
+    @Test
+    void testGivenSaturatedWorkerPool_WhenExecute_thenShouldReleaseClaimAndThrowServiceUnavailable()
+            throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(updatePaymentUseCase.complete(any(), any())).willAnswer(invocation -> {
+            running.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return PaymentStatus.PAID;
+        });
+
+        authorizePaymentAsyncUseCase.execute(UUID.randomUUID());
+        assertTrue(running.await(2, TimeUnit.SECONDS));
+        authorizePaymentAsyncUseCase.execute(UUID.randomUUID());
+
+        UUID rejectedPaymentId = UUID.randomUUID();
+        HttpServiceUnavailableException exception = assertThrows(HttpServiceUnavailableException.class, () ->
+                authorizePaymentAsyncUseCase.execute(rejectedPaymentId));
+
+        assertEquals(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_QUEUE_FULL, exception.getMessage());
+        then(updatePaymentUseCase).should().release(eq(rejectedPaymentId), any());
+        release.countDown();
+    }
+}
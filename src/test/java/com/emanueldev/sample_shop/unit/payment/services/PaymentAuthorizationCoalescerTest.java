@@ -0,0 +1,245 @@
+package com.emanueldev.sample_shop.unit.payment.services;
+
+import com.emanueldev.sample_shop.clients.ResilientPaymentClient;
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.config.StubAuthorizer;
+import com.emanueldev.sample_shop.domain.payments.dtos.response.AuthorizerResponseDTO;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
+import com.emanueldev.sample_shop.services.payments.PaymentAuthorizationCoalescer;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class PaymentAuthorizationCoalescerTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private ResilientPaymentClient paymentClient;
+
+    private PaymentProperties paymentProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setup() {
+        paymentClient = mock(ResilientPaymentClient.class);
+        paymentProperties = new PaymentProperties();
+        paymentProperties.getAuthorizer().setCoalescingEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    private PaymentAuthorizationCoalescer coalescer() {
+        return new PaymentAuthorizationCoalescer(paymentClient, paymentProperties, meterRegistry);
+    }
+
+    private double followerRequests() {
+        return meterRegistry.get("payment.authorizer.coalescing.requests").tag("role", "follower").counter().count();
+    }
+
+    private List<Future<ResponseEntity<AuthorizerResponseDTO>>> callConcurrently(
+            PaymentAuthorizationCoalescer coalescer,
+            CountDownLatch upstreamCalled
+    ) throws InterruptedException {
+        List<Future<ResponseEntity<AuthorizerResponseDTO>>> responses = new ArrayList<>();
+        responses.add(callers.submit(coalescer::validatePaymentAuthorization));
+        assertTrue(upstreamCalled.await(2, TimeUnit.SECONDS));
+
+        for (int i = 0; i < FOLLOWERS; i++) {
+            responses.add(callers.submit(coalescer::validatePaymentAuthorization));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (followerRequests() < FOLLOWERS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        return responses;
+    }
+
+    @DisplayName("Given coalescing disabled When validate payment authorization Then should call upstream every time")
+    @Test
+    void testGivenCoalescingDisabled_WhenValidatePaymentAuthorization_thenShouldCallUpstreamEveryTime() {
+        paymentProperties.getAuthorizer().setCoalescingEnabled(false);
+        given(paymentClient.validatePaymentAuthorization()).willReturn(ResponseEntity.ok().build());
+        PaymentAuthorizationCoalescer coalescer = coalescer();
+
+        coalescer.validatePaymentAuthorization();
+        coalescer.validatePaymentAuthorization();
+        coalescer.validatePaymentAuthorization();
+
+        then(paymentClient).should(times(3)).validatePaymentAuthorization();
+    }
+
+    @DisplayName("Given concurrent callers When validate payment authorization Then should share one upstream call")
+    @Test
+    void testGivenConcurrentCallers_WhenValidatePaymentAuthorization_thenShouldShareOneUpstreamCall() throws Exception {
+        CountDownLatch upstreamCalled = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        ResponseEntity<AuthorizerResponseDTO> authorized = ResponseEntity.ok(new AuthorizerResponseDTO());
+        given(paymentClient.validatePaymentAuthorization()).willAnswer(invocation -> {
+            upstreamCalled.countDown();
+            upstreamRelease.await(2, TimeUnit.SECONDS);
+            return authorized;
+        });
+        PaymentAuthorizationCoalescer coalescer = coalescer();
+
+        List<Future<ResponseEntity<AuthorizerResponseDTO>>> responses = callConcurrently(coalescer, upstreamCalled);
+        upstreamRelease.countDown();
+
+        for (Future<ResponseEntity<AuthorizerResponseDTO>> response : responses) {
+            assertSame(authorized, response.get(2, TimeUnit.SECONDS));
+        }
+        then(paymentClient).should(times(1)).validatePaymentAuthorization();
+        assertEquals(0.8, coalescer.getCoalescingRatio(), 0.0001);
+        assertEquals(FOLLOWERS + 1, meterRegistry.get("payment.authorizer.coalescing.callers").summary().max());
+    }
+
+    @DisplayName("Given failing upstream call When validate payment authorization Then should fan out failure and start a new call afterwards")
+    @Test
+    void testGivenFailingUpstreamCall_WhenValidatePaymentAuthorization_thenShouldFanOutFailureAndStartANewCallAfterwards()
+            throws Exception {
+        CountDownLatch upstreamCalled = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        FeignException unavailable = mock(FeignException.class);
+        given(paymentClient.validatePaymentAuthorization()).willAnswer(invocation -> {
+            upstreamCalled.countDown();
+            upstreamRelease.await(2, TimeUnit.SECONDS);
+            throw unavailable;
+        }).willReturn(ResponseEntity.ok().build());
+        PaymentAuthorizationCoalescer coalescer = coalescer();
+
+        List<Future<ResponseEntity<AuthorizerResponseDTO>>> responses = callConcurrently(coalescer, upstreamCalled);
+        upstreamRelease.countDown();
+
+        for (Future<ResponseEntity<AuthorizerResponseDTO>> response : responses) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> response.get(2, TimeUnit.SECONDS));
+            assertSame(unavailable, exception.getCause());
+        }
+        assertEquals(200, coalescer.validatePaymentAuthorization().getStatusCode().value());
+        then(paymentClient).should(times(2)).validatePaymentAuthorization();
+    }
+
+    @DisplayName("Given upstream call failing with error When validate payment authorization Then should fan out error and start a new call afterwards")
+    @Test
+    void testGivenUpstreamCallFailingWithError_WhenValidatePaymentAuthorization_thenShouldFanOutErrorAndStartANewCallAfterwards()
+            throws Exception {
+        CountDownLatch upstreamCalled = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        StackOverflowError error = new StackOverflowError();
+        given(paymentClient.validatePaymentAuthorization()).willAnswer(invocation -> {
+            upstreamCalled.countDown();
+            upstreamRelease.await(2, TimeUnit.SECONDS);
+            throw error;
+        }).willReturn(ResponseEntity.ok().build());
+        PaymentAuthorizationCoalescer coalescer = coalescer();
+
+        List<Future<ResponseEntity<AuthorizerResponseDTO>>> responses = callConcurrently(coalescer, upstreamCalled);
+        upstreamRelease.countDown();
+
+        for (Future<ResponseEntity<AuthorizerResponseDTO>> response : responses) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> response.get(2, TimeUnit.SECONDS));
+            assertSame(error, exception.getCause());
+        }
+        assertEquals(200, coalescer.validatePaymentAuthorization().getStatusCode().value());
+        then(paymentClient).should(times(2)).validatePaymentAuthorization();
+    }
+
+    @DisplayName("Given upstream call outliving its timeouts When validate payment authorization Then followers should stop waiting")
+    @Test
+    void testGivenUpstreamCallOutlivingItsTimeouts_WhenValidatePaymentAuthorization_thenFollowersShouldStopWaiting()
+            throws Exception {
+        paymentProperties.getAuthorizer().setConnectTimeout(Duration.ofMillis(20));
+        paymentProperties.getAuthorizer().setReadTimeout(Duration.ofMillis(20));
+        paymentProperties.getAuthorizer().setRetryMaxAttempts(1);
+        CountDownLatch upstreamCalled = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        given(paymentClient.validatePaymentAuthorization()).willAnswer(invocation -> {
+            upstreamCalled.countDown();
+            upstreamRelease.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok().build();
+        });
+        PaymentAuthorizationCoalescer coalescer = coalescer();
+
+        List<Future<ResponseEntity<AuthorizerResponseDTO>>> responses = callConcurrently(coalescer, upstreamCalled);
+
+        for (Future<ResponseEntity<AuthorizerResponseDTO>> follower : responses.subList(1, responses.size())) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> follower.get(2, TimeUnit.SECONDS));
+            assertInstanceOf(HttpServiceUnavailableException.class, exception.getCause());
+        }
+        upstreamRelease.countDown();
+        assertEquals(200, responses.get(0).get(2, TimeUnit.SECONDS).getStatusCode().value());
+    }
+
+    @DisplayName("Given burst against slow stub authorizer When coalescing Then should reduce upstream calls")
+    @Test
+    void testGivenBurstAgainstSlowStubAuthorizer_WhenCoalescing_thenShouldReduceUpstreamCalls() throws Exception {
+        int burst = 50;
+        paymentProperties.getAuthorizer().setMaxConcurrentCalls(burst);
+        paymentProperties.getAuthorizer().setCoalescingWindow(Duration.ofMillis(20));
+
+        long directUpstreamCalls = runBurst(false, burst);
+        long coalescedUpstreamCalls = runBurst(true, burst);
+
+        assertEquals(burst, directUpstreamCalls);
+        assertTrue(coalescedUpstreamCalls <= burst / 5,
+                "expected at most " + burst / 5 + " upstream calls but got " + coalescedUpstreamCalls);
+    }
+
+    private long runBurst(boolean coalescing, int burst) throws Exception {
+        StubAuthorizer stubAuthorizer = new StubAuthorizer();
+        stubAuthorizer.respondWith(200, StubAuthorizer.AUTHORIZED_BODY, 200);
+        paymentProperties.getAuthorizer().setCoalescingEnabled(coalescing);
+
+        try {
+            MeterRegistry burstRegistry = new SimpleMeterRegistry();
+            ResilientPaymentClient resilientClient = new ResilientPaymentClient(
+                    stubAuthorizer.client(paymentProperties), paymentProperties, burstRegistry);
+            PaymentAuthorizationCoalescer coalescer = new PaymentAuthorizationCoalescer(
+                    resilientClient, paymentProperties, burstRegistry);
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ResponseEntity<AuthorizerResponseDTO>>> responses = new ArrayList<>();
+            for (int i = 0; i < burst; i++) {
+                responses.add(callers.submit(() -> {
+                    start.await();
+                    return coalescer.validatePaymentAuthorization();
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<ResponseEntity<AuthorizerResponseDTO>> response : responses) {
+                assertEquals(200, response.get(30, TimeUnit.SECONDS).getStatusCode().value());
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            System.out.printf("coalescing=%s callers=%d upstream_calls=%d elapsed_ms=%d ratio=%.2f%n",
+                    coalescing, burst, stubAuthorizer.getHits(), elapsedMillis, coalescer.getCoalescingRatio());
+
+            return stubAuthorizer.getHits();
+        } finally {
+            stubAuthorizer.stop();
+        }
+    }
+}
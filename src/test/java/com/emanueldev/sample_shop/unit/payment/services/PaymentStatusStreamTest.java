@@ -0,0 +1,143 @@
+package com.emanueldev.sample_shop.unit.payment.services;
+
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.services.payments.PaymentStatusStream;
+import com.emanueldev.sample_shop.utils.PaymentExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class PaymentStatusStreamTest {
+
+    private PaymentStatusStream paymentStatusStream;
+
+    private PaymentRepository paymentRepository;
+
+    private UUID paymentId;
+
+    @BeforeEach
+    void setup() {
+        paymentRepository = mock(PaymentRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        paymentStatusStream = new PaymentStatusStream(new PaymentProperties(), paymentRepository, transactionTemplate);
+        paymentId = UUID.randomUUID();
+    }
+
+    @DisplayName("Given subscriber When authorization finishes Then should keep stream open until final status")
+    @Test
+    void testGivenSubscriber_WhenAuthorizationFinishes_thenShouldKeepStreamOpenUntilFinalStatus() {
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.PENDING);
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.PENDING);
+        assertEquals(2, paymentStatusStream.getSubscriberCount(paymentId));
+
+        paymentStatusStream.publish(paymentId, PaymentStatus.AUTHORIZING);
+        assertEquals(2, paymentStatusStream.getSubscriberCount(paymentId));
+
+        paymentStatusStream.publish(paymentId, PaymentStatus.PAID);
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given paid payment When subscribe Then should complete stream right away")
+    @Test
+    void testGivenPaidPayment_WhenSubscribe_thenShouldCompleteStreamRightAway() {
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.PAID);
+
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given failed payment When subscribe Then should complete stream right away")
+    @Test
+    void testGivenFailedPayment_WhenSubscribe_thenShouldCompleteStreamRightAway() {
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.FAILED);
+
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given status published while loading current status When subscribe Then should deliver it")
+    @Test
+    void testGivenStatusPublishedWhileLoadingCurrentStatus_WhenSubscribe_thenShouldDeliverIt() {
+        paymentStatusStream.subscribe(paymentId, () -> {
+            assertEquals(1, paymentStatusStream.getSubscriberCount(paymentId));
+            paymentStatusStream.publish(paymentId, PaymentStatus.PAID);
+            return PaymentStatus.AUTHORIZING;
+        });
+
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given current status cannot be loaded When subscribe Then should rethrow without keeping subscriber")
+    @Test
+    void testGivenCurrentStatusCannotBeLoaded_WhenSubscribe_thenShouldRethrowWithoutKeepingSubscriber() {
+        HttpNotFoundException notFound = new HttpNotFoundException(PaymentExceptionMessageUtils.PAYMENT_NOT_FOUND);
+
+        assertSame(notFound, assertThrows(HttpNotFoundException.class, () -> paymentStatusStream.subscribe(paymentId, () -> {
+            throw notFound;
+        })));
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given subscribers When complete Then should end every stream of the payment")
+    @Test
+    void testGivenSubscribers_WhenComplete_thenShouldEndEveryStreamOfThePayment() {
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.AUTHORIZING);
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.AUTHORIZING);
+
+        paymentStatusStream.complete(paymentId);
+
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given no subscriber When publish Then should ignore event")
+    @Test
+    void testGivenNoSubscriber_WhenPublish_thenShouldIgnoreEvent() {
+        assertDoesNotThrow(() -> paymentStatusStream.publish(paymentId, PaymentStatus.FAILED));
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+    }
+
+    @DisplayName("Given payment changed on another node When change is polled Then should publish its stored status")
+    @Test
+    void testGivenPaymentChangedOnAnotherNode_WhenChangeIsPolled_thenShouldPublishItsStoredStatus() {
+        UUID otherPaymentId = UUID.randomUUID();
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.AUTHORIZING);
+        given(paymentRepository.findAllById(List.of(paymentId))).willReturn(List.of(Payment
+                .builder()
+                .id(paymentId)
+                .amount(new BigDecimal("950.00"))
+                .paymentStatus(PaymentStatus.PAID)
+                .build()));
+
+        paymentStatusStream.onChange(Payment.class, List.of(paymentId, otherPaymentId));
+
+        assertEquals(0, paymentStatusStream.getSubscriberCount(paymentId));
+        then(paymentRepository).should().findAllById(List.of(paymentId));
+    }
+
+    @DisplayName("Given changes without subscribers here When change is polled Then should not load any payment")
+    @Test
+    void testGivenChangesWithoutSubscribersHere_WhenChangeIsPolled_thenShouldNotLoadAnyPayment() {
+        paymentStatusStream.subscribe(paymentId, () -> PaymentStatus.AUTHORIZING);
+
+        paymentStatusStream.onChange(Payment.class, List.of(UUID.randomUUID()));
+        paymentStatusStream.onChange(Product.class, List.of(paymentId));
+
+        assertEquals(1, paymentStatusStream.getSubscriberCount(paymentId));
+        then(paymentRepository).shouldHaveNoInteractions();
+    }
+}
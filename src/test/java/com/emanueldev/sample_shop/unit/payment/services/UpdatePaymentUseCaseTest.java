@@ -0,0 +1,252 @@
+package com.emanueldev.sample_shop.unit.payment.services;
+
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.config.PaymentProperties;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.exceptions.HttpConflictException;
+import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
+import com.emanueldev.sample_shop.exceptions.HttpServiceUnavailableException;
+import com.emanueldev.sample_shop.models.Payment;
+import com.emanueldev.sample_shop.repositories.PaymentRepository;
+import com.emanueldev.sample_shop.services.payments.PaymentAuthorizationCoalescer;
+import com.emanueldev.sample_shop.services.payments.PaymentStatusStream;
+import com.emanueldev.sample_shop.services.payments.UpdatePaymentUseCase;
+import com.emanueldev.sample_shop.utils.PaymentExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.PaymentStatus;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UpdatePaymentUseCaseTest {
+
+    private static final UUID PAYMENT_ID = UUID.fromString("0191f3a4-7c2e-7b10-8a3d-5b2f6c1d9e01");
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentAuthorizationCoalescer paymentClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentStatusStream paymentStatusStream;
+
+    @Mock
+    private EntityChangeLog entityChangeLog;
+
+    @Spy
+    private PaymentProperties paymentProperties = new PaymentProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private UpdatePaymentUseCase updatePaymentUseCase;
+
+    private Payment payment;
+
+    @BeforeEach
+    void setup() {
+        payment = Payment
+                .builder()
+                .id(PAYMENT_ID)
+                .amount(new BigDecimal("950.00"))
+                .paymentStatus(PaymentStatus.PENDING)
+                .build();
+
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private void givenClaimablePayment() {
+        given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+        given(paymentRepository.claimStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), anyCollection(), any(), any())).willReturn(1);
+    }
+
+    private FeignException feignException(int status) {
+        FeignException feignException = mock(FeignException.class);
+        given(feignException.status()).willReturn(status);
+        return feignException;
+    }
+
+    @DisplayName("Given authorized payment When execute Then should mark it as paid")
+    @Test
+    void testGivenAuthorizedPayment_WhenExecute_thenShouldMarkItAsPaid() {
+        givenClaimablePayment();
+        given(paymentRepository.updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PAID), any())).willReturn(1);
+
+        updatePaymentUseCase.execute(PAYMENT_ID);
+
+        then(paymentRepository).should().claimStatus(
+                eq(PAYMENT_ID),
+                eq(PaymentStatus.AUTHORIZING),
+                eq(List.of(PaymentStatus.PENDING, PaymentStatus.FAILED)),
+                any(),
+                any());
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(paymentRepository).should().claimStatus(any(), any(), anyCollection(), claimedAt.capture(), any());
+        then(paymentRepository).should().updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), eq(claimedAt.getValue()), eq(PaymentStatus.PAID), any());
+        then(paymentStatusStream).should().publish(PAYMENT_ID, PaymentStatus.AUTHORIZING);
+        then(paymentStatusStream).should().publish(PAYMENT_ID, PaymentStatus.PAID);
+        then(entityChangeLog).should(times(2)).recordInPlace(Payment.class, List.of(PAYMENT_ID));
+        assertEquals(1, meterRegistry.get("payment.authorizer.requests").tag("outcome", "authorized").timer().count());
+    }
+
+    @DisplayName("Given declined payment When execute Then should mark it as failed and throw bad request")
+    @Test
+    void testGivenDeclinedPayment_WhenExecute_thenShouldMarkItAsFailedAndThrowBadRequest() {
+        givenClaimablePayment();
+        FeignException forbidden = feignException(403);
+        given(paymentClient.validatePaymentAuthorization()).willThrow(forbidden);
+        given(paymentRepository.updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.FAILED), any())).willReturn(1);
+
+        HttpBadRequestException exception = assertThrows(HttpBadRequestException.class, () ->
+                updatePaymentUseCase.execute(PAYMENT_ID));
+
+        assertEquals(PaymentExceptionMessageUtils.PAYMENT_NOT_AUTHORIZED, exception.getMessage());
+        then(paymentRepository).should().updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.FAILED), any());
+        assertEquals(1, meterRegistry.get("payment.authorizer.requests").tag("outcome", "declined").timer().count());
+    }
+
+    @DisplayName("Given unavailable authorizer When execute Then should release claim and throw service unavailable")
+    @Test
+    void testGivenUnavailableAuthorizer_WhenExecute_thenShouldReleaseClaimAndThrowServiceUnavailable() {
+        givenClaimablePayment();
+        FeignException unavailable = feignException(503);
+        given(paymentClient.validatePaymentAuthorization()).willThrow(unavailable);
+        given(paymentRepository.updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any())).willReturn(1);
+
+        HttpServiceUnavailableException exception = assertThrows(HttpServiceUnavailableException.class, () ->
+                updatePaymentUseCase.execute(PAYMENT_ID));
+
+        assertEquals(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZER_UNAVAILABLE, exception.getMessage());
+        then(paymentRepository).should().updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any());
+        then(paymentRepository).should(never()).updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PAID), any());
+        then(paymentStatusStream).should().publish(PAYMENT_ID, PaymentStatus.PENDING);
+        assertEquals(1, meterRegistry.get("payment.authorizer.requests").tag("outcome", "error").timer().count());
+    }
+
+    @DisplayName("Given unexpected authorizer failure When execute Then should release claim and rethrow it")
+    @Test
+    void testGivenUnexpectedAuthorizerFailure_WhenExecute_thenShouldReleaseClaimAndRethrowIt() {
+        givenClaimablePayment();
+        IllegalStateException failure = new IllegalStateException("Could not decode authorizer response");
+        given(paymentClient.validatePaymentAuthorization()).willThrow(failure);
+        given(paymentRepository.updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any())).willReturn(1);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                updatePaymentUseCase.execute(PAYMENT_ID));
+
+        assertSame(failure, exception);
+        then(paymentRepository).should().updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any());
+        then(paymentStatusStream).should().publish(PAYMENT_ID, PaymentStatus.PENDING);
+        assertEquals(1, meterRegistry.get("payment.authorizer.requests").tag("outcome", "error").timer().count());
+    }
+
+    @DisplayName("Given claim taken over When authorizer is unavailable Then should throw service unavailable with the failed release suppressed")
+    @Test
+    void testGivenClaimTakenOver_WhenAuthorizerIsUnavailable_thenShouldThrowServiceUnavailableWithTheFailedReleaseSuppressed() {
+        givenClaimablePayment();
+        FeignException unavailable = feignException(503);
+        given(paymentClient.validatePaymentAuthorization()).willThrow(unavailable);
+        given(paymentRepository.updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any())).willReturn(0);
+
+        HttpServiceUnavailableException exception = assertThrows(HttpServiceUnavailableException.class, () ->
+                updatePaymentUseCase.execute(PAYMENT_ID));
+
+        assertEquals(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZER_UNAVAILABLE, exception.getMessage());
+        assertEquals(1, exception.getSuppressed().length);
+        assertInstanceOf(HttpConflictException.class, exception.getSuppressed()[0]);
+        then(paymentStatusStream).should(never()).publish(PAYMENT_ID, PaymentStatus.PENDING);
+    }
+
+    @DisplayName("Given open circuit breaker When execute Then should release claim and throw service unavailable")
+    @Test
+    void testGivenOpenCircuitBreaker_WhenExecute_thenShouldReleaseClaimAndThrowServiceUnavailable() {
+        givenClaimablePayment();
+        given(paymentClient.validatePaymentAuthorization()).willThrow(mock(CallNotPermittedException.class));
+        given(paymentRepository.updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any())).willReturn(1);
+
+        assertThrows(HttpServiceUnavailableException.class, () -> updatePaymentUseCase.execute(PAYMENT_ID));
+
+        then(paymentRepository).should().updateStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), any(), eq(PaymentStatus.PENDING), any());
+        assertEquals(1, meterRegistry.get("payment.authorizer.requests").tag("outcome", "rejected").timer().count());
+    }
+
+    @DisplayName("Given payment being authorized When execute Then should throw conflict without calling authorizer")
+    @Test
+    void testGivenPaymentBeingAuthorized_WhenExecute_thenShouldThrowConflictWithoutCallingAuthorizer() {
+        payment.setPaymentStatus(PaymentStatus.AUTHORIZING);
+        given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+        given(paymentRepository.claimStatus(
+                eq(PAYMENT_ID), eq(PaymentStatus.AUTHORIZING), anyCollection(), any(), any())).willReturn(0);
+
+        HttpConflictException exception = assertThrows(HttpConflictException.class, () ->
+                updatePaymentUseCase.execute(PAYMENT_ID));
+
+        assertEquals(PaymentExceptionMessageUtils.PAYMENT_AUTHORIZATION_IN_PROGRESS, exception.getMessage());
+        then(paymentClient).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Given paid payment When execute Then should throw bad request")
+    @Test
+    void testGivenPaidPayment_WhenExecute_thenShouldThrowBadRequest() {
+        payment.setPaymentStatus(PaymentStatus.PAID);
+        given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+
+        HttpBadRequestException exception = assertThrows(HttpBadRequestException.class, () ->
+                updatePaymentUseCase.execute(PAYMENT_ID));
+
+        assertEquals(PaymentExceptionMessageUtils.PAYMENT_ALREADY_CREATED, exception.getMessage());
+        then(paymentClient).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Given non existent payment When execute Then should throw not found")
+    @Test
+    void testGivenNonExistentPayment_WhenExecute_thenShouldThrowNotFound() {
+        given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.empty());
+
+        assertThrows(HttpNotFoundException.class, () -> updatePaymentUseCase.execute(PAYMENT_ID));
+        then(paymentClient).shouldHaveNoInteractions();
+    }
+}
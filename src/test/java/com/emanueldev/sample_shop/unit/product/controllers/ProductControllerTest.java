@@ -1,14 +1,32 @@
 package com.emanueldev.sample_shop.unit.product.controllers;
 
 import com.emanueldev.sample_shop.controllers.ProductController;
+import com.emanueldev.sample_shop.domain.pagination.CursorPage;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.CursorProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.FilteredProductResponseDTO;
 import com.emanueldev.sample_shop.domain.products.dto.response.PaginatedProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductFacetDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportErrorDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportReportDTO;
 import com.emanueldev.sample_shop.domain.products.dto.response.ProductResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSearchResponseDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductSuggestionResponseDTO;
 import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.services.products.*;
+import com.emanueldev.sample_shop.services.exporting.ExportFormat;
+import com.emanueldev.sample_shop.services.products.filter.ProductFacet;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterResult;
+import com.emanueldev.sample_shop.services.products.filter.ProductStockStatus;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchResult;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestion;
+import com.emanueldev.sample_shop.utils.ExportExceptionMessageUtils;
+import com.emanueldev.sample_shop.utils.PaginationExceptionMessageUtils;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +43,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -50,6 +71,9 @@ public class ProductControllerTest {
     @MockitoBean
     GetAllProductsUseCase getAllProductsUseCase;
 
+    @MockitoBean
+    GetProductsByCursorUseCase getProductsByCursorUseCase;
+
     @MockitoBean
     GetProductByIdUseCase getProductByIdUseCase;
 
@@ -59,6 +83,24 @@ public class ProductControllerTest {
     @MockitoBean
     DeleteProductUseCase deleteProductUseCase;
 
+    @MockitoBean
+    ConfigureProductStockShardsUseCase configureProductStockShardsUseCase;
+
+    @MockitoBean
+    ImportProductsUseCase importProductsUseCase;
+
+    @MockitoBean
+    ExportProductsUseCase exportProductsUseCase;
+
+    @MockitoBean
+    SearchProductsUseCase searchProductsUseCase;
+
+    @MockitoBean
+    SuggestProductsUseCase suggestProductsUseCase;
+
+    @MockitoBean
+    FilterProductsUseCase filterProductsUseCase;
+
     @MockitoBean
     ProductMapper productMapper;
 
@@ -525,4 +567,220 @@ public class ProductControllerTest {
                 .andExpect(jsonPath("$.status", is(expectedStatus)))
                 .andExpect(jsonPath("$.message", is(expectedMessage)));
     }
+
+    @DisplayName("Given Cursor When findAll Products By Cursor then Return Products And Next Cursor")
+    @Test
+    void testGivenCursor_whenFindAllProductsByCursor_ThenReturnProductsAndNextCursor() throws Exception {
+        String cursor = "MjAyNS0wMi0xMFQxMDowMHw1NzkyMjI1Ny0zZTEzLTQzOGQtOGU4My0yMWNhYjExYTdmNDE";
+        String nextCursor = "MjAyNS0wMi0xMFQxMTowMHxlZTg2ZTAxYi1hYjQ2LTRjNDgtODZiMi0yYzYzZTI1ZWQ4MTk";
+        CursorPage<Product> productPage = new CursorPage<>(List.of(product), nextCursor);
+
+        CursorProductResponseDTO cursorProductResponseDTO = CursorProductResponseDTO
+                .builder()
+                .products(List.of(productResponseDTO))
+                .next_cursor(nextCursor)
+                .build();
+
+        given(getProductsByCursorUseCase.execute(cursor, 1)).willReturn(productPage);
+        given(productMapper.mappingFromProductCursorPageToCursorProductDTO(productPage)).willReturn(cursorProductResponseDTO);
+
+        ResultActions response = mockMvc.perform(get("/products/cursor")
+                .param("cursor", cursor)
+                .param("pageSize", "1"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id", is(productResponseDTO.getId().toString())))
+                .andExpect(jsonPath("$.next_cursor", is(nextCursor)));
+    }
+
+    @DisplayName("Given Invalid Cursor When findAll Products By Cursor then Return Bad Request")
+    @Test
+    void testGivenInvalidCursor_whenFindAllProductsByCursor_ThenReturnBadRequest() throws Exception {
+        given(getProductsByCursorUseCase.execute("invalid", 5))
+                .willThrow(new HttpBadRequestException(PaginationExceptionMessageUtils.INVALID_CURSOR));
+
+        ResultActions response = mockMvc.perform(get("/products/cursor").param("cursor", "invalid"));
+
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(PaginationExceptionMessageUtils.INVALID_CURSOR)));
+    }
+
+    @DisplayName("Given CSV Body When Import Products then Return Import Report")
+    @Test
+    void testGivenCsvBody_WhenImportProducts_thenReturnImportReport() throws Exception {
+        ProductImportReportDTO report = ProductImportReportDTO
+                .builder()
+                .total_rows(2)
+                .imported_rows(1)
+                .failed_rows(1)
+                .errors(List.of(ProductImportErrorDTO
+                        .builder()
+                        .line(3)
+                        .message(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS)
+                        .build()))
+                .build();
+
+        given(importProductsUseCase.execute(any(InputStream.class), eq(ProductImportFormat.CSV), eq(StandardCharsets.ISO_8859_1)))
+                .willReturn(report);
+
+        ResultActions response = mockMvc.perform(post("/products/import")
+                .contentType("text/csv;charset=ISO-8859-1")
+                .content("name,description,price,stockQuantity\n"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported_rows", is(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)))
+                .andExpect(jsonPath("$.errors[0].message", is(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS)));
+    }
+
+    @DisplayName("Given Unsupported Content Type When Import Products then Return Unsupported Media Type")
+    @Test
+    void testGivenUnsupportedContentType_WhenImportProducts_thenReturnUnsupportedMediaType() throws Exception {
+        ResultActions response = mockMvc.perform(post("/products/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<products/>"));
+
+        response.andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+        verifyNoInteractions(importProductsUseCase);
+    }
+
+    @DisplayName("Given CSV Format When Export Products then Stream Them As Attachment")
+    @Test
+    void testGivenCsvFormat_WhenExportProducts_thenStreamThemAsAttachment() throws Exception {
+        given(exportProductsUseCase.execute(eq(ExportFormat.CSV), any(OutputStream.class))).willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,name\r\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        ResultActions response = mockMvc.perform(get("/products/export").param("format", "csv"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.csv\""))
+                .andExpect(content().string("id,name\r\n"));
+    }
+
+    @DisplayName("Given Unknown Format When Export Products then Return Bad Request")
+    @Test
+    void testGivenUnknownFormat_WhenExportProducts_thenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/products/export").param("format", "xml"));
+
+        response.andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(ExportExceptionMessageUtils.INVALID_EXPORT_FORMAT)));
+        verifyNoInteractions(exportProductsUseCase);
+    }
+
+    @DisplayName("Given Query When Search Products then Return Ranked Products")
+    @Test
+    void testGivenQuery_WhenSearchProducts_thenReturnRankedProducts() throws Exception {
+        ProductSearchResult searchResult = new ProductSearchResult(1, List.of(product));
+        ProductSearchResponseDTO searchResponseDTO = ProductSearchResponseDTO
+                .builder()
+                .products(List.of(productResponseDTO))
+                .total_hits(1)
+                .build();
+
+        given(searchProductsUseCase.execute("garrafa term", 5)).willReturn(searchResult);
+        given(productMapper.mappingFromProductSearchResultToProductSearchDTO(searchResult)).willReturn(searchResponseDTO);
+
+        ResultActions response = mockMvc.perform(get("/products/search")
+                .param("q", "garrafa term")
+                .param("limit", "5"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id", is(productResponseDTO.getId().toString())))
+                .andExpect(jsonPath("$.total_hits", is(1)));
+    }
+
+    @DisplayName("Given Blank Query When Search Products then Return Bad Request")
+    @Test
+    void testGivenBlankQuery_WhenSearchProducts_thenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/products/search").param("q", " "));
+
+        response.andDo(print())
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(searchProductsUseCase);
+    }
+
+    @DisplayName("Given Prefix When Suggest Products then Return Suggestions")
+    @Test
+    void testGivenPrefix_WhenSuggestProducts_thenReturnSuggestions() throws Exception {
+        List<ProductSuggestion> suggestions = List.of(new ProductSuggestion(product.getId(), product.getName()));
+        ProductSuggestionResponseDTO suggestionResponseDTO = ProductSuggestionResponseDTO
+                .builder()
+                .suggestions(List.of(new ProductSuggestionDTO(product.getId(), product.getName())))
+                .build();
+
+        given(suggestProductsUseCase.execute("garr")).willReturn(suggestions);
+        given(productMapper.mappingFromProductSuggestionsToProductSuggestionDTO(suggestions)).willReturn(suggestionResponseDTO);
+
+        ResultActions response = mockMvc.perform(get("/products/suggest").param("prefix", "garr"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions[0].id", is(product.getId().toString())))
+                .andExpect(jsonPath("$.suggestions[0].name", is(product.getName())));
+    }
+
+    @DisplayName("Given Blank Prefix When Suggest Products then Return Bad Request")
+    @Test
+    void testGivenBlankPrefix_WhenSuggestProducts_thenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/products/suggest").param("prefix", " "));
+
+        response.andDo(print())
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(suggestProductsUseCase);
+    }
+
+    @DisplayName("Given Price Ranges And Stock Statuses When Filter Products then Return Page With Facets")
+    @Test
+    void testGivenPriceRangesAndStockStatuses_WhenFilterProducts_thenReturnPageWithFacets() throws Exception {
+        ProductFilterResult filterResult = new ProductFilterResult(
+                new PageImpl<>(List.of(product), PageRequest.of(0, 5), 1),
+                List.of(new ProductFacet("50-100", 0), new ProductFacet("100-250", 1)),
+                List.of(new ProductFacet("IN_STOCK", 1)));
+        FilteredProductResponseDTO filteredResponseDTO = FilteredProductResponseDTO
+                .builder()
+                .products(List.of(productResponseDTO))
+                .current_page(0)
+                .total_items(1)
+                .total_pages(1)
+                .price_ranges(List.of(new ProductFacetDTO("50-100", 0), new ProductFacetDTO("100-250", 1)))
+                .stock_statuses(List.of(new ProductFacetDTO("IN_STOCK", 1)))
+                .build();
+
+        given(filterProductsUseCase.execute(List.of("50-100", "100-250"), List.of(ProductStockStatus.IN_STOCK), 0, 5))
+                .willReturn(filterResult);
+        given(productMapper.mappingFromProductFilterResultToFilteredProductDTO(filterResult)).willReturn(filteredResponseDTO);
+
+        ResultActions response = mockMvc.perform(get("/products/filter")
+                .param("priceRange", "50-100", "100-250")
+                .param("stockStatus", "IN_STOCK"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id", is(product.getId().toString())))
+                .andExpect(jsonPath("$.total_items", is(1)))
+                .andExpect(jsonPath("$.price_ranges[1].value", is("100-250")))
+                .andExpect(jsonPath("$.price_ranges[1].count", is(1)))
+                .andExpect(jsonPath("$.stock_statuses[0].value", is("IN_STOCK")));
+    }
+
+    @DisplayName("Given Unknown Stock Status When Filter Products then Return Unprocessable Entity")
+    @Test
+    void testGivenUnknownStockStatus_WhenFilterProducts_thenReturnUnprocessableEntity() throws Exception {
+        ResultActions response = mockMvc.perform(get("/products/filter").param("stockStatus", "ON_SALE"));
+
+        response.andDo(print())
+                .andExpect(status().isUnprocessableEntity());
+        verifyNoInteractions(filterProductsUseCase);
+    }
 }
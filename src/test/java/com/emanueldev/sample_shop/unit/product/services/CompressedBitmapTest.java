@@ -0,0 +1,107 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.services.products.filter.CompressedBitmap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedBitmapTest {
+
+    // Sparse, dense and empty chunks, so every pair of container kinds meets in the operations.
+    private static BitSet randomValues(Random random, double... densities) {
+        BitSet values = new BitSet();
+
+        for (int chunk = 0; chunk < densities.length; chunk++) {
+            for (int low = 0; low < 65536; low++) {
+                if (random.nextDouble() < densities[chunk]) {
+                    values.set(chunk * 65536 + low);
+                }
+            }
+        }
+
+        return values;
+    }
+
+    private static CompressedBitmap bitmap(BitSet values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        values.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+
+    private static int[] values(CompressedBitmap bitmap) {
+        return bitmap.select(0, (int) bitmap.cardinality());
+    }
+
+    @DisplayName("Given Values Added And Removed When Crossing Array Limit then Keep Exact Contents")
+    @Test
+    void testGivenValuesAddedAndRemoved_WhenCrossingArrayLimit_thenKeepExactContents() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        for (int value = 0; value < 10_000; value += 2) {
+            bitmap.add(value);
+        }
+
+        bitmap.add(200_000);
+        bitmap.add(4);
+
+        assertEquals(5001, bitmap.cardinality());
+        assertTrue(bitmap.contains(9998));
+        assertFalse(bitmap.contains(9999));
+        assertTrue(bitmap.contains(200_000));
+
+        for (int value = 0; value < 9000; value += 2) {
+            bitmap.remove(value);
+        }
+
+        bitmap.remove(200_000);
+        bitmap.remove(123_456);
+
+        assertEquals(500, bitmap.cardinality());
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(200_000));
+        assertEquals(9000, values(bitmap)[0]);
+    }
+
+    @DisplayName("Given Random Bitmaps When And Or And Count then Match Reference Sets")
+    @Test
+    void testGivenRandomBitmaps_WhenAndOrAndCount_thenMatchReferenceSets() {
+        Random random = new Random(11);
+        BitSet left = randomValues(random, 0.9, 0.01, 0.5, 0.0, 0.02);
+        BitSet right = randomValues(random, 0.3, 0.6, 0.01, 0.5, 0.0);
+
+        BitSet intersection = (BitSet) left.clone();
+        intersection.and(right);
+        BitSet union = (BitSet) left.clone();
+        union.or(right);
+
+        CompressedBitmap leftBitmap = bitmap(left);
+        CompressedBitmap rightBitmap = bitmap(right);
+
+        assertArrayEquals(intersection.stream().toArray(), values(CompressedBitmap.and(leftBitmap, rightBitmap)));
+        assertArrayEquals(union.stream().toArray(), values(CompressedBitmap.or(List.of(leftBitmap, rightBitmap))));
+        assertEquals(intersection.cardinality(), leftBitmap.andCardinality(rightBitmap));
+        assertEquals(left.cardinality(), leftBitmap.cardinality());
+    }
+
+    @DisplayName("Given Skip Across Chunks When Select then Return The Following Values In Order")
+    @Test
+    void testGivenSkipAcrossChunks_WhenSelect_thenReturnTheFollowingValuesInOrder() {
+        BitSet values = randomValues(new Random(5), 0.7, 0.001, 0.3);
+        CompressedBitmap bitmap = bitmap(values);
+        int[] expected = values.stream().toArray();
+
+        for (int skip : new int[]{0, 1, 45_000, 45_870, expected.length - 3}) {
+            int[] page = bitmap.select(skip, 10);
+
+            assertArrayEquals(Arrays.copyOfRange(expected, skip, Math.min(expected.length, skip + 10)), page);
+        }
+
+        assertEquals(0, bitmap.select(expected.length, 10).length);
+    }
+}
@@ -1,10 +1,14 @@
 package com.emanueldev.sample_shop.unit.product.services;
 
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
 import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
 import com.emanueldev.sample_shop.services.products.CreateProductUseCase;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.mockito.BDDMockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +37,18 @@ class CreateProductUseCaseTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private EntityChangeLog entityChangeLog;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFilterIndex productFilterIndex;
+
     @InjectMocks
     private CreateProductUseCase createProductUseCase;
 
@@ -46,6 +65,7 @@ class CreateProductUseCaseTest {
                 10L);
         product = Product
                 .builder()
+                .id(UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886"))
                 .name("Geladeira Eletrolux")
                 .description("Geladeira Eletrolux 2 portas.")
                 .price(new BigDecimal("950.00"))
@@ -57,7 +77,7 @@ class CreateProductUseCaseTest {
     @Test
     void testGivenProductRequestDTOObject_WhenSaveProduct_thenReturnProductObject() {
         given(productRepository.findByName(anyString())).willReturn(Optional.empty());
-        given(productRepository.save(product)).willReturn(product);
+        given(productRepository.saveAndFlush(product)).willReturn(product);
         given(productMapper.mappingFromProductRequestToProductEntity(productRequestDTO)).willReturn(product);
 
         Product createdProduct = createProductUseCase.execute(productRequestDTO);
@@ -67,6 +87,10 @@ class CreateProductUseCaseTest {
         assertEquals(productRequestDTO.getDescription(), product.getDescription());
         assertEquals(productRequestDTO.getPrice(), product.getPrice());
         assertEquals(productRequestDTO.getStockQuantity(), product.getStockQuantity());
+        verify(entityChangeLog).record(Product.class, List.of(product.getId()));
+        verify(productSearchIndex).index(List.of(product));
+        verify(productSuggestionIndex).index(List.of(product));
+        verify(productFilterIndex).index(List.of(product));
     }
 
     @DisplayName("Given Existing Product Name When Save Product then Throws Exception")
@@ -76,11 +100,25 @@ class CreateProductUseCaseTest {
 
         HttpBadRequestException result = assertThrows(HttpBadRequestException.class, () -> createProductUseCase.execute(productRequestDTO));
 
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
+        verifyNoInteractions(entityChangeLog);
         assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, result.getMessage());
         assertInstanceOf(HttpBadRequestException.class ,result);
     }
 
+    @DisplayName("Given Name Taken By Concurrent Write When Save Product then Throws Exception")
+    @Test
+    void testGivenNameTakenByConcurrentWrite_WhenSaveProduct_thenThrowsException() {
+        given(productRepository.findByName(anyString())).willReturn(Optional.empty());
+        given(productMapper.mappingFromProductRequestToProductEntity(productRequestDTO)).willReturn(product);
+        given(productRepository.saveAndFlush(product)).willThrow(new DataIntegrityViolationException("uk_products_name"));
+
+        HttpBadRequestException result = assertThrows(HttpBadRequestException.class, () -> createProductUseCase.execute(productRequestDTO));
+
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, result.getMessage());
+        verifyNoInteractions(entityChangeLog, productSearchIndex, productSuggestionIndex, productFilterIndex);
+    }
+
 
 
   
@@ -1,8 +1,13 @@
 package com.emanueldev.sample_shop.unit.product.services;
 
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
 import com.emanueldev.sample_shop.services.products.DeleteProductUseCase;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +34,22 @@ public class DeleteProductUseCaseTest {
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    ShardedStockService shardedStockService;
+
+
+    @Mock
+    EntityChangeLog entityChangeLog;
+
+    @Mock
+    ProductSearchIndex productSearchIndex;
+
+    @Mock
+    ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    ProductFilterIndex productFilterIndex;
+
     @InjectMocks
     DeleteProductUseCase deleteProductUseCase;
 
@@ -53,6 +75,10 @@ public class DeleteProductUseCaseTest {
         deleteProductUseCase.execute(productId);
 
         verify(productRepository, times(1)).delete(product);
+        verify(entityChangeLog, times(1)).record(Product.class, List.of(productId));
+        verify(productSearchIndex, times(1)).remove(List.of(productId));
+        verify(productSuggestionIndex, times(1)).remove(List.of(productId));
+        verify(productFilterIndex, times(1)).remove(List.of(productId));
     }
 
     @DisplayName("Given Product ProductId When Delete Product then Do Nothing")
@@ -0,0 +1,114 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.products.FilterProductsUseCase;
+import com.emanueldev.sample_shop.services.products.filter.ProductFacet;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterHits;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterResult;
+import com.emanueldev.sample_shop.services.products.filter.ProductStockStatus;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilterProductsUseCaseTest {
+
+    private static final List<String> PRICE_RANGES = List.of("0-50", "50-100", "100-");
+
+    @Mock
+    private ProductFilterIndex productFilterIndex;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+
+    @InjectMocks
+    private FilterProductsUseCase filterProductsUseCase;
+
+    @DisplayName("Given Filter Hits When Filter Products then Return Page In Index Order With Facets")
+    @Test
+    void testGivenFilterHits_WhenFilterProducts_thenReturnPageInIndexOrderWithFacets() {
+        Product caneca = product("Caneca");
+        Product garrafa = product("Garrafa");
+        UUID deletedId = UUID.randomUUID();
+        List<ProductFacet> priceRangeFacets = List.of(new ProductFacet("0-50", 12), new ProductFacet("50-100", 3), new ProductFacet("100-", 0));
+        List<ProductFacet> stockStatusFacets = List.of(new ProductFacet("IN_STOCK", 12), new ProductFacet("OUT_OF_STOCK", 0), new ProductFacet("LOW_STOCK", 1));
+
+        given(productFilterIndex.priceRanges()).willReturn(PRICE_RANGES);
+        given(productFilterIndex.filter(Set.of("0-50"), Set.of(ProductStockStatus.IN_STOCK), 10, 5))
+                .willReturn(new ProductFilterHits(12, List.of(garrafa.getId(), deletedId, caneca.getId()), priceRangeFacets, stockStatusFacets));
+        given(productRepository.findAllByIdCached(anyCollection())).willReturn(Map.of(caneca.getId(), caneca, garrafa.getId(), garrafa));
+
+        ProductFilterResult result = filterProductsUseCase.execute(
+                List.of("0-50", "0-50"), List.of(ProductStockStatus.IN_STOCK), 2, 5);
+
+        assertEquals(List.of(garrafa, caneca), result.page().getContent());
+        assertEquals(12, result.page().getTotalElements());
+        assertEquals(3, result.page().getTotalPages());
+        assertEquals(2, result.page().getNumber());
+        assertEquals(priceRangeFacets, result.priceRanges());
+        assertEquals(stockStatusFacets, result.stockStatuses());
+        verify(shardedStockService).applyStockQuantities(List.of(garrafa, caneca));
+    }
+
+    @DisplayName("Given Page Past The Last Product When Filter Products then Return Facets Without Loading Products")
+    @Test
+    void testGivenPagePastTheLastProduct_WhenFilterProducts_thenReturnFacetsWithoutLoadingProducts() {
+        List<ProductFacet> priceRangeFacets = List.of(new ProductFacet("0-50", 2), new ProductFacet("50-100", 0), new ProductFacet("100-", 0));
+
+        given(productFilterIndex.filter(Set.of(), Set.of(), 50, 5))
+                .willReturn(new ProductFilterHits(2, List.of(), priceRangeFacets, List.of()));
+
+        ProductFilterResult result = filterProductsUseCase.execute(List.of(), List.of(), 10, 5);
+
+        assertTrue(result.page().getContent().isEmpty());
+        assertEquals(2, result.page().getTotalElements());
+        assertEquals(priceRangeFacets, result.priceRanges());
+        verifyNoInteractions(productRepository, shardedStockService);
+    }
+
+    @DisplayName("Given Unknown Price Range When Filter Products then Throw HttpBadRequestException")
+    @Test
+    void testGivenUnknownPriceRange_WhenFilterProducts_thenThrowHttpBadRequestException() {
+        given(productFilterIndex.priceRanges()).willReturn(PRICE_RANGES);
+
+        HttpBadRequestException exception = assertThrows(HttpBadRequestException.class, () ->
+                filterProductsUseCase.execute(List.of("50-100", "10-20"), List.of(), 0, 5));
+
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_FILTER_INVALID_PRICE_RANGE, exception.getMessage());
+        assertEquals(Map.of("10-20", ProductExceptionMessageUtils.PRODUCT_FILTER_PRICE_RANGE_OPTIONS + "0-50, 50-100, 100-"),
+                exception.getErrors());
+        verify(productFilterIndex, never()).filter(any(), any(), anyLong(), anyInt());
+    }
+
+    private Product product(String name) {
+        return Product
+                .builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .description(name + ".")
+                .price(new BigDecimal("29.90"))
+                .stockQuantity(10L)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.emanueldev.sample_shop.unit.product.services;
 
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
 import com.emanueldev.sample_shop.services.products.GetAllProductsUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +28,9 @@ public class GetAllProductsUseCaseTest {
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    ShardedStockService shardedStockService;
+
     @InjectMocks
     GetAllProductsUseCase getAllProductsUseCase;
 
@@ -4,6 +4,7 @@ package com.emanueldev.sample_shop.unit.product.services;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
 import com.emanueldev.sample_shop.services.products.GetProductByIdUseCase;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,10 @@ public class GetProductByIdUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ShardedStockService shardedStockService;
+
+
     @InjectMocks
     private GetProductByIdUseCase getProductByIdUseCase;
 
@@ -37,6 +42,7 @@ public class GetProductByIdUseCaseTest {
     void setup() {
         product = Product
                 .builder()
+                .id(UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886"))
                 .name("Mesa de madeira")
                 .description("Mesa ideal para jantares!.")
                 .price(new BigDecimal("199.99"))
@@ -0,0 +1,242 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
+import com.emanueldev.sample_shop.config.ProductImportProperties;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportErrorDTO;
+import com.emanueldev.sample_shop.domain.products.dto.response.ProductImportReportDTO;
+import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
+import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.ImportProductsUseCase;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.importing.ProductImportFormat;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportProductsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityChangeLog entityChangeLog;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFilterIndex productFilterIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Session session;
+
+    private ProductImportProperties productImportProperties;
+
+    private ImportProductsUseCase importProductsUseCase;
+
+    private List<Product> persistedProducts;
+
+    @BeforeEach
+    void setup() {
+        productImportProperties = new ProductImportProperties();
+        productImportProperties.setChunkSize(2);
+        persistedProducts = new ArrayList<>();
+
+        importProductsUseCase = new ImportProductsUseCase(
+                productRepository,
+                new ProductMapper(),
+                entityChangeLog,
+                productSearchIndex,
+                productSuggestionIndex,
+                productFilterIndex,
+                entityManager,
+                transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                productImportProperties);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().doAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setId(UUID.randomUUID());
+            persistedProducts.add(product);
+            return null;
+        }).when(session).persist(any(Product.class));
+    }
+
+    @DisplayName("Given NDJSON Rows When Import Products then Insert Valid Rows In Chunks And Report The Others")
+    @Test
+    void testGivenNdjsonRows_WhenImportProducts_thenInsertValidRowsInChunksAndReportTheOthers() throws IOException {
+        given(productRepository.findNamesIn(anyCollection())).willAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return names.stream()
+                    .filter(name -> name.equals("Fogão 4 bocas") || persistedProducts.stream().anyMatch(product -> product.getName().equals(name)))
+                    .toList();
+        });
+
+        String content = """
+                {"name": "Geladeira Eletrolux", "description": "Geladeira Eletrolux 2 portas.", "price": 950.00, "stockQuantity": 10}
+                {"name": "Fogão 4 bocas", "description": "Fogão de última geração.", "price": 299.99, "stockQuantity": 40}
+
+                {"name": "Mi", "description": "Microondas 20 litros.", "price": 450.00, "stockQuantity": 5}
+                {"name": "Geladeira Eletrolux", "description": "Geladeira Eletrolux 2 portas.", "price": 950.00, "stockQuantity": 10}
+                {"name": "Lava louças", "description": "Lava louças 8 serviços.", "price": "caro", "stockQuantity": 3}
+                not json
+                {"name": "Air fryer", "description": "Air fryer 4 litros.", "price": 399.90, "stockQuantity": 7}
+                """;
+
+        ProductImportReportDTO report = importProductsUseCase.execute(toStream(content), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        assertEquals(7, report.getTotal_rows());
+        assertEquals(2, report.getImported_rows());
+        assertEquals(5, report.getFailed_rows());
+        assertFalse(report.isErrors_truncated());
+        assertEquals(List.of(2L, 4L, 5L, 6L, 7L), report.getErrors().stream().map(ProductImportErrorDTO::getLine).toList());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, report.getErrors().get(0).getMessage());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_ROW, report.getErrors().get(1).getMessage());
+        assertTrue(report.getErrors().get(1).getErrors().containsKey("name"));
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, report.getErrors().get(2).getMessage());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_NUMBER, report.getErrors().get(3).getErrors().get("price"));
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW, report.getErrors().get(4).getMessage());
+
+        assertEquals(List.of("Geladeira Eletrolux", "Air fryer"), persistedProducts.stream().map(Product::getName).toList());
+        then(transactionTemplate).should(times(4)).execute(any());
+        then(session).should(times(3)).setCacheMode(CacheMode.IGNORE);
+        then(session).should(times(3)).flush();
+        then(entityChangeLog).should().record(Product.class, List.of(persistedProducts.get(0).getId()));
+        then(entityChangeLog).should().record(Product.class, List.of(persistedProducts.get(1).getId()));
+        then(productSearchIndex).should().index(List.of(persistedProducts.get(0)));
+        then(productSearchIndex).should().index(List.of(persistedProducts.get(1)));
+        then(productSuggestionIndex).should().index(List.of(persistedProducts.get(0)));
+        then(productSuggestionIndex).should().index(List.of(persistedProducts.get(1)));
+        then(productFilterIndex).should().index(List.of(persistedProducts.get(0)));
+        then(productFilterIndex).should().index(List.of(persistedProducts.get(1)));
+    }
+
+    @DisplayName("Given CSV Rows With Quoted Fields When Import Products then Insert Them Unquoted")
+    @Test
+    void testGivenCsvRowsWithQuotedFields_WhenImportProducts_thenInsertThemUnquoted() throws IOException {
+        productImportProperties.setChunkSize(10);
+        given(productRepository.findNamesIn(anyCollection())).willReturn(List.of());
+
+        String content = "stockQuantity,price,name,description\r\n" +
+                "10,950.00,\"Geladeira, \"\"Eletrolux\"\"\",\"Geladeira com\n2 portas.\"\r\n" +
+                "3,abc,Lava louças,Lava louças 8 serviços.\r\n" +
+                "7,399.90,Air fryer\r\n";
+
+        ProductImportReportDTO report = importProductsUseCase.execute(toStream(content), ProductImportFormat.CSV, StandardCharsets.UTF_8);
+
+        assertEquals(3, report.getTotal_rows());
+        assertEquals(1, report.getImported_rows());
+        assertEquals(List.of(4L, 5L), report.getErrors().stream().map(ProductImportErrorDTO::getLine).toList());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_NUMBER, report.getErrors().get(0).getErrors().get("price"));
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_MALFORMED_ROW, report.getErrors().get(1).getMessage());
+
+        Product product = persistedProducts.get(0);
+        assertEquals("Geladeira, \"Eletrolux\"", product.getName());
+        assertEquals("Geladeira com\n2 portas.", product.getDescription());
+        assertEquals(new BigDecimal("950.00"), product.getPrice());
+        assertEquals(10L, product.getStockQuantity());
+    }
+
+    @DisplayName("Given Name Rejected By Unique Constraint When Import Products then Retry The Chunk Row By Row")
+    @Test
+    void testGivenNameRejectedByUniqueConstraint_WhenImportProducts_thenRetryTheChunkRowByRow() throws IOException {
+        productImportProperties.setChunkSize(10);
+        given(productRepository.findNamesIn(anyCollection())).willReturn(List.of("GELADEIRA BRASTEMP"));
+        ConstraintViolationException duplicatedName = new ConstraintViolationException("Duplicate entry", null, "uk_products_name");
+        willThrow(duplicatedName).willThrow(duplicatedName).willDoNothing().given(session).flush();
+
+        String content = """
+                {"name": "Geladeira Brastemp", "description": "Geladeira Brastemp 2 portas.", "price": 950.00, "stockQuantity": 10}
+                {"name": "Fogão Elétrico", "description": "Fogão elétrico 4 bocas.", "price": 299.99, "stockQuantity": 40}
+                """;
+
+        ProductImportReportDTO report = importProductsUseCase.execute(toStream(content), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        assertEquals(1, report.getImported_rows());
+        assertEquals(List.of(1L), report.getErrors().stream().map(ProductImportErrorDTO::getLine).toList());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, report.getErrors().get(0).getMessage());
+
+        Product imported = persistedProducts.get(persistedProducts.size() - 1);
+        assertEquals("Fogão Elétrico", imported.getName());
+        then(transactionTemplate).should(times(3)).execute(any());
+        then(entityChangeLog).should().record(Product.class, List.of(imported.getId()));
+        then(productSearchIndex).should().index(List.of(imported));
+    }
+
+    @DisplayName("Given CSV Without Required Column When Import Products then Throws Exception")
+    @Test
+    void testGivenCsvWithoutRequiredColumn_WhenImportProducts_thenThrowsException() {
+        String content = "name,description,price\nAir fryer,Air fryer 4 litros.,399.90\n";
+
+        HttpBadRequestException result = assertThrows(HttpBadRequestException.class,
+                () -> importProductsUseCase.execute(toStream(content), ProductImportFormat.CSV, StandardCharsets.UTF_8));
+
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_INVALID_HEADER, result.getMessage());
+        verifyNoInteractions(transactionTemplate, productRepository, entityChangeLog);
+    }
+
+    @DisplayName("Given More Failed Rows Than Reported Errors When Import Products then Truncate The Report")
+    @Test
+    void testGivenMoreFailedRowsThanReportedErrors_WhenImportProducts_thenTruncateTheReport() throws IOException {
+        productImportProperties.setMaxReportedErrors(2);
+        productImportProperties.setMaxRowLength(64);
+
+        String content = "{\"name\": \"" + "x".repeat(100) + "\"}\n" + "[]\n".repeat(4);
+
+        ProductImportReportDTO report = importProductsUseCase.execute(toStream(content), ProductImportFormat.NDJSON, StandardCharsets.UTF_8);
+
+        assertEquals(5, report.getTotal_rows());
+        assertEquals(5, report.getFailed_rows());
+        assertEquals(2, report.getErrors().size());
+        assertTrue(report.isErrors_truncated());
+        assertEquals(ProductExceptionMessageUtils.PRODUCT_IMPORT_ROW_TOO_LONG, report.getErrors().get(0).getMessage());
+        verifyNoInteractions(productRepository, entityChangeLog, productSearchIndex, productSuggestionIndex, productFilterIndex);
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
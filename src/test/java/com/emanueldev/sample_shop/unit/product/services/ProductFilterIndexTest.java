@@ -0,0 +1,174 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.config.ProductFilterProperties;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductFilterRow;
+import com.emanueldev.sample_shop.services.products.filter.ProductFacet;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterHits;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.filter.ProductStockStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFilterIndexTest {
+
+    private static final UUID CANECA_ID = UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886");
+    private static final UUID GARRAFA_ID = UUID.fromString("7d40eb46-c0d2-4711-8e94-c73cc1fba505");
+    private static final UUID CHALEIRA_ID = UUID.fromString("c8a6188d-6ad5-42d9-aa4d-51f67cb97f85");
+    private static final UUID GELADEIRA_ID = UUID.fromString("e2b1f7c4-9a3d-4f6e-8b5a-1c2d3e4f5a6b");
+    private static final UUID NOTEBOOK_ID = UUID.fromString("3492e3ef-e7de-4c18-81dd-8a814e43d54f");
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductFilterIndex productFilterIndex;
+
+    @BeforeEach
+    void setup() {
+        productFilterIndex = new ProductFilterIndex(
+                productRepository,
+                new TransactionTemplate(transactionManager),
+                new ProductFilterProperties(),
+                new SimpleMeterRegistry());
+
+        given(productRepository.streamAllForFilters(anyInt())).willReturn(Stream.of(
+                new ProductFilterRow(CANECA_ID, new BigDecimal("30.00"), 0, 0),
+                new ProductFilterRow(GARRAFA_ID, new BigDecimal("75.00"), 3, 0),
+                new ProductFilterRow(CHALEIRA_ID, new BigDecimal("80.00"), 40, 0),
+                new ProductFilterRow(GELADEIRA_ID, new BigDecimal("1000.00"), 10, 0),
+                new ProductFilterRow(NOTEBOOK_ID, new BigDecimal("3000.00"), 1, 0)));
+
+        productFilterIndex.rebuild();
+    }
+
+    private ProductFilterHits filter(Collection<String> priceRanges, Collection<ProductStockStatus> stockStatuses) {
+        return productFilterIndex.filter(priceRanges, stockStatuses, 0, 10);
+    }
+
+    private static List<Long> counts(List<ProductFacet> facets) {
+        return facets.stream().map(ProductFacet::count).toList();
+    }
+
+    @DisplayName("Given No Filter When Filter then Return Every Product In Creation Order With Facet Counts")
+    @Test
+    void testGivenNoFilter_WhenFilter_thenReturnEveryProductInCreationOrderWithFacetCounts() {
+        ProductFilterHits hits = this.filter(List.of(), List.of());
+
+        assertEquals(5, hits.totalItems());
+        assertEquals(List.of(CANECA_ID, GARRAFA_ID, CHALEIRA_ID, GELADEIRA_ID, NOTEBOOK_ID), hits.ids());
+        assertEquals(List.of("0-50", "50-100", "100-250", "250-500", "500-1000", "1000-2500", "2500-"),
+                hits.priceRanges().stream().map(ProductFacet::value).toList());
+        assertEquals(List.of(1L, 2L, 0L, 0L, 0L, 1L, 1L), counts(hits.priceRanges()));
+        assertEquals(List.of(new ProductFacet("IN_STOCK", 4), new ProductFacet("OUT_OF_STOCK", 1), new ProductFacet("LOW_STOCK", 2)),
+                hits.stockStatuses());
+        assertEquals(5, productFilterIndex.size());
+    }
+
+    @DisplayName("Given Price Range And Stock Status When Filter then Intersect Them And Count Each Facet Under The Other")
+    @Test
+    void testGivenPriceRangeAndStockStatus_WhenFilter_thenIntersectThemAndCountEachFacetUnderTheOther() {
+        ProductFilterHits hits = this.filter(List.of("50-100"), List.of(ProductStockStatus.LOW_STOCK));
+
+        assertEquals(1, hits.totalItems());
+        assertEquals(List.of(GARRAFA_ID), hits.ids());
+        assertEquals(List.of(0L, 1L, 0L, 0L, 0L, 0L, 1L), counts(hits.priceRanges()));
+        assertEquals(List.of(2L, 0L, 1L), counts(hits.stockStatuses()));
+    }
+
+    @DisplayName("Given Several Price Ranges When Filter Page then Join Them And Skip Earlier Products")
+    @Test
+    void testGivenSeveralPriceRanges_WhenFilterPage_thenJoinThemAndSkipEarlierProducts() {
+        ProductFilterHits hits = productFilterIndex.filter(List.of("2500-", "0-50", "1000-2500"), List.of(), 1, 1);
+
+        assertEquals(3, hits.totalItems());
+        assertEquals(List.of(GELADEIRA_ID), hits.ids());
+        assertTrue(productFilterIndex.filter(List.of("100-250"), List.of(), 0, 10).ids().isEmpty());
+    }
+
+    @DisplayName("Given Reserved And Released Stock When Adjust Stock then Move Products Between Statuses After Commit")
+    @Test
+    void testGivenReservedAndReleasedStock_WhenAdjustStock_thenMoveProductsBetweenStatusesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            productFilterIndex.adjustStock(Map.of(GARRAFA_ID, -3L, CANECA_ID, 8L, UUID.randomUUID(), 1L));
+            assertEquals(List.of(CANECA_ID), this.filter(List.of(), List.of(ProductStockStatus.OUT_OF_STOCK)).ids());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(GARRAFA_ID), this.filter(List.of(), List.of(ProductStockStatus.OUT_OF_STOCK)).ids());
+        assertEquals(List.of(NOTEBOOK_ID), this.filter(List.of(), List.of(ProductStockStatus.LOW_STOCK)).ids());
+        assertEquals(List.of(CANECA_ID, CHALEIRA_ID, GELADEIRA_ID, NOTEBOOK_ID),
+                this.filter(List.of(), List.of(ProductStockStatus.IN_STOCK)).ids());
+    }
+
+    @DisplayName("Given Updated Created And Removed Products When Filter then Reflect Latest Writes")
+    @Test
+    void testGivenUpdatedCreatedAndRemovedProducts_WhenFilter_thenReflectLatestWrites() {
+        UUID createdId = UUID.randomUUID();
+
+        productFilterIndex.index(List.of(
+                Product.builder().id(CHALEIRA_ID).price(new BigDecimal("49.99")).stockQuantity(2L).build(),
+                Product.builder().id(createdId).price(new BigDecimal("50.00")).stockQuantity(0L).build()));
+        productFilterIndex.remove(List.of(CANECA_ID));
+
+        assertEquals(List.of(CHALEIRA_ID), this.filter(List.of("0-50"), List.of()).ids());
+        assertEquals(List.of(GARRAFA_ID, createdId), this.filter(List.of("50-100"), List.of()).ids());
+        assertEquals(List.of(createdId), this.filter(List.of(), List.of(ProductStockStatus.OUT_OF_STOCK)).ids());
+        assertEquals(5, this.filter(List.of(), List.of()).totalItems());
+    }
+
+    @DisplayName("Given Product Changes From Other Node When On Change then Reload Or Remove Them")
+    @Test
+    void testGivenProductChangesFromOtherNode_WhenOnChange_thenReloadOrRemoveThem() {
+        given(productRepository.findFilterRowsByIdIn(List.of(CHALEIRA_ID, NOTEBOOK_ID))).willReturn(List.of(
+                new ProductFilterRow(CHALEIRA_ID, new BigDecimal("80.00"), 0, 1)));
+
+        productFilterIndex.onChange(OrderModel.class, List.of(CANECA_ID));
+        productFilterIndex.onChange(Product.class, List.of(CHALEIRA_ID, NOTEBOOK_ID));
+
+        assertEquals(List.of(CANECA_ID, CHALEIRA_ID), this.filter(List.of(), List.of(ProductStockStatus.OUT_OF_STOCK)).ids());
+        assertEquals(4, this.filter(List.of(), List.of()).totalItems());
+    }
+
+    @DisplayName("Given Reload Older Than Indexed Product When On Change then Keep The Newer Row")
+    @Test
+    void testGivenReloadOlderThanIndexedProduct_WhenOnChange_thenKeepTheNewerRow() {
+        productFilterIndex.index(List.of(
+                Product.builder().id(CHALEIRA_ID).price(new BigDecimal("80.00")).stockQuantity(0L).version(2).build()));
+        given(productRepository.findFilterRowsByIdIn(List.of(CHALEIRA_ID))).willReturn(List.of(
+                new ProductFilterRow(CHALEIRA_ID, new BigDecimal("80.00"), 40, 1)));
+
+        productFilterIndex.onChange(Product.class, List.of(CHALEIRA_ID));
+
+        assertEquals(List.of(CANECA_ID, CHALEIRA_ID), this.filter(List.of(), List.of(ProductStockStatus.OUT_OF_STOCK)).ids());
+    }
+}
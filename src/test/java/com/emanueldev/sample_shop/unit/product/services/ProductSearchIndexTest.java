@@ -0,0 +1,175 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.config.ProductSearchProperties;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductSearchRow;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchHits;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    private static final UUID GELADEIRA_ID = UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886");
+    private static final UUID FOGAO_ID = UUID.fromString("7d40eb46-c0d2-4711-8e94-c73cc1fba505");
+    private static final UUID MICROONDAS_ID = UUID.fromString("c8a6188d-6ad5-42d9-aa4d-51f67cb97f85");
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setup() {
+        productSearchIndex = new ProductSearchIndex(
+                productRepository,
+                new TransactionTemplate(transactionManager),
+                new ProductSearchProperties(),
+                new SimpleMeterRegistry());
+
+        given(productRepository.streamAllForSearch(anyInt())).willReturn(Stream.of(
+                new ProductSearchRow(GELADEIRA_ID, "Geladeira Eletrolux", "Geladeira Eletrolux 2 portas.", 0),
+                new ProductSearchRow(FOGAO_ID, "Fogão 4 bocas", "Fogão de última geração, combina com a geladeira.", 0),
+                new ProductSearchRow(MICROONDAS_ID, "Microondas", "Microondas 20 litros com grill.", 0)));
+
+        productSearchIndex.rebuild();
+    }
+
+    @DisplayName("Given Indexed Catalog When Search then Rank Name Matches Above Description Matches")
+    @Test
+    void testGivenIndexedCatalog_WhenSearch_thenRankNameMatchesAboveDescriptionMatches() {
+        ProductSearchHits hits = productSearchIndex.search("geladeira", 10);
+
+        assertEquals(2, hits.totalHits());
+        assertEquals(List.of(GELADEIRA_ID, FOGAO_ID), hits.ids());
+        assertEquals(3, productSearchIndex.size());
+    }
+
+    @DisplayName("Given Partial Or Accented Terms When Search then Match Normalized Prefixes")
+    @Test
+    void testGivenPartialOrAccentedTerms_WhenSearch_thenMatchNormalizedPrefixes() {
+        assertEquals(List.of(FOGAO_ID), productSearchIndex.search("FOGÃO", 10).ids());
+        assertEquals(List.of(FOGAO_ID), productSearchIndex.search("fogao", 10).ids());
+        assertEquals(List.of(FOGAO_ID), productSearchIndex.search("fog", 10).ids());
+        assertEquals(List.of(MICROONDAS_ID), productSearchIndex.search("micro 20 lit", 10).ids());
+        assertTrue(productSearchIndex.search("f", 10).ids().isEmpty());
+    }
+
+    @DisplayName("Given Several Terms When Search then Return Only Products Matching Every Term")
+    @Test
+    void testGivenSeveralTerms_WhenSearch_thenReturnOnlyProductsMatchingEveryTerm() {
+        assertEquals(List.of(FOGAO_ID), productSearchIndex.search("geladeira bocas", 10).ids());
+        assertEquals(ProductSearchHits.EMPTY, productSearchIndex.search("geladeira lavadora", 10));
+        assertEquals(ProductSearchHits.EMPTY, productSearchIndex.search("  -- ", 10));
+    }
+
+    @DisplayName("Given More Matches Than Limit When Search then Return Best Ones And Total Hits")
+    @Test
+    void testGivenMoreMatchesThanLimit_WhenSearch_thenReturnBestOnesAndTotalHits() {
+        List<Product> products = new ArrayList<>();
+
+        for (int i = 0; i < 30; i++) {
+            products.add(Product
+                    .builder()
+                    .id(UUID.randomUUID())
+                    .name("Cadeira " + i)
+                    .description(i == 17 ? "Cadeira cadeira cadeira." : "Assento para escritório.")
+                    .build());
+        }
+
+        productSearchIndex.index(products);
+        ProductSearchHits hits = productSearchIndex.search("cadeira", 5);
+
+        assertEquals(30, hits.totalHits());
+        assertEquals(5, hits.ids().size());
+        assertEquals(products.get(17).getId(), hits.ids().get(0));
+    }
+
+    @DisplayName("Given Updated And Removed Products When Search then Reflect Latest Version")
+    @Test
+    void testGivenUpdatedAndRemovedProducts_WhenSearch_thenReflectLatestVersion() {
+        Product updatedProduct = Product
+                .builder()
+                .id(GELADEIRA_ID)
+                .name("Lava louças")
+                .description("Lava louças 8 serviços.")
+                .version(1)
+                .build();
+
+        productSearchIndex.index(List.of(updatedProduct));
+        productSearchIndex.remove(List.of(MICROONDAS_ID));
+
+        assertEquals(List.of(FOGAO_ID), productSearchIndex.search("geladeira", 10).ids());
+        assertEquals(List.of(GELADEIRA_ID), productSearchIndex.search("louças", 10).ids());
+        assertTrue(productSearchIndex.search("microondas", 10).ids().isEmpty());
+
+        updatedProduct.setName("Geladeira antiga");
+        updatedProduct.setVersion(0);
+        productSearchIndex.index(List.of(updatedProduct));
+
+        assertEquals(List.of(GELADEIRA_ID), productSearchIndex.search("louças", 10).ids());
+        assertEquals(2, productSearchIndex.size());
+    }
+
+    @DisplayName("Given Open Transaction When Index Product then Apply Only After Commit")
+    @Test
+    void testGivenOpenTransaction_WhenIndexProduct_thenApplyOnlyAfterCommit() {
+        Product product = Product
+                .builder()
+                .id(UUID.randomUUID())
+                .name("Air fryer")
+                .description("Air fryer 4 litros.")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            productSearchIndex.index(List.of(product));
+            assertTrue(productSearchIndex.search("fryer", 10).ids().isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(product.getId()), productSearchIndex.search("fryer", 10).ids());
+    }
+
+    @DisplayName("Given Product Changes From Other Node When On Change then Reload Or Remove Them")
+    @Test
+    void testGivenProductChangesFromOtherNode_WhenOnChange_thenReloadOrRemoveThem() {
+        given(productRepository.findSearchRowsByIdIn(List.of(GELADEIRA_ID, FOGAO_ID))).willReturn(List.of(
+                new ProductSearchRow(GELADEIRA_ID, "Geladeira Brastemp", "Geladeira Brastemp frost free.", 1)));
+
+        productSearchIndex.onChange(OrderModel.class, List.of(MICROONDAS_ID));
+        productSearchIndex.onChange(Product.class, List.of(GELADEIRA_ID, FOGAO_ID));
+
+        assertEquals(List.of(GELADEIRA_ID), productSearchIndex.search("geladeira", 10).ids());
+        assertEquals(List.of(GELADEIRA_ID), productSearchIndex.search("brastemp", 10).ids());
+        assertTrue(productSearchIndex.search("fogao", 10).ids().isEmpty());
+        assertEquals(List.of(MICROONDAS_ID), productSearchIndex.search("microondas", 10).ids());
+    }
+}
@@ -0,0 +1,178 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.config.ProductSuggestionProperties;
+import com.emanueldev.sample_shop.models.OrderModel;
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.repositories.projections.ProductSuggestionRow;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestion;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSuggestionIndexTest {
+
+    private static final UUID GELADEIRA_ID = UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886");
+    private static final UUID GELADEIRA_FROST_ID = UUID.fromString("7d40eb46-c0d2-4711-8e94-c73cc1fba505");
+    private static final UUID GELO_ID = UUID.fromString("c8a6188d-6ad5-42d9-aa4d-51f67cb97f85");
+    private static final UUID FOGAO_ID = UUID.fromString("e2b1f7c4-9a3d-4f6e-8b5a-1c2d3e4f5a6b");
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @BeforeEach
+    void setup() {
+        productSuggestionIndex = new ProductSuggestionIndex(
+                productRepository,
+                new TransactionTemplate(transactionManager),
+                new ProductSuggestionProperties(),
+                new SimpleMeterRegistry());
+
+        given(productRepository.streamAllForSuggestions(anyInt())).willReturn(Stream.of(
+                new ProductSuggestionRow(GELADEIRA_ID, "Geladeira Eletrolux", 0, 5),
+                new ProductSuggestionRow(GELADEIRA_FROST_ID, "Geladeira Frost Free", 0, 40),
+                new ProductSuggestionRow(GELO_ID, "Gelo em cubos", 0, 12),
+                new ProductSuggestionRow(FOGAO_ID, "Fogão 4 bocas", 0, 0)));
+
+        productSuggestionIndex.rebuild();
+    }
+
+    private List<UUID> suggest(String prefix) {
+        return productSuggestionIndex.suggest(prefix, 10).stream().map(ProductSuggestion::id).toList();
+    }
+
+    @DisplayName("Given Indexed Catalog When Suggest then Return Products Starting With Prefix By Units Sold")
+    @Test
+    void testGivenIndexedCatalog_WhenSuggest_thenReturnProductsStartingWithPrefixByUnitsSold() {
+        assertEquals(List.of(GELADEIRA_FROST_ID, GELO_ID, GELADEIRA_ID), this.suggest("ge"));
+        assertEquals(List.of(GELADEIRA_FROST_ID, GELADEIRA_ID), this.suggest("gelad"));
+        assertEquals(List.of(GELADEIRA_ID), this.suggest("geladeira ele"));
+        assertEquals(List.of(new ProductSuggestion(GELADEIRA_FROST_ID, "Geladeira Frost Free")),
+                productSuggestionIndex.suggest("ge", 1));
+        assertEquals(4, productSuggestionIndex.size());
+    }
+
+    @DisplayName("Given Accented Or Unmatched Prefix When Suggest then Match Only Normalized Name Starts")
+    @Test
+    void testGivenAccentedOrUnmatchedPrefix_WhenSuggest_thenMatchOnlyNormalizedNameStarts() {
+        assertEquals(List.of(FOGAO_ID), this.suggest("FOGAO"));
+        assertEquals(List.of(FOGAO_ID), this.suggest("fogão, 4"));
+        assertTrue(this.suggest("eletrolux").isEmpty());
+        assertTrue(this.suggest("gelx").isEmpty());
+        assertTrue(this.suggest("geladeira eletroluxe").isEmpty());
+        assertTrue(this.suggest(" -- ").isEmpty());
+    }
+
+    @DisplayName("Given More Products Than Suggestions When Suggest then Keep Only The Best Sellers")
+    @Test
+    void testGivenMoreProductsThanSuggestions_WhenSuggest_thenKeepOnlyTheBestSellers() {
+        List<Product> products = new ArrayList<>();
+
+        for (int i = 0; i < 30; i++) {
+            products.add(Product.builder().id(UUID.randomUUID()).name("Cadeira " + i).build());
+        }
+
+        productSuggestionIndex.index(products);
+        productSuggestionIndex.recordSales(Map.of(products.get(17).getId(), 3L, products.get(4).getId(), 1L));
+
+        List<UUID> suggestions = this.suggest("cad");
+
+        assertEquals(10, suggestions.size());
+        assertEquals(List.of(products.get(17).getId(), products.get(4).getId(), products.get(0).getId()),
+                suggestions.subList(0, 3));
+    }
+
+    @DisplayName("Given Renamed And Removed Products When Suggest then Reflect Latest Version")
+    @Test
+    void testGivenRenamedAndRemovedProducts_WhenSuggest_thenReflectLatestVersion() {
+        int nodeCount = productSuggestionIndex.nodeCount();
+        Product renamedProduct = Product.builder().id(GELADEIRA_ID).name("Lava louças").version(1).build();
+
+        productSuggestionIndex.index(List.of(renamedProduct));
+        productSuggestionIndex.remove(List.of(GELO_ID));
+
+        assertEquals(List.of(GELADEIRA_FROST_ID), this.suggest("ge"));
+        assertEquals(List.of(GELADEIRA_ID), this.suggest("lava"));
+
+        renamedProduct.setName("Geladeira antiga");
+        renamedProduct.setVersion(0);
+        productSuggestionIndex.index(List.of(renamedProduct));
+
+        assertEquals(List.of(GELADEIRA_ID), this.suggest("lava"));
+
+        productSuggestionIndex.remove(List.of(GELADEIRA_ID));
+        productSuggestionIndex.index(List.of(Product.builder().id(GELO_ID).name("Gelo em cubos").build()));
+        productSuggestionIndex.index(List.of(Product.builder().id(GELADEIRA_ID).name("Geladeira Eletrolux").build()));
+
+        assertEquals(nodeCount, productSuggestionIndex.nodeCount());
+        assertEquals(List.of(GELADEIRA_FROST_ID, GELADEIRA_ID, GELO_ID), this.suggest("ge"));
+    }
+
+    @DisplayName("Given Cancelled Sales When Record Sales then Drop Product In Ranking")
+    @Test
+    void testGivenCancelledSales_WhenRecordSales_thenDropProductInRanking() {
+        productSuggestionIndex.recordSales(Map.of(GELADEIRA_FROST_ID, -30L, UUID.randomUUID(), 2L));
+
+        assertEquals(List.of(GELO_ID, GELADEIRA_FROST_ID, GELADEIRA_ID), this.suggest("ge"));
+
+        productSuggestionIndex.recordSales(Map.of(GELADEIRA_FROST_ID, -20L));
+
+        assertEquals(List.of(GELO_ID, GELADEIRA_ID, GELADEIRA_FROST_ID), this.suggest("ge"));
+    }
+
+    @DisplayName("Given Open Transaction When Index Product then Apply Only After Commit")
+    @Test
+    void testGivenOpenTransaction_WhenIndexProduct_thenApplyOnlyAfterCommit() {
+        Product product = Product.builder().id(UUID.randomUUID()).name("Air fryer").build();
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            productSuggestionIndex.index(List.of(product));
+            assertTrue(this.suggest("air").isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(product.getId()), this.suggest("air"));
+    }
+
+    @DisplayName("Given Product Changes From Other Node When On Change then Reload Or Remove Them")
+    @Test
+    void testGivenProductChangesFromOtherNode_WhenOnChange_thenReloadOrRemoveThem() {
+        given(productRepository.findSuggestionRowsByIdIn(List.of(GELADEIRA_ID, GELO_ID))).willReturn(List.of(
+                new ProductSuggestionRow(GELADEIRA_ID, "Geladeira Eletrolux", 0, 90)));
+
+        productSuggestionIndex.onChange(OrderModel.class, List.of(FOGAO_ID));
+        productSuggestionIndex.onChange(Product.class, List.of(GELADEIRA_ID, GELO_ID));
+
+        assertEquals(List.of(GELADEIRA_ID, GELADEIRA_FROST_ID), this.suggest("ge"));
+        assertEquals(List.of(FOGAO_ID), this.suggest("fog"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.emanueldev.sample_shop.unit.product.services;
+
+import com.emanueldev.sample_shop.models.Product;
+import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
+import com.emanueldev.sample_shop.services.products.SearchProductsUseCase;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchHits;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchProductsUseCaseTest {
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShardedStockService shardedStockService;
+
+
+    @InjectMocks
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @DisplayName("Given Search Hits When Search Products then Return Products In Ranking Order")
+    @Test
+    void testGivenSearchHits_WhenSearchProducts_thenReturnProductsInRankingOrder() {
+        Product geladeira = product("Geladeira Eletrolux");
+        Product fogao = product("Fogão com geladeira");
+        UUID deletedId = UUID.randomUUID();
+
+        given(productSearchIndex.search("geladeira", 10))
+                .willReturn(new ProductSearchHits(3, List.of(fogao.getId(), deletedId, geladeira.getId())));
+        given(productRepository.findAllByIdCached(anyCollection())).willReturn(Map.of(geladeira.getId(), geladeira, fogao.getId(), fogao));
+
+        ProductSearchResult result = searchProductsUseCase.execute("geladeira", 10);
+
+        assertEquals(3, result.totalHits());
+        assertEquals(List.of(fogao, geladeira), result.products());
+        verify(shardedStockService).applyStockQuantities(List.of(fogao, geladeira));
+    }
+
+    @DisplayName("Given No Search Hits When Search Products then Return Empty Result Without Loading Products")
+    @Test
+    void testGivenNoSearchHits_WhenSearchProducts_thenReturnEmptyResultWithoutLoadingProducts() {
+        given(productSearchIndex.search("lavadora", 10)).willReturn(ProductSearchHits.EMPTY);
+
+        ProductSearchResult result = searchProductsUseCase.execute("lavadora", 10);
+
+        assertEquals(0, result.totalHits());
+        assertTrue(result.products().isEmpty());
+        verifyNoInteractions(productRepository, shardedStockService);
+    }
+
+    private Product product(String name) {
+        return Product
+                .builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .description(name + ".")
+                .price(new BigDecimal("950.00"))
+                .stockQuantity(10L)
+                .build();
+    }
+}
@@ -1,11 +1,16 @@
 package com.emanueldev.sample_shop.unit.product.services;
 
+import com.emanueldev.sample_shop.cache.EntityChangeLog;
 import com.emanueldev.sample_shop.domain.products.dto.request.ProductRequestDTO;
 import com.emanueldev.sample_shop.domain.products.mapper.ProductMapper;
 import com.emanueldev.sample_shop.exceptions.HttpBadRequestException;
 import com.emanueldev.sample_shop.exceptions.HttpNotFoundException;
 import com.emanueldev.sample_shop.models.Product;
 import com.emanueldev.sample_shop.repositories.ProductRepository;
+import com.emanueldev.sample_shop.services.products.filter.ProductFilterIndex;
+import com.emanueldev.sample_shop.services.products.search.ProductSearchIndex;
+import com.emanueldev.sample_shop.services.products.suggestion.ProductSuggestionIndex;
+import com.emanueldev.sample_shop.services.inventory.ShardedStockService;
 import com.emanueldev.sample_shop.services.products.UpdateProductUseCase;
 import com.emanueldev.sample_shop.utils.ProductExceptionMessageUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,6 +41,22 @@ public class UpdateProductsUseCaseTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ShardedStockService shardedStockService;
+
+
+    @Mock
+    private EntityChangeLog entityChangeLog;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestionIndex productSuggestionIndex;
+
+    @Mock
+    private ProductFilterIndex productFilterIndex;
+
     @InjectMocks
     private UpdateProductUseCase updateProductUseCase;
 
@@ -64,7 +86,7 @@ public class UpdateProductsUseCaseTest {
         UUID productId = UUID.fromString("b16af0b2-7e63-479f-904f-ebd2fa6c3886");
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
         given(productRepository.findByName(anyString())).willReturn(Optional.empty());
-        given(productRepository.save(product)).willReturn(product);
+        given(productRepository.saveAndFlush(product)).willReturn(product);
         doAnswer(invocation -> {
             ProductRequestDTO dto = invocation.getArgument(0);
             Product productToUpdate = invocation.getArgument(1);
@@ -84,6 +106,10 @@ public class UpdateProductsUseCaseTest {
         assertEquals(productRequestDTO.getDescription(), product.getDescription());
         assertEquals(productRequestDTO.getPrice(), product.getPrice());
         assertEquals(productRequestDTO.getStockQuantity(), product.getStockQuantity());
+        verify(entityChangeLog).record(Product.class, List.of(productId));
+        verify(productSearchIndex).index(List.of(product));
+        verify(productSuggestionIndex).index(List.of(product));
+        verify(productFilterIndex).index(List.of(product));
     }
 
     @DisplayName("Given Product Id Of Non Existent When Update Product then Throws An Exception")
@@ -94,7 +120,7 @@ public class UpdateProductsUseCaseTest {
 
         HttpNotFoundException result = assertThrows(HttpNotFoundException.class, () -> updateProductUseCase.execute(productId, productRequestDTO));
 
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
         assertEquals(ProductExceptionMessageUtils.PRODUCT_NOT_FOUND, result.getMessage());
         assertInstanceOf(HttpNotFoundException.class, result);
     }
@@ -122,7 +148,7 @@ public class UpdateProductsUseCaseTest {
 
         HttpBadRequestException result = assertThrows(HttpBadRequestException.class, () -> updateProductUseCase.execute(productId, productRequestDTO));
 
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
         assertEquals(ProductExceptionMessageUtils.PRODUCT_WITH_SAME_NAME_ALREADY_EXISTS, result.getMessage());
         assertInstanceOf(HttpBadRequestException.class, result);
     }